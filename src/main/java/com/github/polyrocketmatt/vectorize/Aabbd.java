@@ -0,0 +1,252 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an immutable axis-aligned bounding box of doubles, described by its minimum and maximum corner.
+ * <p>
+ * Every component of the minimum corner is at most the same component of the maximum corner, so a box always
+ * contains at least one point. Boxes are closed: points and boxes touching the boundary are contained and
+ * intersecting. Large sets of boxes should be converted with {@link #toFloat()} and put in a {@link Bvh} rather
+ * than tested one by one.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Aabbd {
+
+    public final Double3 min;
+    public final Double3 max;
+
+    /**
+     * Creates a box from its corners.
+     *
+     * @param min The minimum corner.
+     * @param max The maximum corner.
+     * @throws IllegalArgumentException If a component of the minimum corner is larger than that of the maximum
+     * corner, or either corner is NaN.
+     */
+    public Aabbd(@NotNull Double3 min, @NotNull Double3 max) {
+        if (!(min.x <= max.x && min.y <= max.y && min.z <= max.z))
+            throw new IllegalArgumentException("'min' cannot be larger than 'max', found %s and %s".formatted(min, max));
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates a box from the components of its corners.
+     *
+     * @param minX The x component of the minimum corner.
+     * @param minY The y component of the minimum corner.
+     * @param minZ The z component of the minimum corner.
+     * @param maxX The x component of the maximum corner.
+     * @param maxY The y component of the maximum corner.
+     * @param maxZ The z component of the maximum corner.
+     * @throws IllegalArgumentException If a component of the minimum corner is larger than that of the maximum
+     * corner, or either corner is NaN.
+     */
+    public Aabbd(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this(new Double3(minX, minY, minZ), new Double3(maxX, maxY, maxZ));
+    }
+
+    /**
+     * Creates a box from its center and the distance from the center to its faces.
+     *
+     * @param center The center.
+     * @param halfExtents The half extents, which cannot be negative.
+     * @throws IllegalArgumentException If a half extent is negative.
+     * @return A new box.
+     */
+    public static @NotNull Aabbd fromCenter(@NotNull Double3 center, @NotNull Double3 halfExtents) {
+        return new Aabbd(center.subtract(halfExtents), center.add(halfExtents));
+    }
+
+    /**
+     * Calculate the center of this box.
+     *
+     * @return A new Double3 with the center.
+     */
+    public @NotNull Double3 center() {
+        return new Double3((min.x + max.x) * 0.5, (min.y + max.y) * 0.5, (min.z + max.z) * 0.5);
+    }
+
+    /**
+     * Calculate the size of this box along every axis.
+     *
+     * @return A new Double3 with the extents.
+     */
+    public @NotNull Double3 size() {
+        return new Double3(max.x - min.x, max.y - min.y, max.z - min.z);
+    }
+
+    /**
+     * Calculate the surface area of this box, which the surface area heuristic uses as the probability that a
+     * random ray hits it.
+     *
+     * @return The surface area.
+     */
+    public double surfaceArea() {
+        double x = max.x - min.x;
+        double y = max.y - min.y;
+        double z = max.z - min.z;
+        return 2.0 * (x * y + y * z + z * x);
+    }
+
+    /**
+     * Calculate the volume of this box.
+     *
+     * @return The volume.
+     */
+    public double volume() {
+        return (max.x - min.x) * (max.y - min.y) * (max.z - min.z);
+    }
+
+    /**
+     * Check if this box contains a point.
+     *
+     * @param point The point.
+     * @return True if the point lies inside or on the boundary of this box.
+     */
+    public boolean contains(@NotNull Double3 point) {
+        return point.x >= min.x && point.x <= max.x && point.y >= min.y && point.y <= max.y && point.z >= min.z && point.z <= max.z;
+    }
+
+    /**
+     * Check if this box contains another box.
+     *
+     * @param other The other box.
+     * @return True if every point of the other box lies inside or on the boundary of this box.
+     */
+    public boolean contains(@NotNull Aabbd other) {
+        return other.min.x >= min.x && other.max.x <= max.x && other.min.y >= min.y && other.max.y <= max.y && other.min.z >= min.z && other.max.z <= max.z;
+    }
+
+    /**
+     * Check if this box intersects another box.
+     *
+     * @param other The other box.
+     * @return True if the boxes share at least one point.
+     */
+    public boolean intersects(@NotNull Aabbd other) {
+        return other.min.x <= max.x && other.max.x >= min.x && other.min.y <= max.y && other.max.y >= min.y && other.min.z <= max.z && other.max.z >= min.z;
+    }
+
+    /**
+     * Calculate the smallest box containing both this box and another box.
+     *
+     * @param other The other box.
+     * @return A new box with the union.
+     */
+    public @NotNull Aabbd union(@NotNull Aabbd other) {
+        return new Aabbd(
+                Math.min(min.x, other.min.x), Math.min(min.y, other.min.y), Math.min(min.z, other.min.z),
+                Math.max(max.x, other.max.x), Math.max(max.y, other.max.y), Math.max(max.z, other.max.z)
+        );
+    }
+
+    /**
+     * Calculate the smallest box containing both this box and a point.
+     *
+     * @param point The point.
+     * @return A new box with the union.
+     */
+    public @NotNull Aabbd union(@NotNull Double3 point) {
+        return new Aabbd(
+                Math.min(min.x, point.x), Math.min(min.y, point.y), Math.min(min.z, point.z),
+                Math.max(max.x, point.x), Math.max(max.y, point.y), Math.max(max.z, point.z)
+        );
+    }
+
+    /**
+     * Grow this box by the same distance in every direction, for example to give moving objects some room before
+     * their box needs to be updated.
+     *
+     * @param margin The distance, which may be negative as long as the box does not become inverted.
+     * @throws IllegalArgumentException If the box becomes inverted.
+     * @return A new box with the grown bounds.
+     */
+    public @NotNull Aabbd expand(double margin) {
+        return new Aabbd(min.x - margin, min.y - margin, min.z - margin, max.x + margin, max.y + margin, max.z + margin);
+    }
+
+    /**
+     * Calculate the squared distance from a point to the closest point of this box.
+     *
+     * @param point The point.
+     * @return The squared distance, which is zero if this box contains the point.
+     */
+    public double distanceSquaredd(@NotNull Double3 point) {
+        double dx = Math.max(Math.max(min.x - point.x, point.x - max.x), 0.0);
+        double dy = Math.max(Math.max(min.y - point.y, point.y - max.y), 0.0);
+        double dz = Math.max(Math.max(min.z - point.z, point.z - max.z), 0.0);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate where a ray enters this box.
+     *
+     * @param origin The origin of the ray.
+     * @param direction The direction of the ray, which does not need to be normalized.
+     * @return The distance along the ray in multiples of the direction, which is zero if this box contains the
+     * origin, or positive infinity if the ray misses this box.
+     */
+    public double raycast(@NotNull Double3 origin, @NotNull Double3 direction) {
+        double x0 = (min.x - origin.x) / direction.x;
+        double x1 = (max.x - origin.x) / direction.x;
+        double y0 = (min.y - origin.y) / direction.y;
+        double y1 = (max.y - origin.y) / direction.y;
+        double z0 = (min.z - origin.z) / direction.z;
+        double z1 = (max.z - origin.z) / direction.z;
+        double near = enter(enter(enter(0.0, x0, x1), y0, y1), z0, z1);
+        double far = exit(exit(exit(Double.POSITIVE_INFINITY, x0, x1), y0, y1), z0, z1);
+        return near <= far ? near : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Move the distance at which a ray enters a box up to where it enters a slab. A ray parallel to the slab that
+     * starts on one of its planes divides zero by zero and has a NaN bound; such a ray lies inside the closed slab,
+     * so the comparison skips it.
+     */
+    private static double enter(double near, double t0, double t1) {
+        double t = Math.min(t0, t1);
+        return t > near ? t : near;
+    }
+
+    /**
+     * Move the distance at which a ray leaves a box down to where it leaves a slab, skipping NaN bounds like
+     * {@link #enter(double, double, double)}.
+     */
+    private static double exit(double far, double t0, double t1) {
+        double t = Math.max(t0, t1);
+        return t < far ? t : far;
+    }
+
+    /**
+     * Converts this box to an {@link Aabbf}, rounding the corners outwards so that the new box contains this box.
+     *
+     * @return A new Aabbf containing this box.
+     */
+    public @NotNull Aabbf toFloat() {
+        return new Aabbf(
+                Math.nextDown((float) min.x), Math.nextDown((float) min.y), Math.nextDown((float) min.z),
+                Math.nextUp((float) max.x), Math.nextUp((float) max.y), Math.nextUp((float) max.z)
+        );
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Aabbd aabbd)) return false;
+        return min.equals(aabbd.min) && max.equals(aabbd.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(min.hashCode(), max.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return "Aabbd(%s, %s)".formatted(this.min, this.max);
+    }
+}
@@ -0,0 +1,764 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a bounding volume hierarchy over a set of axis-aligned boxes, answering ray casts, overlap queries and
+ * nearest box queries in logarithmic rather than linear time.
+ * <p>
+ * The hierarchy is built top-down with the surface area heuristic: the boxes of every node are sorted into up to
+ * {@value #BIN_COUNT} bins by their center along the axis the centers spread most in, and the node is split at the
+ * bin boundary that minimizes the expected cost of a query, or becomes a leaf if no split is cheaper than testing
+ * its boxes. Nodes and boxes are stored in flat arrays, the boxes of every leaf next to each other, and queries
+ * report the indices the boxes had in the array the hierarchy was built from, so queries do not allocate.
+ * <p>
+ * Boxes of moving objects can be changed with {@link #setBounds(int, Aabbf)}, after which {@link #refit()} updates
+ * the bounds of the nodes while keeping their structure. This is much cheaper than building a new hierarchy, but
+ * queries slow down as the boxes move away from the places they were built in. A hierarchy may be queried by
+ * multiple threads at the same time, but not while it is being changed.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Bvh {
+
+    private static final int BIN_COUNT = 16;
+    private static final int LEAF_SIZE = 4;
+    private static final int MAX_LEAF_SIZE = 16;
+    private static final int PARALLEL_THRESHOLD = 16384;
+
+    //  Six floats per box and per node: minX, minY, minZ, maxX, maxY, maxZ
+    private final float[] boxes;
+    private final float[] bounds;
+    //  Two ints per node: the position of its first box and the number of boxes for a leaf, or the index of its
+    //  left child and zero otherwise. The right child always follows the left child.
+    private final int[] nodes;
+    private final int[] indices;
+    private final int[] positions;
+    private final int nodeCount;
+
+    private Bvh(float[] boxes, ForkJoinPool pool) {
+        int size = boxes.length / 6;
+        int capacity = Math.max(2 * size - 1, 0);
+        this.bounds = new float[6 * capacity];
+        this.nodes = new int[2 * capacity];
+        this.indices = new int[size];
+        this.positions = new int[size];
+        for (int i = 0; i < size; i++)
+            indices[i] = i;
+        this.boxes = boxes;
+        if (size == 0) {
+            this.nodeCount = 0;
+            return;
+        }
+        Builder builder = new Builder();
+        if (pool == null || size <= PARALLEL_THRESHOLD)
+            builder.build(0, 0, size, new Bins());
+        else
+            pool.invoke(builder.new BuildTask(0, 0, size));
+        this.nodeCount = builder.nodeCount.get();
+
+        for (int i = 0; i < size; i++)
+            positions[indices[i]] = i;
+    }
+
+    /**
+     * Build a hierarchy over the given boxes.
+     *
+     * @param boxes The boxes.
+     * @return A new hierarchy.
+     */
+    public static @NotNull Bvh build(@NotNull Aabbf[] boxes) {
+        return create(boxes, null);
+    }
+
+    /**
+     * Build a hierarchy over the given boxes, splitting the work over the given pool.
+     *
+     * @param boxes The boxes.
+     * @param pool The pool to build the hierarchy in.
+     * @return A new hierarchy.
+     */
+    public static @NotNull Bvh build(@NotNull Aabbf[] boxes, @NotNull ForkJoinPool pool) {
+        return create(boxes, pool);
+    }
+
+    /**
+     * Build a hierarchy over the boxes with the given corners.
+     *
+     * @param mins The minimum corners of the boxes.
+     * @param maxs The maximum corners of the boxes.
+     * @throws IllegalArgumentException If the arrays have different sizes, or a minimum corner is larger than
+     * its maximum corner.
+     * @return A new hierarchy.
+     */
+    public static @NotNull Bvh build(@NotNull Float3Array mins, @NotNull Float3Array maxs) {
+        return create(mins, maxs, null);
+    }
+
+    /**
+     * Build a hierarchy over the boxes with the given corners, splitting the work over the given pool.
+     *
+     * @param mins The minimum corners of the boxes.
+     * @param maxs The maximum corners of the boxes.
+     * @param pool The pool to build the hierarchy in.
+     * @throws IllegalArgumentException If the arrays have different sizes, or a minimum corner is larger than
+     * its maximum corner.
+     * @return A new hierarchy.
+     */
+    public static @NotNull Bvh build(@NotNull Float3Array mins, @NotNull Float3Array maxs, @NotNull ForkJoinPool pool) {
+        return create(mins, maxs, pool);
+    }
+
+    /**
+     * Get the number of boxes in this hierarchy.
+     *
+     * @return The number of boxes.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * Get the number of nodes in this hierarchy, including the leaves.
+     *
+     * @return The number of nodes.
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Get the smallest box containing all boxes in this hierarchy.
+     *
+     * @throws IllegalStateException If this hierarchy is empty.
+     * @return A new box with the bounds of the root node.
+     */
+    public @NotNull Aabbf bounds() {
+        if (nodeCount == 0)
+            throw new IllegalStateException("An empty hierarchy has no bounds");
+        return new Aabbf(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5]);
+    }
+
+    /**
+     * Get a box in this hierarchy.
+     *
+     * @param index The index of the box in the array the hierarchy was built from.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @return A new box with the current bounds of the box.
+     */
+    public @NotNull Aabbf bounds(int index) {
+        int offset = 6 * positions[Objects.checkIndex(index, indices.length)];
+        return new Aabbf(boxes[offset], boxes[offset + 1], boxes[offset + 2], boxes[offset + 3], boxes[offset + 4], boxes[offset + 5]);
+    }
+
+    /**
+     * Change a box in this hierarchy. Queries may miss the box until {@link #refit()} is called.
+     *
+     * @param index The index of the box in the array the hierarchy was built from.
+     * @param minX The x component of the minimum corner.
+     * @param minY The y component of the minimum corner.
+     * @param minZ The z component of the minimum corner.
+     * @param maxX The x component of the maximum corner.
+     * @param maxY The y component of the maximum corner.
+     * @param maxZ The z component of the maximum corner.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalArgumentException If a component of the minimum corner is larger than that of the maximum
+     * corner.
+     */
+    public void setBounds(int index, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        int offset = 6 * positions[Objects.checkIndex(index, indices.length)];
+        if (!(minX <= maxX && minY <= maxY && minZ <= maxZ))
+            throw new IllegalArgumentException("'min' cannot be larger than 'max', found (%f, %f, %f) and (%f, %f, %f)"
+                    .formatted(minX, minY, minZ, maxX, maxY, maxZ));
+        boxes[offset] = minX;
+        boxes[offset + 1] = minY;
+        boxes[offset + 2] = minZ;
+        boxes[offset + 3] = maxX;
+        boxes[offset + 4] = maxY;
+        boxes[offset + 5] = maxZ;
+    }
+
+    /**
+     * Change a box in this hierarchy. Queries may miss the box until {@link #refit()} is called.
+     *
+     * @param index The index of the box in the array the hierarchy was built from.
+     * @param box The new box.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    public void setBounds(int index, @NotNull Aabbf box) {
+        setBounds(index, box.min.x, box.min.y, box.min.z, box.max.x, box.max.y, box.max.z);
+    }
+
+    /**
+     * Update the bounds of every node to the boxes it contains, after boxes were changed with
+     * {@link #setBounds(int, Aabbf)}. The structure of the hierarchy is kept.
+     */
+    public void refit() {
+        //  Children are always created after their parent, so visiting the nodes backwards refits the children first
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            int first = nodes[2 * node];
+            int count = nodes[2 * node + 1];
+            if (count > 0)
+                union(boxes, first, first + count, node);
+            else
+                union(bounds, first, first + 2, node);
+        }
+    }
+
+    /**
+     * Find the first box hit by a ray.
+     *
+     * @param originX The x component of the origin of the ray.
+     * @param originY The y component of the origin of the ray.
+     * @param originZ The z component of the origin of the ray.
+     * @param directionX The x component of the direction of the ray.
+     * @param directionY The y component of the direction of the ray.
+     * @param directionZ The z component of the direction of the ray.
+     * @param maxDistance The distance in multiples of the direction at and beyond which boxes are ignored.
+     * @return The index of the box the ray enters first, or -1 if the ray misses all boxes. A box containing the
+     * origin is entered at distance zero, and {@link Aabbf#raycast(Float3, Float3)} gives the distance.
+     */
+    public int raycast(float originX, float originY, float originZ, float directionX, float directionY, float directionZ, float maxDistance) {
+        if (nodeCount == 0)
+            return -1;
+        float inverseX = 1.0f / directionX;
+        float inverseY = 1.0f / directionY;
+        float inverseZ = 1.0f / directionZ;
+        if (raycast(bounds, 0, originX, originY, originZ, inverseX, inverseY, inverseZ, maxDistance) == Float.POSITIVE_INFINITY)
+            return -1;
+        int found = raycast(0, originX, originY, originZ, inverseX, inverseY, inverseZ, -1, maxDistance);
+        return found < 0 ? -1 : indices[found];
+    }
+
+    /**
+     * Find the first box hit by a ray.
+     *
+     * @param origin The origin of the ray.
+     * @param direction The direction of the ray.
+     * @param maxDistance The distance in multiples of the direction at and beyond which boxes are ignored.
+     * @return The index of the box the ray enters first, or -1 if the ray misses all boxes.
+     */
+    public int raycast(@NotNull Float3 origin, @NotNull Float3 direction, float maxDistance) {
+        return raycast(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance);
+    }
+
+    /**
+     * Call the given consumer with the index of every box intersecting the given box, in no particular order.
+     * Boxes touching the given box are included.
+     *
+     * @param minX The x component of the minimum corner.
+     * @param minY The y component of the minimum corner.
+     * @param minZ The z component of the minimum corner.
+     * @param maxX The x component of the maximum corner.
+     * @param maxY The y component of the maximum corner.
+     * @param maxZ The z component of the maximum corner.
+     * @param consumer The consumer.
+     * @return The number of boxes found.
+     */
+    public int queryOverlap(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, @NotNull IntConsumer consumer) {
+        if (nodeCount == 0 || !overlaps(bounds, 0, minX, minY, minZ, maxX, maxY, maxZ))
+            return 0;
+        return queryOverlap(0, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+    }
+
+    /**
+     * Call the given consumer with the index of every box intersecting the given box, in no particular order.
+     * Boxes touching the given box are included.
+     *
+     * @param box The box.
+     * @param consumer The consumer.
+     * @return The number of boxes found.
+     */
+    public int queryOverlap(@NotNull Aabbf box, @NotNull IntConsumer consumer) {
+        return queryOverlap(box.min.x, box.min.y, box.min.z, box.max.x, box.max.y, box.max.z, consumer);
+    }
+
+    /**
+     * Find the box closest to the given position.
+     *
+     * @param x The x coordinate of the position.
+     * @param y The y coordinate of the position.
+     * @param z The z coordinate of the position.
+     * @return The index of the closest box, or -1 if this hierarchy is empty. Boxes containing the position have
+     * distance zero, and {@link Aabbf#distanceSquaredf(Float3)} gives the distance.
+     */
+    public int nearest(float x, float y, float z) {
+        if (nodeCount == 0)
+            return -1;
+        return indices[nearest(0, x, y, z, -1, Float.POSITIVE_INFINITY)];
+    }
+
+    /**
+     * Find the box closest to the given position.
+     *
+     * @param position The position.
+     * @return The index of the closest box, or -1 if this hierarchy is empty.
+     */
+    public int nearest(@NotNull Float3 position) {
+        return nearest(position.x, position.y, position.z);
+    }
+
+    private static Bvh create(Aabbf[] boxes, ForkJoinPool pool) {
+        float[] data = new float[6 * boxes.length];
+        for (int i = 0; i < boxes.length; i++) {
+            Aabbf box = boxes[i];
+            data[6 * i] = box.min.x;
+            data[6 * i + 1] = box.min.y;
+            data[6 * i + 2] = box.min.z;
+            data[6 * i + 3] = box.max.x;
+            data[6 * i + 4] = box.max.y;
+            data[6 * i + 5] = box.max.z;
+        }
+        return new Bvh(data, pool);
+    }
+
+    private static Bvh create(Float3Array mins, Float3Array maxs, ForkJoinPool pool) {
+        int size = mins.size();
+        if (maxs.size() != size)
+            throw new IllegalArgumentException("'mins' and 'maxs' must have the same size, found %d and %d".formatted(size, maxs.size()));
+        float[] data = new float[6 * size];
+        for (int i = 0; i < size; i++) {
+            if (!(mins.xs[i] <= maxs.xs[i] && mins.ys[i] <= maxs.ys[i] && mins.zs[i] <= maxs.zs[i]))
+                throw new IllegalArgumentException("'min' cannot be larger than 'max', found %s and %s at index %d"
+                        .formatted(mins.get(i), maxs.get(i), i));
+            data[6 * i] = mins.xs[i];
+            data[6 * i + 1] = mins.ys[i];
+            data[6 * i + 2] = mins.zs[i];
+            data[6 * i + 3] = maxs.xs[i];
+            data[6 * i + 4] = maxs.ys[i];
+            data[6 * i + 5] = maxs.zs[i];
+        }
+        return new Bvh(data, pool);
+    }
+
+    /**
+     * Set the bounds of the given node to the union of the given range of boxes or nodes.
+     */
+    private void union(float[] source, int from, int to, int node) {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        for (int i = 6 * from; i < 6 * to; i += 6) {
+            minX = min(minX, source[i]);
+            minY = min(minY, source[i + 1]);
+            minZ = min(minZ, source[i + 2]);
+            maxX = max(maxX, source[i + 3]);
+            maxY = max(maxY, source[i + 4]);
+            maxZ = max(maxZ, source[i + 5]);
+        }
+        int offset = 6 * node;
+        bounds[offset] = minX;
+        bounds[offset + 1] = minY;
+        bounds[offset + 2] = minZ;
+        bounds[offset + 3] = maxX;
+        bounds[offset + 4] = maxY;
+        bounds[offset + 5] = maxZ;
+    }
+
+    private static boolean overlaps(float[] source, int position, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        int offset = 6 * position;
+        return source[offset] <= maxX && source[offset + 3] >= minX
+                && source[offset + 1] <= maxY && source[offset + 4] >= minY
+                && source[offset + 2] <= maxZ && source[offset + 5] >= minZ;
+    }
+
+    private static float raycast(float[] source, int position, float originX, float originY, float originZ,
+                                 float inverseX, float inverseY, float inverseZ, float maxDistance) {
+        int offset = 6 * position;
+        return Aabbf.raycast(source[offset], source[offset + 1], source[offset + 2], source[offset + 3], source[offset + 4], source[offset + 5],
+                originX, originY, originZ, inverseX, inverseY, inverseZ, maxDistance);
+    }
+
+    private static float distanceSquared(float[] source, int position, float x, float y, float z) {
+        int offset = 6 * position;
+        float dx = max(max(source[offset] - x, x - source[offset + 3]), 0.0f);
+        float dy = max(max(source[offset + 1] - y, y - source[offset + 4]), 0.0f);
+        float dz = max(max(source[offset + 2] - z, z - source[offset + 5]), 0.0f);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Find the position of the first box hit in the given node, starting from the best position found so far.
+     * Children are visited nearest first, so that the farther child can often be skipped.
+     */
+    private int raycast(int node, float originX, float originY, float originZ, float inverseX, float inverseY, float inverseZ,
+                        int best, float bestDistance) {
+        int first = nodes[2 * node];
+        int count = nodes[2 * node + 1];
+        if (count > 0) {
+            for (int i = first; i < first + count; i++) {
+                float distance = raycast(boxes, i, originX, originY, originZ, inverseX, inverseY, inverseZ, bestDistance);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            return best;
+        }
+        float left = raycast(bounds, first, originX, originY, originZ, inverseX, inverseY, inverseZ, bestDistance);
+        float right = raycast(bounds, first + 1, originX, originY, originZ, inverseX, inverseY, inverseZ, bestDistance);
+        int near = left <= right ? first : first + 1;
+        float farDistance = left <= right ? right : left;
+        if (min(left, right) < bestDistance) {
+            int found = raycast(near, originX, originY, originZ, inverseX, inverseY, inverseZ, best, bestDistance);
+            if (found != best) {
+                best = found;
+                bestDistance = raycast(boxes, found, originX, originY, originZ, inverseX, inverseY, inverseZ, Float.POSITIVE_INFINITY);
+            }
+        }
+        if (farDistance < bestDistance)
+            best = raycast(near == first ? first + 1 : first, originX, originY, originZ, inverseX, inverseY, inverseZ, best, bestDistance);
+        return best;
+    }
+
+    private int queryOverlap(int node, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, IntConsumer consumer) {
+        int first = nodes[2 * node];
+        int count = nodes[2 * node + 1];
+        int found = 0;
+        if (count > 0) {
+            for (int i = first; i < first + count; i++) {
+                if (overlaps(boxes, i, minX, minY, minZ, maxX, maxY, maxZ)) {
+                    consumer.accept(indices[i]);
+                    found++;
+                }
+            }
+            return found;
+        }
+        if (overlaps(bounds, first, minX, minY, minZ, maxX, maxY, maxZ))
+            found += queryOverlap(first, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+        if (overlaps(bounds, first + 1, minX, minY, minZ, maxX, maxY, maxZ))
+            found += queryOverlap(first + 1, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+        return found;
+    }
+
+    /**
+     * Find the position of the closest box in the given node, starting from the best position found so far.
+     */
+    private int nearest(int node, float x, float y, float z, int best, float bestDistance) {
+        int first = nodes[2 * node];
+        int count = nodes[2 * node + 1];
+        if (count > 0) {
+            for (int i = first; i < first + count; i++) {
+                float distance = distanceSquared(boxes, i, x, y, z);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            return best;
+        }
+        float left = distanceSquared(bounds, first, x, y, z);
+        float right = distanceSquared(bounds, first + 1, x, y, z);
+        int near = left <= right ? first : first + 1;
+        float farDistance = max(left, right);
+        if (min(left, right) < bestDistance) {
+            int found = nearest(near, x, y, z, best, bestDistance);
+            if (found != best) {
+                best = found;
+                bestDistance = distanceSquared(boxes, found, x, y, z);
+            }
+        }
+        if (farDistance < bestDistance)
+            best = nearest(near == first ? first + 1 : first, x, y, z, best, bestDistance);
+        return best;
+    }
+
+    /**
+     * Get the smaller of two values. Boxes never contain NaN, so this does not need the extra checks of
+     * {@link Math#min(float, float)}, which make it several times slower.
+     */
+    private static float min(float a, float b) {
+        return a < b ? a : b;
+    }
+
+    /**
+     * Get the larger of two values. Boxes never contain NaN, so this does not need the extra checks of
+     * {@link Math#max(float, float)}, which make it several times slower.
+     */
+    private static float max(float a, float b) {
+        return a > b ? a : b;
+    }
+
+    private static int bin(float center, float minCenter, float scale, int binCount) {
+        return Math.min((int) ((center - minCenter) * scale), binCount - 1);
+    }
+
+    private static float area(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        float x = maxX - minX;
+        float y = maxY - minY;
+        float z = maxZ - minZ;
+        return x * y + y * z + z * x;
+    }
+
+    /**
+     * Scratch space to sort boxes into bins, one per thread building the hierarchy. Every bin tracks the bounds of
+     * its boxes and of their centers, so that the children of a node know their bounds without another pass over
+     * their boxes.
+     */
+    private static final class Bins {
+
+        private final int[] counts = new int[BIN_COUNT];
+        private final float[] bounds = new float[6 * BIN_COUNT];
+        private final float[] centerBounds = new float[6 * BIN_COUNT];
+        private final float[] rightAreas = new float[BIN_COUNT];
+        private final float[] sweep = new float[6];
+
+        private void clear(int binCount) {
+            Arrays.fill(counts, 0, binCount, 0);
+            for (int i = 0; i < 6 * binCount; i += 6) {
+                bounds[i] = bounds[i + 1] = bounds[i + 2] = Float.POSITIVE_INFINITY;
+                bounds[i + 3] = bounds[i + 4] = bounds[i + 5] = Float.NEGATIVE_INFINITY;
+                centerBounds[i] = centerBounds[i + 1] = centerBounds[i + 2] = Float.POSITIVE_INFINITY;
+                centerBounds[i + 3] = centerBounds[i + 4] = centerBounds[i + 5] = Float.NEGATIVE_INFINITY;
+            }
+        }
+
+        private void add(int bin, float[] boxes, int offset) {
+            int target = 6 * bin;
+            counts[bin]++;
+            for (int i = 0; i < 3; i++) {
+                float low = boxes[offset + i];
+                float high = boxes[offset + i + 3];
+                float center = (low + high) * 0.5f;
+                bounds[target + i] = min(bounds[target + i], low);
+                bounds[target + i + 3] = max(bounds[target + i + 3], high);
+                centerBounds[target + i] = min(centerBounds[target + i], center);
+                centerBounds[target + i + 3] = max(centerBounds[target + i + 3], center);
+            }
+        }
+
+        private void resetSweep() {
+            Arrays.fill(sweep, 0, 3, Float.POSITIVE_INFINITY);
+            Arrays.fill(sweep, 3, 6, Float.NEGATIVE_INFINITY);
+        }
+
+        /**
+         * Grow the sweep by the bounds of the given bin.
+         *
+         * @return The half surface area of the sweep.
+         */
+        private float sweep(int bin) {
+            if (counts[bin] > 0) {
+                int offset = 6 * bin;
+                for (int i = 0; i < 3; i++) {
+                    sweep[i] = min(sweep[i], bounds[offset + i]);
+                    sweep[i + 3] = max(sweep[i + 3], bounds[offset + i + 3]);
+                }
+            }
+            return area(sweep[0], sweep[1], sweep[2], sweep[3], sweep[4], sweep[5]);
+        }
+
+        /**
+         * Store the union of the given range of bins as the bounds and center bounds of a node.
+         */
+        private void store(int from, int to, float[] nodeBounds, float[] nodeCenterBounds, int node) {
+            int target = 6 * node;
+            for (int i = 0; i < 3; i++) {
+                float low = Float.POSITIVE_INFINITY, high = Float.NEGATIVE_INFINITY;
+                float lowCenter = Float.POSITIVE_INFINITY, highCenter = Float.NEGATIVE_INFINITY;
+                for (int bin = from; bin < to; bin++) {
+                    int offset = 6 * bin;
+                    low = min(low, bounds[offset + i]);
+                    high = max(high, bounds[offset + i + 3]);
+                    lowCenter = min(lowCenter, centerBounds[offset + i]);
+                    highCenter = max(highCenter, centerBounds[offset + i + 3]);
+                }
+                nodeBounds[target + i] = low;
+                nodeBounds[target + i + 3] = high;
+                nodeCenterBounds[target + i] = lowCenter;
+                nodeCenterBounds[target + i + 3] = highCenter;
+            }
+        }
+
+    }
+
+    /**
+     * Builds the nodes of the hierarchy, moving the boxes so that every node holds a contiguous range of them and
+     * every pass over a range reads memory in order.
+     */
+    private final class Builder {
+
+        //  Six floats per node: the bounds of the centers of its boxes, only needed while building
+        private final float[] centerBounds = new float[bounds.length];
+        private final AtomicInteger nodeCount = new AtomicInteger(1);
+
+        private Builder() {
+            measure(0, 0, indices.length);
+        }
+
+        private void build(int node, int from, int to, Bins bins) {
+            while (true) {
+                int split = split(node, from, to, bins);
+                if (split < 0)
+                    return;
+                int left = nodes[2 * node];
+                build(left, from, split, bins);
+                node = left + 1;
+                from = split;
+            }
+        }
+
+        /**
+         * Either turn the given node into a leaf, or split its range of boxes and create its children with their
+         * bounds.
+         *
+         * @return The position the range was split at, or -1 if the node became a leaf.
+         */
+        private int split(int node, int from, int to, Bins bins) {
+            int count = to - from;
+            if (count <= LEAF_SIZE)
+                return leaf(node, from, count);
+
+            //  Find the cheapest split along the axis the centers spread most in, where the cost of a child is the
+            //  number of boxes it holds times its area
+            int offset = 6 * node;
+            int axis = 0;
+            for (int candidate = 1; candidate < 3; candidate++) {
+                if (centerBounds[offset + candidate + 3] - centerBounds[offset + candidate] > centerBounds[offset + axis + 3] - centerBounds[offset + axis])
+                    axis = candidate;
+            }
+            float minCenter = centerBounds[offset + axis];
+            float extent = centerBounds[offset + axis + 3] - minCenter;
+            //  Small nodes use fewer bins, as the bins would mostly be empty and cost more than binning the boxes
+            int binCount = Math.min(count, BIN_COUNT);
+            float scale = binCount / extent;
+            float bestCost = Float.POSITIVE_INFINITY;
+            int bestBin = -1;
+            if (extent > 0.0f) {
+                bins.clear(binCount);
+                for (int i = from; i < to; i++)
+                    bins.add(bin(center(i, axis), minCenter, scale, binCount), boxes, 6 * i);
+                float[] rightAreas = bins.rightAreas;
+                bins.resetSweep();
+                for (int bin = binCount - 1; bin > 0; bin--)
+                    rightAreas[bin] = bins.sweep(bin);
+                bins.resetSweep();
+                int leftCount = 0;
+                for (int bin = 0; bin < binCount - 1; bin++) {
+                    leftCount += bins.counts[bin];
+                    float leftArea = bins.sweep(bin);
+                    int rightCount = count - leftCount;
+                    if (leftCount == 0 || rightCount == 0)
+                        continue;
+                    float cost = leftCount * leftArea + rightCount * rightAreas[bin + 1];
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestBin = bin;
+                    }
+                }
+            }
+
+            //  Visiting a node costs about as much as testing a box, so a split must save at least one box test
+            float nodeArea = area(bounds[offset], bounds[offset + 1], bounds[offset + 2], bounds[offset + 3], bounds[offset + 4], bounds[offset + 5]);
+            int split;
+            int left;
+            if (bestBin >= 0 && (bestCost / nodeArea + 1.0f < count || count > MAX_LEAF_SIZE)) {
+                int i = from;
+                int j = to - 1;
+                while (i <= j) {
+                    if (bin(center(i, axis), minCenter, scale, binCount) <= bestBin)
+                        i++;
+                    else
+                        swap(i, j--);
+                }
+                split = i;
+                left = nodeCount.getAndAdd(2);
+                bins.store(0, bestBin + 1, bounds, centerBounds, left);
+                bins.store(bestBin + 1, binCount, bounds, centerBounds, left + 1);
+            } else if (count > MAX_LEAF_SIZE) {
+                //  All centers are equal, so any split is as good as another
+                split = (from + to) >>> 1;
+                left = nodeCount.getAndAdd(2);
+                measure(left, from, split);
+                measure(left + 1, split, to);
+            } else {
+                return leaf(node, from, count);
+            }
+            nodes[2 * node] = left;
+            nodes[2 * node + 1] = 0;
+            return split;
+        }
+
+        private int leaf(int node, int from, int count) {
+            nodes[2 * node] = from;
+            nodes[2 * node + 1] = count;
+            return -1;
+        }
+
+        private float center(int position, int axis) {
+            return (boxes[6 * position + axis] + boxes[6 * position + axis + 3]) * 0.5f;
+        }
+
+        /**
+         * Compute the bounds and center bounds of the given node from its range of boxes.
+         */
+        private void measure(int node, int from, int to) {
+            union(boxes, from, to, node);
+            int target = 6 * node;
+            for (int axis = 0; axis < 3; axis++) {
+                float low = Float.POSITIVE_INFINITY;
+                float high = Float.NEGATIVE_INFINITY;
+                for (int i = from; i < to; i++) {
+                    float center = center(i, axis);
+                    low = min(low, center);
+                    high = max(high, center);
+                }
+                centerBounds[target + axis] = low;
+                centerBounds[target + axis + 3] = high;
+            }
+        }
+
+        private void swap(int i, int j) {
+            for (int k = 0; k < 6; k++) {
+                float bound = boxes[6 * i + k];
+                boxes[6 * i + k] = boxes[6 * j + k];
+                boxes[6 * j + k] = bound;
+            }
+            int index = indices[i];
+            indices[i] = indices[j];
+            indices[j] = index;
+        }
+
+        /**
+         * Builds both children of a node in parallel until the ranges become small enough to build sequentially.
+         */
+        private final class BuildTask extends RecursiveAction {
+
+            private static final long serialVersionUID = 1L;
+
+            private final int node;
+            private final int from;
+            private final int to;
+
+            private BuildTask(int node, int from, int to) {
+                this.node = node;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                Bins bins = new Bins();
+                if (to - from <= PARALLEL_THRESHOLD) {
+                    build(node, from, to, bins);
+                    return;
+                }
+                int split = split(node, from, to, bins);
+                if (split < 0)
+                    return;
+                int left = nodes[2 * node];
+                invokeAll(new BuildTask(left, from, split), new BuildTask(left + 1, split, to));
+            }
+
+        }
+
+    }
+
+}
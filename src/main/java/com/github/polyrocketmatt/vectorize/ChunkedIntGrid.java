@@ -0,0 +1,458 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents a dense 3-dimensional grid of ints, addressed by {@link Int3} coordinates.
+ * <p>
+ * Space is partitioned into cubic chunks with a power-of-two side length. Chunks are allocated lazily on the
+ * first write of a non-default value, and positions in unallocated chunks read as the default value. Each chunk
+ * stores its values through a palette: a chunk holding a single value stores no per-position data, and chunks
+ * with up to 256 distinct values store 1, 2, 4 or 8 bit indices into the palette. Chunks exceeding 256 distinct
+ * values fall back to a flat int array. Use {@link #compact()} to shrink palettes after values have been removed.
+ * <p>
+ * Chunk coordinates ({@code x >> chunkBits}) must be within [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+ * Concurrent reads are safe as long as no thread writes to the grid.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class ChunkedIntGrid {
+
+    /**
+     * The default number of bits per chunk axis, resulting in chunks of 16x16x16 positions.
+     */
+    public static final int DEFAULT_CHUNK_BITS = 4;
+
+    /**
+     * The minimum number of bits per chunk axis.
+     */
+    public static final int MIN_CHUNK_BITS = 2;
+
+    /**
+     * The maximum number of bits per chunk axis.
+     */
+    public static final int MAX_CHUNK_BITS = 8;
+
+    private static final int MAX_PALETTE_SIZE = 256;
+
+    private final int chunkBits;
+    private final int chunkMask;
+    private final int defaultValue;
+    private Int3ObjectMap<Chunk> chunks;
+    private Chunk lastChunk;
+
+    public ChunkedIntGrid() {
+        this(DEFAULT_CHUNK_BITS, 0);
+    }
+
+    public ChunkedIntGrid(int chunkBits) {
+        this(chunkBits, 0);
+    }
+
+    public ChunkedIntGrid(int chunkBits, int defaultValue) {
+        if (chunkBits < MIN_CHUNK_BITS || chunkBits > MAX_CHUNK_BITS)
+            throw new IllegalArgumentException("'chunkBits' must be in [%d, %d], found %d".formatted(MIN_CHUNK_BITS, MAX_CHUNK_BITS, chunkBits));
+        this.chunkBits = chunkBits;
+        this.chunkMask = (1 << chunkBits) - 1;
+        this.defaultValue = defaultValue;
+        this.chunks = new Int3ObjectMap<>();
+    }
+
+    /**
+     * Get the side length of a chunk.
+     *
+     * @return The number of positions along each axis of a chunk.
+     */
+    public int chunkSize() {
+        return 1 << chunkBits;
+    }
+
+    /**
+     * Get the number of allocated chunks.
+     *
+     * @return The number of allocated chunks.
+     */
+    public int chunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Get the value that is returned for positions that were never written.
+     *
+     * @return The default value.
+     */
+    public int defaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Get the value at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The value, or the default value if the position was never written.
+     */
+    public int get(int x, int y, int z) {
+        Chunk chunk = chunkAt(x >> chunkBits, y >> chunkBits, z >> chunkBits);
+        return chunk == null ? defaultValue : chunk.get(localIndex(x, y, z));
+    }
+
+    /**
+     * Get the value at the given coordinates.
+     *
+     * @param position The coordinates.
+     * @return The value, or the default value if the position was never written.
+     */
+    public int get(@NotNull Int3 position) {
+        return get(position.x, position.y, position.z);
+    }
+
+    /**
+     * Get the value of the neighbour of the given coordinates in the given direction, without allocating.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param direction The direction of the neighbour.
+     * @return The value, or the default value if the position was never written.
+     */
+    public int get(int x, int y, int z, @NotNull Direction direction) {
+        return get(x + direction.getOffsetX(), y + direction.getOffsetY(), z + direction.getOffsetZ());
+    }
+
+    /**
+     * Get the value of the neighbour of the given coordinates in the given direction, without allocating.
+     *
+     * @param position The coordinates.
+     * @param direction The direction of the neighbour.
+     * @return The value, or the default value if the position was never written.
+     */
+    public int get(@NotNull Int3 position, @NotNull Direction direction) {
+        return get(position.x + direction.getOffsetX(), position.y + direction.getOffsetY(), position.z + direction.getOffsetZ());
+    }
+
+    /**
+     * Set the value at the given coordinates, allocating the chunk if needed.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param value The value.
+     * @return The previous value.
+     */
+    public int set(int x, int y, int z, int value) {
+        int cx = x >> chunkBits;
+        int cy = y >> chunkBits;
+        int cz = z >> chunkBits;
+        Chunk chunk = chunkAt(cx, cy, cz);
+        if (chunk == null) {
+            if (value == defaultValue)
+                return defaultValue;
+            chunk = new Chunk(cx, cy, cz, 1 << (3 * chunkBits), defaultValue);
+            chunks.put(cx, cy, cz, chunk);
+            lastChunk = chunk;
+        }
+        return chunk.set(localIndex(x, y, z), value);
+    }
+
+    /**
+     * Set the value at the given coordinates, allocating the chunk if needed.
+     *
+     * @param position The coordinates.
+     * @param value The value.
+     * @return The previous value.
+     */
+    public int set(@NotNull Int3 position, int value) {
+        return set(position.x, position.y, position.z, value);
+    }
+
+    /**
+     * Call the given visitor for every position in the region between the given corners, both inclusive.
+     * <p>
+     * Positions are visited chunk by chunk, and every chunk is looked up only once. Positions in unallocated
+     * chunks are visited with the default value.
+     *
+     * @param minX The minimum x coordinate.
+     * @param minY The minimum y coordinate.
+     * @param minZ The minimum z coordinate.
+     * @param maxX The maximum x coordinate.
+     * @param maxY The maximum y coordinate.
+     * @param maxZ The maximum z coordinate.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If a minimum coordinate is larger than the corresponding maximum coordinate.
+     */
+    public void forEachInRegion(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Visitor visitor) {
+        if (minX > maxX || minY > maxY || minZ > maxZ)
+            throw new IllegalArgumentException("'min' (%d, %d, %d) cannot be larger than 'max' (%d, %d, %d)".formatted(minX, minY, minZ, maxX, maxY, maxZ));
+        int bits = chunkBits;
+        for (int cy = minY >> bits; cy <= maxY >> bits; cy++) {
+            int y0 = Math.max(minY, cy << bits);
+            int y1 = Math.min(maxY, (cy << bits) + chunkMask);
+            for (int cz = minZ >> bits; cz <= maxZ >> bits; cz++) {
+                int z0 = Math.max(minZ, cz << bits);
+                int z1 = Math.min(maxZ, (cz << bits) + chunkMask);
+                for (int cx = minX >> bits; cx <= maxX >> bits; cx++) {
+                    int x0 = Math.max(minX, cx << bits);
+                    int x1 = Math.min(maxX, (cx << bits) + chunkMask);
+                    Chunk chunk = chunks.get(cx, cy, cz);
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            if (chunk == null) {
+                                for (int x = x0; x <= x1; x++)
+                                    visitor.accept(x, y, z, defaultValue);
+                            } else {
+                                int row = localIndex(0, y, z);
+                                for (int x = x0; x <= x1; x++)
+                                    visitor.accept(x, y, z, chunk.get(row | (x & chunkMask)));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Call the given visitor for every position in the region between the given corners, both inclusive.
+     *
+     * @param min The minimum corner.
+     * @param max The maximum corner.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If a component of 'min' is larger than the corresponding component of 'max'.
+     * @see #forEachInRegion(int, int, int, int, int, int, Visitor)
+     */
+    public void forEachInRegion(@NotNull Int3 min, @NotNull Int3 max, @NotNull Visitor visitor) {
+        forEachInRegion(min.x, min.y, min.z, max.x, max.y, max.z, visitor);
+    }
+
+    /**
+     * Shrink the palettes of all chunks to the values they still contain, and release chunks that only contain
+     * the default value.
+     */
+    public void compact() {
+        Int3ObjectMap<Chunk> retained = new Int3ObjectMap<>(chunks.size());
+        chunks.forEach((cx, cy, cz, chunk) -> {
+            chunk.compact();
+            if (!chunk.isUniform(defaultValue))
+                retained.put(cx, cy, cz, chunk);
+        });
+        chunks = retained;
+        lastChunk = null;
+    }
+
+    /**
+     * Remove all values from this grid, releasing all chunks.
+     */
+    public void clear() {
+        chunks.clear();
+        lastChunk = null;
+    }
+
+    private Chunk chunkAt(int cx, int cy, int cz) {
+        //  Neighbouring accesses mostly hit the same chunk, so the last chunk is checked before the map
+        Chunk chunk = lastChunk;
+        if (chunk != null && chunk.x == cx && chunk.y == cy && chunk.z == cz)
+            return chunk;
+        chunk = chunks.get(cx, cy, cz);
+        if (chunk != null)
+            lastChunk = chunk;
+        return chunk;
+    }
+
+    private int localIndex(int x, int y, int z) {
+        return (((y & chunkMask) << chunkBits | (z & chunkMask)) << chunkBits) | (x & chunkMask);
+    }
+
+    /**
+     * Visitor for the positions of a {@link ChunkedIntGrid}.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visit a position.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @param z The z coordinate.
+         * @param value The value at the position.
+         */
+        void accept(int x, int y, int z, int value);
+
+    }
+
+    /**
+     * A single chunk, storing palette indices of 0, 1, 2, 4 or 8 bits packed into longs, or the values
+     * directly once the palette exceeds {@link #MAX_PALETTE_SIZE} entries.
+     */
+    private static final class Chunk {
+
+        private final int x;
+        private final int y;
+        private final int z;
+        private final int volume;
+        private int[] palette;
+        private int paletteSize;
+        private int bitsPerEntry;
+        private long[] data;
+        private int[] values;
+
+        private Chunk(int x, int y, int z, int volume, int value) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.volume = volume;
+            this.palette = new int[] { value };
+            this.paletteSize = 1;
+        }
+
+        private int get(int index) {
+            if (values != null)
+                return values[index];
+            return palette[paletteIndex(index)];
+        }
+
+        private int set(int index, int value) {
+            if (values != null) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            int paletteIndex = find(value);
+            if (paletteIndex < 0) {
+                if (paletteSize == MAX_PALETTE_SIZE) {
+                    inflate();
+                    return set(index, value);
+                }
+                paletteIndex = add(value);
+            }
+            int previous = paletteIndex(index);
+            if (previous != paletteIndex)
+                setPaletteIndex(index, paletteIndex);
+            return palette[previous];
+        }
+
+        private boolean isUniform(int value) {
+            return values == null && paletteSize == 1 && palette[0] == value;
+        }
+
+        private int paletteIndex(int index) {
+            if (bitsPerEntry == 0)
+                return 0;
+            int bit = index * bitsPerEntry;
+            return (int) (data[bit >>> 6] >>> (bit & 63)) & ((1 << bitsPerEntry) - 1);
+        }
+
+        private void setPaletteIndex(int index, int paletteIndex) {
+            int bit = index * bitsPerEntry;
+            long mask = ((1L << bitsPerEntry) - 1L) << (bit & 63);
+            data[bit >>> 6] = (data[bit >>> 6] & ~mask) | ((long) paletteIndex << (bit & 63));
+        }
+
+        private int find(int value) {
+            int[] palette = this.palette;
+            for (int i = 0; i < paletteSize; i++)
+                if (palette[i] == value)
+                    return i;
+            return -1;
+        }
+
+        private int add(int value) {
+            if (paletteSize == palette.length)
+                palette = Arrays.copyOf(palette, Math.min(palette.length << 1, MAX_PALETTE_SIZE));
+            palette[paletteSize] = value;
+            if (paletteSize == 1 << bitsPerEntry)
+                repack(bitsPerEntry == 0 ? 1 : bitsPerEntry << 1, null);
+            return paletteSize++;
+        }
+
+        /**
+         * Re-encode all palette indices with the given number of bits, optionally remapping them.
+         */
+        private void repack(int bits, int[] remap) {
+            long[] packed = bits == 0 ? null : new long[(volume * bits + 63) >>> 6];
+            if (packed != null) {
+                for (int i = 0; i < volume; i++) {
+                    int paletteIndex = paletteIndex(i);
+                    if (remap != null)
+                        paletteIndex = remap[paletteIndex];
+                    int bit = i * bits;
+                    packed[bit >>> 6] |= (long) paletteIndex << (bit & 63);
+                }
+            }
+            this.data = packed;
+            this.bitsPerEntry = bits;
+        }
+
+        private void inflate() {
+            int[] values = new int[volume];
+            for (int i = 0; i < volume; i++)
+                values[i] = palette[paletteIndex(i)];
+            this.values = values;
+            this.palette = null;
+            this.paletteSize = 0;
+            this.data = null;
+            this.bitsPerEntry = 0;
+        }
+
+        private void compact() {
+            int[] used;
+            int usedSize = 0;
+            if (values != null) {
+                used = new int[MAX_PALETTE_SIZE];
+                for (int i = 0; i < volume; i++) {
+                    int value = values[i];
+                    if (indexOf(used, usedSize, value) >= 0)
+                        continue;
+                    if (usedSize == MAX_PALETTE_SIZE)
+                        return;
+                    used[usedSize++] = value;
+                }
+                this.palette = used;
+                this.paletteSize = usedSize;
+                this.bitsPerEntry = bitsFor(usedSize);
+                this.data = bitsPerEntry == 0 ? null : new long[(volume * bitsPerEntry + 63) >>> 6];
+                for (int i = 0; i < volume && bitsPerEntry != 0; i++)
+                    setPaletteIndex(i, indexOf(used, usedSize, values[i]));
+                this.values = null;
+            } else {
+                boolean[] present = new boolean[paletteSize];
+                for (int i = 0; i < volume; i++)
+                    present[paletteIndex(i)] = true;
+                int[] remap = new int[paletteSize];
+                used = new int[paletteSize];
+                for (int i = 0; i < paletteSize; i++) {
+                    if (present[i]) {
+                        remap[i] = usedSize;
+                        used[usedSize++] = palette[i];
+                    }
+                }
+                if (usedSize == paletteSize)
+                    return;
+                repack(bitsFor(usedSize), remap);
+                this.palette = used;
+                this.paletteSize = usedSize;
+            }
+        }
+
+        private static int indexOf(int[] array, int size, int value) {
+            for (int i = 0; i < size; i++)
+                if (array[i] == value)
+                    return i;
+            return -1;
+        }
+
+        private static int bitsFor(int paletteSize) {
+            int bits = 0;
+            while (1 << bits < paletteSize)
+                bits = bits == 0 ? 1 : bits << 1;
+            return bits;
+        }
+
+    }
+
+}
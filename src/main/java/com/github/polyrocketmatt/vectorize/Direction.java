@@ -1,5 +1,7 @@
 package com.github.polyrocketmatt.vectorize;
 
+import java.util.Arrays;
+
 public enum Direction {
 
     UP(0, 1, 0),
@@ -10,6 +12,121 @@ public enum Direction {
     WEST(-1, 0, 0)
     ;
 
+    /**
+     * All directions, indexed by ordinal. Unlike {@link #values()}, this does not copy the array on every call.
+     * The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final Direction[] VALUES = values();
+
+    /**
+     * The x offsets of all directions, indexed by ordinal. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] OFFSETS_X = { 0, 0, 0, 0, 1, -1 };
+
+    /**
+     * The y offsets of all directions, indexed by ordinal. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] OFFSETS_Y = { 1, -1, 0, 0, 0, 0 };
+
+    /**
+     * The z offsets of all directions, indexed by ordinal. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] OFFSETS_Z = { 0, 0, -1, 1, 0, 0 };
+
+    /**
+     * The ordinal of the opposite of every direction, indexed by ordinal. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] OPPOSITES = { 1, 0, 3, 2, 5, 4 };
+
+    /**
+     * The x offsets of the 18 neighbours sharing a face or an edge with a cell. The first 6 entries are the
+     * face neighbours in the order of {@link #OFFSETS_X}. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] NEIGHBOURS_18_X;
+
+    /**
+     * The y offsets of the 18 neighbours sharing a face or an edge with a cell. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] NEIGHBOURS_18_Y;
+
+    /**
+     * The z offsets of the 18 neighbours sharing a face or an edge with a cell. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] NEIGHBOURS_18_Z;
+
+    /**
+     * The x offsets of the 26 neighbours sharing a face, an edge or a corner with a cell. The first 18 entries
+     * are the neighbours of {@link #NEIGHBOURS_18_X}. The array must not be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] NEIGHBOURS_26_X;
+
+    /**
+     * The y offsets of the 26 neighbours sharing a face, an edge or a corner with a cell. The array must not
+     * be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] NEIGHBOURS_26_Y;
+
+    /**
+     * The z offsets of the 26 neighbours sharing a face, an edge or a corner with a cell. The array must not
+     * be modified.
+     *
+     * @since 2.1.0
+     */
+    public static final int[] NEIGHBOURS_26_Z;
+
+    static {
+        int[] xs = new int[26];
+        int[] ys = new int[26];
+        int[] zs = new int[26];
+        System.arraycopy(OFFSETS_X, 0, xs, 0, 6);
+        System.arraycopy(OFFSETS_Y, 0, ys, 0, 6);
+        System.arraycopy(OFFSETS_Z, 0, zs, 0, 6);
+
+        //  Faces have one non-zero offset, edges two and corners three, so sorting by that count
+        //  makes the 6- and 18-neighbourhoods prefixes of the 26-neighbourhood
+        int index = 6;
+        for (int nonZero = 2; nonZero <= 3; nonZero++) {
+            for (int y = -1; y <= 1; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    for (int x = -1; x <= 1; x++) {
+                        if ((x & 1) + (y & 1) + (z & 1) != nonZero)
+                            continue;
+                        xs[index] = x;
+                        ys[index] = y;
+                        zs[index] = z;
+                        index++;
+                    }
+                }
+            }
+        }
+        NEIGHBOURS_18_X = Arrays.copyOf(xs, 18);
+        NEIGHBOURS_18_Y = Arrays.copyOf(ys, 18);
+        NEIGHBOURS_18_Z = Arrays.copyOf(zs, 18);
+        NEIGHBOURS_26_X = xs;
+        NEIGHBOURS_26_Y = ys;
+        NEIGHBOURS_26_Z = zs;
+    }
+
     private final int offsetX;
     private final int offsetY;
     private final int offsetZ;
@@ -32,6 +149,16 @@ public enum Direction {
         return offsetZ;
     }
 
+    /**
+     * Get the direction pointing the opposite way.
+     *
+     * @return The opposite direction.
+     * @since 2.1.0
+     */
+    public Direction opposite() {
+        return VALUES[OPPOSITES[ordinal()]];
+    }
+
     @Override
     public String toString() {
         return "Direction{" +
@@ -49,21 +49,66 @@ public class Double2 extends Vector2<Double> {
 
     @Override
     public Double2 add(Double x, Double y) {
+        return add((double) x, (double) y);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @return A new vector with the given components added.
+     */
+    public Double2 add(double x, double y) {
         return new Double2(this.x + x, this.y + y);
     }
 
     @Override
     public Double2 subtract(Double x, Double y) {
+        return subtract((double) x, (double) y);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Double2 subtract(double x, double y) {
         return new Double2(this.x - x, this.y - y);
     }
 
     @Override
     public Double2 multiply(Double x, Double y) {
+        return multiply((double) x, (double) y);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Double2 multiply(double x, double y) {
         return new Double2(this.x * x, this.y * y);
     }
 
     @Override
     public Double2 divide(Double x, Double y) {
+        return divide((double) x, (double) y);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Double2 divide(double x, double y) {
         if (x == 0.0 || y == 0.0)
             throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f)".formatted(x, y));
         return new Double2(this.x / x, this.y / y);
@@ -108,28 +153,79 @@ public class Double2 extends Vector2<Double> {
 
     @Override
     public @NotNull Double2 add(@NotNull Double scalar) {
+        return add((double) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double2 add(double scalar) {
         return new Double2(this.x + scalar, this.y + scalar);
     }
 
     @Override
     public @NotNull Double2 subtract(@NotNull Double scalar) {
+        return subtract((double) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double2 subtract(double scalar) {
         return new Double2(this.x - scalar, this.y - scalar);
     }
 
     @Override
     public @NotNull Double2 multiply(@NotNull Double scalar) {
+        return multiply((double) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double2 multiply(double scalar) {
         return new Double2(this.x * scalar, this.y * scalar);
     }
 
     @Override
     public @NotNull Double2 divide(@NotNull Double scalar) {
+        return divide((double) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double2 divide(double scalar) {
         if (scalar == 0.0)
             throw new ArithmeticException("'other' cannot be zero");
         return new Double2(this.x / scalar, this.y / scalar);
     }
 
     @Override
-    public @NotNull Vector<Double> pow(@NotNull Double scalar) {
+    public @NotNull Double2 pow(@NotNull Double scalar) {
+        return pow((double) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double2 pow(double scalar) {
         return new Double2(Math.pow(this.x, scalar), Math.pow(this.y, scalar));
     }
 
@@ -145,35 +241,85 @@ public class Double2 extends Vector2<Double> {
 
     @Override
     public @NotNull Double2 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0f)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double2(this.x / length, this.y / length);
     }
 
+    /**
+     * Normalize this vector using {@link FastMath#invSqrt(double)}, which is faster than {@link #normalize()} but
+     * only accurate to a relative error of 1e-10, for vectors longer than about 1e-154.
+     * A zero-length vector results in a zero vector instead of an exception.
+     *
+     * @return A new vector with a length of approximately one.
+     */
+    public @NotNull Double2 normalizeFast() {
+        double inverse = FastMath.invSqrt(this.lengthSquaredd());
+        return new Double2(this.x * inverse, this.y * inverse);
+    }
+
     @Override
     public @NotNull Double dot(@NotNull Vector<Double> other) {
         if (!(other instanceof Double2 vector))
             throw new IllegalArgumentException("'other' must be a Double2, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y;
+        return dotd(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull Double2 other) {
+        return x * other.x + y * other.y;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Double> other) {
         if (!(other instanceof Double2 vector))
             throw new IllegalArgumentException("'other' must be a Double2, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double det = this.x * vector.y - this.y * vector.x;
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Double2 other) {
+        double dot = this.dotd(other);
+        double det = this.x * other.y - this.y * other.x;
         return Math.atan2(det, dot);
     }
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y);
     }
 
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return x * x + y * y;
     }
 
@@ -181,8 +327,18 @@ public class Double2 extends Vector2<Double> {
     public @NotNull Double distance(@NotNull Vector<Double> other) {
         if (!(other instanceof Double2 vector))
             throw new IllegalArgumentException("'other' must be a Double2, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Double2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
         return Math.sqrt(dx * dx + dy * dy);
     }
 
@@ -190,8 +346,18 @@ public class Double2 extends Vector2<Double> {
     public @NotNull Double distanceSquared(@NotNull Vector<Double> other) {
         if (!(other instanceof Double2 vector))
             throw new IllegalArgumentException("'other' must be a Double2, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Double2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
         return (dx * dx + dy * dy);
     }
 
@@ -202,11 +368,83 @@ public class Double2 extends Vector2<Double> {
         return new Double2(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
     }
 
+    /**
+     * Rotate this vector using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotate(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double2 rotateFast(double angle) {
+        double cos = FastMath.cos(angle);
+        double sin = FastMath.sin(angle);
+        return new Double2(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
+    }
+
     @Override
     public @NotNull Double[] toArray() {
         return new Double[] {this.x, this.y};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     */
+    public void writeTo(@NotNull double[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Double2(Double[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Double2 readFrom(@NotNull double[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 2, src.length);
+        return new Double2(src[offset], src[offset + 1]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 2 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Double2[] src, @NotNull double[] dst) {
+        if (dst.length / 2 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(2L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 2) {
+            Double2 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 2 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull double[] src, @NotNull Double2[] dst) {
+        if (src.length / 2 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(2L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 2)
+            dst[i] = new Double2(src[offset], src[offset + 1]);
+    }
+
     @Override
     public @NotNull Int2 floor() {
         return new Int2((int) Math.floor(this.x), (int) Math.floor(this.y));
@@ -246,6 +484,15 @@ public class Double2 extends Vector2<Double> {
         return new Float2((float) this.x, (float) this.y);
     }
 
+    /**
+     * Converts the vector to a {@link MutableDouble2}.
+     *
+     * @return A new MutableDouble2 with the same components as this vector.
+     */
+    public @NotNull MutableDouble2 toMutable() {
+        return new MutableDouble2(this.x, this.y);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -255,7 +502,7 @@ public class Double2 extends Vector2<Double> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y));
     }
 
     @Override
@@ -0,0 +1,377 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an array of 2-dimensional vectors of doubles, stored as a structure of arrays.
+ * <p>
+ * Each component is stored in its own contiguous array, so that bulk operations run over flat
+ * primitive arrays which the JIT compiler can unroll and auto-vectorize. All bulk operations
+ * work on the range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Double2Array {
+
+    public final double[] xs;
+    public final double[] ys;
+
+    public Double2Array(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        this.xs = new double[size];
+        this.ys = new double[size];
+    }
+
+    public Double2Array(@NotNull double[] xs, @NotNull double[] ys) {
+        if (ys.length != xs.length)
+            throw new IllegalArgumentException("All component arrays must have the same length");
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    public Double2Array(@NotNull Double2[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Double2}.
+     *
+     * @param index The index of the vector.
+     * @return A new Double2 with the components at the given index.
+     */
+    public @NotNull Double2 get(int index) {
+        return new Double2(xs[index], ys[index]);
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableDouble2 get(int index, @NotNull MutableDouble2 dst) {
+        return dst.set(xs[index], ys[index]);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     */
+    public void set(int index, double x, double y) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull Double2 vector) {
+        set(index, vector.x, vector.y);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull MutableDouble2 vector) {
+        set(index, vector.x, vector.y);
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Double2Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i];
+            ys[i] += oys[i];
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Double2 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double x = vector.x;
+        double y = vector.y;
+        for (int i = from; i < to; i++) {
+            xs[i] += x;
+            ys[i] += y;
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Double2Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] -= oxs[i];
+            ys[i] -= oys[i];
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Double2 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double x = vector.x;
+        double y = vector.y;
+        for (int i = from; i < to; i++) {
+            xs[i] -= x;
+            ys[i] -= y;
+        }
+    }
+
+    /**
+     * Multiply the vectors of another array with the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Double2Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] *= oxs[i];
+            ys[i] *= oys[i];
+        }
+    }
+
+    /**
+     * Multiply a single vector with the vectors of this array in place.
+     *
+     * @param vector The vector to multiply.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Double2 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double x = vector.x;
+        double y = vector.y;
+        for (int i = from; i < to; i++) {
+            xs[i] *= x;
+            ys[i] *= y;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(double scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scalar;
+            ys[i] *= scalar;
+        }
+    }
+
+    /**
+     * Add the vectors of another array, multiplied by a scalar, to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param scalar The scalar to multiply the other vectors with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void addScaled(@NotNull Double2Array other, double scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i] * scalar;
+            ys[i] += oys[i] * scalar;
+        }
+    }
+
+    /**
+     * Calculate the dot products of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void dot(@NotNull Double2Array other, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * oxs[i] + ys[i] * oys[i];
+        }
+    }
+
+    /**
+     * Normalize the vectors of this array in place.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalArgumentException If a vector in the range has a zero length. The vectors before it have already been normalized.
+     */
+    public void normalize(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            double length = Math.sqrt(x * x + y * y);
+            if (length == 0.0)
+                throw new IllegalArgumentException("Cannot normalize a zero-length vector at index %d".formatted(i));
+            double inverse = 1.0 / length;
+            xs[i] = x * inverse;
+            ys[i] = y * inverse;
+        }
+    }
+
+    /**
+     * Calculate the squared lengths of the vectors of this array.
+     *
+     * @param dst The array to store the squared lengths in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void lengthSquared(@NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * xs[i] + ys[i] * ys[i];
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Double2Array other, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - oxs[i];
+            double dy = ys[i] - oys[i];
+            dst[i] = dx * dx + dy * dy;
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and a single vector.
+     *
+     * @param vector The vector to calculate the distances to.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Double2 vector, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double x = vector.x;
+        double y = vector.y;
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            dst[i] = dx * dx + dy * dy;
+        }
+    }
+}
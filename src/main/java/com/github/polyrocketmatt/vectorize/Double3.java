@@ -56,21 +56,70 @@ public class Double3 extends Vector3<Double> {
 
     @Override
     public Double3 add(Double x, Double y, Double z) {
+        return add((double) x, (double) y, (double) z);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @return A new vector with the given components added.
+     */
+    public Double3 add(double x, double y, double z) {
         return new Double3(this.x + x, this.y + y, this.z + z);
     }
 
     @Override
     public Double3 subtract(Double x, Double y, Double z) {
+        return subtract((double) x, (double) y, (double) z);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Double3 subtract(double x, double y, double z) {
         return new Double3(this.x - x, this.y - y, this.z - z);
     }
 
     @Override
     public Double3 multiply(Double x, Double y, Double z) {
+        return multiply((double) x, (double) y, (double) z);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @param z The z component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Double3 multiply(double x, double y, double z) {
         return new Double3(this.x * x, this.y * y, this.z * z);
     }
 
     @Override
     public Double3 divide(Double x, Double y, Double z) {
+        return divide((double) x, (double) y, (double) z);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @param z The z component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Double3 divide(double x, double y, double z) {
         if (x == 0.0 || y == 0.0 || z == 0.0)
             throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f, z: %f)".formatted(x, y, z));
         return new Double3(this.x / x, this.y / y, this.z / z);
@@ -115,21 +164,62 @@ public class Double3 extends Vector3<Double> {
 
     @Override
     public @NotNull Double3 add(@NotNull Double scalar) {
+        return add((double) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 add(double scalar) {
         return new Double3(this.x + scalar, this.y + scalar, this.z + scalar);
     }
 
     @Override
     public @NotNull Double3 subtract(@NotNull Double scalar) {
+        return subtract((double) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 subtract(double scalar) {
         return new Double3(this.x - scalar, this.y - scalar, this.z - scalar);
     }
 
     @Override
     public @NotNull Double3 multiply(@NotNull Double scalar) {
+        return multiply((double) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 multiply(double scalar) {
         return new Double3(this.x * scalar, this.y * scalar, this.z * scalar);
     }
 
     @Override
     public @NotNull Double3 divide(@NotNull Double scalar) {
+        return divide((double) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 divide(double scalar) {
         if (scalar == 0.0)
             throw new ArithmeticException("'other' cannot be zero");
         return new Double3(this.x / scalar, this.y / scalar, this.z / scalar);
@@ -137,6 +227,16 @@ public class Double3 extends Vector3<Double> {
 
     @Override
     public @NotNull Double3 pow(@NotNull Double scalar) {
+        return pow((double) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 pow(double scalar) {
         return new Double3(Math.pow(this.x, scalar), Math.pow(this.y, scalar), Math.pow(this.z, scalar));
     }
 
@@ -152,25 +252,57 @@ public class Double3 extends Vector3<Double> {
 
     @Override
     public @NotNull Double3 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double3(this.x / length, this.y / length, this.z / length);
     }
 
+    /**
+     * Normalize this vector using {@link FastMath#invSqrt(double)}, which is faster than {@link #normalize()} but
+     * only accurate to a relative error of 1e-10, for vectors longer than about 1e-154.
+     * A zero-length vector results in a zero vector instead of an exception.
+     *
+     * @return A new vector with a length of approximately one.
+     */
+    public @NotNull Double3 normalizeFast() {
+        double inverse = FastMath.invSqrt(this.lengthSquaredd());
+        return new Double3(this.x * inverse, this.y * inverse, this.z * inverse);
+    }
+
     @Override
     public @NotNull Double dot(@NotNull Vector<Double> other) {
         if (!(other instanceof Double3 vector))
             throw new IllegalArgumentException("'other' must be a Double3, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y + z * vector.z;
+        return dotd(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull Double3 other) {
+        return x * other.x + y * other.y + z * other.z;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Double> other) {
         if (!(other instanceof Double3 vector))
             throw new IllegalArgumentException("'other' must be a Double3, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double cross = this.cross(vector).length();
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Double3 other) {
+        double dot = this.dotd(other);
+        double cross = this.cross(other).lengthd();
         return Math.atan2(cross, dot);
     }
 
@@ -187,11 +319,29 @@ public class Double3 extends Vector3<Double> {
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y + z * z);
     }
 
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return x * x + y * y + z * z;
     }
 
@@ -199,9 +349,19 @@ public class Double3 extends Vector3<Double> {
     public @NotNull Double distance(@NotNull Vector<Double> other) {
         if (!(other instanceof Double3 vector))
             throw new IllegalArgumentException("'other' must be a Double3, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Double3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
         return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
@@ -209,9 +369,19 @@ public class Double3 extends Vector3<Double> {
     public @NotNull Double distanceSquared(@NotNull Vector<Double> other) {
         if (!(other instanceof Double3 vector))
             throw new IllegalArgumentException("'other' must be a Double3, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Double3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
         return (dx * dx + dy * dy + dz * dz);
     }
 
@@ -222,6 +392,19 @@ public class Double3 extends Vector3<Double> {
         return new Double3(this.x, this.y * cos - this.z * sin, this.y * sin + this.z * cos);
     }
 
+    /**
+     * Rotate this vector around the x axis using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotateX(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 rotateXFast(double angle) {
+        double cos = FastMath.cos(angle);
+        double sin = FastMath.sin(angle);
+        return new Double3(this.x, this.y * cos - this.z * sin, this.y * sin + this.z * cos);
+    }
+
     @Override
     public @NotNull Double3 rotateY(double angle) {
         double cos = Math.cos(angle);
@@ -229,6 +412,19 @@ public class Double3 extends Vector3<Double> {
         return new Double3(this.x * cos + this.z * sin, this.y, -this.x * sin + this.z * cos);
     }
 
+    /**
+     * Rotate this vector around the y axis using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotateY(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 rotateYFast(double angle) {
+        double cos = FastMath.cos(angle);
+        double sin = FastMath.sin(angle);
+        return new Double3(this.x * cos + this.z * sin, this.y, -this.x * sin + this.z * cos);
+    }
+
     @Override
     public @NotNull Double3 rotateZ(double angle) {
         double cos = Math.cos(angle);
@@ -236,11 +432,85 @@ public class Double3 extends Vector3<Double> {
         return new Double3(this.x * cos - this.y * sin, this.x * sin + this.y * cos, this.z);
     }
 
+    /**
+     * Rotate this vector around the z axis using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotateZ(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 rotateZFast(double angle) {
+        double cos = FastMath.cos(angle);
+        double sin = FastMath.sin(angle);
+        return new Double3(this.x * cos - this.y * sin, this.x * sin + this.y * cos, this.z);
+    }
+
     @Override
     public @NotNull Double[] toArray() {
         return new Double[] {this.x, this.y, this.z};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     */
+    public void writeTo(@NotNull double[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 3, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Double3(Double[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Double3 readFrom(@NotNull double[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 3, src.length);
+        return new Double3(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 3 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Double3[] src, @NotNull double[] dst) {
+        if (dst.length / 3 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(3L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 3) {
+            Double3 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+            dst[offset + 2] = vector.z;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 3 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull double[] src, @NotNull Double3[] dst) {
+        if (src.length / 3 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(3L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 3)
+            dst[i] = new Double3(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
     @Override
     public @NotNull Int3 floor() {
         return new Int3((int) Math.floor(this.x), (int) Math.floor(this.y), (int) Math.floor(this.z));
@@ -279,6 +549,15 @@ public class Double3 extends Vector3<Double> {
         return new Float3((float) this.x, (float) this.y, (float) this.z);
     }
 
+    /**
+     * Converts the vector to a {@link MutableDouble3}.
+     *
+     * @return A new MutableDouble3 with the same components as this vector.
+     */
+    public @NotNull MutableDouble3 toMutable() {
+        return new MutableDouble3(this.x, this.y, this.z);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -288,7 +567,7 @@ public class Double3 extends Vector3<Double> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z);
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z));
     }
 
     @Override
@@ -63,21 +63,74 @@ public class Double4 extends Vector4<Double> {
 
     @Override
     public Double4 add(Double x, Double y, Double z, Double w) {
+        return add((double) x, (double) y, (double) z, (double) w);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @param w The w component to add.
+     * @return A new vector with the given components added.
+     */
+    public Double4 add(double x, double y, double z, double w) {
         return new Double4(this.x + x, this.y + y, this.z + z, this.w + w);
     }
 
     @Override
     public Double4 subtract(Double x, Double y, Double z, Double w) {
+        return subtract((double) x, (double) y, (double) z, (double) w);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @param w The w component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Double4 subtract(double x, double y, double z, double w) {
         return new Double4(this.x - x, this.y - y, this.z - z, this.w - w);
     }
 
     @Override
     public Double4 multiply(Double x, Double y, Double z, Double w) {
+        return multiply((double) x, (double) y, (double) z, (double) w);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @param z The z component to multiply.
+     * @param w The w component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Double4 multiply(double x, double y, double z, double w) {
         return new Double4(this.x * x, this.y * y, this.z * z, this.w * w);
     }
 
     @Override
     public Double4 divide(Double x, Double y, Double z, Double w) {
+        return divide((double) x, (double) y, (double) z, (double) w);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @param z The z component to divide.
+     * @param w The w component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Double4 divide(double x, double y, double z, double w) {
         if (x == 0.0 || y == 0.0 || z == 0.0 || w == 0.0)
             throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f, z: %f, w: %f)".formatted(x, y, z, w));
         return new Double4(this.x / x, this.y / y, this.z / z, this.w / w);
@@ -122,21 +175,62 @@ public class Double4 extends Vector4<Double> {
 
     @Override
     public @NotNull Double4 add(@NotNull Double scalar) {
+        return add((double) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double4 add(double scalar) {
         return new Double4(this.x + scalar, this.y + scalar, this.z + scalar, this.w + scalar);
     }
 
     @Override
     public @NotNull Double4 subtract(@NotNull Double scalar) {
+        return subtract((double) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double4 subtract(double scalar) {
         return new Double4(this.x - scalar, this.y - scalar, this.z - scalar, this.w - scalar);
     }
 
     @Override
     public @NotNull Double4 multiply(@NotNull Double scalar) {
+        return multiply((double) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double4 multiply(double scalar) {
         return new Double4(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
     }
 
     @Override
     public @NotNull Double4 divide(@NotNull Double scalar) {
+        return divide((double) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double4 divide(double scalar) {
         if (scalar == 0.0)
             throw new ArithmeticException("'other' cannot be zero");
         return new Double4(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
@@ -144,6 +238,16 @@ public class Double4 extends Vector4<Double> {
 
     @Override
     public @NotNull Double4 pow(@NotNull Double scalar) {
+        return pow((double) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double4 pow(double scalar) {
         return new Double4(Math.pow(this.x, scalar), Math.pow(this.y, scalar), Math.pow(this.z, scalar), Math.pow(this.w, scalar));
     }
 
@@ -159,25 +263,58 @@ public class Double4 extends Vector4<Double> {
 
     @Override
     public @NotNull Double4 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double4(this.x / length, this.y / length, this.z / length, this.w / length);
     }
 
+    /**
+     * Normalize this vector using {@link FastMath#invSqrt(double)}, which is faster than {@link #normalize()} but
+     * only accurate to a relative error of 1e-10, for vectors longer than about 1e-154.
+     * A zero-length vector results in a zero vector instead of an exception.
+     *
+     * @return A new vector with a length of approximately one.
+     */
+    public @NotNull Double4 normalizeFast() {
+        double inverse = FastMath.invSqrt(this.lengthSquaredd());
+        return new Double4(this.x * inverse, this.y * inverse, this.z * inverse, this.w * inverse);
+    }
+
     @Override
     public @NotNull Double dot(@NotNull Vector<Double> other) {
         if (!(other instanceof Double4 vector))
             throw new IllegalArgumentException("'other' must be a Double4, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y + z * vector.z + w * vector.w;
+        return dotd(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull Double4 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Double> other) {
         if (!(other instanceof Double4 vector))
             throw new IllegalArgumentException("'other' must be a Double4, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double length = this.length() * vector.length();
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @throws IllegalArgumentException If either of the vectors has a zero length.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Double4 other) {
+        double dot = this.dotd(other);
+        double length = this.lengthd() * other.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot calculate the angle between two zero-length vectors");
         return Math.acos(dot / length);
@@ -185,11 +322,29 @@ public class Double4 extends Vector4<Double> {
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y + z * z + w * w);
     }
 
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return x * x + y * y + z * z + w * w;
     }
 
@@ -197,10 +352,20 @@ public class Double4 extends Vector4<Double> {
     public @NotNull Double distance(@NotNull Vector<Double> other) {
         if (!(other instanceof Double4 vector))
             throw new IllegalArgumentException("'other' must be a Double4, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
-        double dw = this.w - vector.w;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Double4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
         return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
@@ -208,10 +373,20 @@ public class Double4 extends Vector4<Double> {
     public @NotNull Double distanceSquared(@NotNull Vector<Double> other) {
         if (!(other instanceof Double4 vector))
             throw new IllegalArgumentException("'other' must be a Double4, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
-        double dw = this.w - vector.w;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Double4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
         return (dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
@@ -220,6 +395,69 @@ public class Double4 extends Vector4<Double> {
         return new Double[] {this.x, this.y, this.z, this.w};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     */
+    public void writeTo(@NotNull double[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 4, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+        dst[offset + 3] = this.w;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Double4(Double[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Double4 readFrom(@NotNull double[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 4, src.length);
+        return new Double4(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 4 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Double4[] src, @NotNull double[] dst) {
+        if (dst.length / 4 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(4L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 4) {
+            Double4 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+            dst[offset + 2] = vector.z;
+            dst[offset + 3] = vector.w;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 4 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull double[] src, @NotNull Double4[] dst) {
+        if (src.length / 4 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(4L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 4)
+            dst[i] = new Double4(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
     @Override
     public @NotNull Int4 floor() {
         return new Int4((int) Math.floor(this.x), (int) Math.floor(this.y), (int) Math.floor(this.z), (int) Math.floor(this.w));
@@ -253,6 +491,15 @@ public class Double4 extends Vector4<Double> {
         return new Float4((float) this.x, (float) this.y, (float) this.z, (float) this.w);
     }
 
+    /**
+     * Converts the vector to a {@link MutableDouble4}.
+     *
+     * @return A new MutableDouble4 with the same components as this vector.
+     */
+    public @NotNull MutableDouble4 toMutable() {
+        return new MutableDouble4(this.x, this.y, this.z, this.w);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -262,7 +509,7 @@ public class Double4 extends Vector4<Double> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z, w);
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z), Hashing.bits(w));
     }
 
     @Override
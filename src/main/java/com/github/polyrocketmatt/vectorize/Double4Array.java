@@ -0,0 +1,457 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an array of 4-dimensional vectors of doubles, stored as a structure of arrays.
+ * <p>
+ * Each component is stored in its own contiguous array, so that bulk operations run over flat
+ * primitive arrays which the JIT compiler can unroll and auto-vectorize. All bulk operations
+ * work on the range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Double4Array {
+
+    public final double[] xs;
+    public final double[] ys;
+    public final double[] zs;
+    public final double[] ws;
+
+    public Double4Array(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        this.xs = new double[size];
+        this.ys = new double[size];
+        this.zs = new double[size];
+        this.ws = new double[size];
+    }
+
+    public Double4Array(@NotNull double[] xs, @NotNull double[] ys, @NotNull double[] zs, @NotNull double[] ws) {
+        if (ys.length != xs.length || zs.length != xs.length || ws.length != xs.length)
+            throw new IllegalArgumentException("All component arrays must have the same length");
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.ws = ws;
+    }
+
+    public Double4Array(@NotNull Double4[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Double4}.
+     *
+     * @param index The index of the vector.
+     * @return A new Double4 with the components at the given index.
+     */
+    public @NotNull Double4 get(int index) {
+        return new Double4(xs[index], ys[index], zs[index], ws[index]);
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableDouble4 get(int index, @NotNull MutableDouble4 dst) {
+        return dst.set(xs[index], ys[index], zs[index], ws[index]);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param w The w component.
+     */
+    public void set(int index, double x, double y, double z, double w) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.zs[index] = z;
+        this.ws[index] = w;
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull Double4 vector) {
+        set(index, vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull MutableDouble4 vector) {
+        set(index, vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Double4Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        double[] ozs = other.zs;
+        double[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i];
+            ys[i] += oys[i];
+            zs[i] += ozs[i];
+            ws[i] += ows[i];
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Double4 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        double w = vector.w;
+        for (int i = from; i < to; i++) {
+            xs[i] += x;
+            ys[i] += y;
+            zs[i] += z;
+            ws[i] += w;
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Double4Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        double[] ozs = other.zs;
+        double[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] -= oxs[i];
+            ys[i] -= oys[i];
+            zs[i] -= ozs[i];
+            ws[i] -= ows[i];
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Double4 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        double w = vector.w;
+        for (int i = from; i < to; i++) {
+            xs[i] -= x;
+            ys[i] -= y;
+            zs[i] -= z;
+            ws[i] -= w;
+        }
+    }
+
+    /**
+     * Multiply the vectors of another array with the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Double4Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        double[] ozs = other.zs;
+        double[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] *= oxs[i];
+            ys[i] *= oys[i];
+            zs[i] *= ozs[i];
+            ws[i] *= ows[i];
+        }
+    }
+
+    /**
+     * Multiply a single vector with the vectors of this array in place.
+     *
+     * @param vector The vector to multiply.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Double4 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        double w = vector.w;
+        for (int i = from; i < to; i++) {
+            xs[i] *= x;
+            ys[i] *= y;
+            zs[i] *= z;
+            ws[i] *= w;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(double scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scalar;
+            ys[i] *= scalar;
+            zs[i] *= scalar;
+            ws[i] *= scalar;
+        }
+    }
+
+    /**
+     * Add the vectors of another array, multiplied by a scalar, to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param scalar The scalar to multiply the other vectors with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void addScaled(@NotNull Double4Array other, double scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        double[] ozs = other.zs;
+        double[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i] * scalar;
+            ys[i] += oys[i] * scalar;
+            zs[i] += ozs[i] * scalar;
+            ws[i] += ows[i] * scalar;
+        }
+    }
+
+    /**
+     * Calculate the dot products of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void dot(@NotNull Double4Array other, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        double[] ozs = other.zs;
+        double[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * oxs[i] + ys[i] * oys[i] + zs[i] * ozs[i] + ws[i] * ows[i];
+        }
+    }
+
+    /**
+     * Normalize the vectors of this array in place.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalArgumentException If a vector in the range has a zero length. The vectors before it have already been normalized.
+     */
+    public void normalize(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        for (int i = from; i < to; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            double z = zs[i];
+            double w = ws[i];
+            double length = Math.sqrt(x * x + y * y + z * z + w * w);
+            if (length == 0.0)
+                throw new IllegalArgumentException("Cannot normalize a zero-length vector at index %d".formatted(i));
+            double inverse = 1.0 / length;
+            xs[i] = x * inverse;
+            ys[i] = y * inverse;
+            zs[i] = z * inverse;
+            ws[i] = w * inverse;
+        }
+    }
+
+    /**
+     * Calculate the squared lengths of the vectors of this array.
+     *
+     * @param dst The array to store the squared lengths in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void lengthSquared(@NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * xs[i] + ys[i] * ys[i] + zs[i] * zs[i] + ws[i] * ws[i];
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Double4Array other, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double[] oxs = other.xs;
+        double[] oys = other.ys;
+        double[] ozs = other.zs;
+        double[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - oxs[i];
+            double dy = ys[i] - oys[i];
+            double dz = zs[i] - ozs[i];
+            double dw = ws[i] - ows[i];
+            dst[i] = dx * dx + dy * dy + dz * dz + dw * dw;
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and a single vector.
+     *
+     * @param vector The vector to calculate the distances to.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Double4 vector, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        double[] ws = this.ws;
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        double w = vector.w;
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double dz = zs[i] - z;
+            double dw = ws[i] - w;
+            dst[i] = dx * dx + dy * dy + dz * dz + dw * dw;
+        }
+    }
+}
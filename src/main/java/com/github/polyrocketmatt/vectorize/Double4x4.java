@@ -0,0 +1,748 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable 4x4 matrix of doubles.
+ * <p>
+ * Components are named {@code m<row><column>}. Vectors are treated as columns, so {@code a.multiply(b)}
+ * transforms a vector by {@code b} first and by {@code a} second. Build a transform once and apply it to
+ * many vectors with {@link #transformPoint(Double3)} or {@link #transformPoints(Double3Array, Double3Array, int)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Double4x4 {
+
+    public final double m00, m01, m02, m03;
+    public final double m10, m11, m12, m13;
+    public final double m20, m21, m22, m23;
+    public final double m30, m31, m32, m33;
+
+    public static final Double4x4 IDENTITY = new Double4x4(
+            1.0, 0.0, 0.0, 0.0,
+            0.0, 1.0, 0.0, 0.0,
+            0.0, 0.0, 1.0, 0.0,
+            0.0, 0.0, 0.0, 1.0
+    );
+    public static final Double4x4 ZERO = new Double4x4(
+            0.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0,
+            0.0, 0.0, 0.0, 0.0
+    );
+
+    public Double4x4(double m00, double m01, double m02, double m03,
+                     double m10, double m11, double m12, double m13,
+                     double m20, double m21, double m22, double m23,
+                     double m30, double m31, double m32, double m33) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m03 = m03;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m13 = m13;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        this.m23 = m23;
+        this.m30 = m30;
+        this.m31 = m31;
+        this.m32 = m32;
+        this.m33 = m33;
+    }
+
+    public Double4x4(@NotNull MutableDouble4x4 matrix) {
+        this(
+                matrix.m00, matrix.m01, matrix.m02, matrix.m03,
+                matrix.m10, matrix.m11, matrix.m12, matrix.m13,
+                matrix.m20, matrix.m21, matrix.m22, matrix.m23,
+                matrix.m30, matrix.m31, matrix.m32, matrix.m33
+        );
+    }
+
+    /**
+     * Creates a matrix scaling along the principal axes.
+     *
+     * @param x The scale along the x axis.
+     * @param y The scale along the y axis.
+     * @param z The scale along the z axis.
+     * @return A new scaling matrix.
+     */
+    public static @NotNull Double4x4 scaling(double x, double y, double z) {
+        return new Double4x4(
+                x, 0.0, 0.0, 0.0,
+                0.0, y, 0.0, 0.0,
+                0.0, 0.0, z, 0.0,
+                0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Creates a matrix translating by the given offsets.
+     *
+     * @param x The offset along the x axis.
+     * @param y The offset along the y axis.
+     * @param z The offset along the z axis.
+     * @return A new translation matrix.
+     */
+    public static @NotNull Double4x4 translation(double x, double y, double z) {
+        return new Double4x4(
+                1.0, 0.0, 0.0, x,
+                0.0, 1.0, 0.0, y,
+                0.0, 0.0, 1.0, z,
+                0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around the x axis, matching {@link Double3#rotateX(double)}.
+     *
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Double4x4 rotationX(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Double4x4(
+                1.0, 0.0, 0.0, 0.0,
+                0.0, cos, -sin, 0.0,
+                0.0, sin, cos, 0.0,
+                0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around the y axis, matching {@link Double3#rotateY(double)}.
+     *
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Double4x4 rotationY(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Double4x4(
+                cos, 0.0, sin, 0.0,
+                0.0, 1.0, 0.0, 0.0,
+                -sin, 0.0, cos, 0.0,
+                0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around the z axis, matching {@link Double3#rotateZ(double)}.
+     *
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Double4x4 rotationZ(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Double4x4(
+                cos, -sin, 0.0, 0.0,
+                sin, cos, 0.0, 0.0,
+                0.0, 0.0, 1.0, 0.0,
+                0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around an arbitrary axis.
+     *
+     * @param axisX The x component of the normalized axis.
+     * @param axisY The y component of the normalized axis.
+     * @param axisZ The z component of the normalized axis.
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Double4x4 rotation(double axisX, double axisY, double axisZ, double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double t = 1.0 - cos;
+        return new Double4x4(
+                t * axisX * axisX + cos, t * axisX * axisY - sin * axisZ, t * axisX * axisZ + sin * axisY, 0.0,
+                t * axisX * axisY + sin * axisZ, t * axisY * axisY + cos, t * axisY * axisZ - sin * axisX, 0.0,
+                t * axisX * axisZ - sin * axisY, t * axisY * axisZ + sin * axisX, t * axisZ * axisZ + cos, 0.0,
+                0.0, 0.0, 0.0, 1.0
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around an arbitrary axis.
+     *
+     * @param axis The normalized axis.
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Double4x4 rotation(@NotNull Double3 axis, double angle) {
+        return rotation(axis.x, axis.y, axis.z, angle);
+    }
+
+    /**
+     * Get the component at the given row and column.
+     *
+     * @param row The row, from 0 to 3.
+     * @param column The column, from 0 to 3.
+     * @throws IndexOutOfBoundsException If the row or column is out of bounds.
+     * @return The component.
+     */
+    public double get(int row, int column) {
+        Objects.checkIndex(row, 4);
+        Objects.checkIndex(column, 4);
+        return switch (row * 4 + column) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m03;
+            case 4 -> m10;
+            case 5 -> m11;
+            case 6 -> m12;
+            case 7 -> m13;
+            case 8 -> m20;
+            case 9 -> m21;
+            case 10 -> m22;
+            case 11 -> m23;
+            case 12 -> m30;
+            case 13 -> m31;
+            case 14 -> m32;
+            default -> m33;
+        };
+    }
+
+    /**
+     * Multiply this matrix with another matrix. The result applies the other matrix first.
+     *
+     * @param other The other matrix.
+     * @return A new matrix with the product.
+     */
+    public @NotNull Double4x4 multiply(@NotNull Double4x4 other) {
+        return new Double4x4(
+                m00 * other.m00 + m01 * other.m10 + m02 * other.m20 + m03 * other.m30, m00 * other.m01 + m01 * other.m11 + m02 * other.m21 + m03 * other.m31, m00 * other.m02 + m01 * other.m12 + m02 * other.m22 + m03 * other.m32, m00 * other.m03 + m01 * other.m13 + m02 * other.m23 + m03 * other.m33,
+                m10 * other.m00 + m11 * other.m10 + m12 * other.m20 + m13 * other.m30, m10 * other.m01 + m11 * other.m11 + m12 * other.m21 + m13 * other.m31, m10 * other.m02 + m11 * other.m12 + m12 * other.m22 + m13 * other.m32, m10 * other.m03 + m11 * other.m13 + m12 * other.m23 + m13 * other.m33,
+                m20 * other.m00 + m21 * other.m10 + m22 * other.m20 + m23 * other.m30, m20 * other.m01 + m21 * other.m11 + m22 * other.m21 + m23 * other.m31, m20 * other.m02 + m21 * other.m12 + m22 * other.m22 + m23 * other.m32, m20 * other.m03 + m21 * other.m13 + m22 * other.m23 + m23 * other.m33,
+                m30 * other.m00 + m31 * other.m10 + m32 * other.m20 + m33 * other.m30, m30 * other.m01 + m31 * other.m11 + m32 * other.m21 + m33 * other.m31, m30 * other.m02 + m31 * other.m12 + m32 * other.m22 + m33 * other.m32, m30 * other.m03 + m31 * other.m13 + m32 * other.m23 + m33 * other.m33
+        );
+    }
+
+    /**
+     * Multiply this matrix with another matrix. The result applies the other matrix first.
+     *
+     * @param other The other matrix.
+     * @return A new matrix with the product.
+     */
+    public @NotNull Double4x4 multiply(@NotNull MutableDouble4x4 other) {
+        return new Double4x4(
+                m00 * other.m00 + m01 * other.m10 + m02 * other.m20 + m03 * other.m30, m00 * other.m01 + m01 * other.m11 + m02 * other.m21 + m03 * other.m31, m00 * other.m02 + m01 * other.m12 + m02 * other.m22 + m03 * other.m32, m00 * other.m03 + m01 * other.m13 + m02 * other.m23 + m03 * other.m33,
+                m10 * other.m00 + m11 * other.m10 + m12 * other.m20 + m13 * other.m30, m10 * other.m01 + m11 * other.m11 + m12 * other.m21 + m13 * other.m31, m10 * other.m02 + m11 * other.m12 + m12 * other.m22 + m13 * other.m32, m10 * other.m03 + m11 * other.m13 + m12 * other.m23 + m13 * other.m33,
+                m20 * other.m00 + m21 * other.m10 + m22 * other.m20 + m23 * other.m30, m20 * other.m01 + m21 * other.m11 + m22 * other.m21 + m23 * other.m31, m20 * other.m02 + m21 * other.m12 + m22 * other.m22 + m23 * other.m32, m20 * other.m03 + m21 * other.m13 + m22 * other.m23 + m23 * other.m33,
+                m30 * other.m00 + m31 * other.m10 + m32 * other.m20 + m33 * other.m30, m30 * other.m01 + m31 * other.m11 + m32 * other.m21 + m33 * other.m31, m30 * other.m02 + m31 * other.m12 + m32 * other.m22 + m33 * other.m32, m30 * other.m03 + m31 * other.m13 + m32 * other.m23 + m33 * other.m33
+        );
+    }
+
+    /**
+     * Multiply all components of this matrix by a scalar.
+     *
+     * @param scalar The scalar.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Double4x4 multiply(double scalar) {
+        return new Double4x4(
+                m00 * scalar, m01 * scalar, m02 * scalar, m03 * scalar,
+                m10 * scalar, m11 * scalar, m12 * scalar, m13 * scalar,
+                m20 * scalar, m21 * scalar, m22 * scalar, m23 * scalar,
+                m30 * scalar, m31 * scalar, m32 * scalar, m33 * scalar
+        );
+    }
+
+    /**
+     * Calculate the transpose of this matrix.
+     *
+     * @return A new matrix with rows and columns swapped.
+     */
+    public @NotNull Double4x4 transpose() {
+        return new Double4x4(
+                m00, m10, m20, m30,
+                m01, m11, m21, m31,
+                m02, m12, m22, m32,
+                m03, m13, m23, m33
+        );
+    }
+
+    /**
+     * Calculate the inverse of this matrix.
+     *
+     * @throws ArithmeticException If this matrix is singular.
+     * @return A new matrix with the inverse.
+     */
+    public @NotNull Double4x4 inverse() {
+        double s0 = m00 * m11 - m10 * m01;
+        double s1 = m00 * m12 - m10 * m02;
+        double s2 = m00 * m13 - m10 * m03;
+        double s3 = m01 * m12 - m11 * m02;
+        double s4 = m01 * m13 - m11 * m03;
+        double s5 = m02 * m13 - m12 * m03;
+        double c5 = m22 * m33 - m32 * m23;
+        double c4 = m21 * m33 - m31 * m23;
+        double c3 = m21 * m32 - m31 * m22;
+        double c2 = m20 * m33 - m30 * m23;
+        double c1 = m20 * m32 - m30 * m22;
+        double c0 = m20 * m31 - m30 * m21;
+        double determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (determinant == 0)
+            throw new ArithmeticException("Cannot invert a singular matrix");
+        double inverse = 1.0 / determinant;
+        return new Double4x4(
+                (m11 * c5 - m12 * c4 + m13 * c3) * inverse, (-m01 * c5 + m02 * c4 - m03 * c3) * inverse, (m31 * s5 - m32 * s4 + m33 * s3) * inverse, (-m21 * s5 + m22 * s4 - m23 * s3) * inverse,
+                (-m10 * c5 + m12 * c2 - m13 * c1) * inverse, (m00 * c5 - m02 * c2 + m03 * c1) * inverse, (-m30 * s5 + m32 * s2 - m33 * s1) * inverse, (m20 * s5 - m22 * s2 + m23 * s1) * inverse,
+                (m10 * c4 - m11 * c2 + m13 * c0) * inverse, (-m00 * c4 + m01 * c2 - m03 * c0) * inverse, (m30 * s4 - m31 * s2 + m33 * s0) * inverse, (-m20 * s4 + m21 * s2 - m23 * s0) * inverse,
+                (-m10 * c3 + m11 * c1 - m12 * c0) * inverse, (m00 * c3 - m01 * c1 + m02 * c0) * inverse, (-m30 * s3 + m31 * s1 - m32 * s0) * inverse, (m20 * s3 - m21 * s1 + m22 * s0) * inverse
+        );
+    }
+
+    /**
+     * Calculate the determinant of this matrix.
+     *
+     * @return The determinant.
+     */
+    public double determinant() {
+        double s0 = m00 * m11 - m10 * m01;
+        double s1 = m00 * m12 - m10 * m02;
+        double s2 = m00 * m13 - m10 * m03;
+        double s3 = m01 * m12 - m11 * m02;
+        double s4 = m01 * m13 - m11 * m03;
+        double s5 = m02 * m13 - m12 * m03;
+        double c5 = m22 * m33 - m32 * m23;
+        double c4 = m21 * m33 - m31 * m23;
+        double c3 = m21 * m32 - m31 * m22;
+        double c2 = m20 * m33 - m30 * m23;
+        double c1 = m20 * m32 - m30 * m22;
+        double c0 = m20 * m31 - m30 * m21;
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Multiply this matrix with a translation, which is applied before this matrix.
+     *
+     * @param x The offset along the x axis.
+     * @param y The offset along the y axis.
+     * @param z The offset along the z axis.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Double4x4 translate(double x, double y, double z) {
+        return new Double4x4(
+                m00, m01, m02, m00 * x + m01 * y + m02 * z + m03,
+                m10, m11, m12, m10 * x + m11 * y + m12 * z + m13,
+                m20, m21, m22, m20 * x + m21 * y + m22 * z + m23,
+                m30, m31, m32, m30 * x + m31 * y + m32 * z + m33
+        );
+    }
+
+    /**
+     * Multiply this matrix with a scaling along the principal axes, which is applied before this matrix.
+     *
+     * @param x The scale along the x axis.
+     * @param y The scale along the y axis.
+     * @param z The scale along the z axis.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Double4x4 scale(double x, double y, double z) {
+        return new Double4x4(
+                m00 * x, m01 * y, m02 * z, m03,
+                m10 * x, m11 * y, m12 * z, m13,
+                m20 * x, m21 * y, m22 * z, m23,
+                m30 * x, m31 * y, m32 * z, m33
+        );
+    }
+
+    /**
+     * Multiply this matrix with a rotation around the x axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Double4x4 rotateX(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Double4x4(
+                m00, m01 * cos + m02 * sin, m02 * cos - m01 * sin, m03,
+                m10, m11 * cos + m12 * sin, m12 * cos - m11 * sin, m13,
+                m20, m21 * cos + m22 * sin, m22 * cos - m21 * sin, m23,
+                m30, m31 * cos + m32 * sin, m32 * cos - m31 * sin, m33
+        );
+    }
+
+    /**
+     * Multiply this matrix with a rotation around the y axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Double4x4 rotateY(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Double4x4(
+                m00 * cos - m02 * sin, m01, m00 * sin + m02 * cos, m03,
+                m10 * cos - m12 * sin, m11, m10 * sin + m12 * cos, m13,
+                m20 * cos - m22 * sin, m21, m20 * sin + m22 * cos, m23,
+                m30 * cos - m32 * sin, m31, m30 * sin + m32 * cos, m33
+        );
+    }
+
+    /**
+     * Multiply this matrix with a rotation around the z axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Double4x4 rotateZ(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return new Double4x4(
+                m00 * cos + m01 * sin, m01 * cos - m00 * sin, m02, m03,
+                m10 * cos + m11 * sin, m11 * cos - m10 * sin, m12, m13,
+                m20 * cos + m21 * sin, m21 * cos - m20 * sin, m22, m23,
+                m30 * cos + m31 * sin, m31 * cos - m30 * sin, m32, m33
+        );
+    }
+
+    /**
+     * Transform a point by this matrix, treating it as having a w component of 1. The bottom
+     * row of this matrix is ignored, so use {@link #transform(Double4)} for projective matrices.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 transformPoint(@NotNull Double3 vector) {
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        return new Double3(
+                m00 * x + m01 * y + m02 * z + m03,
+                m10 * x + m11 * y + m12 * z + m13,
+                m20 * x + m21 * y + m22 * z + m23
+        );
+    }
+
+    /**
+     * Transform a point by this matrix, treating it as having a w component of 1. The bottom
+     * row of this matrix is ignored. Writes the result into the given vector without allocating.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param dst The vector to write the result into.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble3 transformPoint(double x, double y, double z, @NotNull MutableDouble3 dst) {
+        return dst.set(
+                m00 * x + m01 * y + m02 * z + m03,
+                m10 * x + m11 * y + m12 * z + m13,
+                m20 * x + m21 * y + m22 * z + m23
+        );
+    }
+
+    /**
+     * Transform a point by this matrix, treating it as having a w component of 1. The bottom
+     * row of this matrix is ignored. Transforms the given vector in place.
+     *
+     * @param vector The vector to transform.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble3 transformPoint(@NotNull MutableDouble3 vector) {
+        return transformPoint(vector.x, vector.y, vector.z, vector);
+    }
+
+    /**
+     * Transform the first {@code count} points of an array by this matrix.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to transform.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void transformPoints(@NotNull Double3Array src, @NotNull Double3Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        double[] sxs = src.xs;
+        double[] sys = src.ys;
+        double[] szs = src.zs;
+        double[] dxs = dst.xs;
+        double[] dys = dst.ys;
+        double[] dzs = dst.zs;
+        double m00 = this.m00;
+        double m01 = this.m01;
+        double m02 = this.m02;
+        double m10 = this.m10;
+        double m11 = this.m11;
+        double m12 = this.m12;
+        double m20 = this.m20;
+        double m21 = this.m21;
+        double m22 = this.m22;
+        double m03 = this.m03;
+        double m13 = this.m13;
+        double m23 = this.m23;
+        for (int i = 0; i < count; i++) {
+            double x = sxs[i];
+            double y = sys[i];
+            double z = szs[i];
+            dxs[i] = m00 * x + m01 * y + m02 * z + m03;
+            dys[i] = m10 * x + m11 * y + m12 * z + m13;
+            dzs[i] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    /**
+     * Transform a direction by this matrix, treating it as having a w component of 0, so
+     * that translations are ignored.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 transformDirection(@NotNull Double3 vector) {
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        return new Double3(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transform a direction by this matrix, treating it as having a w component of 0, so
+     * that translations are ignored. Writes the result into the given vector without allocating.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param dst The vector to write the result into.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble3 transformDirection(double x, double y, double z, @NotNull MutableDouble3 dst) {
+        return dst.set(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transform a direction by this matrix, treating it as having a w component of 0, so
+     * that translations are ignored. Transforms the given vector in place.
+     *
+     * @param vector The vector to transform.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble3 transformDirection(@NotNull MutableDouble3 vector) {
+        return transformDirection(vector.x, vector.y, vector.z, vector);
+    }
+
+    /**
+     * Transform the first {@code count} directions of an array by this matrix.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to transform.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void transformDirections(@NotNull Double3Array src, @NotNull Double3Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        double[] sxs = src.xs;
+        double[] sys = src.ys;
+        double[] szs = src.zs;
+        double[] dxs = dst.xs;
+        double[] dys = dst.ys;
+        double[] dzs = dst.zs;
+        double m00 = this.m00;
+        double m01 = this.m01;
+        double m02 = this.m02;
+        double m10 = this.m10;
+        double m11 = this.m11;
+        double m12 = this.m12;
+        double m20 = this.m20;
+        double m21 = this.m21;
+        double m22 = this.m22;
+        for (int i = 0; i < count; i++) {
+            double x = sxs[i];
+            double y = sys[i];
+            double z = szs[i];
+            dxs[i] = m00 * x + m01 * y + m02 * z;
+            dys[i] = m10 * x + m11 * y + m12 * z;
+            dzs[i] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
+    /**
+     * Transform a 4-dimensional vector by this matrix.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double4 transform(@NotNull Double4 vector) {
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        double w = vector.w;
+        return new Double4(
+                m00 * x + m01 * y + m02 * z + m03 * w,
+                m10 * x + m11 * y + m12 * z + m13 * w,
+                m20 * x + m21 * y + m22 * z + m23 * w,
+                m30 * x + m31 * y + m32 * z + m33 * w
+        );
+    }
+
+    /**
+     * Transform a 4-dimensional vector by this matrix in place.
+     *
+     * @param vector The vector to transform.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble4 transform(@NotNull MutableDouble4 vector) {
+        double x = vector.x;
+        double y = vector.y;
+        double z = vector.z;
+        double w = vector.w;
+        return vector.set(
+                m00 * x + m01 * y + m02 * z + m03 * w,
+                m10 * x + m11 * y + m12 * z + m13 * w,
+                m20 * x + m21 * y + m22 * z + m23 * w,
+                m30 * x + m31 * y + m32 * z + m33 * w
+        );
+    }
+
+    /**
+     * Transform the first {@code count} vectors of an array by this matrix.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to transform.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void transform(@NotNull Double4Array src, @NotNull Double4Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        double[] sxs = src.xs;
+        double[] sys = src.ys;
+        double[] szs = src.zs;
+        double[] sws = src.ws;
+        double[] dxs = dst.xs;
+        double[] dys = dst.ys;
+        double[] dzs = dst.zs;
+        double[] dws = dst.ws;
+        double m00 = this.m00;
+        double m01 = this.m01;
+        double m02 = this.m02;
+        double m03 = this.m03;
+        double m10 = this.m10;
+        double m11 = this.m11;
+        double m12 = this.m12;
+        double m13 = this.m13;
+        double m20 = this.m20;
+        double m21 = this.m21;
+        double m22 = this.m22;
+        double m23 = this.m23;
+        double m30 = this.m30;
+        double m31 = this.m31;
+        double m32 = this.m32;
+        double m33 = this.m33;
+        for (int i = 0; i < count; i++) {
+            double x = sxs[i];
+            double y = sys[i];
+            double z = szs[i];
+            double w = sws[i];
+            dxs[i] = m00 * x + m01 * y + m02 * z + m03 * w;
+            dys[i] = m10 * x + m11 * y + m12 * z + m13 * w;
+            dzs[i] = m20 * x + m21 * y + m22 * z + m23 * w;
+            dws[i] = m30 * x + m31 * y + m32 * z + m33 * w;
+        }
+    }
+
+    /**
+     * Converts the upper-left part of this matrix to a {@link Double3x3}.
+     *
+     * @return A new Double3x3.
+     */
+    public @NotNull Double3x3 toDouble3x3() {
+        return new Double3x3(
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        );
+    }
+
+    /**
+     * Converts this matrix to a {@link Float4x4}.
+     *
+     * @return A new Float4x4 with the same components as this matrix.
+     */
+    public @NotNull Float4x4 toFloat() {
+        return new Float4x4(
+                (float) m00, (float) m01, (float) m02, (float) m03,
+                (float) m10, (float) m11, (float) m12, (float) m13,
+                (float) m20, (float) m21, (float) m22, (float) m23,
+                (float) m30, (float) m31, (float) m32, (float) m33
+        );
+    }
+
+    /**
+     * Converts this matrix to a {@link MutableDouble4x4}.
+     *
+     * @return A new MutableDouble4x4 with the same components as this matrix.
+     */
+    public @NotNull MutableDouble4x4 toMutable() {
+        return new MutableDouble4x4(this);
+    }
+
+    /**
+     * Converts this matrix to an array in row-major order.
+     *
+     * @return A new array with the components of this matrix.
+     */
+    public @NotNull double[] toArray() {
+        return new double[] {
+                m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23,
+                m30, m31, m32, m33
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Double4x4 double4x4)) return false;
+        return Double.compare(double4x4.m00, m00) == 0 && Double.compare(double4x4.m01, m01) == 0 && Double.compare(double4x4.m02, m02) == 0 && Double.compare(double4x4.m03, m03) == 0
+                && Double.compare(double4x4.m10, m10) == 0 && Double.compare(double4x4.m11, m11) == 0 && Double.compare(double4x4.m12, m12) == 0 && Double.compare(double4x4.m13, m13) == 0
+                && Double.compare(double4x4.m20, m20) == 0 && Double.compare(double4x4.m21, m21) == 0 && Double.compare(double4x4.m22, m22) == 0 && Double.compare(double4x4.m23, m23) == 0
+                && Double.compare(double4x4.m30, m30) == 0 && Double.compare(double4x4.m31, m31) == 0 && Double.compare(double4x4.m32, m32) == 0 && Double.compare(double4x4.m33, m33) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(
+                Hashing.hash(Hashing.bits(m00), Hashing.bits(m01), Hashing.bits(m02), Hashing.bits(m03)),
+                Hashing.hash(Hashing.bits(m10), Hashing.bits(m11), Hashing.bits(m12), Hashing.bits(m13)),
+                Hashing.hash(Hashing.bits(m20), Hashing.bits(m21), Hashing.bits(m22), Hashing.bits(m23)),
+                Hashing.hash(Hashing.bits(m30), Hashing.bits(m31), Hashing.bits(m32), Hashing.bits(m33))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "Double4x4[(%f, %f, %f, %f), (%f, %f, %f, %f), (%f, %f, %f, %f), (%f, %f, %f, %f)]".formatted(
+                this.m00, this.m01, this.m02, this.m03,
+                this.m10, this.m11, this.m12, this.m13,
+                this.m20, this.m21, this.m22, this.m23,
+                this.m30, this.m31, this.m32, this.m33
+        );
+    }
+}
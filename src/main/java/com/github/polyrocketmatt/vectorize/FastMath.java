@@ -0,0 +1,108 @@
+package com.github.polyrocketmatt.vectorize;
+
+/**
+ * Approximate math functions that trade accuracy for speed, used by the {@code ...Fast} methods of the vector
+ * types.
+ * <p>
+ * The reciprocal square roots start from a bit-level estimate and are refined with Newton-Raphson steps. Sine
+ * and cosine are interpolated linearly from a table of {@value #SIN_TABLE_SIZE} samples per period. The error
+ * bounds documented on each function were measured over their whole input range and hold for finite, normal
+ * (square roots) or moderately sized (trigonometry) inputs. The bit-level estimate assumes a normal exponent, so
+ * subnormal inputs give errors of up to 100%. Use the exact methods whenever results have to be reproducible to
+ * the last bit.
+ * <p>
+ * The table based trigonometry gains the most, as {@link Math#sin(double)} and {@link Math#cos(double)} reduce
+ * their argument exactly. Square roots are computed in hardware on most platforms, so the approximated reciprocal
+ * square root mainly saves the division and the zero-length check of an exact normalization.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public final class FastMath {
+
+    /**
+     * The number of samples of the sine table per period.
+     */
+    public static final int SIN_TABLE_SIZE = 4096;
+
+    private static final int SIN_TABLE_MASK = SIN_TABLE_SIZE - 1;
+    private static final int QUARTER_PERIOD = SIN_TABLE_SIZE / 4;
+    private static final double INDEX_SCALE = SIN_TABLE_SIZE / (2.0 * Math.PI);
+    private static final float[] SIN_TABLE = new float[SIN_TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SIN_TABLE_SIZE; i++)
+            SIN_TABLE[i] = (float) Math.sin(i / INDEX_SCALE);
+    }
+
+    private FastMath() {}
+
+    /**
+     * Approximate {@code 1 / sqrt(value)} in single precision, with a relative error below 5e-6 for values of at
+     * least {@link Float#MIN_NORMAL}. Subnormal values give much larger errors.
+     * <p>
+     * A value of zero results in a large finite number instead of infinity, so that multiplying a zero-length
+     * vector with it results in a zero vector.
+     *
+     * @param value The value, which must not be negative.
+     * @return The approximated reciprocal square root.
+     */
+    public static float invSqrt(float value) {
+        float half = 0.5f * value;
+        float estimate = Float.intBitsToFloat(0x5F375A86 - (Float.floatToRawIntBits(value) >> 1));
+        estimate *= 1.5f - half * estimate * estimate;
+        estimate *= 1.5f - half * estimate * estimate;
+        return estimate;
+    }
+
+    /**
+     * Approximate {@code 1 / sqrt(value)} in double precision, with a relative error below 1e-10 for values of at
+     * least {@link Double#MIN_NORMAL}. Subnormal values give much larger errors.
+     * <p>
+     * A value of zero results in a large finite number instead of infinity, so that multiplying a zero-length
+     * vector with it results in a zero vector.
+     *
+     * @param value The value, which must not be negative.
+     * @return The approximated reciprocal square root.
+     */
+    public static double invSqrt(double value) {
+        double half = 0.5 * value;
+        double estimate = Double.longBitsToDouble(0x5FE6EB50C7B537A9L - (Double.doubleToRawLongBits(value) >> 1));
+        estimate *= 1.5 - half * estimate * estimate;
+        estimate *= 1.5 - half * estimate * estimate;
+        estimate *= 1.5 - half * estimate * estimate;
+        return estimate;
+    }
+
+    /**
+     * Approximate the sine of an angle, with an absolute error below 5e-7 for angles within [-2^16, 2^16].
+     *
+     * @param angle The angle in radians.
+     * @return The approximated sine.
+     */
+    public static float sin(double angle) {
+        return lookup(angle * INDEX_SCALE);
+    }
+
+    /**
+     * Approximate the cosine of an angle, with an absolute error below 5e-7 for angles within [-2^16, 2^16].
+     *
+     * @param angle The angle in radians.
+     * @return The approximated cosine.
+     */
+    public static float cos(double angle) {
+        return lookup(angle * INDEX_SCALE + QUARTER_PERIOD);
+    }
+
+    /**
+     * Interpolate the sine table at the given fractional index, wrapping around the period.
+     */
+    private static float lookup(double index) {
+        double floor = Math.floor(index);
+        int i = (int) (long) floor & SIN_TABLE_MASK;
+        float fraction = (float) (index - floor);
+        float a = SIN_TABLE[i];
+        return a + (SIN_TABLE[i + 1] - a) * fraction;
+    }
+
+}
@@ -49,21 +49,66 @@ public class Float2 extends Vector2<Float> {
 
     @Override
     public Float2 add(Float x, Float y) {
+        return add((float) x, (float) y);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @return A new vector with the given components added.
+     */
+    public Float2 add(float x, float y) {
         return new Float2(this.x + x, this.y + y);
     }
 
     @Override
     public Float2 subtract(Float x, Float y) {
+        return subtract((float) x, (float) y);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Float2 subtract(float x, float y) {
         return new Float2(this.x - x, this.y - y);
     }
 
     @Override
     public Float2 multiply(Float x, Float y) {
+        return multiply((float) x, (float) y);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Float2 multiply(float x, float y) {
         return new Float2(this.x * x, this.y * y);
     }
 
     @Override
     public Float2 divide(Float x, Float y) {
+        return divide((float) x, (float) y);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Float2 divide(float x, float y) {
         if (x == 0.0f || y == 0.0f)
             throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f)".formatted(x, y));
         return new Float2(this.x / x, this.y / y);
@@ -108,21 +153,62 @@ public class Float2 extends Vector2<Float> {
 
     @Override
     public @NotNull Float2 add(@NotNull Float scalar) {
+        return add((float) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 add(float scalar) {
         return new Float2(this.x + scalar, this.y + scalar);
     }
 
     @Override
     public @NotNull Float2 subtract(@NotNull Float scalar) {
+        return subtract((float) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 subtract(float scalar) {
         return new Float2(this.x - scalar, this.y - scalar);
     }
 
     @Override
     public @NotNull Float2 multiply(@NotNull Float scalar) {
+        return multiply((float) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 multiply(float scalar) {
         return new Float2(this.x * scalar, this.y * scalar);
     }
 
     @Override
     public @NotNull Float2 divide(@NotNull Float scalar) {
+        return divide((float) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 divide(float scalar) {
         if (scalar == 0.0f)
             throw new ArithmeticException("'other' cannot be zero");
         return new Float2(this.x / scalar, this.y / scalar);
@@ -130,6 +216,16 @@ public class Float2 extends Vector2<Float> {
 
     @Override
     public @NotNull Float2 pow(@NotNull Float scalar) {
+        return pow((float) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 pow(float scalar) {
         return new Float2((float) Math.pow(this.x, scalar), (float) Math.pow(this.y, scalar));
     }
 
@@ -145,56 +241,180 @@ public class Float2 extends Vector2<Float> {
 
     @Override
     public @NotNull Double2 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0f)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double2(this.x / length, this.y / length);
     }
 
+    /**
+     * Normalize this vector in single precision, without promoting the result to a {@link Double2}.
+     *
+     * @throws IllegalArgumentException If this vector has a length of zero.
+     * @return A new vector with a length of one.
+     */
+    public @NotNull Float2 normalizef() {
+        float length = this.lengthf();
+        if (length == 0.0f)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        float inverse = 1.0f / length;
+        return new Float2(this.x * inverse, this.y * inverse);
+    }
+
+    /**
+     * Normalize this vector using {@link FastMath#invSqrt(float)}, which is faster than {@link #normalize()} but
+     * only accurate to a relative error of 5e-6, for vectors longer than about 1e-19.
+     * A zero-length vector results in a zero vector instead of an exception.
+     *
+     * @return A new vector with a length of approximately one.
+     */
+    public @NotNull Float2 normalizeFast() {
+        float inverse = FastMath.invSqrt(this.lengthSquaredf());
+        return new Float2(this.x * inverse, this.y * inverse);
+    }
+
     @Override
     public @NotNull Float dot(@NotNull Vector<Float> other) {
         if (!(other instanceof Float2 vector))
             throw new IllegalArgumentException("'other' must be a Float2, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y;
+        return dotf(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull Float2 other) {
+        return x * other.x + y * other.y;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Float> other) {
         if (!(other instanceof Float2 vector))
             throw new IllegalArgumentException("'other' must be a Float2, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double det = this.x * vector.y - this.y * vector.x;
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Float2 other) {
+        double dot = this.dotf(other);
+        double det = this.x * other.y - this.y * other.x;
         return Math.atan2(det, dot);
     }
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y);
     }
 
+    /**
+     * Calculate the length of this vector in single precision.
+     *
+     * @return The length of this vector.
+     */
+    public float lengthf() {
+        return (float) Math.sqrt(lengthSquaredf());
+    }
+
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return (double) x * x + y * y;
     }
 
+    /**
+     * Calculate the squared length of this vector in single precision.
+     *
+     * @return The squared length of this vector.
+     */
+    public float lengthSquaredf() {
+        return x * x + y * y;
+    }
+
     @Override
     public @NotNull Double distance(@NotNull Vector<Float> other) {
         if (!(other instanceof Float2 vector))
             throw new IllegalArgumentException("'other' must be a Float2, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Float2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
         return Math.sqrt(dx * dx + dy * dy);
     }
 
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull Float2 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
     @Override
     public @NotNull Double distanceSquared(@NotNull Vector<Float> other) {
         if (!(other instanceof Float2 vector))
             throw new IllegalArgumentException("'other' must be a Float2, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Float2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
         return (dx * dx + dy * dy);
     }
 
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull Float2 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
     @Override
     public @NotNull Double2 rotate(double angle) {
         double cos = Math.cos(angle);
@@ -202,11 +422,95 @@ public class Float2 extends Vector2<Float> {
         return new Double2(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
     }
 
+    /**
+     * Rotate this vector by the given angle in single precision, without promoting the result to a {@link Double2}.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 rotatef(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float2(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
+    }
+
+    /**
+     * Rotate this vector using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotate(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float2 rotateFast(double angle) {
+        float cos = FastMath.cos(angle);
+        float sin = FastMath.sin(angle);
+        return new Float2(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
+    }
+
     @Override
     public @NotNull Float[] toArray() {
         return new Float[] {this.x, this.y};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     */
+    public void writeTo(@NotNull float[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Float2(Float[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Float2 readFrom(@NotNull float[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 2, src.length);
+        return new Float2(src[offset], src[offset + 1]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 2 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Float2[] src, @NotNull float[] dst) {
+        if (dst.length / 2 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(2L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 2) {
+            Float2 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 2 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull float[] src, @NotNull Float2[] dst) {
+        if (src.length / 2 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(2L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 2)
+            dst[i] = new Float2(src[offset], src[offset + 1]);
+    }
+
     @Override
     public @NotNull Int2 floor() {
         return new Int2((int) Math.floor(this.x), (int) Math.floor(this.y));
@@ -246,6 +550,15 @@ public class Float2 extends Vector2<Float> {
         return new Int2((int) this.x, (int) this.y);
     }
 
+    /**
+     * Converts the vector to a {@link MutableFloat2}.
+     *
+     * @return A new MutableFloat2 with the same components as this vector.
+     */
+    public @NotNull MutableFloat2 toMutable() {
+        return new MutableFloat2(this.x, this.y);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -255,7 +568,7 @@ public class Float2 extends Vector2<Float> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y));
     }
 
     @Override
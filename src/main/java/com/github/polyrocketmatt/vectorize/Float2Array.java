@@ -0,0 +1,377 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an array of 2-dimensional vectors of floats, stored as a structure of arrays.
+ * <p>
+ * Each component is stored in its own contiguous array, so that bulk operations run over flat
+ * primitive arrays which the JIT compiler can unroll and auto-vectorize. All bulk operations
+ * work on the range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Float2Array {
+
+    public final float[] xs;
+    public final float[] ys;
+
+    public Float2Array(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        this.xs = new float[size];
+        this.ys = new float[size];
+    }
+
+    public Float2Array(@NotNull float[] xs, @NotNull float[] ys) {
+        if (ys.length != xs.length)
+            throw new IllegalArgumentException("All component arrays must have the same length");
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    public Float2Array(@NotNull Float2[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Float2}.
+     *
+     * @param index The index of the vector.
+     * @return A new Float2 with the components at the given index.
+     */
+    public @NotNull Float2 get(int index) {
+        return new Float2(xs[index], ys[index]);
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableFloat2 get(int index, @NotNull MutableFloat2 dst) {
+        return dst.set(xs[index], ys[index]);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     */
+    public void set(int index, float x, float y) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull Float2 vector) {
+        set(index, vector.x, vector.y);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull MutableFloat2 vector) {
+        set(index, vector.x, vector.y);
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float2Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i];
+            ys[i] += oys[i];
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float2 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float x = vector.x;
+        float y = vector.y;
+        for (int i = from; i < to; i++) {
+            xs[i] += x;
+            ys[i] += y;
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Float2Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] -= oxs[i];
+            ys[i] -= oys[i];
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Float2 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float x = vector.x;
+        float y = vector.y;
+        for (int i = from; i < to; i++) {
+            xs[i] -= x;
+            ys[i] -= y;
+        }
+    }
+
+    /**
+     * Multiply the vectors of another array with the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Float2Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] *= oxs[i];
+            ys[i] *= oys[i];
+        }
+    }
+
+    /**
+     * Multiply a single vector with the vectors of this array in place.
+     *
+     * @param vector The vector to multiply.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Float2 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float x = vector.x;
+        float y = vector.y;
+        for (int i = from; i < to; i++) {
+            xs[i] *= x;
+            ys[i] *= y;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scalar;
+            ys[i] *= scalar;
+        }
+    }
+
+    /**
+     * Add the vectors of another array, multiplied by a scalar, to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param scalar The scalar to multiply the other vectors with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void addScaled(@NotNull Float2Array other, float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i] * scalar;
+            ys[i] += oys[i] * scalar;
+        }
+    }
+
+    /**
+     * Calculate the dot products of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void dot(@NotNull Float2Array other, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * oxs[i] + ys[i] * oys[i];
+        }
+    }
+
+    /**
+     * Normalize the vectors of this array in place.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalArgumentException If a vector in the range has a zero length. The vectors before it have already been normalized.
+     */
+    public void normalize(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            double length = Math.sqrt(x * x + y * y);
+            if (length == 0.0)
+                throw new IllegalArgumentException("Cannot normalize a zero-length vector at index %d".formatted(i));
+            float inverse = 1.0f / (float) length;
+            xs[i] = x * inverse;
+            ys[i] = y * inverse;
+        }
+    }
+
+    /**
+     * Calculate the squared lengths of the vectors of this array.
+     *
+     * @param dst The array to store the squared lengths in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void lengthSquared(@NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * xs[i] + ys[i] * ys[i];
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Float2Array other, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        for (int i = from; i < to; i++) {
+            float dx = xs[i] - oxs[i];
+            float dy = ys[i] - oys[i];
+            dst[i] = dx * dx + dy * dy;
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and a single vector.
+     *
+     * @param vector The vector to calculate the distances to.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Float2 vector, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float x = vector.x;
+        float y = vector.y;
+        for (int i = from; i < to; i++) {
+            float dx = xs[i] - x;
+            float dy = ys[i] - y;
+            dst[i] = dx * dx + dy * dy;
+        }
+    }
+}
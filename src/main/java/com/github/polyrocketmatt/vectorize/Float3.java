@@ -56,21 +56,70 @@ public class Float3 extends Vector3<Float> {
 
     @Override
     public Float3 add(Float x, Float y, Float z) {
+        return add((float) x, (float) y, (float) z);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @return A new vector with the given components added.
+     */
+    public Float3 add(float x, float y, float z) {
         return new Float3(this.x + x, this.y + y, this.z + z);
     }
 
     @Override
     public Float3 subtract(Float x, Float y, Float z) {
+        return subtract((float) x, (float) y, (float) z);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Float3 subtract(float x, float y, float z) {
         return new Float3(this.x - x, this.y - y, this.z - z);
     }
 
     @Override
     public Float3 multiply(Float x, Float y, Float z) {
+        return multiply((float) x, (float) y, (float) z);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @param z The z component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Float3 multiply(float x, float y, float z) {
         return new Float3(this.x * x, this.y * y, this.z * z);
     }
 
     @Override
     public Float3 divide(Float x, Float y, Float z) {
+        return divide((float) x, (float) y, (float) z);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @param z The z component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Float3 divide(float x, float y, float z) {
         if (x == 0.0f || y == 0.0f || z == 0.0f)
             throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f, z: %f)".formatted(x, y, z));
         return new Float3(this.x / x, this.y / y, this.z / z);
@@ -115,21 +164,62 @@ public class Float3 extends Vector3<Float> {
 
     @Override
     public @NotNull Float3 add(@NotNull Float scalar) {
+        return add((float) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 add(float scalar) {
         return new Float3(this.x + scalar, this.y + scalar, this.z + scalar);
     }
 
     @Override
     public @NotNull Float3 subtract(@NotNull Float scalar) {
+        return subtract((float) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 subtract(float scalar) {
         return new Float3(this.x - scalar, this.y - scalar, this.z - scalar);
     }
 
     @Override
     public @NotNull Float3 multiply(@NotNull Float scalar) {
+        return multiply((float) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 multiply(float scalar) {
         return new Float3(this.x * scalar, this.y * scalar, this.z * scalar);
     }
 
     @Override
     public @NotNull Float3 divide(@NotNull Float scalar) {
+        return divide((float) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 divide(float scalar) {
         if (scalar == 0.0f)
             throw new ArithmeticException("'other' cannot be zero");
         return new Float3(this.x / scalar, this.y / scalar, this.z / scalar);
@@ -137,6 +227,16 @@ public class Float3 extends Vector3<Float> {
 
     @Override
     public @NotNull Float3 pow(@NotNull Float scalar) {
+        return pow((float) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 pow(float scalar) {
         return new Float3((float) Math.pow(this.x, scalar), (float) Math.pow(this.y, scalar), (float) Math.pow(this.z, scalar));
     }
 
@@ -152,25 +252,71 @@ public class Float3 extends Vector3<Float> {
 
     @Override
     public @NotNull Double3 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double3(this.x / length, this.y / length, this.z / length);
     }
 
+    /**
+     * Normalize this vector in single precision, without promoting the result to a {@link Double3}.
+     *
+     * @throws IllegalArgumentException If this vector has a length of zero.
+     * @return A new vector with a length of one.
+     */
+    public @NotNull Float3 normalizef() {
+        float length = this.lengthf();
+        if (length == 0.0f)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        float inverse = 1.0f / length;
+        return new Float3(this.x * inverse, this.y * inverse, this.z * inverse);
+    }
+
+    /**
+     * Normalize this vector using {@link FastMath#invSqrt(float)}, which is faster than {@link #normalize()} but
+     * only accurate to a relative error of 5e-6, for vectors longer than about 1e-19.
+     * A zero-length vector results in a zero vector instead of an exception.
+     *
+     * @return A new vector with a length of approximately one.
+     */
+    public @NotNull Float3 normalizeFast() {
+        float inverse = FastMath.invSqrt(this.lengthSquaredf());
+        return new Float3(this.x * inverse, this.y * inverse, this.z * inverse);
+    }
+
     @Override
     public @NotNull Float dot(@NotNull Vector<Float> other) {
         if (!(other instanceof Float3 vector))
             throw new IllegalArgumentException("'other' must be a Float3, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y + z * vector.z;
+        return dotf(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull Float3 other) {
+        return x * other.x + y * other.y + z * other.z;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Float> other) {
         if (!(other instanceof Float3 vector))
             throw new IllegalArgumentException("'other' must be a Float3, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double cross = this.cross(vector).length();
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Float3 other) {
+        double dot = this.dotf(other);
+        double cross = this.cross(other).lengthd();
         return Math.atan2(cross, dot);
     }
 
@@ -186,34 +332,113 @@ public class Float3 extends Vector3<Float> {
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y + z * z);
     }
 
+    /**
+     * Calculate the length of this vector in single precision.
+     *
+     * @return The length of this vector.
+     */
+    public float lengthf() {
+        return (float) Math.sqrt(lengthSquaredf());
+    }
+
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return (double) x * x + y * y + z * z;
     }
 
+    /**
+     * Calculate the squared length of this vector in single precision.
+     *
+     * @return The squared length of this vector.
+     */
+    public float lengthSquaredf() {
+        return x * x + y * y + z * z;
+    }
+
     @Override
     public @NotNull Double distance(@NotNull Vector<Float> other) {
         if (!(other instanceof Float3 vector))
             throw new IllegalArgumentException("'other' must be a Float3, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Float3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
         return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull Float3 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
     @Override
     public @NotNull Double distanceSquared(@NotNull Vector<Float> other) {
         if (!(other instanceof Float3 vector))
             throw new IllegalArgumentException("'other' must be a Float3, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Float3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
         return (dx * dx + dy * dy + dz * dz);
     }
 
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull Float3 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        float dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
     @Override
     public @NotNull Double3 rotateX(double angle) {
         double cos = Math.cos(angle);
@@ -221,6 +446,31 @@ public class Float3 extends Vector3<Float> {
         return new Double3(this.x, this.y * cos - this.z * sin, this.y * sin + this.z * cos);
     }
 
+    /**
+     * Rotate this vector around the x axis in single precision, without promoting the result to a {@link Double3}.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotateXf(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3(this.x, this.y * cos - this.z * sin, this.y * sin + this.z * cos);
+    }
+
+    /**
+     * Rotate this vector around the x axis using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotateX(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotateXFast(double angle) {
+        float cos = FastMath.cos(angle);
+        float sin = FastMath.sin(angle);
+        return new Float3(this.x, this.y * cos - this.z * sin, this.y * sin + this.z * cos);
+    }
+
     @Override
     public @NotNull Double3 rotateY(double angle) {
         double cos = Math.cos(angle);
@@ -228,6 +478,31 @@ public class Float3 extends Vector3<Float> {
         return new Double3(this.x * cos + this.z * sin, this.y, -this.x * sin + this.z * cos);
     }
 
+    /**
+     * Rotate this vector around the y axis in single precision, without promoting the result to a {@link Double3}.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotateYf(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3(this.x * cos + this.z * sin, this.y, -this.x * sin + this.z * cos);
+    }
+
+    /**
+     * Rotate this vector around the y axis using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotateY(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotateYFast(double angle) {
+        float cos = FastMath.cos(angle);
+        float sin = FastMath.sin(angle);
+        return new Float3(this.x * cos + this.z * sin, this.y, -this.x * sin + this.z * cos);
+    }
+
     @Override
     public @NotNull Double3 rotateZ(double angle) {
         double cos = Math.cos(angle);
@@ -235,11 +510,97 @@ public class Float3 extends Vector3<Float> {
         return new Double3(this.x * cos - this.y * sin, this.x * sin + this.y * cos, this.z);
     }
 
+    /**
+     * Rotate this vector around the z axis in single precision, without promoting the result to a {@link Double3}.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotateZf(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3(this.x * cos - this.y * sin, this.x * sin + this.y * cos, this.z);
+    }
+
+    /**
+     * Rotate this vector around the z axis using the sine table of {@link FastMath}, which is faster than
+     * {@link #rotateZ(double)} but only accurate to an absolute error of 5e-7 per unit of length.
+     *
+     * @param angle The angle in radians.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotateZFast(double angle) {
+        float cos = FastMath.cos(angle);
+        float sin = FastMath.sin(angle);
+        return new Float3(this.x * cos - this.y * sin, this.x * sin + this.y * cos, this.z);
+    }
+
     @Override
     public @NotNull Float[] toArray() {
         return new Float[] {this.x, this.y, this.z};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     */
+    public void writeTo(@NotNull float[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 3, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Float3(Float[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Float3 readFrom(@NotNull float[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 3, src.length);
+        return new Float3(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 3 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Float3[] src, @NotNull float[] dst) {
+        if (dst.length / 3 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(3L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 3) {
+            Float3 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+            dst[offset + 2] = vector.z;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 3 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull float[] src, @NotNull Float3[] dst) {
+        if (src.length / 3 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(3L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 3)
+            dst[i] = new Float3(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
     @Override
     public @NotNull Int3 floor() {
         return new Int3((int) Math.floor(this.x), (int) Math.floor(this.y), (int) Math.floor(this.z));
@@ -278,6 +639,15 @@ public class Float3 extends Vector3<Float> {
         return new Int3((int) this.x, (int) this.y, (int) this.z);
     }
 
+    /**
+     * Converts the vector to a {@link MutableFloat3}.
+     *
+     * @return A new MutableFloat3 with the same components as this vector.
+     */
+    public @NotNull MutableFloat3 toMutable() {
+        return new MutableFloat3(this.x, this.y, this.z);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -287,7 +657,7 @@ public class Float3 extends Vector3<Float> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z);
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z));
     }
 
     @Override
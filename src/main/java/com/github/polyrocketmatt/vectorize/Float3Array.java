@@ -0,0 +1,495 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an array of 3-dimensional vectors of floats, stored as a structure of arrays.
+ * <p>
+ * Each component is stored in its own contiguous array, so that bulk operations run over flat
+ * primitive arrays which the JIT compiler can unroll and auto-vectorize. All bulk operations
+ * work on the range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Float3Array {
+
+    public final float[] xs;
+    public final float[] ys;
+    public final float[] zs;
+
+    public Float3Array(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        this.xs = new float[size];
+        this.ys = new float[size];
+        this.zs = new float[size];
+    }
+
+    public Float3Array(@NotNull float[] xs, @NotNull float[] ys, @NotNull float[] zs) {
+        if (ys.length != xs.length || zs.length != xs.length)
+            throw new IllegalArgumentException("All component arrays must have the same length");
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+    }
+
+    public Float3Array(@NotNull Float3[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Float3}.
+     *
+     * @param index The index of the vector.
+     * @return A new Float3 with the components at the given index.
+     */
+    public @NotNull Float3 get(int index) {
+        return new Float3(xs[index], ys[index], zs[index]);
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableFloat3 get(int index, @NotNull MutableFloat3 dst) {
+        return dst.set(xs[index], ys[index], zs[index]);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     */
+    public void set(int index, float x, float y, float z) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.zs[index] = z;
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull Float3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull MutableFloat3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i];
+            ys[i] += oys[i];
+            zs[i] += ozs[i];
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int i = from; i < to; i++) {
+            xs[i] += x;
+            ys[i] += y;
+            zs[i] += z;
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Float3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] -= oxs[i];
+            ys[i] -= oys[i];
+            zs[i] -= ozs[i];
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Float3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int i = from; i < to; i++) {
+            xs[i] -= x;
+            ys[i] -= y;
+            zs[i] -= z;
+        }
+    }
+
+    /**
+     * Multiply the vectors of another array with the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Float3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] *= oxs[i];
+            ys[i] *= oys[i];
+            zs[i] *= ozs[i];
+        }
+    }
+
+    /**
+     * Multiply a single vector with the vectors of this array in place.
+     *
+     * @param vector The vector to multiply.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Float3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int i = from; i < to; i++) {
+            xs[i] *= x;
+            ys[i] *= y;
+            zs[i] *= z;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scalar;
+            ys[i] *= scalar;
+            zs[i] *= scalar;
+        }
+    }
+
+    /**
+     * Add the vectors of another array, multiplied by a scalar, to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param scalar The scalar to multiply the other vectors with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void addScaled(@NotNull Float3Array other, float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i] * scalar;
+            ys[i] += oys[i] * scalar;
+            zs[i] += ozs[i] * scalar;
+        }
+    }
+
+    /**
+     * Calculate the dot products of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void dot(@NotNull Float3Array other, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * oxs[i] + ys[i] * oys[i] + zs[i] * ozs[i];
+        }
+    }
+
+    /**
+     * Replace the vectors of this array with the cross product of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void cross(@NotNull Float3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            float z = zs[i];
+            xs[i] = y * ozs[i] - z * oys[i];
+            ys[i] = z * oxs[i] - x * ozs[i];
+            zs[i] = x * oys[i] - y * oxs[i];
+        }
+    }
+
+    /**
+     * Normalize the vectors of this array in place.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalArgumentException If a vector in the range has a zero length. The vectors before it have already been normalized.
+     */
+    public void normalize(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        for (int i = from; i < to; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            float z = zs[i];
+            double length = Math.sqrt(x * x + y * y + z * z);
+            if (length == 0.0)
+                throw new IllegalArgumentException("Cannot normalize a zero-length vector at index %d".formatted(i));
+            float inverse = 1.0f / (float) length;
+            xs[i] = x * inverse;
+            ys[i] = y * inverse;
+            zs[i] = z * inverse;
+        }
+    }
+
+    /**
+     * Calculate the squared lengths of the vectors of this array.
+     *
+     * @param dst The array to store the squared lengths in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void lengthSquared(@NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * xs[i] + ys[i] * ys[i] + zs[i] * zs[i];
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Float3Array other, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            float dx = xs[i] - oxs[i];
+            float dy = ys[i] - oys[i];
+            float dz = zs[i] - ozs[i];
+            dst[i] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and a single vector.
+     *
+     * @param vector The vector to calculate the distances to.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Float3 vector, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int i = from; i < to; i++) {
+            float dx = xs[i] - x;
+            float dy = ys[i] - y;
+            float dz = zs[i] - z;
+            dst[i] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Sorts the vectors of this array in place by the Morton code of their position within the bounding box of
+     * all vectors, using a radix sort. Vectors that are close to each other end up close to each other in the
+     * array, which improves the cache locality of processing them in order.
+     * <p>
+     * The bounding box is scaled uniformly along its longest axis onto a power-of-two grid with more cells than
+     * vectors, and the cells are encoded with {@link Int3#toMorton(int, int, int)}. Keeping the grid no finer than
+     * that shortens the keys, so the sort needs fewer passes.
+     *
+     * @return The permutation that was applied, where vector {@code i} of the sorted array was at index
+     *         {@code order[i]} before sorting. It can be used to reorder data stored alongside the vectors.
+     */
+    public @NotNull int[] sortByMorton() {
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        int size = xs.length;
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        double minZ = Double.POSITIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+            minZ = Math.min(minZ, zs[i]);
+            maxZ = Math.max(maxZ, zs[i]);
+        }
+        double extent = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+        int bits = Math.min(Int3.PACKED_BITS, (Integer.SIZE - Integer.numberOfLeadingZeros(size)) / 3 + 1);
+        double scale = extent > 0.0 ? ((1 << bits) - 1) / extent : 0.0;
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            int x = (int) ((xs[i] - minX) * scale) + Int3.PACKED_MIN;
+            int y = (int) ((ys[i] - minY) * scale) + Int3.PACKED_MIN;
+            int z = (int) ((zs[i] - minZ) * scale) + Int3.PACKED_MIN;
+            keys[i] = Int3.toMorton(x, y, z);
+        }
+        int[] order = RadixSort.order(keys);
+        float[] unsortedXs = xs.clone();
+        float[] unsortedYs = ys.clone();
+        float[] unsortedZs = zs.clone();
+        for (int i = 0; i < size; i++) {
+            int index = order[i];
+            xs[i] = unsortedXs[index];
+            ys[i] = unsortedYs[index];
+            zs[i] = unsortedZs[index];
+        }
+        return order;
+    }
+}
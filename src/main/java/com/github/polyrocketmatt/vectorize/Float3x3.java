@@ -0,0 +1,484 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable 3x3 matrix of floats.
+ * <p>
+ * Components are named {@code m<row><column>}. Vectors are treated as columns, so {@code a.multiply(b)}
+ * transforms a vector by {@code b} first and by {@code a} second. Build a transform once and apply it to
+ * many vectors with {@link #transform(Float3)} or {@link #transform(Float3Array, Float3Array, int)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Float3x3 {
+
+    public final float m00, m01, m02;
+    public final float m10, m11, m12;
+    public final float m20, m21, m22;
+
+    public static final Float3x3 IDENTITY = new Float3x3(
+            1.0f, 0.0f, 0.0f,
+            0.0f, 1.0f, 0.0f,
+            0.0f, 0.0f, 1.0f
+    );
+    public static final Float3x3 ZERO = new Float3x3(
+            0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f,
+            0.0f, 0.0f, 0.0f
+    );
+
+    public Float3x3(float m00, float m01, float m02,
+                    float m10, float m11, float m12,
+                    float m20, float m21, float m22) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    public Float3x3(@NotNull MutableFloat3x3 matrix) {
+        this(
+                matrix.m00, matrix.m01, matrix.m02,
+                matrix.m10, matrix.m11, matrix.m12,
+                matrix.m20, matrix.m21, matrix.m22
+        );
+    }
+
+    /**
+     * Creates a matrix scaling along the principal axes.
+     *
+     * @param x The scale along the x axis.
+     * @param y The scale along the y axis.
+     * @param z The scale along the z axis.
+     * @return A new scaling matrix.
+     */
+    public static @NotNull Float3x3 scaling(float x, float y, float z) {
+        return new Float3x3(
+                x, 0.0f, 0.0f,
+                0.0f, y, 0.0f,
+                0.0f, 0.0f, z
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around the x axis, matching {@link Float3#rotateX(double)}.
+     *
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Float3x3 rotationX(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3x3(
+                1.0f, 0.0f, 0.0f,
+                0.0f, cos, -sin,
+                0.0f, sin, cos
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around the y axis, matching {@link Float3#rotateY(double)}.
+     *
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Float3x3 rotationY(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3x3(
+                cos, 0.0f, sin,
+                0.0f, 1.0f, 0.0f,
+                -sin, 0.0f, cos
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around the z axis, matching {@link Float3#rotateZ(double)}.
+     *
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Float3x3 rotationZ(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3x3(
+                cos, -sin, 0.0f,
+                sin, cos, 0.0f,
+                0.0f, 0.0f, 1.0f
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around an arbitrary axis.
+     *
+     * @param axisX The x component of the normalized axis.
+     * @param axisY The y component of the normalized axis.
+     * @param axisZ The z component of the normalized axis.
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Float3x3 rotation(float axisX, float axisY, float axisZ, double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        float t = 1.0f - cos;
+        return new Float3x3(
+                t * axisX * axisX + cos, t * axisX * axisY - sin * axisZ, t * axisX * axisZ + sin * axisY,
+                t * axisX * axisY + sin * axisZ, t * axisY * axisY + cos, t * axisY * axisZ - sin * axisX,
+                t * axisX * axisZ - sin * axisY, t * axisY * axisZ + sin * axisX, t * axisZ * axisZ + cos
+        );
+    }
+
+    /**
+     * Creates a matrix rotating around an arbitrary axis.
+     *
+     * @param axis The normalized axis.
+     * @param angle The angle in radians.
+     * @return A new rotation matrix.
+     */
+    public static @NotNull Float3x3 rotation(@NotNull Float3 axis, double angle) {
+        return rotation(axis.x, axis.y, axis.z, angle);
+    }
+
+    /**
+     * Get the component at the given row and column.
+     *
+     * @param row The row, from 0 to 2.
+     * @param column The column, from 0 to 2.
+     * @throws IndexOutOfBoundsException If the row or column is out of bounds.
+     * @return The component.
+     */
+    public float get(int row, int column) {
+        Objects.checkIndex(row, 3);
+        Objects.checkIndex(column, 3);
+        return switch (row * 3 + column) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m10;
+            case 4 -> m11;
+            case 5 -> m12;
+            case 6 -> m20;
+            case 7 -> m21;
+            default -> m22;
+        };
+    }
+
+    /**
+     * Multiply this matrix with another matrix. The result applies the other matrix first.
+     *
+     * @param other The other matrix.
+     * @return A new matrix with the product.
+     */
+    public @NotNull Float3x3 multiply(@NotNull Float3x3 other) {
+        return new Float3x3(
+                m00 * other.m00 + m01 * other.m10 + m02 * other.m20, m00 * other.m01 + m01 * other.m11 + m02 * other.m21, m00 * other.m02 + m01 * other.m12 + m02 * other.m22,
+                m10 * other.m00 + m11 * other.m10 + m12 * other.m20, m10 * other.m01 + m11 * other.m11 + m12 * other.m21, m10 * other.m02 + m11 * other.m12 + m12 * other.m22,
+                m20 * other.m00 + m21 * other.m10 + m22 * other.m20, m20 * other.m01 + m21 * other.m11 + m22 * other.m21, m20 * other.m02 + m21 * other.m12 + m22 * other.m22
+        );
+    }
+
+    /**
+     * Multiply this matrix with another matrix. The result applies the other matrix first.
+     *
+     * @param other The other matrix.
+     * @return A new matrix with the product.
+     */
+    public @NotNull Float3x3 multiply(@NotNull MutableFloat3x3 other) {
+        return new Float3x3(
+                m00 * other.m00 + m01 * other.m10 + m02 * other.m20, m00 * other.m01 + m01 * other.m11 + m02 * other.m21, m00 * other.m02 + m01 * other.m12 + m02 * other.m22,
+                m10 * other.m00 + m11 * other.m10 + m12 * other.m20, m10 * other.m01 + m11 * other.m11 + m12 * other.m21, m10 * other.m02 + m11 * other.m12 + m12 * other.m22,
+                m20 * other.m00 + m21 * other.m10 + m22 * other.m20, m20 * other.m01 + m21 * other.m11 + m22 * other.m21, m20 * other.m02 + m21 * other.m12 + m22 * other.m22
+        );
+    }
+
+    /**
+     * Multiply all components of this matrix by a scalar.
+     *
+     * @param scalar The scalar.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Float3x3 multiply(float scalar) {
+        return new Float3x3(
+                m00 * scalar, m01 * scalar, m02 * scalar,
+                m10 * scalar, m11 * scalar, m12 * scalar,
+                m20 * scalar, m21 * scalar, m22 * scalar
+        );
+    }
+
+    /**
+     * Calculate the transpose of this matrix.
+     *
+     * @return A new matrix with rows and columns swapped.
+     */
+    public @NotNull Float3x3 transpose() {
+        return new Float3x3(
+                m00, m10, m20,
+                m01, m11, m21,
+                m02, m12, m22
+        );
+    }
+
+    /**
+     * Calculate the inverse of this matrix.
+     *
+     * @throws ArithmeticException If this matrix is singular.
+     * @return A new matrix with the inverse.
+     */
+    public @NotNull Float3x3 inverse() {
+        float c00 = m11 * m22 - m12 * m21;
+        float c01 = m12 * m20 - m10 * m22;
+        float c02 = m10 * m21 - m11 * m20;
+        float determinant = m00 * c00 + m01 * c01 + m02 * c02;
+        if (determinant == 0)
+            throw new ArithmeticException("Cannot invert a singular matrix");
+        float inverse = 1.0f / determinant;
+        return new Float3x3(
+                c00 * inverse, (m02 * m21 - m01 * m22) * inverse, (m01 * m12 - m02 * m11) * inverse,
+                c01 * inverse, (m00 * m22 - m02 * m20) * inverse, (m02 * m10 - m00 * m12) * inverse,
+                c02 * inverse, (m01 * m20 - m00 * m21) * inverse, (m00 * m11 - m01 * m10) * inverse
+        );
+    }
+
+    /**
+     * Calculate the determinant of this matrix.
+     *
+     * @return The determinant.
+     */
+    public float determinant() {
+        return m00 * (m11 * m22 - m12 * m21)
+                - m01 * (m10 * m22 - m12 * m20)
+                + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    /**
+     * Multiply this matrix with a scaling along the principal axes, which is applied before this matrix.
+     *
+     * @param x The scale along the x axis.
+     * @param y The scale along the y axis.
+     * @param z The scale along the z axis.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Float3x3 scale(float x, float y, float z) {
+        return new Float3x3(
+                m00 * x, m01 * y, m02 * z,
+                m10 * x, m11 * y, m12 * z,
+                m20 * x, m21 * y, m22 * z
+        );
+    }
+
+    /**
+     * Multiply this matrix with a rotation around the x axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Float3x3 rotateX(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3x3(
+                m00, m01 * cos + m02 * sin, m02 * cos - m01 * sin,
+                m10, m11 * cos + m12 * sin, m12 * cos - m11 * sin,
+                m20, m21 * cos + m22 * sin, m22 * cos - m21 * sin
+        );
+    }
+
+    /**
+     * Multiply this matrix with a rotation around the y axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Float3x3 rotateY(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3x3(
+                m00 * cos - m02 * sin, m01, m00 * sin + m02 * cos,
+                m10 * cos - m12 * sin, m11, m10 * sin + m12 * cos,
+                m20 * cos - m22 * sin, m21, m20 * sin + m22 * cos
+        );
+    }
+
+    /**
+     * Multiply this matrix with a rotation around the z axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return A new matrix with the result.
+     */
+    public @NotNull Float3x3 rotateZ(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        return new Float3x3(
+                m00 * cos + m01 * sin, m01 * cos - m00 * sin, m02,
+                m10 * cos + m11 * sin, m11 * cos - m10 * sin, m12,
+                m20 * cos + m21 * sin, m21 * cos - m20 * sin, m22
+        );
+    }
+
+    /**
+     * Transform a vector by this matrix.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 transform(@NotNull Float3 vector) {
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        return new Float3(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transform a vector by this matrix.
+     * Writes the result into the given vector without allocating.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param dst The vector to write the result into.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 transform(float x, float y, float z, @NotNull MutableFloat3 dst) {
+        return dst.set(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transform a vector by this matrix.
+     * Transforms the given vector in place.
+     *
+     * @param vector The vector to transform.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 transform(@NotNull MutableFloat3 vector) {
+        return transform(vector.x, vector.y, vector.z, vector);
+    }
+
+    /**
+     * Transform the first {@code count} vectors of an array by this matrix.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to transform.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void transform(@NotNull Float3Array src, @NotNull Float3Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        float[] sxs = src.xs;
+        float[] sys = src.ys;
+        float[] szs = src.zs;
+        float[] dxs = dst.xs;
+        float[] dys = dst.ys;
+        float[] dzs = dst.zs;
+        float m00 = this.m00;
+        float m01 = this.m01;
+        float m02 = this.m02;
+        float m10 = this.m10;
+        float m11 = this.m11;
+        float m12 = this.m12;
+        float m20 = this.m20;
+        float m21 = this.m21;
+        float m22 = this.m22;
+        for (int i = 0; i < count; i++) {
+            float x = sxs[i];
+            float y = sys[i];
+            float z = szs[i];
+            dxs[i] = m00 * x + m01 * y + m02 * z;
+            dys[i] = m10 * x + m11 * y + m12 * z;
+            dzs[i] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
+    /**
+     * Converts this matrix to a {@link Float4x4}, with this matrix as its upper-left part.
+     *
+     * @return A new Float4x4.
+     */
+    public @NotNull Float4x4 toFloat4x4() {
+        return new Float4x4(
+                m00, m01, m02, 0.0f,
+                m10, m11, m12, 0.0f,
+                m20, m21, m22, 0.0f,
+                0.0f, 0.0f, 0.0f, 1.0f
+        );
+    }
+
+    /**
+     * Converts this matrix to a {@link Double3x3}.
+     *
+     * @return A new Double3x3 with the same components as this matrix.
+     */
+    public @NotNull Double3x3 toDouble() {
+        return new Double3x3(
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        );
+    }
+
+    /**
+     * Converts this matrix to a {@link MutableFloat3x3}.
+     *
+     * @return A new MutableFloat3x3 with the same components as this matrix.
+     */
+    public @NotNull MutableFloat3x3 toMutable() {
+        return new MutableFloat3x3(this);
+    }
+
+    /**
+     * Converts this matrix to an array in row-major order.
+     *
+     * @return A new array with the components of this matrix.
+     */
+    public @NotNull float[] toArray() {
+        return new float[] {
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Float3x3 float3x3)) return false;
+        return Float.compare(float3x3.m00, m00) == 0 && Float.compare(float3x3.m01, m01) == 0 && Float.compare(float3x3.m02, m02) == 0
+                && Float.compare(float3x3.m10, m10) == 0 && Float.compare(float3x3.m11, m11) == 0 && Float.compare(float3x3.m12, m12) == 0
+                && Float.compare(float3x3.m20, m20) == 0 && Float.compare(float3x3.m21, m21) == 0 && Float.compare(float3x3.m22, m22) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(
+                Hashing.hash(Hashing.bits(m00), Hashing.bits(m01), Hashing.bits(m02)),
+                Hashing.hash(Hashing.bits(m10), Hashing.bits(m11), Hashing.bits(m12)),
+                Hashing.hash(Hashing.bits(m20), Hashing.bits(m21), Hashing.bits(m22))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "Float3x3[(%f, %f, %f), (%f, %f, %f), (%f, %f, %f)]".formatted(
+                this.m00, this.m01, this.m02,
+                this.m10, this.m11, this.m12,
+                this.m20, this.m21, this.m22
+        );
+    }
+}
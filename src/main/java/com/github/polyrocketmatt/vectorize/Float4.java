@@ -63,21 +63,74 @@ public class Float4 extends Vector4<Float> {
 
     @Override
     public Float4 add(Float x, Float y, Float z, Float w) {
+        return add((float) x, (float) y, (float) z, (float) w);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @param w The w component to add.
+     * @return A new vector with the given components added.
+     */
+    public Float4 add(float x, float y, float z, float w) {
         return new Float4(this.x + x, this.y + y, this.z + z, this.w + w);
     }
 
     @Override
     public Float4 subtract(Float x, Float y, Float z, Float w) {
+        return subtract((float) x, (float) y, (float) z, (float) w);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @param w The w component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Float4 subtract(float x, float y, float z, float w) {
         return new Float4(this.x - x, this.y - y, this.z - z, this.w - w);
     }
 
     @Override
     public Float4 multiply(Float x, Float y, Float z, Float w) {
+        return multiply((float) x, (float) y, (float) z, (float) w);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @param z The z component to multiply.
+     * @param w The w component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Float4 multiply(float x, float y, float z, float w) {
         return new Float4(this.x * x, this.y * y, this.z * z, this.w * w);
     }
 
     @Override
     public Float4 divide(Float x, Float y, Float z, Float w) {
+        return divide((float) x, (float) y, (float) z, (float) w);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @param z The z component to divide.
+     * @param w The w component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Float4 divide(float x, float y, float z, float w) {
         if (x == 0.0f || y == 0.0f || z == 0.0f || w == 0.0f)
             throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f, z: %f, w: %f)".formatted(x, y, z, w));
         return new Float4(this.x / x, this.y / y, this.z / z, this.w / w);
@@ -125,21 +178,62 @@ public class Float4 extends Vector4<Float> {
 
     @Override
     public @NotNull Float4 add(@NotNull Float scalar) {
+        return add((float) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float4 add(float scalar) {
         return new Float4(this.x + scalar, this.y + scalar, this.z + scalar, this.w + scalar);
     }
 
     @Override
     public @NotNull Float4 subtract(@NotNull Float scalar) {
+        return subtract((float) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float4 subtract(float scalar) {
         return new Float4(this.x - scalar, this.y - scalar, this.z - scalar, this.w - scalar);
     }
 
     @Override
     public @NotNull Float4 multiply(@NotNull Float scalar) {
+        return multiply((float) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float4 multiply(float scalar) {
         return new Float4(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
     }
 
     @Override
     public @NotNull Float4 divide(@NotNull Float scalar) {
+        return divide((float) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float4 divide(float scalar) {
         if (scalar == 0.0f)
             throw new ArithmeticException("'other' cannot be zero");
         return new Float4(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
@@ -147,6 +241,16 @@ public class Float4 extends Vector4<Float> {
 
     @Override
     public @NotNull Float4 pow(@NotNull Float scalar) {
+        return pow((float) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float4 pow(float scalar) {
         return new Float4(
                 (float) Math.pow(this.x, scalar), (float) Math.pow(this.y, scalar),
                 (float) Math.pow(this.z, scalar), (float) Math.pow(this.w, scalar)
@@ -165,25 +269,72 @@ public class Float4 extends Vector4<Float> {
 
     @Override
     public @NotNull Double4 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0f)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double4(this.x / length, this.y / length, this.z / length, this.w / length);
     }
 
+    /**
+     * Normalize this vector in single precision, without promoting the result to a {@link Double4}.
+     *
+     * @throws IllegalArgumentException If this vector has a length of zero.
+     * @return A new vector with a length of one.
+     */
+    public @NotNull Float4 normalizef() {
+        float length = this.lengthf();
+        if (length == 0.0f)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        float inverse = 1.0f / length;
+        return new Float4(this.x * inverse, this.y * inverse, this.z * inverse, this.w * inverse);
+    }
+
+    /**
+     * Normalize this vector using {@link FastMath#invSqrt(float)}, which is faster than {@link #normalize()} but
+     * only accurate to a relative error of 5e-6, for vectors longer than about 1e-19.
+     * A zero-length vector results in a zero vector instead of an exception.
+     *
+     * @return A new vector with a length of approximately one.
+     */
+    public @NotNull Float4 normalizeFast() {
+        float inverse = FastMath.invSqrt(this.lengthSquaredf());
+        return new Float4(this.x * inverse, this.y * inverse, this.z * inverse, this.w * inverse);
+    }
+
     @Override
     public @NotNull Float dot(@NotNull Vector<Float> other) {
         if (!(other instanceof Float4 vector))
             throw new IllegalArgumentException("'other' must be a Float4, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y + z * vector.z + w * vector.w;
+        return dotf(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull Float4 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Float> other) {
         if (!(other instanceof Float4 vector))
             throw new IllegalArgumentException("'other' must be a Float4, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double length = this.length() * vector.length();
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @throws IllegalArgumentException If either of the vectors has a zero length.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Float4 other) {
+        double dot = this.dotf(other);
+        double length = this.lengthd() * other.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot calculate the angle between a zero-length vector");
         return Math.acos(dot / length);
@@ -191,41 +342,184 @@ public class Float4 extends Vector4<Float> {
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y + z * z + w * w);
     }
 
+    /**
+     * Calculate the length of this vector in single precision.
+     *
+     * @return The length of this vector.
+     */
+    public float lengthf() {
+        return (float) Math.sqrt(lengthSquaredf());
+    }
+
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return (double) x * x + y * y + z * z + w * w;
     }
 
+    /**
+     * Calculate the squared length of this vector in single precision.
+     *
+     * @return The squared length of this vector.
+     */
+    public float lengthSquaredf() {
+        return x * x + y * y + z * z + w * w;
+    }
+
     @Override
     public @NotNull Double distance(@NotNull Vector<Float> other) {
         if (!(other instanceof Float4 vector))
             throw new IllegalArgumentException("'other' must be a Float4, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
-        double dw = this.w - vector.w;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Float4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
         return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull Float4 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
     @Override
     public @NotNull Double distanceSquared(@NotNull Vector<Float> other) {
         if (!(other instanceof Float4 vector))
             throw new IllegalArgumentException("'other' must be a Float4, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
-        double dw = this.w - vector.w;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Float4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
         return (dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull Float4 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        float dz = this.z - other.z;
+        float dw = this.w - other.w;
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
     @Override
     public @NotNull Float[] toArray() {
         return new Float[] {this.x, this.y, this.z, this.w};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     */
+    public void writeTo(@NotNull float[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 4, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+        dst[offset + 3] = this.w;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Float4(Float[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Float4 readFrom(@NotNull float[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 4, src.length);
+        return new Float4(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 4 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Float4[] src, @NotNull float[] dst) {
+        if (dst.length / 4 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(4L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 4) {
+            Float4 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+            dst[offset + 2] = vector.z;
+            dst[offset + 3] = vector.w;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 4 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull float[] src, @NotNull Float4[] dst) {
+        if (src.length / 4 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(4L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 4)
+            dst[i] = new Float4(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
     @Override
     public @NotNull Int4 floor() {
         return new Int4((int) Math.floor(this.x), (int) Math.floor(this.y), (int) Math.floor(this.z), (int) Math.floor(this.w));
@@ -259,6 +553,15 @@ public class Float4 extends Vector4<Float> {
         return new Int4((int) this.x, (int) this.y, (int) this.z, (int) this.w);
     }
 
+    /**
+     * Converts the vector to a {@link MutableFloat4}.
+     *
+     * @return A new MutableFloat4 with the same components as this vector.
+     */
+    public @NotNull MutableFloat4 toMutable() {
+        return new MutableFloat4(this.x, this.y, this.z, this.w);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -268,7 +571,7 @@ public class Float4 extends Vector4<Float> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z, w);
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z), Hashing.bits(w));
     }
 
     @Override
@@ -0,0 +1,457 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an array of 4-dimensional vectors of floats, stored as a structure of arrays.
+ * <p>
+ * Each component is stored in its own contiguous array, so that bulk operations run over flat
+ * primitive arrays which the JIT compiler can unroll and auto-vectorize. All bulk operations
+ * work on the range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Float4Array {
+
+    public final float[] xs;
+    public final float[] ys;
+    public final float[] zs;
+    public final float[] ws;
+
+    public Float4Array(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        this.xs = new float[size];
+        this.ys = new float[size];
+        this.zs = new float[size];
+        this.ws = new float[size];
+    }
+
+    public Float4Array(@NotNull float[] xs, @NotNull float[] ys, @NotNull float[] zs, @NotNull float[] ws) {
+        if (ys.length != xs.length || zs.length != xs.length || ws.length != xs.length)
+            throw new IllegalArgumentException("All component arrays must have the same length");
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.ws = ws;
+    }
+
+    public Float4Array(@NotNull Float4[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Float4}.
+     *
+     * @param index The index of the vector.
+     * @return A new Float4 with the components at the given index.
+     */
+    public @NotNull Float4 get(int index) {
+        return new Float4(xs[index], ys[index], zs[index], ws[index]);
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableFloat4 get(int index, @NotNull MutableFloat4 dst) {
+        return dst.set(xs[index], ys[index], zs[index], ws[index]);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param w The w component.
+     */
+    public void set(int index, float x, float y, float z, float w) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.zs[index] = z;
+        this.ws[index] = w;
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull Float4 vector) {
+        set(index, vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull MutableFloat4 vector) {
+        set(index, vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float4Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        float[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i];
+            ys[i] += oys[i];
+            zs[i] += ozs[i];
+            ws[i] += ows[i];
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float4 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        float w = vector.w;
+        for (int i = from; i < to; i++) {
+            xs[i] += x;
+            ys[i] += y;
+            zs[i] += z;
+            ws[i] += w;
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Float4Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        float[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] -= oxs[i];
+            ys[i] -= oys[i];
+            zs[i] -= ozs[i];
+            ws[i] -= ows[i];
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Float4 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        float w = vector.w;
+        for (int i = from; i < to; i++) {
+            xs[i] -= x;
+            ys[i] -= y;
+            zs[i] -= z;
+            ws[i] -= w;
+        }
+    }
+
+    /**
+     * Multiply the vectors of another array with the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Float4Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        float[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] *= oxs[i];
+            ys[i] *= oys[i];
+            zs[i] *= ozs[i];
+            ws[i] *= ows[i];
+        }
+    }
+
+    /**
+     * Multiply a single vector with the vectors of this array in place.
+     *
+     * @param vector The vector to multiply.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Float4 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        float w = vector.w;
+        for (int i = from; i < to; i++) {
+            xs[i] *= x;
+            ys[i] *= y;
+            zs[i] *= z;
+            ws[i] *= w;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scalar;
+            ys[i] *= scalar;
+            zs[i] *= scalar;
+            ws[i] *= scalar;
+        }
+    }
+
+    /**
+     * Add the vectors of another array, multiplied by a scalar, to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param scalar The scalar to multiply the other vectors with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void addScaled(@NotNull Float4Array other, float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        float[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i] * scalar;
+            ys[i] += oys[i] * scalar;
+            zs[i] += ozs[i] * scalar;
+            ws[i] += ows[i] * scalar;
+        }
+    }
+
+    /**
+     * Calculate the dot products of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void dot(@NotNull Float4Array other, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        float[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * oxs[i] + ys[i] * oys[i] + zs[i] * ozs[i] + ws[i] * ows[i];
+        }
+    }
+
+    /**
+     * Normalize the vectors of this array in place.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalArgumentException If a vector in the range has a zero length. The vectors before it have already been normalized.
+     */
+    public void normalize(int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        for (int i = from; i < to; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            float z = zs[i];
+            float w = ws[i];
+            double length = Math.sqrt(x * x + y * y + z * z + w * w);
+            if (length == 0.0)
+                throw new IllegalArgumentException("Cannot normalize a zero-length vector at index %d".formatted(i));
+            float inverse = 1.0f / (float) length;
+            xs[i] = x * inverse;
+            ys[i] = y * inverse;
+            zs[i] = z * inverse;
+            ws[i] = w * inverse;
+        }
+    }
+
+    /**
+     * Calculate the squared lengths of the vectors of this array.
+     *
+     * @param dst The array to store the squared lengths in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void lengthSquared(@NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * xs[i] + ys[i] * ys[i] + zs[i] * zs[i] + ws[i] * ws[i];
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Float4Array other, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float[] oxs = other.xs;
+        float[] oys = other.ys;
+        float[] ozs = other.zs;
+        float[] ows = other.ws;
+        for (int i = from; i < to; i++) {
+            float dx = xs[i] - oxs[i];
+            float dy = ys[i] - oys[i];
+            float dz = zs[i] - ozs[i];
+            float dw = ws[i] - ows[i];
+            dst[i] = dx * dx + dy * dy + dz * dz + dw * dw;
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and a single vector.
+     *
+     * @param vector The vector to calculate the distances to.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Float4 vector, @NotNull float[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        float[] xs = this.xs;
+        float[] ys = this.ys;
+        float[] zs = this.zs;
+        float[] ws = this.ws;
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        float w = vector.w;
+        for (int i = from; i < to; i++) {
+            float dx = xs[i] - x;
+            float dy = ys[i] - y;
+            float dz = zs[i] - z;
+            float dw = ws[i] - w;
+            dst[i] = dx * dx + dy * dy + dz * dz + dw * dw;
+        }
+    }
+}
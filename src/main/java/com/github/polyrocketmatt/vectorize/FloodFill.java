@@ -0,0 +1,418 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a reusable breadth-first flood fill engine over {@link Int3} coordinates.
+ * <p>
+ * Cells are queued as packed longs (see {@link Int3#pack(int, int, int)}) in a primitive ring buffer, and visited
+ * cells are tracked in a bitset for bounded fills or in an {@link Int3IntMap} for unbounded fills, so no
+ * {@link Int3} instances are allocated. The queue is kept between fills, so an engine should be reused. An engine
+ * is not thread-safe, except for {@link #fillParallel(int, int, int, Int3, Int3, CellPredicate, IntTriConsumer, ForkJoinPool)}.
+ * All coordinates must be within [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class FloodFill {
+
+    private static final int INITIAL_QUEUE_CAPACITY = 1024;
+    private static final int SPLIT_THRESHOLD = 2048;
+
+    private final int connectivity;
+    private long[] queue;
+    private int head;
+    private int tail;
+
+    public FloodFill() {
+        this(6);
+    }
+
+    /**
+     * Creates a flood fill engine with the given connectivity.
+     *
+     * @param connectivity The number of neighbours of each cell: 6 for faces, 18 for faces and edges or 26 for
+     *                     faces, edges and corners.
+     * @throws IllegalArgumentException If the connectivity is not 6, 18 or 26.
+     */
+    public FloodFill(int connectivity) {
+        if (connectivity != 6 && connectivity != 18 && connectivity != 26)
+            throw new IllegalArgumentException("'connectivity' must be 6, 18 or 26, found %d".formatted(connectivity));
+        this.connectivity = connectivity;
+        this.queue = new long[INITIAL_QUEUE_CAPACITY];
+    }
+
+    /**
+     * Get the number of neighbours of each cell.
+     *
+     * @return The connectivity.
+     */
+    public int connectivity() {
+        return connectivity;
+    }
+
+    /**
+     * Visit all cells connected to the start cell for which the predicate holds, in breadth-first order.
+     * <p>
+     * The fill is unbounded, so the predicate must eventually reject cells in every direction.
+     *
+     * @param x The x coordinate of the start cell.
+     * @param y The y coordinate of the start cell.
+     * @param z The z coordinate of the start cell.
+     * @param predicate The predicate deciding if a cell is part of the fill.
+     * @param visitor The visitor called once for every cell of the fill.
+     * @return The number of cells in the fill.
+     */
+    public int fill(int x, int y, int z, @NotNull CellPredicate predicate, @NotNull IntTriConsumer visitor) {
+        Int3IntMap visited = new Int3IntMap();
+        visited.put(x, y, z, 1);
+        if (!predicate.test(x, y, z))
+            return 0;
+        int count = 0;
+        clearQueue();
+        enqueue(Int3.pack(x, y, z));
+        while (head != tail) {
+            long cell = dequeue();
+            int cx = Int3.unpackX(cell);
+            int cy = Int3.unpackY(cell);
+            int cz = Int3.unpackZ(cell);
+            visitor.accept(cx, cy, cz);
+            count++;
+            for (int i = 0; i < connectivity; i++) {
+                int nx = cx + Direction.NEIGHBOURS_26_X[i];
+                int ny = cy + Direction.NEIGHBOURS_26_Y[i];
+                int nz = cz + Direction.NEIGHBOURS_26_Z[i];
+                if (visited.put(nx, ny, nz, 1) == 0 && predicate.test(nx, ny, nz))
+                    enqueue(Int3.pack(nx, ny, nz));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visit all cells within the given region connected to the start cell for which the predicate holds, in
+     * breadth-first order. Visited cells are tracked in a bitset covering the region.
+     *
+     * @param x The x coordinate of the start cell.
+     * @param y The y coordinate of the start cell.
+     * @param z The z coordinate of the start cell.
+     * @param min The minimum corner of the region, inclusive.
+     * @param max The maximum corner of the region, inclusive.
+     * @param predicate The predicate deciding if a cell is part of the fill.
+     * @param visitor The visitor called once for every cell of the fill.
+     * @throws IllegalArgumentException If the region is empty, too large, not packable or does not contain the start cell.
+     * @return The number of cells in the fill.
+     */
+    public int fill(int x, int y, int z, @NotNull Int3 min, @NotNull Int3 max,
+                    @NotNull CellPredicate predicate, @NotNull IntTriConsumer visitor) {
+        Region region = new Region(min, max, x, y, z);
+        long[] visited = new long[region.words()];
+        int start = region.index(x, y, z);
+        visited[start >>> 6] |= 1L << start;
+        if (!predicate.test(x, y, z))
+            return 0;
+        int count = 0;
+        clearQueue();
+        enqueue(Int3.pack(x, y, z));
+        while (head != tail) {
+            long cell = dequeue();
+            int cx = Int3.unpackX(cell);
+            int cy = Int3.unpackY(cell);
+            int cz = Int3.unpackZ(cell);
+            visitor.accept(cx, cy, cz);
+            count++;
+            for (int i = 0; i < connectivity; i++) {
+                int nx = cx + Direction.NEIGHBOURS_26_X[i];
+                int ny = cy + Direction.NEIGHBOURS_26_Y[i];
+                int nz = cz + Direction.NEIGHBOURS_26_Z[i];
+                if (!region.contains(nx, ny, nz))
+                    continue;
+                int neighbour = region.index(nx, ny, nz);
+                long bit = 1L << neighbour;
+                if ((visited[neighbour >>> 6] & bit) != 0)
+                    continue;
+                visited[neighbour >>> 6] |= bit;
+                if (predicate.test(nx, ny, nz))
+                    enqueue(Int3.pack(nx, ny, nz));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visit all cells within the given region connected to the start cell for which the predicate holds, using
+     * the threads of the given pool.
+     * <p>
+     * Every task works through its own stack of cells and hands half of it to a new task once it grows large, so
+     * idle threads steal the remaining work. Cells are claimed atomically, so every cell is visited exactly once,
+     * but not in breadth-first order. The predicate and visitor are called concurrently and must be thread-safe.
+     *
+     * @param x The x coordinate of the start cell.
+     * @param y The y coordinate of the start cell.
+     * @param z The z coordinate of the start cell.
+     * @param min The minimum corner of the region, inclusive.
+     * @param max The maximum corner of the region, inclusive.
+     * @param predicate The predicate deciding if a cell is part of the fill.
+     * @param visitor The visitor called once for every cell of the fill.
+     * @param pool The pool executing the fill.
+     * @throws IllegalArgumentException If the region is empty, too large, not packable or does not contain the start cell.
+     * @return The number of cells in the fill.
+     */
+    public int fillParallel(int x, int y, int z, @NotNull Int3 min, @NotNull Int3 max, @NotNull CellPredicate predicate,
+                            @NotNull IntTriConsumer visitor, @NotNull ForkJoinPool pool) {
+        Region region = new Region(min, max, x, y, z);
+        AtomicLongArray visited = new AtomicLongArray(region.words());
+        int start = region.index(x, y, z);
+        visited.set(start >>> 6, 1L << start);
+        if (!predicate.test(x, y, z))
+            return 0;
+        return pool.invoke(new FillTask(connectivity, region, visited, predicate, visitor, new long[] { Int3.pack(x, y, z) }, 1));
+    }
+
+    /**
+     * Propagate a decaying level, such as light, from the start cell.
+     * <p>
+     * Every step into a neighbour lowers the level by the opacity of that neighbour, but at least by one.
+     * A cell is updated only if the propagated level is higher than its current level in the given map, so
+     * multiple sources can be propagated into the same map one after another.
+     *
+     * @param x The x coordinate of the start cell.
+     * @param y The y coordinate of the start cell.
+     * @param z The z coordinate of the start cell.
+     * @param level The level at the start cell.
+     * @param opacity The function computing the level decay of entering a cell.
+     * @param levels The map holding the level of every reached cell, updated in place.
+     * @return The number of updates, counting a cell again every time its level is raised.
+     */
+    public int propagate(int x, int y, int z, int level, @NotNull Opacity opacity, @NotNull Int3IntMap levels) {
+        if (level <= 0 || levels.get(x, y, z) >= level)
+            return 0;
+        levels.put(x, y, z, level);
+        int count = 1;
+        clearQueue();
+        enqueue(Int3.pack(x, y, z));
+        while (head != tail) {
+            long cell = dequeue();
+            int cx = Int3.unpackX(cell);
+            int cy = Int3.unpackY(cell);
+            int cz = Int3.unpackZ(cell);
+            int current = levels.get(cx, cy, cz);
+            for (int i = 0; i < connectivity; i++) {
+                int nx = cx + Direction.NEIGHBOURS_26_X[i];
+                int ny = cy + Direction.NEIGHBOURS_26_Y[i];
+                int nz = cz + Direction.NEIGHBOURS_26_Z[i];
+                int next = current - Math.max(1, opacity.decay(nx, ny, nz));
+                if (next <= 0 || levels.get(nx, ny, nz) >= next)
+                    continue;
+                levels.put(nx, ny, nz, next);
+                enqueue(Int3.pack(nx, ny, nz));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void clearQueue() {
+        head = 0;
+        tail = 0;
+    }
+
+    private void enqueue(long value) {
+        queue[tail] = value;
+        tail = (tail + 1) & (queue.length - 1);
+        if (tail == head)
+            grow();
+    }
+
+    private long dequeue() {
+        long value = queue[head];
+        head = (head + 1) & (queue.length - 1);
+        return value;
+    }
+
+    /**
+     * Double the capacity of the full ring buffer, unwrapping its contents to the start of the new array.
+     */
+    private void grow() {
+        long[] queue = this.queue;
+        long[] grown = new long[queue.length << 1];
+        int firstPart = queue.length - head;
+        System.arraycopy(queue, head, grown, 0, firstPart);
+        System.arraycopy(queue, 0, grown, firstPart, head);
+        this.head = 0;
+        this.tail = queue.length;
+        this.queue = grown;
+    }
+
+    /**
+     * Predicate deciding if a cell is part of a fill.
+     */
+    @FunctionalInterface
+    public interface CellPredicate {
+
+        /**
+         * Test a cell.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @param z The z coordinate.
+         * @return True if the cell is part of the fill, false otherwise.
+         */
+        boolean test(int x, int y, int z);
+
+    }
+
+    /**
+     * Function computing the level decay of entering a cell.
+     */
+    @FunctionalInterface
+    public interface Opacity {
+
+        /**
+         * Compute the decay of a cell. Values below one are treated as one.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @param z The z coordinate.
+         * @return The decay.
+         */
+        int decay(int x, int y, int z);
+
+    }
+
+    /**
+     * A bounded region within the packable range, mapping coordinates to bitset indices with x varying fastest.
+     */
+    private static final class Region {
+
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+
+        private Region(Int3 min, Int3 max, int x, int y, int z) {
+            long sizeX = (long) max.x - min.x + 1;
+            long sizeY = (long) max.y - min.y + 1;
+            long sizeZ = (long) max.z - min.z + 1;
+            if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0)
+                throw new IllegalArgumentException("'min' %s cannot be larger than 'max' %s".formatted(min, max));
+            Int3.pack(min.x, min.y, min.z);
+            Int3.pack(max.x, max.y, max.z);
+            if (sizeX * sizeY * sizeZ > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Region between %s and %s contains more than %d cells".formatted(min, max, Integer.MAX_VALUE));
+            this.minX = min.x;
+            this.minY = min.y;
+            this.minZ = min.z;
+            this.sizeX = (int) sizeX;
+            this.sizeY = (int) sizeY;
+            this.sizeZ = (int) sizeZ;
+            if (!contains(x, y, z))
+                throw new IllegalArgumentException("Start (%d, %d, %d) is outside of the region between %s and %s".formatted(x, y, z, min, max));
+        }
+
+        private int words() {
+            return (int) (((long) sizeX * sizeY * sizeZ + 63) >>> 6);
+        }
+
+        private boolean contains(int x, int y, int z) {
+            return Integer.compareUnsigned(x - minX, sizeX) < 0
+                    && Integer.compareUnsigned(y - minY, sizeY) < 0
+                    && Integer.compareUnsigned(z - minZ, sizeZ) < 0;
+        }
+
+        private int index(int x, int y, int z) {
+            return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+        }
+
+    }
+
+    /**
+     * A task filling from its own stack of packed cells, splitting off half of the stack into a new task once
+     * it exceeds {@link #SPLIT_THRESHOLD} cells.
+     */
+    private static final class FillTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int connectivity;
+        private final Region region;
+        private final AtomicLongArray visited;
+        private final CellPredicate predicate;
+        private final IntTriConsumer visitor;
+        private long[] stack;
+        private int size;
+
+        private FillTask(int connectivity, Region region, AtomicLongArray visited, CellPredicate predicate,
+                         IntTriConsumer visitor, long[] stack, int size) {
+            this.connectivity = connectivity;
+            this.region = region;
+            this.visited = visited;
+            this.predicate = predicate;
+            this.visitor = visitor;
+            this.stack = stack;
+            this.size = size;
+        }
+
+        @Override
+        protected Integer compute() {
+            List<FillTask> forked = new ArrayList<>();
+            int count = 0;
+            while (size > 0) {
+                if (size > SPLIT_THRESHOLD) {
+                    int half = size >>> 1;
+                    long[] split = new long[Math.max(half, INITIAL_QUEUE_CAPACITY)];
+                    System.arraycopy(stack, size - half, split, 0, half);
+                    size -= half;
+                    FillTask task = new FillTask(connectivity, region, visited, predicate, visitor, split, half);
+                    task.fork();
+                    forked.add(task);
+                }
+                long cell = stack[--size];
+                int cx = Int3.unpackX(cell);
+                int cy = Int3.unpackY(cell);
+                int cz = Int3.unpackZ(cell);
+                visitor.accept(cx, cy, cz);
+                count++;
+                for (int i = 0; i < connectivity; i++) {
+                    int nx = cx + Direction.NEIGHBOURS_26_X[i];
+                    int ny = cy + Direction.NEIGHBOURS_26_Y[i];
+                    int nz = cz + Direction.NEIGHBOURS_26_Z[i];
+                    if (region.contains(nx, ny, nz) && claim(region.index(nx, ny, nz)) && predicate.test(nx, ny, nz))
+                        push(Int3.pack(nx, ny, nz));
+                }
+            }
+            for (FillTask task : forked)
+                count += task.join();
+            return count;
+        }
+
+        private boolean claim(int index) {
+            long bit = 1L << index;
+            int word = index >>> 6;
+            long current;
+            do {
+                current = visited.get(word);
+                if ((current & bit) != 0)
+                    return false;
+            } while (!visited.compareAndSet(word, current, current | bit));
+            return true;
+        }
+
+        private void push(long cell) {
+            if (size == stack.length)
+                stack = Arrays.copyOf(stack, stack.length << 1);
+            stack[size++] = cell;
+        }
+
+    }
+
+}
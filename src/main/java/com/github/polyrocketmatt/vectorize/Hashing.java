@@ -0,0 +1,59 @@
+package com.github.polyrocketmatt.vectorize;
+
+/**
+ * Allocation-free hash functions for vector components.
+ * <p>
+ * Components are combined with a multiplicative (FxHash-style) step and the result is passed
+ * through the MurmurHash3 32-bit finalizer, so that neighbouring integer coordinates spread over
+ * all bits of the hash instead of only the lowest ones.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+final class Hashing {
+
+    private static final int SEED = 0x9E3779B9;
+
+    private Hashing() {}
+
+    static int hash(int x, int y) {
+        return mix(combine(combine(0, x), y));
+    }
+
+    static int hash(int x, int y, int z) {
+        return mix(combine(combine(combine(0, x), y), z));
+    }
+
+    static int hash(int x, int y, int z, int w) {
+        return mix(combine(combine(combine(combine(0, x), y), z), w));
+    }
+
+    static int bits(float value) {
+        return Float.floatToIntBits(value);
+    }
+
+    static int bits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    static int hash(long value) {
+        long hash = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return (int) (hash ^ (hash >>> 33));
+    }
+
+    private static int combine(int hash, int value) {
+        return (Integer.rotateLeft(hash, 5) ^ value) * SEED;
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+}
@@ -20,6 +20,12 @@ public class Int2 extends Vector2<Integer> {
     public static final Int2 UNIT_X = new Int2(1, 0);
     public static final Int2 UNIT_Y = new Int2(0, 1);
 
+    /**
+     * The system property holding the largest absolute component value of the vectors cached by {@link #of(int, int)},
+     * which defaults to 16 and cannot exceed 128.
+     */
+    public static final String CACHE_RANGE_PROPERTY = "vectorize.int2.cacheRange";
+
     public Int2(int x, int y) {
         this.x = x;
         this.y = y;
@@ -47,23 +53,90 @@ public class Int2 extends Vector2<Integer> {
         this.y = scalar;
     }
 
+    /**
+     * Get a vector with the given components. Like {@link Integer#valueOf(int)}, vectors with every component within
+     * the cache range, -16 to 16 by default, are taken from a cache instead of allocated, which includes the constants
+     * such as {@link #ZERO}. The range is read once from the system property named by {@link #CACHE_RANGE_PROPERTY}
+     * and cannot exceed 128. Operations such as {@link #add(int, int)} keep allocating, because the JIT compiler removes
+     * those allocations when the result does not escape, which a cache would prevent; use this for vectors that are
+     * stored.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @return A cached or new vector with the given components.
+     */
+    public static @NotNull Int2 of(int x, int y) {
+        int range = Cache.RANGE;
+        int side = Cache.SIDE;
+        int i = x + range;
+        int j = y + range;
+        if ((i | j) >= 0 && i < side && j < side)
+            return Cache.VALUES[i * side + j];
+        return new Int2(x, y);
+    }
+
     @Override
     public Int2 add(Integer x, Integer y) {
+        return add((int) x, (int) y);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @return A new vector with the given components added.
+     */
+    public Int2 add(int x, int y) {
         return new Int2(this.x + x, this.y + y);
     }
 
     @Override
     public Int2 subtract(Integer x, Integer y) {
+        return subtract((int) x, (int) y);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Int2 subtract(int x, int y) {
         return new Int2(this.x - x, this.y - y);
     }
 
     @Override
     public Int2 multiply(Integer x, Integer y) {
+        return multiply((int) x, (int) y);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Int2 multiply(int x, int y) {
         return new Int2(this.x * x, this.y * y);
     }
 
     @Override
     public Int2 divide(Integer x, Integer y) {
+        return divide((int) x, (int) y);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Int2 divide(int x, int y) {
         if (x == 0 || y == 0)
             throw new ArithmeticException("'other' cannot have a zero component (x: %d, y: %d)".formatted(x, y));
         return new Int2(this.x / x, this.y / y);
@@ -108,21 +181,62 @@ public class Int2 extends Vector2<Integer> {
 
     @Override
     public @NotNull Int2 add(@NotNull Integer scalar) {
+        return add((int) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int2 add(int scalar) {
         return new Int2(this.x + scalar, this.y + scalar);
     }
 
     @Override
     public @NotNull Int2 subtract(@NotNull Integer scalar) {
+        return subtract((int) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int2 subtract(int scalar) {
         return new Int2(this.x - scalar, this.y - scalar);
     }
 
     @Override
     public @NotNull Int2 multiply(@NotNull Integer scalar) {
+        return multiply((int) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int2 multiply(int scalar) {
         return new Int2(this.x * scalar, this.y * scalar);
     }
 
     @Override
     public @NotNull Int2 divide(@NotNull Integer scalar) {
+        return divide((int) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int2 divide(int scalar) {
         if (scalar == 0)
             throw new ArithmeticException("'other' cannot be zero");
         return new Int2(this.x / scalar, this.y / scalar);
@@ -130,6 +244,16 @@ public class Int2 extends Vector2<Integer> {
 
     @Override
     public @NotNull Int2 pow(@NotNull Integer scalar) {
+        return pow((int) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int2 pow(int scalar) {
         return new Int2((int) Math.pow(this.x, scalar), (int) Math.pow(this.y, scalar));
     }
 
@@ -145,7 +269,7 @@ public class Int2 extends Vector2<Integer> {
 
     @Override
     public @NotNull Double2 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double2(this.x / length, this.y / length);
@@ -155,25 +279,63 @@ public class Int2 extends Vector2<Integer> {
     public @NotNull Integer dot(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int2 vector))
             throw new IllegalArgumentException("'other' must be a Int2, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y;
+        return doti(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull Int2 other) {
+        return x * other.x + y * other.y;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int2 vector))
             throw new IllegalArgumentException("'other' must be a Int2 vector, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double det = this.x * vector.y - this.y * vector.x;
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Int2 other) {
+        double dot = this.doti(other);
+        double det = this.x * other.y - this.y * other.x;
         return Math.atan2(det, dot);
     }
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y);
     }
 
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return (double) x * x + y * y;
     }
 
@@ -181,8 +343,18 @@ public class Int2 extends Vector2<Integer> {
     public @NotNull Double distance(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int2 vector))
             throw new IllegalArgumentException("'other' must be a Int2, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Int2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
         return Math.sqrt(dx * dx + dy * dy);
     }
 
@@ -190,8 +362,18 @@ public class Int2 extends Vector2<Integer> {
     public @NotNull Double distanceSquared(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int2 vector))
             throw new IllegalArgumentException("'other' must be a Int2, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Int2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
         return dx * dx + dy * dy;
     }
 
@@ -207,6 +389,65 @@ public class Int2 extends Vector2<Integer> {
         return new Integer[] {this.x, this.y};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     */
+    public void writeTo(@NotNull int[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Int2(Integer[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Int2 readFrom(@NotNull int[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 2, src.length);
+        return new Int2(src[offset], src[offset + 1]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 2 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Int2[] src, @NotNull int[] dst) {
+        if (dst.length / 2 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(2L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 2) {
+            Int2 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 2 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull int[] src, @NotNull Int2[] dst) {
+        if (src.length / 2 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(2L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 2)
+            dst[i] = new Int2(src[offset], src[offset + 1]);
+    }
+
     @Override
     public @NotNull Int2 floor() {
         return this;
@@ -246,6 +487,221 @@ public class Int2 extends Vector2<Integer> {
         return new Float2(this.x, this.y);
     }
 
+    /**
+     * Packs this vector into a single long.
+     *
+     * @return The packed representation of this vector.
+     * @see #pack(int, int)
+     */
+    public long pack() {
+        return pack(this.x, this.y);
+    }
+
+    /**
+     * Packs the given components into a single long, with the x component in the high 32 bits
+     * and the y component in the low 32 bits.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @return The packed representation of the components.
+     */
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Unpacks a vector that was packed with {@link #pack(int, int)}.
+     *
+     * @param packed The packed representation.
+     * @return A new Int2 with the unpacked components.
+     */
+    public static @NotNull Int2 unpack(long packed) {
+        return new Int2((int) (packed >> 32), (int) packed);
+    }
+
+    /**
+     * Encodes this vector as a Morton code.
+     *
+     * @return The Morton code of this vector.
+     * @see #toMorton(int, int)
+     */
+    public long toMorton() {
+        return toMorton(this.x, this.y);
+    }
+
+    /**
+     * Encodes the given components as a Morton code (Z-order curve), interleaving their bits so that vectors close
+     * to each other usually have close codes.
+     * <p>
+     * The components are offset by {@link Integer#MIN_VALUE} first, so that codes increase monotonically along
+     * every axis when compared as unsigned values (see {@link Long#compareUnsigned(long, long)}). Bit {@code 2i} of
+     * the code is bit {@code i} of the x component, followed by the y component.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @return The Morton code of the components.
+     */
+    public static long toMorton(int x, int y) {
+        return spreadBits(x - Integer.MIN_VALUE) | (spreadBits(y - Integer.MIN_VALUE) << 1);
+    }
+
+    /**
+     * Decodes a vector that was encoded with {@link #toMorton(int, int)}.
+     *
+     * @param morton The Morton code.
+     * @return A new Int2 with the decoded components.
+     */
+    public static @NotNull Int2 fromMorton(long morton) {
+        return new Int2(fromMortonX(morton), fromMortonY(morton));
+    }
+
+    /**
+     * Decodes the x component of a Morton code.
+     *
+     * @param morton The Morton code.
+     * @return The x component.
+     */
+    public static int fromMortonX(long morton) {
+        return compactBits(morton) + Integer.MIN_VALUE;
+    }
+
+    /**
+     * Decodes the y component of a Morton code.
+     *
+     * @param morton The Morton code.
+     * @return The y component.
+     */
+    public static int fromMortonY(long morton) {
+        return compactBits(morton >>> 1) + Integer.MIN_VALUE;
+    }
+
+    /**
+     * Encodes this vector as a Hilbert index.
+     *
+     * @return The Hilbert index of this vector.
+     * @see #toHilbert(int, int)
+     */
+    public long toHilbert() {
+        return toHilbert(this.x, this.y);
+    }
+
+    /**
+     * Encodes the given components as an index along a Hilbert curve, using Skilling's transform.
+     * <p>
+     * Unlike Morton codes, consecutive Hilbert indices always belong to neighbouring vectors, so sorting by Hilbert
+     * index preserves locality slightly better, at the cost of a more expensive encoding. The components are offset
+     * by {@link Integer#MIN_VALUE} first, and indices must be compared as unsigned values.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @return The Hilbert index of the components.
+     */
+    public static long toHilbert(int x, int y) {
+        x -= Integer.MIN_VALUE;
+        y -= Integer.MIN_VALUE;
+
+        //  Undo the rotations and reflections of every level, from the most significant bit down. The branches of
+        //  the transform are replaced by masks, as the bits of arbitrary positions are unpredictable
+        for (int bit = Integer.SIZE - 1; bit > 0; bit--) {
+            int p = (1 << bit) - 1;
+            x ^= p & -((x >>> bit) & 1);
+            int m = -((y >>> bit) & 1);
+            int t = (x ^ y) & p & ~m;
+            x ^= (p & m) | t;
+            y ^= t;
+        }
+
+        //  Gray encode
+        y ^= x;
+        int t = 0;
+        for (int bit = Integer.SIZE - 1; bit > 0; bit--)
+            t ^= ((1 << bit) - 1) & -((y >>> bit) & 1);
+        x ^= t;
+        y ^= t;
+        return spreadBits(y) | (spreadBits(x) << 1);
+    }
+
+    /**
+     * Decodes a vector that was encoded with {@link #toHilbert(int, int)}.
+     *
+     * @param hilbert The Hilbert index.
+     * @return A new Int2 with the decoded components.
+     */
+    public static @NotNull Int2 fromHilbert(long hilbert) {
+        int x = compactBits(hilbert >>> 1);
+        int y = compactBits(hilbert);
+
+        //  Gray decode
+        int t = y >>> 1;
+        y ^= x;
+        x ^= t;
+
+        //  Redo the rotations and reflections of every level, from the least significant bit up
+        for (int bit = 1; bit < Integer.SIZE; bit++) {
+            int p = (1 << bit) - 1;
+            int m = -((y >>> bit) & 1);
+            t = (x ^ y) & p & ~m;
+            x ^= (p & m) | t;
+            y ^= t;
+            x ^= p & -((x >>> bit) & 1);
+        }
+        return new Int2(x + Integer.MIN_VALUE, y + Integer.MIN_VALUE);
+    }
+
+    /**
+     * Sorts the given vectors in place by their Morton code, using a radix sort.
+     *
+     * @param vectors The vectors to sort.
+     * @return The permutation that was applied, where element {@code i} of the sorted array was at index
+     *         {@code order[i]} before sorting. It can be used to reorder data stored alongside the vectors.
+     * @see #toMorton(int, int)
+     */
+    public static @NotNull int[] sortByMorton(@NotNull Int2[] vectors) {
+        long[] keys = new long[vectors.length];
+        for (int i = 0; i < vectors.length; i++)
+            keys[i] = vectors[i].toMorton();
+        int[] order = RadixSort.order(keys);
+        Int2[] unsorted = vectors.clone();
+        for (int i = 0; i < vectors.length; i++)
+            vectors[i] = unsorted[order[i]];
+        return order;
+    }
+
+    /**
+     * Spread the 32 bits of the given value so that a zero bit follows each of them.
+     */
+    private static long spreadBits(int value) {
+        long bits = value & 0xFFFFFFFFL;
+        bits = (bits | (bits << 16)) & 0x0000FFFF0000FFFFL;
+        bits = (bits | (bits << 8)) & 0x00FF00FF00FF00FFL;
+        bits = (bits | (bits << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | (bits << 2)) & 0x3333333333333333L;
+        bits = (bits | (bits << 1)) & 0x5555555555555555L;
+        return bits;
+    }
+
+    /**
+     * Gather every second bit of the given value, starting at the lowest bit, which reverses {@link #spreadBits(int)}.
+     */
+    private static int compactBits(long bits) {
+        bits &= 0x5555555555555555L;
+        bits = (bits ^ (bits >>> 1)) & 0x3333333333333333L;
+        bits = (bits ^ (bits >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits ^ (bits >>> 4)) & 0x00FF00FF00FF00FFL;
+        bits = (bits ^ (bits >>> 8)) & 0x0000FFFF0000FFFFL;
+        bits = (bits ^ (bits >>> 16)) & 0x00000000FFFFFFFFL;
+        return (int) bits;
+    }
+
+    /**
+     * Converts the vector to a {@link MutableInt2}.
+     *
+     * @return A new MutableInt2 with the same components as this vector.
+     */
+    public @NotNull MutableInt2 toMutable() {
+        return new MutableInt2(this.x, this.y);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -255,11 +711,33 @@ public class Int2 extends Vector2<Integer> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return Hashing.hash(x, y);
     }
 
     @Override
     public String toString() {
         return "Int2(%d, %d)".formatted(this.x, this.y);
     }
+
+    /**
+     * Holds the vectors returned by {@link #of(int, int)}, created when it is first called.
+     */
+    private static final class Cache {
+
+        private static final int RANGE = Math.max(0, Math.min(Integer.getInteger(CACHE_RANGE_PROPERTY, 16), 128));
+        private static final int SIDE = 2 * RANGE + 1;
+        private static final Int2[] VALUES = new Int2[SIDE * SIDE];
+
+        static {
+            int index = 0;
+            for (int x = -RANGE; x <= RANGE; x++)
+                for (int y = -RANGE; y <= RANGE; y++)
+                    VALUES[index++] = new Int2(x, y);
+            //  Share the constants, so that comparing with them by identity works for cached vectors
+            for (Int2 constant : new Int2[] { ZERO, ONE, UNIT_X, UNIT_Y })
+                if (Math.max(Math.abs(constant.x), Math.abs(constant.y)) <= RANGE)
+                    VALUES[(constant.x + RANGE) * SIDE + constant.y + RANGE] = constant;
+        }
+
+    }
 }
\ No newline at end of file
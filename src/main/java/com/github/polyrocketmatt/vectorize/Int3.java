@@ -3,6 +3,7 @@ package com.github.polyrocketmatt.vectorize;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.function.LongConsumer;
 
 /**
  * Represents an immutable 3-dimensional vector of integers.
@@ -22,6 +23,29 @@ public class Int3 extends Vector3<Integer> {
     public static final Int3 UNIT_Y = new Int3(0, 1, 0);
     public static final Int3 UNIT_Z = new Int3(0, 0, 1);
 
+    /**
+     * The system property holding the largest absolute component value of the vectors cached by {@link #of(int, int, int)},
+     * which defaults to 16 and cannot exceed 32.
+     */
+    public static final String CACHE_RANGE_PROPERTY = "vectorize.int3.cacheRange";
+
+    /**
+     * The number of bits used for each component by {@link #pack(int, int, int)}.
+     */
+    public static final int PACKED_BITS = 21;
+
+    /**
+     * The smallest component value that can be packed.
+     */
+    public static final int PACKED_MIN = -(1 << (PACKED_BITS - 1));
+
+    /**
+     * The largest component value that can be packed.
+     */
+    public static final int PACKED_MAX = (1 << (PACKED_BITS - 1)) - 1;
+
+    private static final long PACKED_MASK = (1L << PACKED_BITS) - 1L;
+
     public Int3(int x, int y, int z) {
         this.x = x;
         this.y = y;
@@ -54,23 +78,96 @@ public class Int3 extends Vector3<Integer> {
         this.z = scalar;
     }
 
+    /**
+     * Get a vector with the given components. Like {@link Integer#valueOf(int)}, vectors with every component within
+     * the cache range, -16 to 16 by default, are taken from a cache instead of allocated, which includes the constants
+     * such as {@link #ZERO}. The range is read once from the system property named by {@link #CACHE_RANGE_PROPERTY}
+     * and cannot exceed 32. Operations such as {@link #relative(Direction)} keep allocating, because the JIT compiler removes
+     * those allocations when the result does not escape, which a cache would prevent; use this for vectors that are
+     * stored.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @return A cached or new vector with the given components.
+     */
+    public static @NotNull Int3 of(int x, int y, int z) {
+        int range = Cache.RANGE;
+        int side = Cache.SIDE;
+        int i = x + range;
+        int j = y + range;
+        int k = z + range;
+        if ((i | j | k) >= 0 && i < side && j < side && k < side)
+            return Cache.VALUES[(i * side + j) * side + k];
+        return new Int3(x, y, z);
+    }
+
     @Override
     public Int3 add(Integer x, Integer y, Integer z) {
+        return add((int) x, (int) y, (int) z);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @return A new vector with the given components added.
+     */
+    public Int3 add(int x, int y, int z) {
         return new Int3(this.x + x, this.y + y, this.z + z);
     }
 
     @Override
     public Int3 subtract(Integer x, Integer y, Integer z) {
+        return subtract((int) x, (int) y, (int) z);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Int3 subtract(int x, int y, int z) {
         return new Int3(this.x - x, this.y - y, this.z - z);
     }
 
     @Override
     public Int3 multiply(Integer x, Integer y, Integer z) {
+        return multiply((int) x, (int) y, (int) z);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @param z The z component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Int3 multiply(int x, int y, int z) {
         return new Int3(this.x * x, this.y * y, this.z * z);
     }
 
     @Override
     public Int3 divide(Integer x, Integer y, Integer z) {
+        return divide((int) x, (int) y, (int) z);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @param z The z component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Int3 divide(int x, int y, int z) {
         if (x == 0 || y == 0 || z == 0)
             throw new ArithmeticException("'other' cannot have a zero component (x: %d, y: %d, z: %d)".formatted(x, y, z));
         return new Int3(this.x / x, this.y / y, this.z / z);
@@ -115,21 +212,62 @@ public class Int3 extends Vector3<Integer> {
 
     @Override
     public @NotNull Int3 add(@NotNull Integer scalar) {
+        return add((int) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int3 add(int scalar) {
         return new Int3(this.x + scalar, this.y + scalar, this.z + scalar);
     }
 
     @Override
     public @NotNull Int3 subtract(@NotNull Integer scalar) {
+        return subtract((int) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int3 subtract(int scalar) {
         return new Int3(this.x - scalar, this.y - scalar, this.z - scalar);
     }
 
     @Override
     public @NotNull Int3 multiply(@NotNull Integer scalar) {
+        return multiply((int) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int3 multiply(int scalar) {
         return new Int3(this.x * scalar, this.y * scalar, this.z * scalar);
     }
 
     @Override
     public @NotNull Int3 divide(@NotNull Integer scalar) {
+        return divide((int) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int3 divide(int scalar) {
         if (scalar == 0)
             throw new ArithmeticException("'other' cannot be zero");
         return new Int3(this.x / scalar, this.y / scalar, this.z / scalar);
@@ -137,6 +275,16 @@ public class Int3 extends Vector3<Integer> {
 
     @Override
     public @NotNull Int3 pow(@NotNull Integer scalar) {
+        return pow((int) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int3 pow(int scalar) {
         return new Int3((int) Math.pow(this.x, scalar), (int) Math.pow(this.y, scalar), (int) Math.pow(this.z, scalar));
     }
 
@@ -152,7 +300,7 @@ public class Int3 extends Vector3<Integer> {
 
     @Override
     public @NotNull Double3 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double3(this.x / length, this.y / length, this.z / length);
@@ -162,20 +310,40 @@ public class Int3 extends Vector3<Integer> {
     public @NotNull Integer dot(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int3 vector))
             throw new IllegalArgumentException("'other' must be a Int3, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y + z * vector.z;
+        return doti(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull Int3 other) {
+        return x * other.x + y * other.y + z * other.z;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int3 vector))
             throw new IllegalArgumentException("'other' must be a Int3, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double cross = this.cross(vector).length();
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Int3 other) {
+        double dot = this.doti(other);
+        double cross = this.cross(other).lengthd();
         return Math.atan2(cross, dot);
     }
 
     @Override
-    public @NotNull Vector<Integer> cross(@NotNull Vector<Integer> other) {
+    public @NotNull Int3 cross(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int3 vector))
             throw new IllegalArgumentException("'other' must be a Int3, found %s".formatted(other.getClass().getName()));
         return new Int3(
@@ -187,11 +355,29 @@ public class Int3 extends Vector3<Integer> {
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y + z * z);
     }
 
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return (double) x * x + y * y + z * z;
     }
 
@@ -199,9 +385,19 @@ public class Int3 extends Vector3<Integer> {
     public @NotNull Double distance(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int3 vector))
             throw new IllegalArgumentException("'other' must be a Int3, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Int3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
         return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
 
@@ -209,9 +405,19 @@ public class Int3 extends Vector3<Integer> {
     public @NotNull Double distanceSquared(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int3 vector))
             throw new IllegalArgumentException("'other' must be a Int3, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Int3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
         return (dx * dx + dy * dy + dz * dz);
     }
 
@@ -241,6 +447,67 @@ public class Int3 extends Vector3<Integer> {
         return new Integer[] {this.x, this.y, this.z};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     */
+    public void writeTo(@NotNull int[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 3, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Int3(Integer[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Int3 readFrom(@NotNull int[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 3, src.length);
+        return new Int3(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 3 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Int3[] src, @NotNull int[] dst) {
+        if (dst.length / 3 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(3L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 3) {
+            Int3 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+            dst[offset + 2] = vector.z;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 3 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull int[] src, @NotNull Int3[] dst) {
+        if (src.length / 3 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(3L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 3)
+            dst[i] = new Int3(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
     @Override
     public @NotNull Int3 floor() {
         return this;
@@ -307,6 +574,348 @@ public class Int3 extends Vector3<Integer> {
         return relative(Direction.WEST);
     }
 
+    /**
+     * Calls the given consumer with the coordinates of the 6 neighbours sharing a face with this vector,
+     * in the order of {@link Direction#VALUES}, without allocating.
+     *
+     * @param consumer The consumer.
+     */
+    public void forEachNeighbour(@NotNull IntTriConsumer consumer) {
+        for (int i = 0; i < 6; i++)
+            consumer.accept(this.x + Direction.OFFSETS_X[i], this.y + Direction.OFFSETS_Y[i], this.z + Direction.OFFSETS_Z[i]);
+    }
+
+    /**
+     * Calls the given consumer with the coordinates of the neighbours of this vector, without allocating.
+     *
+     * @param connectivity The number of neighbours: 6 for faces, 18 for faces and edges or 26 for faces,
+     *                     edges and corners.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the connectivity is not 6, 18 or 26.
+     * @see Direction#NEIGHBOURS_26_X
+     */
+    public void forEachNeighbour(int connectivity, @NotNull IntTriConsumer consumer) {
+        if (connectivity != 6 && connectivity != 18 && connectivity != 26)
+            throw new IllegalArgumentException("'connectivity' must be 6, 18 or 26, found %d".formatted(connectivity));
+        for (int i = 0; i < connectivity; i++)
+            consumer.accept(this.x + Direction.NEIGHBOURS_26_X[i], this.y + Direction.NEIGHBOURS_26_Y[i], this.z + Direction.NEIGHBOURS_26_Z[i]);
+    }
+
+    /**
+     * Gets the packed neighbour of a packed vector in the given direction, without unpacking it into an Int3.
+     *
+     * @param packed The packed representation, see {@link #pack(int, int, int)}.
+     * @param direction The direction of the neighbour.
+     * @throws IllegalArgumentException If the neighbour is outside of the packable range.
+     * @return The packed representation of the neighbour.
+     */
+    public static long relativePacked(long packed, @NotNull Direction direction) {
+        return pack(unpackX(packed) + direction.getOffsetX(), unpackY(packed) + direction.getOffsetY(), unpackZ(packed) + direction.getOffsetZ());
+    }
+
+    /**
+     * Calls the given consumer with the packed representations of the 6 neighbours sharing a face with a packed
+     * vector, in the order of {@link Direction#VALUES}, without allocating.
+     *
+     * @param packed The packed representation, see {@link #pack(int, int, int)}.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If a neighbour is outside of the packable range.
+     */
+    public static void forEachNeighbourPacked(long packed, @NotNull LongConsumer consumer) {
+        int x = unpackX(packed);
+        int y = unpackY(packed);
+        int z = unpackZ(packed);
+        for (int i = 0; i < 6; i++)
+            consumer.accept(pack(x + Direction.OFFSETS_X[i], y + Direction.OFFSETS_Y[i], z + Direction.OFFSETS_Z[i]));
+    }
+
+    /**
+     * Packs this vector into a single long.
+     *
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The packed representation of this vector.
+     * @see #pack(int, int, int)
+     */
+    public long pack() {
+        return pack(this.x, this.y, this.z);
+    }
+
+    /**
+     * Packs the given components into a single long, using {@link #PACKED_BITS} bits per component.
+     * <p>
+     * The x component is stored in the highest bits and the z component in the lowest bits. The most
+     * significant bit of the result is never set, so {@link Long#MIN_VALUE} can be used as a sentinel.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The packed representation of the components.
+     */
+    public static long pack(int x, int y, int z) {
+        if (((x - PACKED_MIN) | (y - PACKED_MIN) | (z - PACKED_MIN)) >>> PACKED_BITS != 0)
+            throw new IllegalArgumentException("Cannot pack (x: %d, y: %d, z: %d), components must be in [%d, %d]".formatted(x, y, z, PACKED_MIN, PACKED_MAX));
+        return ((x & PACKED_MASK) << (2 * PACKED_BITS)) | ((y & PACKED_MASK) << PACKED_BITS) | (z & PACKED_MASK);
+    }
+
+    /**
+     * Unpacks a vector that was packed with {@link #pack(int, int, int)}.
+     *
+     * @param packed The packed representation.
+     * @return A new Int3 with the unpacked components.
+     */
+    public static @NotNull Int3 unpack(long packed) {
+        return new Int3(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
+    /**
+     * Unpacks the x component of a packed vector.
+     *
+     * @param packed The packed representation.
+     * @return The x component.
+     */
+    public static int unpackX(long packed) {
+        return (int) (packed << (64 - 3 * PACKED_BITS) >> (64 - PACKED_BITS));
+    }
+
+    /**
+     * Unpacks the y component of a packed vector.
+     *
+     * @param packed The packed representation.
+     * @return The y component.
+     */
+    public static int unpackY(long packed) {
+        return (int) (packed << (64 - 2 * PACKED_BITS) >> (64 - PACKED_BITS));
+    }
+
+    /**
+     * Unpacks the z component of a packed vector.
+     *
+     * @param packed The packed representation.
+     * @return The z component.
+     */
+    public static int unpackZ(long packed) {
+        return (int) (packed << (64 - PACKED_BITS) >> (64 - PACKED_BITS));
+    }
+
+    /**
+     * Encodes this vector as a Morton code.
+     *
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The Morton code of this vector.
+     * @see #toMorton(int, int, int)
+     */
+    public long toMorton() {
+        return toMorton(this.x, this.y, this.z);
+    }
+
+    /**
+     * Encodes the given components as a Morton code (Z-order curve), interleaving their bits so that vectors close
+     * to each other usually have close codes.
+     * <p>
+     * The components are offset by {@link #PACKED_MIN} first, so that codes increase monotonically along every
+     * axis. Bit {@code 3i} of the code is bit {@code i} of the x component, followed by the y and z components.
+     * Sorting by Morton code therefore groups vectors into aligned cubes of any power-of-two size, which is the
+     * addressing used by octrees. The most significant bit of the result is never set.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The Morton code of the components.
+     */
+    public static long toMorton(int x, int y, int z) {
+        if (((x - PACKED_MIN) | (y - PACKED_MIN) | (z - PACKED_MIN)) >>> PACKED_BITS != 0)
+            throw new IllegalArgumentException("Cannot encode (x: %d, y: %d, z: %d), components must be in [%d, %d]".formatted(x, y, z, PACKED_MIN, PACKED_MAX));
+        return spreadBits(x - PACKED_MIN) | (spreadBits(y - PACKED_MIN) << 1) | (spreadBits(z - PACKED_MIN) << 2);
+    }
+
+    /**
+     * Decodes a vector that was encoded with {@link #toMorton(int, int, int)}.
+     *
+     * @param morton The Morton code.
+     * @return A new Int3 with the decoded components.
+     */
+    public static @NotNull Int3 fromMorton(long morton) {
+        return new Int3(fromMortonX(morton), fromMortonY(morton), fromMortonZ(morton));
+    }
+
+    /**
+     * Decodes the x component of a Morton code.
+     *
+     * @param morton The Morton code.
+     * @return The x component.
+     */
+    public static int fromMortonX(long morton) {
+        return compactBits(morton) + PACKED_MIN;
+    }
+
+    /**
+     * Decodes the y component of a Morton code.
+     *
+     * @param morton The Morton code.
+     * @return The y component.
+     */
+    public static int fromMortonY(long morton) {
+        return compactBits(morton >>> 1) + PACKED_MIN;
+    }
+
+    /**
+     * Decodes the z component of a Morton code.
+     *
+     * @param morton The Morton code.
+     * @return The z component.
+     */
+    public static int fromMortonZ(long morton) {
+        return compactBits(morton >>> 2) + PACKED_MIN;
+    }
+
+    /**
+     * Encodes this vector as a Hilbert index.
+     *
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The Hilbert index of this vector.
+     * @see #toHilbert(int, int, int)
+     */
+    public long toHilbert() {
+        return toHilbert(this.x, this.y, this.z);
+    }
+
+    /**
+     * Encodes the given components as an index along a Hilbert curve, using Skilling's transform.
+     * <p>
+     * Unlike Morton codes, consecutive Hilbert indices always belong to neighbouring vectors, so sorting by Hilbert
+     * index preserves locality slightly better, at the cost of a more expensive encoding. The components are offset
+     * by {@link #PACKED_MIN} first and the most significant bit of the result is never set.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The Hilbert index of the components.
+     */
+    public static long toHilbert(int x, int y, int z) {
+        if (((x - PACKED_MIN) | (y - PACKED_MIN) | (z - PACKED_MIN)) >>> PACKED_BITS != 0)
+            throw new IllegalArgumentException("Cannot encode (x: %d, y: %d, z: %d), components must be in [%d, %d]".formatted(x, y, z, PACKED_MIN, PACKED_MAX));
+        x -= PACKED_MIN;
+        y -= PACKED_MIN;
+        z -= PACKED_MIN;
+
+        //  Undo the rotations and reflections of every level, from the most significant bit down. The branches of
+        //  the transform are replaced by masks, as the bits of arbitrary positions are unpredictable
+        for (int bit = PACKED_BITS - 1; bit > 0; bit--) {
+            int p = (1 << bit) - 1;
+            x ^= p & -((x >>> bit) & 1);
+            int m = -((y >>> bit) & 1);
+            int t = (x ^ y) & p & ~m;
+            x ^= (p & m) | t;
+            y ^= t;
+            m = -((z >>> bit) & 1);
+            t = (x ^ z) & p & ~m;
+            x ^= (p & m) | t;
+            z ^= t;
+        }
+
+        //  Gray encode
+        y ^= x;
+        z ^= y;
+        int t = 0;
+        for (int bit = PACKED_BITS - 1; bit > 0; bit--)
+            t ^= ((1 << bit) - 1) & -((z >>> bit) & 1);
+        x ^= t;
+        y ^= t;
+        z ^= t;
+        return spreadBits(z) | (spreadBits(y) << 1) | (spreadBits(x) << 2);
+    }
+
+    /**
+     * Decodes a vector that was encoded with {@link #toHilbert(int, int, int)}.
+     *
+     * @param hilbert The Hilbert index.
+     * @return A new Int3 with the decoded components.
+     */
+    public static @NotNull Int3 fromHilbert(long hilbert) {
+        int x = compactBits(hilbert >>> 2);
+        int y = compactBits(hilbert >>> 1);
+        int z = compactBits(hilbert);
+
+        //  Gray decode
+        int t = z >>> 1;
+        z ^= y;
+        y ^= x;
+        x ^= t;
+
+        //  Redo the rotations and reflections of every level, from the least significant bit up
+        for (int bit = 1; bit < PACKED_BITS; bit++) {
+            int p = (1 << bit) - 1;
+            int m = -((z >>> bit) & 1);
+            t = (x ^ z) & p & ~m;
+            x ^= (p & m) | t;
+            z ^= t;
+            m = -((y >>> bit) & 1);
+            t = (x ^ y) & p & ~m;
+            x ^= (p & m) | t;
+            y ^= t;
+            x ^= p & -((x >>> bit) & 1);
+        }
+        return new Int3(x + PACKED_MIN, y + PACKED_MIN, z + PACKED_MIN);
+    }
+
+    /**
+     * Sorts the given vectors in place by their Morton code, using a radix sort.
+     *
+     * @param vectors The vectors to sort.
+     * @throws IllegalArgumentException If a component is outside of [{@link #PACKED_MIN}, {@link #PACKED_MAX}].
+     * @return The permutation that was applied, where element {@code i} of the sorted array was at index
+     *         {@code order[i]} before sorting. It can be used to reorder data stored alongside the vectors.
+     * @see #toMorton(int, int, int)
+     */
+    public static @NotNull int[] sortByMorton(@NotNull Int3[] vectors) {
+        long[] keys = new long[vectors.length];
+        for (int i = 0; i < vectors.length; i++)
+            keys[i] = vectors[i].toMorton();
+        int[] order = RadixSort.order(keys);
+        Int3[] unsorted = vectors.clone();
+        for (int i = 0; i < vectors.length; i++)
+            vectors[i] = unsorted[order[i]];
+        return order;
+    }
+
+    /**
+     * Spread the lowest {@link #PACKED_BITS} bits of the given value so that two zero bits follow each of them.
+     */
+    private static long spreadBits(int value) {
+        long bits = value & PACKED_MASK;
+        bits = (bits | (bits << 32)) & 0x001F00000000FFFFL;
+        bits = (bits | (bits << 16)) & 0x001F0000FF0000FFL;
+        bits = (bits | (bits << 8)) & 0x100F00F00F00F00FL;
+        bits = (bits | (bits << 4)) & 0x10C30C30C30C30C3L;
+        bits = (bits | (bits << 2)) & 0x1249249249249249L;
+        return bits;
+    }
+
+    /**
+     * Gather every third bit of the given value, starting at the lowest bit, which reverses {@link #spreadBits(int)}.
+     */
+    private static int compactBits(long bits) {
+        bits &= 0x1249249249249249L;
+        bits = (bits ^ (bits >>> 2)) & 0x10C30C30C30C30C3L;
+        bits = (bits ^ (bits >>> 4)) & 0x100F00F00F00F00FL;
+        bits = (bits ^ (bits >>> 8)) & 0x001F0000FF0000FFL;
+        bits = (bits ^ (bits >>> 16)) & 0x001F00000000FFFFL;
+        bits = (bits ^ (bits >>> 32)) & PACKED_MASK;
+        return (int) bits;
+    }
+
+    /**
+     * Converts the vector to a {@link MutableInt3}.
+     *
+     * @return A new MutableInt3 with the same components as this vector.
+     */
+    public @NotNull MutableInt3 toMutable() {
+        return new MutableInt3(this.x, this.y, this.z);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -316,11 +925,34 @@ public class Int3 extends Vector3<Integer> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z);
+        return Hashing.hash(x, y, z);
     }
 
     @Override
     public String toString() {
         return "Int3(%d, %d, %d)".formatted(this.x, this.y, this.z);
     }
+
+    /**
+     * Holds the vectors returned by {@link #of(int, int, int)}, created when it is first called.
+     */
+    private static final class Cache {
+
+        private static final int RANGE = Math.max(0, Math.min(Integer.getInteger(CACHE_RANGE_PROPERTY, 16), 32));
+        private static final int SIDE = 2 * RANGE + 1;
+        private static final Int3[] VALUES = new Int3[SIDE * SIDE * SIDE];
+
+        static {
+            int index = 0;
+            for (int x = -RANGE; x <= RANGE; x++)
+                for (int y = -RANGE; y <= RANGE; y++)
+                    for (int z = -RANGE; z <= RANGE; z++)
+                        VALUES[index++] = new Int3(x, y, z);
+            //  Share the constants, so that comparing with them by identity works for cached vectors
+            for (Int3 constant : new Int3[] { ZERO, ONE, UNIT_X, UNIT_Y, UNIT_Z })
+                if (Math.max(Math.abs(constant.x), Math.max(Math.abs(constant.y), Math.abs(constant.z))) <= RANGE)
+                    VALUES[((constant.x + RANGE) * SIDE + constant.y + RANGE) * SIDE + constant.z + RANGE] = constant;
+        }
+
+    }
 }
\ No newline at end of file
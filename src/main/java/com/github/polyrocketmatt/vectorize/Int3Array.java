@@ -0,0 +1,417 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an array of 3-dimensional vectors of integers, stored as a structure of arrays.
+ * <p>
+ * Each component is stored in its own contiguous array, so that bulk operations run over flat
+ * primitive arrays which the JIT compiler can unroll and auto-vectorize. All bulk operations
+ * work on the range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Int3Array {
+
+    public final int[] xs;
+    public final int[] ys;
+    public final int[] zs;
+
+    public Int3Array(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        this.xs = new int[size];
+        this.ys = new int[size];
+        this.zs = new int[size];
+    }
+
+    public Int3Array(@NotNull int[] xs, @NotNull int[] ys, @NotNull int[] zs) {
+        if (ys.length != xs.length || zs.length != xs.length)
+            throw new IllegalArgumentException("All component arrays must have the same length");
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+    }
+
+    public Int3Array(@NotNull Int3[] vectors) {
+        this(vectors.length);
+        for (int i = 0; i < vectors.length; i++)
+            set(i, vectors[i]);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Int3}.
+     *
+     * @param index The index of the vector.
+     * @return A new Int3 with the components at the given index.
+     */
+    public @NotNull Int3 get(int index) {
+        return new Int3(xs[index], ys[index], zs[index]);
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableInt3 get(int index, @NotNull MutableInt3 dst) {
+        return dst.set(xs[index], ys[index], zs[index]);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     */
+    public void set(int index, int x, int y, int z) {
+        this.xs[index] = x;
+        this.ys[index] = y;
+        this.zs[index] = z;
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull Int3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     */
+    public void set(int index, @NotNull MutableInt3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Int3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i];
+            ys[i] += oys[i];
+            zs[i] += ozs[i];
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Int3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int x = vector.x;
+        int y = vector.y;
+        int z = vector.z;
+        for (int i = from; i < to; i++) {
+            xs[i] += x;
+            ys[i] += y;
+            zs[i] += z;
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Int3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] -= oxs[i];
+            ys[i] -= oys[i];
+            zs[i] -= ozs[i];
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void subtract(@NotNull Int3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int x = vector.x;
+        int y = vector.y;
+        int z = vector.z;
+        for (int i = from; i < to; i++) {
+            xs[i] -= x;
+            ys[i] -= y;
+            zs[i] -= z;
+        }
+    }
+
+    /**
+     * Multiply the vectors of another array with the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Int3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] *= oxs[i];
+            ys[i] *= oys[i];
+            zs[i] *= ozs[i];
+        }
+    }
+
+    /**
+     * Multiply a single vector with the vectors of this array in place.
+     *
+     * @param vector The vector to multiply.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void multiply(@NotNull Int3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int x = vector.x;
+        int y = vector.y;
+        int z = vector.z;
+        for (int i = from; i < to; i++) {
+            xs[i] *= x;
+            ys[i] *= y;
+            zs[i] *= z;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(int scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] *= scalar;
+            ys[i] *= scalar;
+            zs[i] *= scalar;
+        }
+    }
+
+    /**
+     * Add the vectors of another array, multiplied by a scalar, to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param scalar The scalar to multiply the other vectors with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void addScaled(@NotNull Int3Array other, int scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            xs[i] += oxs[i] * scalar;
+            ys[i] += oys[i] * scalar;
+            zs[i] += ozs[i] * scalar;
+        }
+    }
+
+    /**
+     * Calculate the dot products of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void dot(@NotNull Int3Array other, @NotNull int[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            dst[i] = xs[i] * oxs[i] + ys[i] * oys[i] + zs[i] * ozs[i];
+        }
+    }
+
+    /**
+     * Replace the vectors of this array with the cross product of the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void cross(@NotNull Int3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            int x = xs[i];
+            int y = ys[i];
+            int z = zs[i];
+            xs[i] = y * ozs[i] - z * oys[i];
+            ys[i] = z * oxs[i] - x * ozs[i];
+            zs[i] = x * oys[i] - y * oxs[i];
+        }
+    }
+
+    /**
+     * Calculate the squared lengths of the vectors of this array.
+     *
+     * @param dst The array to store the squared lengths in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void lengthSquared(@NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        for (int i = from; i < to; i++) {
+            dst[i] = (double) xs[i] * xs[i] + (double) ys[i] * ys[i] + (double) zs[i] * zs[i];
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and another array.
+     *
+     * @param other The other array.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Int3Array other, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, other.size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int[] oxs = other.xs;
+        int[] oys = other.ys;
+        int[] ozs = other.zs;
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - oxs[i];
+            double dy = ys[i] - oys[i];
+            double dz = zs[i] - ozs[i];
+            dst[i] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Calculate the squared distances between the vectors of this array and a single vector.
+     *
+     * @param vector The vector to calculate the distances to.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void distanceSquared(@NotNull Int3 vector, @NotNull double[] dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, size());
+        Objects.checkFromToIndex(from, to, dst.length);
+        int[] xs = this.xs;
+        int[] ys = this.ys;
+        int[] zs = this.zs;
+        int x = vector.x;
+        int y = vector.y;
+        int z = vector.z;
+        for (int i = from; i < to; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double dz = zs[i] - z;
+            dst[i] = dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
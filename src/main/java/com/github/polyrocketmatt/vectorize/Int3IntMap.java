@@ -0,0 +1,399 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents an open-addressing hash map from {@link Int3} coordinates to ints.
+ * <p>
+ * Keys are stored as packed longs (see {@link Int3#pack(int, int, int)}) in a flat array, so no key objects,
+ * entry nodes or boxed values are allocated. Collisions are resolved with linear probing, and removals shift
+ * subsequent entries back instead of leaving tombstones. All coordinates must be within
+ * [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Int3IntMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    public Int3IntMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    public Int3IntMap(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("'expectedSize' cannot be negative, found %d".formatted(expectedSize));
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Get the number of entries in this map.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if this map contains no entries.
+     *
+     * @return True if this map is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check if this map contains an entry for the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return True if an entry exists, false otherwise.
+     */
+    public boolean containsKey(int x, int y, int z) {
+        return indexOf(Int3.pack(x, y, z)) >= 0;
+    }
+
+    /**
+     * Check if this map contains an entry for the given coordinates.
+     *
+     * @param key The coordinates.
+     * @return True if an entry exists, false otherwise.
+     */
+    public boolean containsKey(@NotNull Int3 key) {
+        return containsKey(key.x, key.y, key.z);
+    }
+
+    /**
+     * Get the value for the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The value, or 0 if no entry exists.
+     */
+    public int get(int x, int y, int z) {
+        int index = indexOf(Int3.pack(x, y, z));
+        return index < 0 ? 0 : values[index];
+    }
+
+    /**
+     * Get the value for the given coordinates.
+     *
+     * @param key The coordinates.
+     * @return The value, or 0 if no entry exists.
+     */
+    public int get(@NotNull Int3 key) {
+        return get(key.x, key.y, key.z);
+    }
+
+    /**
+     * Get the value for the neighbour of the given coordinates in the given direction, without allocating.
+     *
+     * @param key The coordinates.
+     * @param direction The direction of the neighbour.
+     * @return The value, or 0 if no entry exists.
+     */
+    public int get(@NotNull Int3 key, @NotNull Direction direction) {
+        return get(key.x + direction.getOffsetX(), key.y + direction.getOffsetY(), key.z + direction.getOffsetZ());
+    }
+
+    /**
+     * Get the value for the given coordinates, or a default value if no entry exists.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param defaultValue The value to return if no entry exists.
+     * @return The value, or the default value if no entry exists.
+     */
+    public int getOrDefault(int x, int y, int z, int defaultValue) {
+        int index = indexOf(Int3.pack(x, y, z));
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * Associate a value with the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param value The value.
+     * @return The previous value, or 0 if no entry existed.
+     */
+    public int put(int x, int y, int z, int value) {
+        long key = Int3.pack(x, y, z);
+        int index = insertionIndex(key);
+        if (index >= 0) {
+            int previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        insert(-index - 1, key, value);
+        return 0;
+    }
+
+    /**
+     * Associate a value with the given coordinates.
+     *
+     * @param key The coordinates.
+     * @param value The value.
+     * @return The previous value, or 0 if no entry existed.
+     */
+    public int put(@NotNull Int3 key, int value) {
+        return put(key.x, key.y, key.z, value);
+    }
+
+    /**
+     * Get the value for the given coordinates, computing and storing it if no entry exists.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param mapping The function computing the value.
+     * @return The existing or computed value.
+     */
+    public int computeIfAbsent(int x, int y, int z, @NotNull Mapping mapping) {
+        long key = Int3.pack(x, y, z);
+        int index = insertionIndex(key);
+        if (index >= 0)
+            return values[index];
+        int value = mapping.apply(x, y, z);
+
+        //  The mapping could have modified this map, so the insertion index is looked up again
+        index = insertionIndex(key);
+        if (index >= 0)
+            values[index] = value;
+        else
+            insert(-index - 1, key, value);
+        return value;
+    }
+
+    /**
+     * Get the value for the given coordinates, computing and storing it if no entry exists.
+     *
+     * @param key The coordinates.
+     * @param mapping The function computing the value.
+     * @return The existing or computed value.
+     */
+    public int computeIfAbsent(@NotNull Int3 key, @NotNull Mapping mapping) {
+        return computeIfAbsent(key.x, key.y, key.z, mapping);
+    }
+
+    /**
+     * Add the given amount to the value for the given coordinates, treating a missing entry as zero.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param amount The amount to add.
+     * @return The new value.
+     */
+    public int addTo(int x, int y, int z, int amount) {
+        long key = Int3.pack(x, y, z);
+        int index = insertionIndex(key);
+        if (index >= 0)
+            return values[index] += amount;
+        insert(-index - 1, key, amount);
+        return amount;
+    }
+
+    /**
+     * Remove the entry for the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @return The removed value, or 0 if no entry existed.
+     */
+    public int remove(int x, int y, int z) {
+        int index = indexOf(Int3.pack(x, y, z));
+        if (index < 0)
+            return 0;
+        int previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    /**
+     * Remove the entry for the given coordinates.
+     *
+     * @param key The coordinates.
+     * @return The removed value, or 0 if no entry existed.
+     */
+    public int remove(@NotNull Int3 key) {
+        return remove(key.x, key.y, key.z);
+    }
+
+    /**
+     * Remove all entries from this map, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Call the given visitor for every entry in this map, in no particular order.
+     *
+     * @param visitor The visitor.
+     */
+    public void forEach(@NotNull Visitor visitor) {
+        long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            if (key != EMPTY)
+                visitor.accept(Int3.unpackX(key), Int3.unpackY(key), Int3.unpackZ(key), values[i]);
+        }
+    }
+
+    private int slot(long key) {
+        return Hashing.hash(key) & mask;
+    }
+
+    private int indexOf(long key) {
+        long[] keys = this.keys;
+        int index = slot(key);
+        long current;
+        while ((current = keys[index]) != EMPTY) {
+            if (current == key)
+                return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Find the index of the given key, or {@code -(index + 1)} of the empty slot it should be inserted at.
+     */
+    private int insertionIndex(long key) {
+        long[] keys = this.keys;
+        int index = slot(key);
+        long current;
+        while ((current = keys[index]) != EMPTY) {
+            if (current == key)
+                return index;
+            index = (index + 1) & mask;
+        }
+        return -index - 1;
+    }
+
+    private void insert(int index, long key, int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > maxFill)
+            rehash(keys.length << 1);
+    }
+
+    /**
+     * Remove the entry at the given index, shifting back the entries of the same probe sequence.
+     */
+    private void removeAt(int index) {
+        long[] keys = this.keys;
+        int[] values = this.values;
+        size--;
+        int last = index;
+        int current = (last + 1) & mask;
+        while (true) {
+            long key = keys[current];
+            if (key == EMPTY) {
+                keys[last] = EMPTY;
+                return;
+            }
+            int slot = slot(key);
+
+            //  Move the entry back if its home slot is not cyclically within (last, current]
+            if (last <= current ? (last >= slot || slot > current) : (last >= slot && slot > current)) {
+                keys[last] = key;
+                values[last] = values[current];
+                last = current;
+            }
+            current = (current + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        allocate(capacity);
+        long[] keys = this.keys;
+        int[] values = this.values;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY)
+                continue;
+            int index = slot(key);
+            while (keys[index] != EMPTY)
+                index = (index + 1) & mask;
+            keys[index] = key;
+            values[index] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        Arrays.fill(this.keys, EMPTY);
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxFill = capacity / 2;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            if (capacity >= 1 << 30)
+                throw new IllegalArgumentException("Cannot allocate a map for %d entries".formatted(expectedSize));
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Visitor for the entries of a {@link Int3IntMap}.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visit an entry.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @param z The z coordinate.
+         * @param value The value.
+         */
+        void accept(int x, int y, int z, int value);
+
+    }
+
+    /**
+     * Function computing the value for a set of coordinates.
+     */
+    @FunctionalInterface
+    public interface Mapping {
+
+        /**
+         * Compute the value for the given coordinates.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @param z The z coordinate.
+         * @return The computed value.
+         */
+        int apply(int x, int y, int z);
+
+    }
+
+}
@@ -63,21 +63,74 @@ public class Int4 extends Vector4<Integer> {
 
     @Override
     public Int4 add(Integer x, Integer y, Integer z, Integer w) {
+        return add((int) x, (int) y, (int) z, (int) w);
+    }
+
+    /**
+     * Adds the given vector components to this vector without boxing.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @param w The w component to add.
+     * @return A new vector with the given components added.
+     */
+    public Int4 add(int x, int y, int z, int w) {
         return new Int4(this.x + x, this.y + y, this.z + z, this.w + w);
     }
 
     @Override
     public Int4 subtract(Integer x, Integer y, Integer z, Integer w) {
+        return subtract((int) x, (int) y, (int) z, (int) w);
+    }
+
+    /**
+     * Subtracts the given vector components from this vector without boxing.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @param w The w component to subtract.
+     * @return A new vector with the given components subtracted.
+     */
+    public Int4 subtract(int x, int y, int z, int w) {
         return new Int4(this.x - x, this.y - y, this.z - z, this.w - w);
     }
 
     @Override
     public Int4 multiply(Integer x, Integer y, Integer z, Integer w) {
+        return multiply((int) x, (int) y, (int) z, (int) w);
+    }
+
+    /**
+     * Multiplies the given vector components to this vector without boxing.
+     *
+     * @param x The x component to multiply.
+     * @param y The y component to multiply.
+     * @param z The z component to multiply.
+     * @param w The w component to multiply.
+     * @return A new vector with the given components multiplied.
+     */
+    public Int4 multiply(int x, int y, int z, int w) {
         return new Int4(this.x * x, this.y * y, this.z * z, this.w * w);
     }
 
     @Override
     public Int4 divide(Integer x, Integer y, Integer z, Integer w) {
+        return divide((int) x, (int) y, (int) z, (int) w);
+    }
+
+    /**
+     * Divides the given vector components from this vector without boxing.
+     *
+     * @param x The x component to divide.
+     * @param y The y component to divide.
+     * @param z The z component to divide.
+     * @param w The w component to divide.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return A new vector with the given components divided.
+     */
+    public Int4 divide(int x, int y, int z, int w) {
         if (x == 0 || y == 0 || z == 0 || w == 0)
             throw new ArithmeticException("'other' cannot have a zero component (x: %d, y: %d, z: %d, w: %d)".formatted(x, y, z, w));
         return new Int4(this.x / x, this.y / y, this.z / z, this.w / w);
@@ -122,21 +175,62 @@ public class Int4 extends Vector4<Integer> {
 
     @Override
     public @NotNull Int4 add(@NotNull Integer scalar) {
+        return add((int) scalar);
+    }
+
+    /**
+     * Add a scalar to this vector without boxing.
+     *
+     * @param scalar The scalar to add.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int4 add(int scalar) {
         return new Int4(this.x + scalar, this.y + scalar, this.z + scalar, this.w + scalar);
     }
 
     @Override
     public @NotNull Int4 subtract(@NotNull Integer scalar) {
+        return subtract((int) scalar);
+    }
+
+    /**
+     * Subtract a scalar from this vector without boxing.
+     *
+     * @param scalar The scalar to subtract.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int4 subtract(int scalar) {
         return new Int4(this.x - scalar, this.y - scalar, this.z - scalar, this.w - scalar);
     }
 
     @Override
     public @NotNull Int4 multiply(@NotNull Integer scalar) {
+        return multiply((int) scalar);
+    }
+
+    /**
+     * Multiply a scalar with this vector without boxing.
+     *
+     * @param scalar The scalar to multiply.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int4 multiply(int scalar) {
         return new Int4(this.x * scalar, this.y * scalar, this.z * scalar, this.w * scalar);
     }
 
     @Override
     public @NotNull Int4 divide(@NotNull Integer scalar) {
+        return divide((int) scalar);
+    }
+
+    /**
+     * Divide this vector by a scalar without boxing.
+     *
+     * @param scalar The scalar to divide.
+     * @throws ArithmeticException If the divisor is zero.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int4 divide(int scalar) {
         if (scalar == 0)
             throw new ArithmeticException("'other' cannot be zero");
         return new Int4(this.x / scalar, this.y / scalar, this.z / scalar, this.w / scalar);
@@ -144,6 +238,16 @@ public class Int4 extends Vector4<Integer> {
 
     @Override
     public @NotNull Int4 pow(@NotNull Integer scalar) {
+        return pow((int) scalar);
+    }
+
+    /**
+     * Raise this vector to the power of a scalar without boxing.
+     *
+     * @param scalar The scalar to raise to the power of.
+     * @return A new vector with the result.
+     */
+    public @NotNull Int4 pow(int scalar) {
         return new Int4((int) Math.pow(this.x, scalar), (int) Math.pow(this.y, scalar), (int) Math.pow(this.z, scalar), (int) Math.pow(this.w, scalar));
     }
 
@@ -159,7 +263,7 @@ public class Int4 extends Vector4<Integer> {
 
     @Override
     public @NotNull Double4 normalize() {
-        double length = this.length();
+        double length = this.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot normalize a zero-length vector");
         return new Double4(this.x / length, this.y / length, this.z / length, this.w / length);
@@ -169,15 +273,36 @@ public class Int4 extends Vector4<Integer> {
     public @NotNull Integer dot(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int4 vector))
             throw new IllegalArgumentException("'other' must be a Int4, found %s".formatted(other.getClass().getName()));
-        return x * vector.x + y * vector.y + z * vector.z + w * vector.w;
+        return doti(vector);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull Int4 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
     }
 
     @Override
     public @NotNull Double angle(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int4 vector))
             throw new IllegalArgumentException("'other' must be a Int4, found %s".formatted(other.getClass().getName()));
-        double dot = this.dot(vector);
-        double length = this.length() * vector.length();
+        return angled(vector);
+    }
+
+    /**
+     * Calculate the angle between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @throws IllegalArgumentException If either of the vectors has a zero length.
+     * @return The angle between the vectors.
+     */
+    public double angled(@NotNull Int4 other) {
+        double dot = this.doti(other);
+        double length = this.lengthd() * other.lengthd();
         if (length == 0.0)
             throw new IllegalArgumentException("Cannot calculate the angle between two zero-length vectors");
         return Math.acos(dot / length);
@@ -185,11 +310,29 @@ public class Int4 extends Vector4<Integer> {
 
     @Override
     public @NotNull Double length() {
+        return lengthd();
+    }
+
+    /**
+     * Calculate the length of this vector without boxing.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
         return Math.sqrt(x * x + y * y + z * z + w * w);
     }
 
     @Override
     public @NotNull Double lengthSquared() {
+        return lengthSquaredd();
+    }
+
+    /**
+     * Calculate the squared length of this vector without boxing.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
         return (double) x * x + y * y + z * z + w * w;
     }
 
@@ -197,10 +340,20 @@ public class Int4 extends Vector4<Integer> {
     public @NotNull Double distance(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int4 vector))
             throw new IllegalArgumentException("'other' must be a Int4, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
-        double dw = this.w - vector.w;
+        return distanced(vector);
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Int4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
         return Math.sqrt(dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
@@ -208,10 +361,20 @@ public class Int4 extends Vector4<Integer> {
     public @NotNull Double distanceSquared(@NotNull Vector<Integer> other) {
         if (!(other instanceof Int4 vector))
             throw new IllegalArgumentException("'other' must be a Int4, found %s".formatted(other.getClass().getName()));
-        double dx = this.x - vector.x;
-        double dy = this.y - vector.y;
-        double dz = this.z - vector.z;
-        double dw = this.w - vector.w;
+        return distanceSquaredd(vector);
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector without boxing.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Int4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
         return (dx * dx + dy * dy + dz * dz + dw * dw);
     }
 
@@ -220,6 +383,69 @@ public class Int4 extends Vector4<Integer> {
         return new Integer[] {this.x, this.y, this.z, this.w};
     }
 
+    /**
+     * Write the components of this vector to a primitive array, without boxing them like {@link #toArray()}.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     */
+    public void writeTo(@NotNull int[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 4, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+        dst[offset + 3] = this.w;
+    }
+
+    /**
+     * Read a vector from a primitive array, without boxing its components like {@link #Int4(Integer[])}.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     * @return A new vector with the components read.
+     */
+    public static @NotNull Int4 readFrom(@NotNull int[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 4, src.length);
+        return new Int4(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
+    /**
+     * Write the components of every vector to a primitive array, one vector after another, for example to fill a
+     * staging buffer.
+     *
+     * @param src The vectors to write.
+     * @param dst The array to write to, holding at least 4 elements for every vector.
+     * @throws IllegalArgumentException If the array is too small.
+     */
+    public static void pack(@NotNull Int4[] src, @NotNull int[] dst) {
+        if (dst.length / 4 < src.length)
+            throw new IllegalArgumentException("'dst' must hold at least %d elements, found %d".formatted(4L * src.length, dst.length));
+        for (int i = 0, offset = 0; i < src.length; i++, offset += 4) {
+            Int4 vector = src[i];
+            dst[offset] = vector.x;
+            dst[offset + 1] = vector.y;
+            dst[offset + 2] = vector.z;
+            dst[offset + 3] = vector.w;
+        }
+    }
+
+    /**
+     * Read vectors from a primitive array holding their components one vector after another, filling the given
+     * array of vectors.
+     *
+     * @param src The array to read from, holding at least 4 elements for every vector.
+     * @param dst The array to fill with new vectors.
+     * @throws IllegalArgumentException If the primitive array is too small.
+     */
+    public static void unpack(@NotNull int[] src, @NotNull Int4[] dst) {
+        if (src.length / 4 < dst.length)
+            throw new IllegalArgumentException("'src' must hold at least %d elements, found %d".formatted(4L * dst.length, src.length));
+        for (int i = 0, offset = 0; i < dst.length; i++, offset += 4)
+            dst[i] = new Int4(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
     @Override
     public @NotNull Int4 floor() {
         return this;
@@ -253,6 +479,15 @@ public class Int4 extends Vector4<Integer> {
         return new Float4(this.x, this.y, this.z, this.w);
     }
 
+    /**
+     * Converts the vector to a {@link MutableInt4}.
+     *
+     * @return A new MutableInt4 with the same components as this vector.
+     */
+    public @NotNull MutableInt4 toMutable() {
+        return new MutableInt4(this.x, this.y, this.z, this.w);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -262,7 +497,7 @@ public class Int4 extends Vector4<Integer> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y, z, w);
+        return Hashing.hash(x, y, z, w);
     }
 
     @Override
@@ -0,0 +1,443 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Represents a sparse voxel octree of ints, addressed by {@link Int3} coordinates.
+ * <p>
+ * The octree spans the whole range [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}] on every axis and has
+ * {@value #DEPTH} levels. The octant taken at every level is the corresponding 3-bit digit of the
+ * {@link Int3#toMorton(int, int, int) Morton code} of a position. A cube of positions holding a single value is
+ * stored as one leaf, however large it is: subtrees are only created when a cube becomes mixed and are collapsed
+ * again as soon as all 8 of their octants hold the same value. Large empty or uniform regions therefore cost
+ * nothing, and {@link #fill(int, int, int, int, int, int, int)} runs in time proportional to the surface of the
+ * filled region rather than its volume.
+ * <p>
+ * Nodes are stored in blocks of 8 slots in flat int arrays, and released blocks are reused. Concurrent reads are
+ * safe as long as no thread writes to the octree.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class IntOctree {
+
+    /**
+     * The number of levels of the octree.
+     */
+    public static final int DEPTH = Int3.PACKED_BITS;
+
+    /**
+     * Classification of a cube lying completely outside of a region.
+     */
+    public static final int OUTSIDE = 0;
+
+    /**
+     * Classification of a cube lying partially inside of a region.
+     */
+    public static final int INTERSECTING = 1;
+
+    /**
+     * Classification of a cube lying completely inside of a region.
+     */
+    public static final int INSIDE = 2;
+
+    private static final int ROOT = 0;
+    private static final int NONE = 0;
+    private static final int ROOT_SIZE = 1 << DEPTH;
+    private static final int INITIAL_BLOCKS = 64;
+
+    private final int defaultValue;
+    private final int[] path;
+    private int[] values;
+    private int[] children;
+    private int blocks;
+    private int freeBlock;
+    private int blockCount;
+
+    public IntOctree() {
+        this(0);
+    }
+
+    public IntOctree(int defaultValue) {
+        this.defaultValue = defaultValue;
+        this.path = new int[DEPTH];
+        this.values = new int[INITIAL_BLOCKS << 3];
+        this.children = new int[INITIAL_BLOCKS << 3];
+        clear();
+    }
+
+    /**
+     * Get the value of positions that were never set.
+     *
+     * @return The default value.
+     */
+    public int defaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Get the number of allocated nodes, each of which holds 8 octants.
+     *
+     * @return The number of nodes.
+     */
+    public int nodeCount() {
+        return blockCount;
+    }
+
+    /**
+     * Get the value at the given coordinates.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @throws IllegalArgumentException If a coordinate is outside of [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+     * @return The value.
+     */
+    public int get(int x, int y, int z) {
+        long morton = Int3.toMorton(x, y, z);
+        int block = ROOT;
+        for (int shift = 3 * (DEPTH - 1); ; shift -= 3) {
+            int slot = (block << 3) | (int) (morton >>> shift) & 7;
+            int child = children[slot];
+            if (child == NONE)
+                return values[slot];
+            block = child;
+        }
+    }
+
+    /**
+     * Get the value at the given coordinates.
+     *
+     * @param position The coordinates.
+     * @throws IllegalArgumentException If a coordinate is outside of [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+     * @return The value.
+     */
+    public int get(@NotNull Int3 position) {
+        return get(position.x, position.y, position.z);
+    }
+
+    /**
+     * Set the value at the given coordinates, splitting and collapsing nodes as needed.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @param value The value.
+     * @throws IllegalArgumentException If a coordinate is outside of [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+     * @return The previous value.
+     */
+    public int set(int x, int y, int z, int value) {
+        long morton = Int3.toMorton(x, y, z);
+        int block = ROOT;
+        int depth = 0;
+        for (int shift = 3 * (DEPTH - 1); ; shift -= 3) {
+            int slot = (block << 3) | (int) (morton >>> shift) & 7;
+            int child = children[slot];
+            if (child == NONE) {
+                int previous = values[slot];
+                if (previous == value)
+                    return previous;
+                if (shift == 0) {
+                    values[slot] = value;
+                    collapse(depth);
+                    return previous;
+                }
+                child = split(slot);
+            }
+            path[depth++] = slot;
+            block = child;
+        }
+    }
+
+    /**
+     * Set the value at the given coordinates, splitting and collapsing nodes as needed.
+     *
+     * @param position The coordinates.
+     * @param value The value.
+     * @throws IllegalArgumentException If a coordinate is outside of [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+     * @return The previous value.
+     */
+    public int set(@NotNull Int3 position, int value) {
+        return set(position.x, position.y, position.z, value);
+    }
+
+    /**
+     * Set the value of every position in the region between the given corners, both inclusive. Octants lying
+     * completely inside of the region are replaced by a single leaf without visiting their positions.
+     *
+     * @param minX The minimum x coordinate.
+     * @param minY The minimum y coordinate.
+     * @param minZ The minimum z coordinate.
+     * @param maxX The maximum x coordinate.
+     * @param maxY The maximum y coordinate.
+     * @param maxZ The maximum z coordinate.
+     * @param value The value.
+     * @throws IllegalArgumentException If a minimum coordinate is larger than the corresponding maximum coordinate,
+     *                                  or a coordinate is outside of [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+     */
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        if (minX > maxX || minY > maxY || minZ > maxZ)
+            throw new IllegalArgumentException("'min' (%d, %d, %d) cannot be larger than 'max' (%d, %d, %d)".formatted(minX, minY, minZ, maxX, maxY, maxZ));
+        //  Encoding the corners validates that the region lies within the octree
+        Int3.toMorton(minX, minY, minZ);
+        Int3.toMorton(maxX, maxY, maxZ);
+        fill(ROOT, Int3.PACKED_MIN, Int3.PACKED_MIN, Int3.PACKED_MIN, ROOT_SIZE >> 1, minX, minY, minZ, maxX, maxY, maxZ, value);
+    }
+
+    /**
+     * Set the value of every position in the region between the given corners, both inclusive.
+     *
+     * @param min The minimum corner.
+     * @param max The maximum corner.
+     * @param value The value.
+     * @throws IllegalArgumentException If a component of 'min' is larger than the corresponding component of 'max',
+     *                                  or a coordinate is outside of [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+     * @see #fill(int, int, int, int, int, int, int)
+     */
+    public void fill(@NotNull Int3 min, @NotNull Int3 max, int value) {
+        fill(min.x, min.y, min.z, max.x, max.y, max.z, value);
+    }
+
+    /**
+     * Call the given visitor for every cube of positions sharing a value other than the default value, in Morton
+     * order.
+     *
+     * @param visitor The visitor.
+     */
+    public void forEach(@NotNull Visitor visitor) {
+        forEach((x, y, z, size) -> INSIDE, visitor);
+    }
+
+    /**
+     * Call the given visitor for every cube of positions sharing a value other than the default value that is not
+     * classified as {@link #OUTSIDE} by the given culler, in Morton order. Cubes classified as {@link #INSIDE} are
+     * not classified again for their octants, so a culler such as a view frustum test is only asked about cubes
+     * crossing its boundary.
+     *
+     * @param culler The culler.
+     * @param visitor The visitor.
+     */
+    public void forEach(@NotNull Culler culler, @NotNull Visitor visitor) {
+        forEach(ROOT, Int3.PACKED_MIN, Int3.PACKED_MIN, Int3.PACKED_MIN, ROOT_SIZE >> 1, false, culler, visitor);
+    }
+
+    /**
+     * Call the given visitor for every cube of positions sharing a value other than the default value that
+     * intersects the region between the given corners, both inclusive, in Morton order. Visited cubes may extend
+     * beyond the region.
+     *
+     * @param minX The minimum x coordinate.
+     * @param minY The minimum y coordinate.
+     * @param minZ The minimum z coordinate.
+     * @param maxX The maximum x coordinate.
+     * @param maxY The maximum y coordinate.
+     * @param maxZ The maximum z coordinate.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If a minimum coordinate is larger than the corresponding maximum coordinate.
+     */
+    public void forEachInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, @NotNull Visitor visitor) {
+        if (minX > maxX || minY > maxY || minZ > maxZ)
+            throw new IllegalArgumentException("'min' (%d, %d, %d) cannot be larger than 'max' (%d, %d, %d)".formatted(minX, minY, minZ, maxX, maxY, maxZ));
+        forEach((x, y, z, size) -> classify(x, y, z, size, minX, minY, minZ, maxX, maxY, maxZ), visitor);
+    }
+
+    /**
+     * Call the given visitor for every cube of positions sharing a value other than the default value that
+     * intersects the region between the given corners, both inclusive, in Morton order.
+     *
+     * @param min The minimum corner.
+     * @param max The maximum corner.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If a component of 'min' is larger than the corresponding component of 'max'.
+     * @see #forEachInBox(int, int, int, int, int, int, Visitor)
+     */
+    public void forEachInBox(@NotNull Int3 min, @NotNull Int3 max, @NotNull Visitor visitor) {
+        forEachInBox(min.x, min.y, min.z, max.x, max.y, max.z, visitor);
+    }
+
+    /**
+     * Remove all values from this octree, releasing all nodes.
+     */
+    public void clear() {
+        Arrays.fill(values, 0, 8, defaultValue);
+        Arrays.fill(children, 0, 8, NONE);
+        blocks = 1;
+        freeBlock = NONE;
+        blockCount = 1;
+    }
+
+    /**
+     * Classify a cube against the region between the given corners, both inclusive.
+     */
+    private static int classify(int x, int y, int z, int size,
+                                int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        int last = size - 1;
+        if (x > maxX || y > maxY || z > maxZ || x + last < minX || y + last < minY || z + last < minZ)
+            return OUTSIDE;
+        if (x >= minX && y >= minY && z >= minZ && x + last <= maxX && y + last <= maxY && z + last <= maxZ)
+            return INSIDE;
+        return INTERSECTING;
+    }
+
+    /**
+     * Fill the octants of a block whose octants have the given size and whose minimum corner is at the given
+     * coordinates.
+     */
+    private void fill(int block, int originX, int originY, int originZ, int size,
+                      int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        for (int octant = 0; octant < 8; octant++) {
+            int x = originX + ((octant & 1) == 0 ? 0 : size);
+            int y = originY + ((octant & 2) == 0 ? 0 : size);
+            int z = originZ + ((octant & 4) == 0 ? 0 : size);
+            int state = classify(x, y, z, size, minX, minY, minZ, maxX, maxY, maxZ);
+            if (state == OUTSIDE)
+                continue;
+            int slot = (block << 3) | octant;
+            int child = children[slot];
+            if (state == INSIDE) {
+                if (child != NONE) {
+                    release(child);
+                    children[slot] = NONE;
+                }
+                values[slot] = value;
+                continue;
+            }
+            if (child == NONE) {
+                if (values[slot] == value)
+                    continue;
+                child = split(slot);
+            }
+            fill(child, x, y, z, size >> 1, minX, minY, minZ, maxX, maxY, maxZ, value);
+            tryCollapse(slot);
+        }
+    }
+
+    private void forEach(int block, int originX, int originY, int originZ, int size, boolean inside,
+                         Culler culler, Visitor visitor) {
+        for (int octant = 0; octant < 8; octant++) {
+            int x = originX + ((octant & 1) == 0 ? 0 : size);
+            int y = originY + ((octant & 2) == 0 ? 0 : size);
+            int z = originZ + ((octant & 4) == 0 ? 0 : size);
+            int state = inside ? INSIDE : culler.classify(x, y, z, size);
+            if (state == OUTSIDE)
+                continue;
+            int slot = (block << 3) | octant;
+            int child = children[slot];
+            if (child != NONE)
+                forEach(child, x, y, z, size >> 1, state == INSIDE, culler, visitor);
+            else if (values[slot] != defaultValue)
+                visitor.accept(x, y, z, size, values[slot]);
+        }
+    }
+
+    /**
+     * Replace the leaf in the given slot by a block whose octants all hold the value of the leaf.
+     */
+    private int split(int slot) {
+        int value = values[slot];
+        int block = allocate();
+        int first = block << 3;
+        Arrays.fill(values, first, first + 8, value);
+        Arrays.fill(children, first, first + 8, NONE);
+        children[slot] = block;
+        return block;
+    }
+
+    /**
+     * Collapse the blocks along the path of the last {@link #set(int, int, int, int)}, bottom-up, for as long as
+     * they are uniform.
+     */
+    private void collapse(int depth) {
+        for (int i = depth - 1; i >= 0; i--)
+            if (!tryCollapse(path[i]))
+                return;
+    }
+
+    /**
+     * Replace the block in the given slot by a leaf if all of its octants are leaves holding the same value.
+     */
+    private boolean tryCollapse(int slot) {
+        int block = children[slot];
+        int first = block << 3;
+        int value = values[first];
+        for (int i = first; i < first + 8; i++)
+            if (children[i] != NONE || values[i] != value)
+                return false;
+        children[slot] = NONE;
+        values[slot] = value;
+        free(block);
+        return true;
+    }
+
+    private int allocate() {
+        blockCount++;
+        if (freeBlock != NONE) {
+            int block = freeBlock;
+            freeBlock = children[block << 3];
+            return block;
+        }
+        if ((blocks << 3) == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+            children = Arrays.copyOf(children, children.length << 1);
+        }
+        return blocks++;
+    }
+
+    private void free(int block) {
+        children[block << 3] = freeBlock;
+        freeBlock = block;
+        blockCount--;
+    }
+
+    /**
+     * Free the given block and all blocks below it.
+     */
+    private void release(int block) {
+        int first = block << 3;
+        for (int i = first; i < first + 8; i++)
+            if (children[i] != NONE)
+                release(children[i]);
+        free(block);
+    }
+
+    /**
+     * Classifies cubes of positions against a region, such as a box or a view frustum.
+     */
+    @FunctionalInterface
+    public interface Culler {
+
+        /**
+         * Classify a cube of positions.
+         *
+         * @param x The minimum x coordinate of the cube.
+         * @param y The minimum y coordinate of the cube.
+         * @param z The minimum z coordinate of the cube.
+         * @param size The side length of the cube.
+         * @return {@link IntOctree#OUTSIDE}, {@link IntOctree#INTERSECTING} or {@link IntOctree#INSIDE}.
+         */
+        int classify(int x, int y, int z, int size);
+
+    }
+
+    /**
+     * Visitor for the cubes of positions of an {@link IntOctree}.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visit a cube of positions sharing the same value.
+         *
+         * @param x The minimum x coordinate of the cube.
+         * @param y The minimum y coordinate of the cube.
+         * @param z The minimum z coordinate of the cube.
+         * @param size The side length of the cube.
+         * @param value The value of all positions in the cube.
+         */
+        void accept(int x, int y, int z, int size, int value);
+
+    }
+
+}
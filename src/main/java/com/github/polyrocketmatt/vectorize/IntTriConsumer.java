@@ -0,0 +1,22 @@
+package com.github.polyrocketmatt.vectorize;
+
+/**
+ * Represents an operation that accepts three int arguments, such as the components of an {@link Int3},
+ * without boxing them.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface IntTriConsumer {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param x The first argument.
+     * @param y The second argument.
+     * @param z The third argument.
+     */
+    void accept(int x, int y, int z);
+
+}
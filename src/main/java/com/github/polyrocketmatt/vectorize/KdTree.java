@@ -0,0 +1,647 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a static KD-tree over a set of points, answering nearest neighbour, k-nearest neighbour and radius
+ * queries in logarithmic rather than linear time.
+ * <p>
+ * The tree is built once from the points and cannot be modified afterwards. It is stored implicitly in flat
+ * arrays: the points are reordered so that the median of every range is its splitting point, and ranges of at
+ * most {@value #LEAF_SIZE} points are scanned linearly. Queries report the indices the points had in the array
+ * the tree was built from and compare squared distances, so they do not allocate. A tree may be queried by
+ * multiple threads at the same time, as long as every thread uses its own {@link Neighbours}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class KdTree {
+
+    private static final int LEAF_SIZE = 8;
+    private static final int PARALLEL_THRESHOLD = 16384;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final int[] indices;
+    private final byte[] axes;
+
+    private KdTree(double[] xs, double[] ys, double[] zs, ForkJoinPool pool) {
+        int size = xs.length;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.indices = new int[size];
+        this.axes = new byte[size];
+        for (int i = 0; i < size; i++)
+            indices[i] = i;
+        if (pool == null || size <= PARALLEL_THRESHOLD)
+            build(0, size);
+        else
+            pool.invoke(new BuildTask(0, size));
+    }
+
+    /**
+     * Build a tree over the given points.
+     *
+     * @param points The points.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Double3Array points) {
+        return new KdTree(points.xs.clone(), points.ys.clone(), points.zs.clone(), null);
+    }
+
+    /**
+     * Build a tree over the given points, splitting the work over the given pool.
+     *
+     * @param points The points.
+     * @param pool The pool to build the tree in.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Double3Array points, @NotNull ForkJoinPool pool) {
+        return new KdTree(points.xs.clone(), points.ys.clone(), points.zs.clone(), pool);
+    }
+
+    /**
+     * Build a tree over the given points.
+     *
+     * @param points The points.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Float3Array points) {
+        return create(points, null);
+    }
+
+    /**
+     * Build a tree over the given points, splitting the work over the given pool.
+     *
+     * @param points The points.
+     * @param pool The pool to build the tree in.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Float3Array points, @NotNull ForkJoinPool pool) {
+        return create(points, pool);
+    }
+
+    /**
+     * Build a tree over the given points.
+     *
+     * @param points The points.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Double3[] points) {
+        return create(points, null);
+    }
+
+    /**
+     * Build a tree over the given points, splitting the work over the given pool.
+     *
+     * @param points The points.
+     * @param pool The pool to build the tree in.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Double3[] points, @NotNull ForkJoinPool pool) {
+        return create(points, pool);
+    }
+
+    /**
+     * Build a tree over the given points.
+     *
+     * @param points The points.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Float3[] points) {
+        return create(points, null);
+    }
+
+    /**
+     * Build a tree over the given points, splitting the work over the given pool.
+     *
+     * @param points The points.
+     * @param pool The pool to build the tree in.
+     * @return A new tree.
+     */
+    public static @NotNull KdTree build(@NotNull Float3[] points, @NotNull ForkJoinPool pool) {
+        return create(points, pool);
+    }
+
+    /**
+     * Get the number of points in this tree.
+     *
+     * @return The number of points.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * Find the point closest to the given position.
+     *
+     * @param x The x coordinate of the position.
+     * @param y The y coordinate of the position.
+     * @param z The z coordinate of the position.
+     * @return The index of the closest point, or -1 if this tree is empty.
+     */
+    public int nearest(double x, double y, double z) {
+        if (indices.length == 0)
+            return -1;
+        return indices[nearest(0, indices.length, x, y, z, 0, distanceSquared(0, x, y, z))];
+    }
+
+    /**
+     * Find the point closest to the given position.
+     *
+     * @param position The position.
+     * @return The index of the closest point, or -1 if this tree is empty.
+     */
+    public int nearest(@NotNull Double3 position) {
+        return nearest(position.x, position.y, position.z);
+    }
+
+    /**
+     * Find the point closest to the given position.
+     *
+     * @param position The position.
+     * @return The index of the closest point, or -1 if this tree is empty.
+     */
+    public int nearest(@NotNull Float3 position) {
+        return nearest(position.x, position.y, position.z);
+    }
+
+    /**
+     * Find the points closest to the given position, as many as the given neighbours can hold. The neighbours are
+     * cleared first and hold the found points ordered by increasing distance afterwards.
+     *
+     * @param x The x coordinate of the position.
+     * @param y The y coordinate of the position.
+     * @param z The z coordinate of the position.
+     * @param neighbours The neighbours to store the found points in.
+     * @return The number of points found, which is less than the capacity only if this tree holds fewer points.
+     */
+    public int nearest(double x, double y, double z, @NotNull Neighbours neighbours) {
+        neighbours.clear();
+        if (indices.length > 0)
+            nearest(0, indices.length, x, y, z, neighbours);
+        neighbours.sort();
+        return neighbours.size;
+    }
+
+    /**
+     * Find the points closest to the given position, as many as the given neighbours can hold. The neighbours are
+     * cleared first and hold the found points ordered by increasing distance afterwards.
+     *
+     * @param position The position.
+     * @param neighbours The neighbours to store the found points in.
+     * @return The number of points found, which is less than the capacity only if this tree holds fewer points.
+     */
+    public int nearest(@NotNull Double3 position, @NotNull Neighbours neighbours) {
+        return nearest(position.x, position.y, position.z, neighbours);
+    }
+
+    /**
+     * Find the points closest to the given position, as many as the given neighbours can hold. The neighbours are
+     * cleared first and hold the found points ordered by increasing distance afterwards.
+     *
+     * @param position The position.
+     * @param neighbours The neighbours to store the found points in.
+     * @return The number of points found, which is less than the capacity only if this tree holds fewer points.
+     */
+    public int nearest(@NotNull Float3 position, @NotNull Neighbours neighbours) {
+        return nearest(position.x, position.y, position.z, neighbours);
+    }
+
+    /**
+     * Call the given consumer with the index of every point within the given distance of the center, in no
+     * particular order. Points at exactly the given distance are included.
+     *
+     * @param x The x coordinate of the center.
+     * @param y The y coordinate of the center.
+     * @param z The z coordinate of the center.
+     * @param radius The distance.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @return The number of points found.
+     */
+    public int queryRadius(double x, double y, double z, double radius, @NotNull IntConsumer consumer) {
+        if (!(radius >= 0.0))
+            throw new IllegalArgumentException("'radius' cannot be negative, found %f".formatted(radius));
+        return queryRadius(0, indices.length, x, y, z, radius * radius, consumer);
+    }
+
+    /**
+     * Call the given consumer with the index of every point within the given distance of the center, in no
+     * particular order. Points at exactly the given distance are included.
+     *
+     * @param center The center.
+     * @param radius The distance.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @return The number of points found.
+     */
+    public int queryRadius(@NotNull Double3 center, double radius, @NotNull IntConsumer consumer) {
+        return queryRadius(center.x, center.y, center.z, radius, consumer);
+    }
+
+    /**
+     * Call the given consumer with the index of every point within the given distance of the center, in no
+     * particular order. Points at exactly the given distance are included.
+     *
+     * @param center The center.
+     * @param radius The distance.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @return The number of points found.
+     */
+    public int queryRadius(@NotNull Float3 center, double radius, @NotNull IntConsumer consumer) {
+        return queryRadius(center.x, center.y, center.z, radius, consumer);
+    }
+
+    private static KdTree create(Float3Array points, ForkJoinPool pool) {
+        int size = points.size();
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        double[] zs = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = points.xs[i];
+            ys[i] = points.ys[i];
+            zs[i] = points.zs[i];
+        }
+        return new KdTree(xs, ys, zs, pool);
+    }
+
+    private static KdTree create(Double3[] points, ForkJoinPool pool) {
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        double[] zs = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+            zs[i] = points[i].z;
+        }
+        return new KdTree(xs, ys, zs, pool);
+    }
+
+    private static KdTree create(Float3[] points, ForkJoinPool pool) {
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        double[] zs = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+            zs[i] = points[i].z;
+        }
+        return new KdTree(xs, ys, zs, pool);
+    }
+
+    private double distanceSquared(int position, double x, double y, double z) {
+        double dx = xs[position] - x;
+        double dy = ys[position] - y;
+        double dz = zs[position] - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Get the signed distance from the splitting plane of the given node to the given position.
+     */
+    private double offset(int node, double x, double y, double z) {
+        return switch (axes[node]) {
+            case 0 -> x - xs[node];
+            case 1 -> y - ys[node];
+            default -> z - zs[node];
+        };
+    }
+
+    /**
+     * Find the position of the closest point in the given range, starting from the best position found so far.
+     */
+    private int nearest(int from, int to, double x, double y, double z, int best, double bestDistance) {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                double distance = distanceSquared(i, x, y, z);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            return best;
+        }
+        int node = (from + to) >>> 1;
+        double distance = distanceSquared(node, x, y, z);
+        if (distance < bestDistance) {
+            bestDistance = distance;
+            best = node;
+        }
+        double offset = offset(node, x, y, z);
+        int found = offset < 0.0
+                ? nearest(from, node, x, y, z, best, bestDistance)
+                : nearest(node + 1, to, x, y, z, best, bestDistance);
+        if (found != best) {
+            best = found;
+            bestDistance = distanceSquared(found, x, y, z);
+        }
+        if (offset * offset < bestDistance)
+            best = offset < 0.0
+                    ? nearest(node + 1, to, x, y, z, best, bestDistance)
+                    : nearest(from, node, x, y, z, best, bestDistance);
+        return best;
+    }
+
+    private void nearest(int from, int to, double x, double y, double z, Neighbours neighbours) {
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++)
+                neighbours.offer(indices[i], distanceSquared(i, x, y, z));
+            return;
+        }
+        int node = (from + to) >>> 1;
+        neighbours.offer(indices[node], distanceSquared(node, x, y, z));
+        double offset = offset(node, x, y, z);
+        if (offset < 0.0) {
+            nearest(from, node, x, y, z, neighbours);
+            if (offset * offset < neighbours.worst())
+                nearest(node + 1, to, x, y, z, neighbours);
+        } else {
+            nearest(node + 1, to, x, y, z, neighbours);
+            if (offset * offset < neighbours.worst())
+                nearest(from, node, x, y, z, neighbours);
+        }
+    }
+
+    private int queryRadius(int from, int to, double x, double y, double z, double radiusSquared, IntConsumer consumer) {
+        int count = 0;
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                if (distanceSquared(i, x, y, z) <= radiusSquared) {
+                    consumer.accept(indices[i]);
+                    count++;
+                }
+            }
+            return count;
+        }
+        int node = (from + to) >>> 1;
+        if (distanceSquared(node, x, y, z) <= radiusSquared) {
+            consumer.accept(indices[node]);
+            count++;
+        }
+        double offset = offset(node, x, y, z);
+        boolean both = offset * offset <= radiusSquared;
+        if (offset < 0.0 || both)
+            count += queryRadius(from, node, x, y, z, radiusSquared, consumer);
+        if (offset >= 0.0 || both)
+            count += queryRadius(node + 1, to, x, y, z, radiusSquared, consumer);
+        return count;
+    }
+
+    /**
+     * Split the given range at its median along the axis of largest extent and build both halves.
+     */
+    private void build(int from, int to) {
+        while (to - from > LEAF_SIZE) {
+            int node = split(from, to);
+            build(from, node);
+            from = node + 1;
+        }
+    }
+
+    /**
+     * Move the median of the given range along the axis of largest extent to the middle of the range, with smaller
+     * points before and larger points after it.
+     */
+    private int split(int from, int to) {
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        double minZ = Double.POSITIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+            minZ = Math.min(minZ, zs[i]);
+            maxZ = Math.max(maxZ, zs[i]);
+        }
+        double extentX = maxX - minX;
+        double extentY = maxY - minY;
+        double extentZ = maxZ - minZ;
+        byte axis = 0;
+        double[] values = xs;
+        if (extentY > extentX && extentY >= extentZ) {
+            axis = 1;
+            values = ys;
+        } else if (extentZ > extentX && extentZ > extentY) {
+            axis = 2;
+            values = zs;
+        }
+        int node = (from + to) >>> 1;
+        select(values, from, to - 1, node);
+        axes[node] = axis;
+        return node;
+    }
+
+    /**
+     * Partially sort the given range so that the value at the given position is the one it would have if the range
+     * were sorted, using quickselect with a median of three pivot.
+     */
+    private void select(double[] values, int left, int right, int target) {
+        while (right > left) {
+            int middle = (left + right) >>> 1;
+            if (values[middle] < values[left])
+                swap(left, middle);
+            if (values[right] < values[left])
+                swap(left, right);
+            if (values[right] < values[middle])
+                swap(middle, right);
+            double pivot = values[middle];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot)
+                    i++;
+                while (values[j] > pivot)
+                    j--;
+                if (i <= j)
+                    swap(i++, j--);
+            }
+            if (target <= j)
+                right = j;
+            else if (target >= i)
+                left = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(int i, int j) {
+        double x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+        double y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+        double z = zs[i];
+        zs[i] = zs[j];
+        zs[j] = z;
+        int index = indices[i];
+        indices[i] = indices[j];
+        indices[j] = index;
+    }
+
+    /**
+     * Builds both halves of a range in parallel until the ranges become small enough to build sequentially.
+     */
+    private final class BuildTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private BuildTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                build(from, to);
+                return;
+            }
+            int node = split(from, to);
+            invokeAll(new BuildTask(from, node), new BuildTask(node + 1, to));
+        }
+
+    }
+
+    /**
+     * Represents a reusable, bounded set of the closest points found by a k-nearest neighbour query.
+     * <p>
+     * While a query runs, the points are kept in a max-heap on their squared distance, so that the farthest point
+     * can be replaced in logarithmic time. Once the query completes, the points are ordered by increasing distance.
+     */
+    public static class Neighbours {
+
+        private final int[] indices;
+        private final double[] distances;
+        private int size;
+
+        /**
+         * Creates an empty set of neighbours.
+         *
+         * @param capacity The maximum number of neighbours, which is the k of the query.
+         * @throws IllegalArgumentException If the capacity is not positive.
+         */
+        public Neighbours(int capacity) {
+            if (capacity <= 0)
+                throw new IllegalArgumentException("'capacity' must be positive, found %d".formatted(capacity));
+            this.indices = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        /**
+         * Get the maximum number of neighbours.
+         *
+         * @return The capacity.
+         */
+        public int capacity() {
+            return indices.length;
+        }
+
+        /**
+         * Get the number of neighbours found.
+         *
+         * @return The number of neighbours.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of a neighbour, where neighbour 0 is the closest.
+         *
+         * @param neighbour The rank of the neighbour.
+         * @throws IndexOutOfBoundsException If the rank is not smaller than {@link #size()}.
+         * @return The index of the point in the array the tree was built from.
+         */
+        public int index(int neighbour) {
+            return indices[Objects.checkIndex(neighbour, size)];
+        }
+
+        /**
+         * Get the squared distance of a neighbour to the queried position, where neighbour 0 is the closest.
+         *
+         * @param neighbour The rank of the neighbour.
+         * @throws IndexOutOfBoundsException If the rank is not smaller than {@link #size()}.
+         * @return The squared distance.
+         */
+        public double distanceSquared(int neighbour) {
+            return distances[Objects.checkIndex(neighbour, size)];
+        }
+
+        private void clear() {
+            size = 0;
+        }
+
+        /**
+         * Get the squared distance a point must beat to be added.
+         */
+        private double worst() {
+            return size < indices.length ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        private void offer(int index, double distance) {
+            if (size < indices.length) {
+                int child = size++;
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (distances[parent] >= distance)
+                        break;
+                    indices[child] = indices[parent];
+                    distances[child] = distances[parent];
+                    child = parent;
+                }
+                indices[child] = index;
+                distances[child] = distance;
+            } else if (distance < distances[0]) {
+                siftDown(index, distance, size);
+            }
+        }
+
+        /**
+         * Place the given point at the root and move it down until the heap of the given size is valid again.
+         */
+        private void siftDown(int index, double distance, int size) {
+            int parent = 0;
+            int child;
+            while ((child = 2 * parent + 1) < size) {
+                if (child + 1 < size && distances[child + 1] > distances[child])
+                    child++;
+                if (distances[child] <= distance)
+                    break;
+                indices[parent] = indices[child];
+                distances[parent] = distances[child];
+                parent = child;
+            }
+            indices[parent] = index;
+            distances[parent] = distance;
+        }
+
+        /**
+         * Order the heap by increasing distance by repeatedly moving the farthest point to the end.
+         */
+        private void sort() {
+            for (int end = size - 1; end > 0; end--) {
+                int index = indices[end];
+                double distance = distances[end];
+                indices[end] = indices[0];
+                distances[end] = distances[0];
+                siftDown(index, distance, end);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,428 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Represents an array of 3-dimensional vectors of floats stored in a memory-mapped file, for data sets that do not
+ * fit on the heap.
+ * <p>
+ * The file holds the components of every vector in the order x, y, z as little endian floats, without a header,
+ * which is the encoding {@link VectorCodec} uses for a little endian buffer. A single mapping cannot exceed 2 GB,
+ * so the file is mapped in segments of 2<sup>27</sup> vectors, and arrays may hold more than
+ * {@link Integer#MAX_VALUE} vectors. The operating system pages the file in and out as it is accessed, so bulk
+ * operations that run over a range in order are much faster than random access.
+ * <p>
+ * An array is not thread-safe. Closing it closes the file, but the mappings stay valid until they are garbage
+ * collected, so an array must not be used after it has been closed.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MappedFloat3Array implements Closeable {
+
+    public static final int BYTES = 3 * Float.BYTES;
+
+    private static final int SEGMENT_SHIFT = 27;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final FileChannel channel;
+    private final ByteBuffer[] segments;
+    private final long size;
+    private final boolean readOnly;
+
+    private MappedFloat3Array(FileChannel channel, long size, boolean readOnly) throws IOException {
+        this.channel = channel;
+        this.size = size;
+        this.readOnly = readOnly;
+        this.segments = new ByteBuffer[(int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT)];
+        FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+        for (int i = 0; i < segments.length; i++) {
+            long first = (long) i << SEGMENT_SHIFT;
+            long count = Math.min(SEGMENT_SIZE, size - first);
+            segments[i] = channel.map(mode, first * BYTES, count * BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Create a file holding the given number of zero vectors, replacing the file if it exists, and map it for
+     * reading and writing.
+     *
+     * @param path The path of the file.
+     * @param size The number of vectors.
+     * @throws IllegalArgumentException If the size is negative.
+     * @throws IOException If the file cannot be created or mapped.
+     * @return A new array.
+     */
+    public static @NotNull MappedFloat3Array create(@NotNull Path path, long size) throws IOException {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return map(channel, size, false);
+    }
+
+    /**
+     * Map an existing file for reading and writing.
+     *
+     * @param path The path of the file.
+     * @throws IllegalArgumentException If the size of the file is not a multiple of {@value #BYTES} bytes.
+     * @throws IOException If the file cannot be opened or mapped.
+     * @return A new array.
+     */
+    public static @NotNull MappedFloat3Array open(@NotNull Path path) throws IOException {
+        return open(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE), false);
+    }
+
+    /**
+     * Map an existing file for reading only. Changing the array throws a {@link java.nio.ReadOnlyBufferException}.
+     *
+     * @param path The path of the file.
+     * @throws IllegalArgumentException If the size of the file is not a multiple of {@value #BYTES} bytes.
+     * @throws IOException If the file cannot be opened or mapped.
+     * @return A new array.
+     */
+    public static @NotNull MappedFloat3Array openReadOnly(@NotNull Path path) throws IOException {
+        return open(FileChannel.open(path, StandardOpenOption.READ), true);
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Check if this array was mapped for reading only.
+     *
+     * @return True if this array cannot be changed.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Get the x component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @return The x component.
+     */
+    public float getX(long index) {
+        return segment(index).getFloat(offset(index));
+    }
+
+    /**
+     * Get the y component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @return The y component.
+     */
+    public float getY(long index) {
+        return segment(index).getFloat(offset(index) + 4);
+    }
+
+    /**
+     * Get the z component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @return The z component.
+     */
+    public float getZ(long index) {
+        return segment(index).getFloat(offset(index) + 8);
+    }
+
+    /**
+     * Get the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @return A new Float3 with the components of the vector.
+     */
+    public @NotNull Float3 get(long index) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        return new Float3(segment.getFloat(offset), segment.getFloat(offset + 4), segment.getFloat(offset + 8));
+    }
+
+    /**
+     * Get the vector at the given index without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to store the components in.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 get(long index, @NotNull MutableFloat3 dst) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        return dst.set(segment.getFloat(offset), segment.getFloat(offset + 4), segment.getFloat(offset + 8));
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    public void set(long index, float x, float y, float z) {
+        ByteBuffer segment = segment(index);
+        int offset = offset(index);
+        segment.putFloat(offset, x);
+        segment.putFloat(offset + 4, y);
+        segment.putFloat(offset + 8, z);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     */
+    public void set(long index, @NotNull Float3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Copy vectors from this array into a range of a heap array.
+     *
+     * @param index The index of the first vector to copy from this array.
+     * @param dst The array to copy the vectors into.
+     * @param from The index of the first vector in the heap array, inclusive.
+     * @param to The index of the last vector in the heap array, exclusive.
+     * @throws IndexOutOfBoundsException If either range is out of bounds.
+     */
+    public void read(long index, @NotNull Float3Array dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.size());
+        Objects.checkFromToIndex(index, index + (to - from), size);
+        float[] xs = dst.xs;
+        float[] ys = dst.ys;
+        float[] zs = dst.zs;
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+            int start = (int) (index & SEGMENT_MASK);
+            int end = (int) Math.min(SEGMENT_SIZE, start + (long) (to - from));
+            for (int i = start, offset = start * BYTES; i < end; i++, offset += BYTES, from++) {
+                xs[from] = segment.getFloat(offset);
+                ys[from] = segment.getFloat(offset + 4);
+                zs[from] = segment.getFloat(offset + 8);
+            }
+            index += end - start;
+        }
+    }
+
+    /**
+     * Copy a range of a heap array into this array.
+     *
+     * @param index The index of the first vector to copy to in this array.
+     * @param src The array to copy the vectors from.
+     * @param from The index of the first vector in the heap array, inclusive.
+     * @param to The index of the last vector in the heap array, exclusive.
+     * @throws IndexOutOfBoundsException If either range is out of bounds.
+     */
+    public void write(long index, @NotNull Float3Array src, int from, int to) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromToIndex(index, index + (to - from), size);
+        float[] xs = src.xs;
+        float[] ys = src.ys;
+        float[] zs = src.zs;
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+            int start = (int) (index & SEGMENT_MASK);
+            int end = (int) Math.min(SEGMENT_SIZE, start + (long) (to - from));
+            for (int i = start, offset = start * BYTES; i < end; i++, offset += BYTES, from++) {
+                segment.putFloat(offset, xs[from]);
+                segment.putFloat(offset + 4, ys[from]);
+                segment.putFloat(offset + 8, zs[from]);
+            }
+            index += end - start;
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void add(@NotNull Float3 vector, long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (from >>> SEGMENT_SHIFT)];
+            int start = (int) (from & SEGMENT_MASK);
+            int end = (int) Math.min(SEGMENT_SIZE, start + (to - from));
+            for (int offset = start * BYTES; offset < end * BYTES; offset += BYTES) {
+                segment.putFloat(offset, segment.getFloat(offset) + x);
+                segment.putFloat(offset + 4, segment.getFloat(offset + 4) + y);
+                segment.putFloat(offset + 8, segment.getFloat(offset + 8) + z);
+            }
+            from += end - start;
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void scale(float scalar, long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (from >>> SEGMENT_SHIFT)];
+            int start = (int) (from & SEGMENT_MASK);
+            int end = (int) Math.min(SEGMENT_SIZE, start + (to - from));
+            for (int offset = start * BYTES; offset < end * BYTES; offset += 4)
+                segment.putFloat(offset, segment.getFloat(offset) * scalar);
+            from += end - start;
+        }
+    }
+
+    /**
+     * Calculate the smallest box containing a range of the vectors of this array.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalArgumentException If the range is empty or a vector has a NaN component.
+     * @return A new box containing the vectors.
+     */
+    public @NotNull Aabbf bounds(long from, long to) {
+        Objects.checkFromToIndex(from, to, size);
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (from >>> SEGMENT_SHIFT)];
+            int start = (int) (from & SEGMENT_MASK);
+            int end = (int) Math.min(SEGMENT_SIZE, start + (to - from));
+            for (int offset = start * BYTES; offset < end * BYTES; offset += BYTES) {
+                float x = segment.getFloat(offset);
+                float y = segment.getFloat(offset + 4);
+                float z = segment.getFloat(offset + 8);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+            from += end - start;
+        }
+        return new Aabbf(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Call the given visitor with every vector in a range, in order. This streams through the file, so it is the
+     * fastest way to read all vectors.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @param visitor The visitor.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     */
+    public void forEach(long from, long to, @NotNull Visitor visitor) {
+        Objects.checkFromToIndex(from, to, size);
+        while (from < to) {
+            ByteBuffer segment = segments[(int) (from >>> SEGMENT_SHIFT)];
+            int start = (int) (from & SEGMENT_MASK);
+            int end = (int) Math.min(SEGMENT_SIZE, start + (to - from));
+            for (int offset = start * BYTES; offset < end * BYTES; offset += BYTES)
+                visitor.accept(from++, segment.getFloat(offset), segment.getFloat(offset + 4), segment.getFloat(offset + 8));
+        }
+    }
+
+    /**
+     * Write changes to this array to the file. The operating system writes changes eventually, but only this
+     * guarantees that they survive a crash.
+     */
+    public void force() {
+        if (readOnly)
+            return;
+        for (ByteBuffer segment : segments)
+            ((MappedByteBuffer) segment).force();
+    }
+
+    /**
+     * Close the file. Changes that were not forced are still written by the operating system.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static MappedFloat3Array open(FileChannel channel, boolean readOnly) throws IOException {
+        long bytes = channel.size();
+        if (bytes % BYTES != 0) {
+            channel.close();
+            throw new IllegalArgumentException("'path' must hold a whole number of vectors, found %d bytes".formatted(bytes));
+        }
+        return map(channel, bytes / BYTES, readOnly);
+    }
+
+    /**
+     * Map the given channel, closing it if mapping fails.
+     */
+    private static MappedFloat3Array map(FileChannel channel, long size, boolean readOnly) throws IOException {
+        try {
+            return new MappedFloat3Array(channel, size, readOnly);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    private ByteBuffer segment(long index) {
+        return segments[(int) (Objects.checkIndex(index, size) >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset(long index) {
+        return (int) (index & SEGMENT_MASK) * BYTES;
+    }
+
+    /**
+     * Visitor called for every vector in a range.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visit a vector.
+         *
+         * @param index The index of the vector.
+         * @param x The x component.
+         * @param y The y component.
+         * @param z The z component.
+         */
+        void accept(long index, float x, float y, float z);
+
+    }
+
+}
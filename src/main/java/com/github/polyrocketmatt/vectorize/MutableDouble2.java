@@ -0,0 +1,441 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 2-dimensional vector of doubles.
+ * <p>
+ * All {@code ...Local} operations modify this vector in place and return it, so that
+ * operations can be chained without allocating intermediate vectors. Use {@link #toImmutable()}
+ * to obtain an immutable {@link Double2} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableDouble2 {
+
+    public double x;
+    public double y;
+
+    public MutableDouble2() {
+        this.x = 0.0;
+        this.y = 0.0;
+    }
+
+    public MutableDouble2(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableDouble2(@NotNull Double2 vector) {
+        this.x = vector.x;
+        this.y = vector.y;
+    }
+
+    public MutableDouble2(double scalar) {
+        this.x = scalar;
+        this.y = scalar;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The new x component.
+     * @param y The new y component.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 set(@NotNull Double2 vector) {
+        return set(vector.x, vector.y);
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 set(@NotNull MutableDouble2 vector) {
+        return set(vector.x, vector.y);
+    }
+
+    /**
+     * Sets the components of this vector to the elements of a primitive array.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 readFrom(@NotNull double[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 2, src.length);
+        return set(src[offset], src[offset + 1]);
+    }
+
+    /**
+     * Writes the components of this vector to a primitive array.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     */
+    public void writeTo(@NotNull double[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 addLocal(double x, double y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 addLocal(@NotNull Double2 other) {
+        return addLocal(other.x, other.y);
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 addLocal(@NotNull MutableDouble2 other) {
+        return addLocal(other.x, other.y);
+    }
+
+    /**
+     * Subtracts the given components from this vector in place.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 subtractLocal(double x, double y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 subtractLocal(@NotNull Double2 other) {
+        return subtractLocal(other.x, other.y);
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 subtractLocal(@NotNull MutableDouble2 other) {
+        return subtractLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies this vector by the given components in place.
+     *
+     * @param x The x component to multiply with.
+     * @param y The y component to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 multiplyLocal(double x, double y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 multiplyLocal(@NotNull Double2 other) {
+        return multiplyLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 multiplyLocal(@NotNull MutableDouble2 other) {
+        return multiplyLocal(other.x, other.y);
+    }
+
+    /**
+     * Divides this vector by the given components in place.
+     *
+     * @param x The x component to divide by.
+     * @param y The y component to divide by.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 divideLocal(double x, double y) {
+        if (x == 0.0 || y == 0.0)
+            throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f)".formatted(x, y));
+        this.x /= x;
+        this.y /= y;
+        return this;
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 divideLocal(@NotNull Double2 other) {
+        return divideLocal(other.x, other.y);
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 divideLocal(@NotNull MutableDouble2 other) {
+        return divideLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies all components of this vector by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 scaleLocal(double scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 addScaledLocal(@NotNull Double2 other, double scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 addScaledLocal(@NotNull MutableDouble2 other, double scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        return this;
+    }
+
+    /**
+     * Negates this vector in place.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 negateLocal() {
+        this.x = -this.x;
+        this.y = -this.y;
+        return this;
+    }
+
+    /**
+     * Replaces the components of this vector with their absolute values.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 absLocal() {
+        this.x = Math.abs(this.x);
+        this.y = Math.abs(this.y);
+        return this;
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @throws IllegalArgumentException If this vector has a zero length.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 normalizeLocal() {
+        double length = this.lengthd();
+        if (length == 0.0)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        this.x /= length;
+        this.y /= length;
+        return this;
+    }
+
+    /**
+     * Rotates this vector in place by the given angle in radians.
+     *
+     * @param angle The angle in radians.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble2 rotateLocal(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return set(this.x * cos - this.y * sin, this.x * sin + this.y * cos);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull Double2 other) {
+        return x * other.x + y * other.y;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull MutableDouble2 other) {
+        return x * other.x + y * other.y;
+    }
+
+    /**
+     * Calculate the length of this vector.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Calculate the squared length of this vector.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
+        return x * x + y * y;
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Double2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Double2 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull MutableDouble2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull MutableDouble2 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Double2}.
+     *
+     * @return A new Double2 with the same components as this vector.
+     */
+    public @NotNull Double2 toImmutable() {
+        return new Double2(this.x, this.y);
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return A new MutableDouble2 with the same components as this vector.
+     */
+    public @NotNull MutableDouble2 copy() {
+        return new MutableDouble2(this.x, this.y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableDouble2 mutableDouble2)) return false;
+        return Double.compare(mutableDouble2.x, x) == 0 && Double.compare(mutableDouble2.y, y) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y));
+    }
+
+    @Override
+    public String toString() {
+        return "MutableDouble2(%f, %f)".formatted(this.x, this.y);
+    }
+}
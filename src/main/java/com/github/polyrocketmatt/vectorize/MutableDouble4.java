@@ -0,0 +1,477 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 4-dimensional vector of doubles.
+ * <p>
+ * All {@code ...Local} operations modify this vector in place and return it, so that
+ * operations can be chained without allocating intermediate vectors. Use {@link #toImmutable()}
+ * to obtain an immutable {@link Double4} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableDouble4 {
+
+    public double x;
+    public double y;
+    public double z;
+    public double w;
+
+    public MutableDouble4() {
+        this.x = 0.0;
+        this.y = 0.0;
+        this.z = 0.0;
+        this.w = 0.0;
+    }
+
+    public MutableDouble4(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    public MutableDouble4(@NotNull Double4 vector) {
+        this.x = vector.x;
+        this.y = vector.y;
+        this.z = vector.z;
+        this.w = vector.w;
+    }
+
+    public MutableDouble4(double scalar) {
+        this.x = scalar;
+        this.y = scalar;
+        this.z = scalar;
+        this.w = scalar;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The new x component.
+     * @param y The new y component.
+     * @param z The new z component.
+     * @param w The new w component.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 set(@NotNull Double4 vector) {
+        return set(vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 set(@NotNull MutableDouble4 vector) {
+        return set(vector.x, vector.y, vector.z, vector.w);
+    }
+
+    /**
+     * Sets the components of this vector to the elements of a primitive array.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 readFrom(@NotNull double[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 4, src.length);
+        return set(src[offset], src[offset + 1], src[offset + 2], src[offset + 3]);
+    }
+
+    /**
+     * Writes the components of this vector to a primitive array.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 4 elements from the offset.
+     */
+    public void writeTo(@NotNull double[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 4, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+        dst[offset + 3] = this.w;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @param w The w component to add.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 addLocal(double x, double y, double z, double w) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        this.w += w;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 addLocal(@NotNull Double4 other) {
+        return addLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 addLocal(@NotNull MutableDouble4 other) {
+        return addLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Subtracts the given components from this vector in place.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @param w The w component to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 subtractLocal(double x, double y, double z, double w) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        this.w -= w;
+        return this;
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 subtractLocal(@NotNull Double4 other) {
+        return subtractLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 subtractLocal(@NotNull MutableDouble4 other) {
+        return subtractLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Multiplies this vector by the given components in place.
+     *
+     * @param x The x component to multiply with.
+     * @param y The y component to multiply with.
+     * @param z The z component to multiply with.
+     * @param w The w component to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 multiplyLocal(double x, double y, double z, double w) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        this.w *= w;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 multiplyLocal(@NotNull Double4 other) {
+        return multiplyLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 multiplyLocal(@NotNull MutableDouble4 other) {
+        return multiplyLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Divides this vector by the given components in place.
+     *
+     * @param x The x component to divide by.
+     * @param y The y component to divide by.
+     * @param z The z component to divide by.
+     * @param w The w component to divide by.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 divideLocal(double x, double y, double z, double w) {
+        if (x == 0.0 || y == 0.0 || z == 0.0 || w == 0.0)
+            throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f, z: %f, w: %f)".formatted(x, y, z, w));
+        this.x /= x;
+        this.y /= y;
+        this.z /= z;
+        this.w /= w;
+        return this;
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 divideLocal(@NotNull Double4 other) {
+        return divideLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 divideLocal(@NotNull MutableDouble4 other) {
+        return divideLocal(other.x, other.y, other.z, other.w);
+    }
+
+    /**
+     * Multiplies all components of this vector by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 scaleLocal(double scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        this.z *= scalar;
+        this.w *= scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 addScaledLocal(@NotNull Double4 other, double scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        this.z += other.z * scalar;
+        this.w += other.w * scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 addScaledLocal(@NotNull MutableDouble4 other, double scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        this.z += other.z * scalar;
+        this.w += other.w * scalar;
+        return this;
+    }
+
+    /**
+     * Negates this vector in place.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 negateLocal() {
+        this.x = -this.x;
+        this.y = -this.y;
+        this.z = -this.z;
+        this.w = -this.w;
+        return this;
+    }
+
+    /**
+     * Replaces the components of this vector with their absolute values.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 absLocal() {
+        this.x = Math.abs(this.x);
+        this.y = Math.abs(this.y);
+        this.z = Math.abs(this.z);
+        this.w = Math.abs(this.w);
+        return this;
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @throws IllegalArgumentException If this vector has a zero length.
+     * @return This vector.
+     */
+    public @NotNull MutableDouble4 normalizeLocal() {
+        double length = this.lengthd();
+        if (length == 0.0)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        this.x /= length;
+        this.y /= length;
+        this.z /= length;
+        this.w /= length;
+        return this;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull Double4 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public double dotd(@NotNull MutableDouble4 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Calculate the length of this vector.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    /**
+     * Calculate the squared length of this vector.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Double4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Double4 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull MutableDouble4 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        double dw = this.w - other.w;
+        return dx * dx + dy * dy + dz * dz + dw * dw;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull MutableDouble4 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Double4}.
+     *
+     * @return A new Double4 with the same components as this vector.
+     */
+    public @NotNull Double4 toImmutable() {
+        return new Double4(this.x, this.y, this.z, this.w);
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return A new MutableDouble4 with the same components as this vector.
+     */
+    public @NotNull MutableDouble4 copy() {
+        return new MutableDouble4(this.x, this.y, this.z, this.w);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableDouble4 mutableDouble4)) return false;
+        return Double.compare(mutableDouble4.x, x) == 0 && Double.compare(mutableDouble4.y, y) == 0 && Double.compare(mutableDouble4.z, z) == 0 && Double.compare(mutableDouble4.w, w) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z), Hashing.bits(w));
+    }
+
+    @Override
+    public String toString() {
+        return "MutableDouble4(%f, %f, %f, %f)".formatted(this.x, this.y, this.z, this.w);
+    }
+}
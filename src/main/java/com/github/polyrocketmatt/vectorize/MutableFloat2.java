@@ -0,0 +1,503 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 2-dimensional vector of floats.
+ * <p>
+ * All {@code ...Local} operations modify this vector in place and return it, so that
+ * operations can be chained without allocating intermediate vectors. Use {@link #toImmutable()}
+ * to obtain an immutable {@link Float2} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableFloat2 {
+
+    public float x;
+    public float y;
+
+    public MutableFloat2() {
+        this.x = 0.0f;
+        this.y = 0.0f;
+    }
+
+    public MutableFloat2(float x, float y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableFloat2(@NotNull Float2 vector) {
+        this.x = vector.x;
+        this.y = vector.y;
+    }
+
+    public MutableFloat2(float scalar) {
+        this.x = scalar;
+        this.y = scalar;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The new x component.
+     * @param y The new y component.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 set(@NotNull Float2 vector) {
+        return set(vector.x, vector.y);
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 set(@NotNull MutableFloat2 vector) {
+        return set(vector.x, vector.y);
+    }
+
+    /**
+     * Sets the components of this vector to the elements of a primitive array.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 readFrom(@NotNull float[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 2, src.length);
+        return set(src[offset], src[offset + 1]);
+    }
+
+    /**
+     * Writes the components of this vector to a primitive array.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     */
+    public void writeTo(@NotNull float[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 addLocal(float x, float y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 addLocal(@NotNull Float2 other) {
+        return addLocal(other.x, other.y);
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 addLocal(@NotNull MutableFloat2 other) {
+        return addLocal(other.x, other.y);
+    }
+
+    /**
+     * Subtracts the given components from this vector in place.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 subtractLocal(float x, float y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 subtractLocal(@NotNull Float2 other) {
+        return subtractLocal(other.x, other.y);
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 subtractLocal(@NotNull MutableFloat2 other) {
+        return subtractLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies this vector by the given components in place.
+     *
+     * @param x The x component to multiply with.
+     * @param y The y component to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 multiplyLocal(float x, float y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 multiplyLocal(@NotNull Float2 other) {
+        return multiplyLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 multiplyLocal(@NotNull MutableFloat2 other) {
+        return multiplyLocal(other.x, other.y);
+    }
+
+    /**
+     * Divides this vector by the given components in place.
+     *
+     * @param x The x component to divide by.
+     * @param y The y component to divide by.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 divideLocal(float x, float y) {
+        if (x == 0.0f || y == 0.0f)
+            throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f)".formatted(x, y));
+        this.x /= x;
+        this.y /= y;
+        return this;
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 divideLocal(@NotNull Float2 other) {
+        return divideLocal(other.x, other.y);
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 divideLocal(@NotNull MutableFloat2 other) {
+        return divideLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies all components of this vector by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 scaleLocal(float scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 addScaledLocal(@NotNull Float2 other, float scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 addScaledLocal(@NotNull MutableFloat2 other, float scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        return this;
+    }
+
+    /**
+     * Negates this vector in place.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 negateLocal() {
+        this.x = -this.x;
+        this.y = -this.y;
+        return this;
+    }
+
+    /**
+     * Replaces the components of this vector with their absolute values.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 absLocal() {
+        this.x = Math.abs(this.x);
+        this.y = Math.abs(this.y);
+        return this;
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @throws IllegalArgumentException If this vector has a zero length.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 normalizeLocal() {
+        double length = this.lengthd();
+        if (length == 0.0)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        this.x /= length;
+        this.y /= length;
+        return this;
+    }
+
+    /**
+     * Rotates this vector in place by the given angle in radians.
+     *
+     * @param angle The angle in radians.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat2 rotateLocal(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return set((float) (this.x * cos - this.y * sin), (float) (this.x * sin + this.y * cos));
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull Float2 other) {
+        return x * other.x + y * other.y;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull MutableFloat2 other) {
+        return x * other.x + y * other.y;
+    }
+
+    /**
+     * Calculate the length of this vector.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
+        return Math.sqrt(lengthSquaredd());
+    }
+
+    /**
+     * Calculate the length of this vector in single precision.
+     *
+     * @return The length of this vector.
+     */
+    public float lengthf() {
+        return (float) Math.sqrt(lengthSquaredf());
+    }
+
+    /**
+     * Calculate the squared length of this vector.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
+        return (double) x * x + y * y;
+    }
+
+    /**
+     * Calculate the squared length of this vector in single precision.
+     *
+     * @return The squared length of this vector.
+     */
+    public float lengthSquaredf() {
+        return x * x + y * y;
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Float2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Float2 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull Float2 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull Float2 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull MutableFloat2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull MutableFloat2 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull MutableFloat2 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull MutableFloat2 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Float2}.
+     *
+     * @return A new Float2 with the same components as this vector.
+     */
+    public @NotNull Float2 toImmutable() {
+        return new Float2(this.x, this.y);
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return A new MutableFloat2 with the same components as this vector.
+     */
+    public @NotNull MutableFloat2 copy() {
+        return new MutableFloat2(this.x, this.y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableFloat2 mutableFloat2)) return false;
+        return Float.compare(mutableFloat2.x, x) == 0 && Float.compare(mutableFloat2.y, y) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y));
+    }
+
+    @Override
+    public String toString() {
+        return "MutableFloat2(%f, %f)".formatted(this.x, this.y);
+    }
+}
@@ -0,0 +1,581 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 3-dimensional vector of floats.
+ * <p>
+ * All {@code ...Local} operations modify this vector in place and return it, so that
+ * operations can be chained without allocating intermediate vectors. Use {@link #toImmutable()}
+ * to obtain an immutable {@link Float3} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableFloat3 {
+
+    public float x;
+    public float y;
+    public float z;
+
+    public MutableFloat3() {
+        this.x = 0.0f;
+        this.y = 0.0f;
+        this.z = 0.0f;
+    }
+
+    public MutableFloat3(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public MutableFloat3(@NotNull Float3 vector) {
+        this.x = vector.x;
+        this.y = vector.y;
+        this.z = vector.z;
+    }
+
+    public MutableFloat3(float scalar) {
+        this.x = scalar;
+        this.y = scalar;
+        this.z = scalar;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The new x component.
+     * @param y The new y component.
+     * @param z The new z component.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 set(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 set(@NotNull Float3 vector) {
+        return set(vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 set(@NotNull MutableFloat3 vector) {
+        return set(vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Sets the components of this vector to the elements of a primitive array.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 readFrom(@NotNull float[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 3, src.length);
+        return set(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
+    /**
+     * Writes the components of this vector to a primitive array.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     */
+    public void writeTo(@NotNull float[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 3, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 addLocal(float x, float y, float z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 addLocal(@NotNull Float3 other) {
+        return addLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 addLocal(@NotNull MutableFloat3 other) {
+        return addLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Subtracts the given components from this vector in place.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 subtractLocal(float x, float y, float z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 subtractLocal(@NotNull Float3 other) {
+        return subtractLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 subtractLocal(@NotNull MutableFloat3 other) {
+        return subtractLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiplies this vector by the given components in place.
+     *
+     * @param x The x component to multiply with.
+     * @param y The y component to multiply with.
+     * @param z The z component to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 multiplyLocal(float x, float y, float z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 multiplyLocal(@NotNull Float3 other) {
+        return multiplyLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 multiplyLocal(@NotNull MutableFloat3 other) {
+        return multiplyLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Divides this vector by the given components in place.
+     *
+     * @param x The x component to divide by.
+     * @param y The y component to divide by.
+     * @param z The z component to divide by.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 divideLocal(float x, float y, float z) {
+        if (x == 0.0f || y == 0.0f || z == 0.0f)
+            throw new ArithmeticException("'other' cannot have a zero component (x: %f, y: %f, z: %f)".formatted(x, y, z));
+        this.x /= x;
+        this.y /= y;
+        this.z /= z;
+        return this;
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 divideLocal(@NotNull Float3 other) {
+        return divideLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 divideLocal(@NotNull MutableFloat3 other) {
+        return divideLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiplies all components of this vector by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 scaleLocal(float scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        this.z *= scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 addScaledLocal(@NotNull Float3 other, float scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        this.z += other.z * scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 addScaledLocal(@NotNull MutableFloat3 other, float scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        this.z += other.z * scalar;
+        return this;
+    }
+
+    /**
+     * Negates this vector in place.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 negateLocal() {
+        this.x = -this.x;
+        this.y = -this.y;
+        this.z = -this.z;
+        return this;
+    }
+
+    /**
+     * Replaces the components of this vector with their absolute values.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 absLocal() {
+        this.x = Math.abs(this.x);
+        this.y = Math.abs(this.y);
+        this.z = Math.abs(this.z);
+        return this;
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @throws IllegalArgumentException If this vector has a zero length.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 normalizeLocal() {
+        double length = this.lengthd();
+        if (length == 0.0)
+            throw new IllegalArgumentException("Cannot normalize a zero-length vector");
+        this.x /= length;
+        this.y /= length;
+        this.z /= length;
+        return this;
+    }
+
+    /**
+     * Replaces this vector with the cross product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 crossLocal(@NotNull Float3 other) {
+        return set(
+                this.y * other.z - this.z * other.y,
+                this.z * other.x - this.x * other.z,
+                this.x * other.y - this.y * other.x
+        );
+    }
+
+    /**
+     * Replaces this vector with the cross product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 crossLocal(@NotNull MutableFloat3 other) {
+        return set(
+                this.y * other.z - this.z * other.y,
+                this.z * other.x - this.x * other.z,
+                this.x * other.y - this.y * other.x
+        );
+    }
+
+    /**
+     * Rotates this vector in place by the given angle in radians around the X axis.
+     *
+     * @param angle The angle in radians.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 rotateXLocal(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return set(this.x, (float) (this.y * cos - this.z * sin), (float) (this.y * sin + this.z * cos));
+    }
+
+    /**
+     * Rotates this vector in place by the given angle in radians around the Y axis.
+     *
+     * @param angle The angle in radians.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 rotateYLocal(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return set((float) (this.x * cos + this.z * sin), this.y, (float) (-this.x * sin + this.z * cos));
+    }
+
+    /**
+     * Rotates this vector in place by the given angle in radians around the Z axis.
+     *
+     * @param angle The angle in radians.
+     * @return This vector.
+     */
+    public @NotNull MutableFloat3 rotateZLocal(double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        return set((float) (this.x * cos - this.y * sin), (float) (this.x * sin + this.y * cos), this.z);
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull Float3 other) {
+        return x * other.x + y * other.y + z * other.z;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public float dotf(@NotNull MutableFloat3 other) {
+        return x * other.x + y * other.y + z * other.z;
+    }
+
+    /**
+     * Calculate the length of this vector.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
+        return Math.sqrt(lengthSquaredd());
+    }
+
+    /**
+     * Calculate the length of this vector in single precision.
+     *
+     * @return The length of this vector.
+     */
+    public float lengthf() {
+        return (float) Math.sqrt(lengthSquaredf());
+    }
+
+    /**
+     * Calculate the squared length of this vector.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
+        return (double) x * x + y * y + z * z;
+    }
+
+    /**
+     * Calculate the squared length of this vector in single precision.
+     *
+     * @return The squared length of this vector.
+     */
+    public float lengthSquaredf() {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Float3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Float3 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull Float3 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        float dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull Float3 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull MutableFloat3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull MutableFloat3 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public float distanceSquaredf(@NotNull MutableFloat3 other) {
+        float dx = this.x - other.x;
+        float dy = this.y - other.y;
+        float dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector in single precision.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public float distancef(@NotNull MutableFloat3 other) {
+        return (float) Math.sqrt(distanceSquaredf(other));
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Float3}.
+     *
+     * @return A new Float3 with the same components as this vector.
+     */
+    public @NotNull Float3 toImmutable() {
+        return new Float3(this.x, this.y, this.z);
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return A new MutableFloat3 with the same components as this vector.
+     */
+    public @NotNull MutableFloat3 copy() {
+        return new MutableFloat3(this.x, this.y, this.z);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableFloat3 mutableFloat3)) return false;
+        return Float.compare(mutableFloat3.x, x) == 0 && Float.compare(mutableFloat3.y, y) == 0 && Float.compare(mutableFloat3.z, z) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z));
+    }
+
+    @Override
+    public String toString() {
+        return "MutableFloat3(%f, %f, %f)".formatted(this.x, this.y, this.z);
+    }
+}
@@ -0,0 +1,513 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 3x3 matrix of floats.
+ * <p>
+ * All {@code ...Local} operations modify this matrix in place and return it, so that transforms can be
+ * composed without allocating intermediate matrices. Use {@link #toImmutable()} to obtain an immutable
+ * {@link Float3x3} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableFloat3x3 {
+
+    public float m00, m01, m02;
+    public float m10, m11, m12;
+    public float m20, m21, m22;
+
+    public MutableFloat3x3() {
+        setIdentity();
+    }
+
+    public MutableFloat3x3(float m00, float m01, float m02,
+                           float m10, float m11, float m12,
+                           float m20, float m21, float m22) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    public MutableFloat3x3(@NotNull Float3x3 matrix) {
+        this(
+                matrix.m00, matrix.m01, matrix.m02,
+                matrix.m10, matrix.m11, matrix.m12,
+                matrix.m20, matrix.m21, matrix.m22
+        );
+    }
+
+    /**
+     * Sets the components of this matrix, in row-major order.
+     *
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 set(float m00, float m01, float m02,
+                                        float m10, float m11, float m12,
+                                        float m20, float m21, float m22) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        return this;
+    }
+
+    /**
+     * Sets the components of this matrix to the components of the given matrix.
+     *
+     * @param matrix The matrix to copy the components from.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 set(@NotNull Float3x3 matrix) {
+        return set(
+                matrix.m00, matrix.m01, matrix.m02,
+                matrix.m10, matrix.m11, matrix.m12,
+                matrix.m20, matrix.m21, matrix.m22
+        );
+    }
+
+    /**
+     * Sets the components of this matrix to the components of the given matrix.
+     *
+     * @param matrix The matrix to copy the components from.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 set(@NotNull MutableFloat3x3 matrix) {
+        return set(
+                matrix.m00, matrix.m01, matrix.m02,
+                matrix.m10, matrix.m11, matrix.m12,
+                matrix.m20, matrix.m21, matrix.m22
+        );
+    }
+
+    /**
+     * Sets this matrix to the identity matrix.
+     *
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 setIdentity() {
+        return set(
+                1.0f, 0.0f, 0.0f,
+                0.0f, 1.0f, 0.0f,
+                0.0f, 0.0f, 1.0f
+        );
+    }
+
+    /**
+     * Get the component at the given row and column.
+     *
+     * @param row The row, from 0 to 2.
+     * @param column The column, from 0 to 2.
+     * @throws IndexOutOfBoundsException If the row or column is out of bounds.
+     * @return The component.
+     */
+    public float get(int row, int column) {
+        Objects.checkIndex(row, 3);
+        Objects.checkIndex(column, 3);
+        return switch (row * 3 + column) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m10;
+            case 4 -> m11;
+            case 5 -> m12;
+            case 6 -> m20;
+            case 7 -> m21;
+            default -> m22;
+        };
+    }
+
+    /**
+     * Replaces this matrix with the product of this matrix and another matrix in place. The result
+     * applies the other matrix first.
+     *
+     * @param other The other matrix.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 multiplyLocal(@NotNull Float3x3 other) {
+        return set(
+                m00 * other.m00 + m01 * other.m10 + m02 * other.m20, m00 * other.m01 + m01 * other.m11 + m02 * other.m21, m00 * other.m02 + m01 * other.m12 + m02 * other.m22,
+                m10 * other.m00 + m11 * other.m10 + m12 * other.m20, m10 * other.m01 + m11 * other.m11 + m12 * other.m21, m10 * other.m02 + m11 * other.m12 + m12 * other.m22,
+                m20 * other.m00 + m21 * other.m10 + m22 * other.m20, m20 * other.m01 + m21 * other.m11 + m22 * other.m21, m20 * other.m02 + m21 * other.m12 + m22 * other.m22
+        );
+    }
+
+    /**
+     * Replaces this matrix with the product of this matrix and another matrix in place. The result
+     * applies the other matrix first.
+     *
+     * @param other The other matrix.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 multiplyLocal(@NotNull MutableFloat3x3 other) {
+        return set(
+                m00 * other.m00 + m01 * other.m10 + m02 * other.m20, m00 * other.m01 + m01 * other.m11 + m02 * other.m21, m00 * other.m02 + m01 * other.m12 + m02 * other.m22,
+                m10 * other.m00 + m11 * other.m10 + m12 * other.m20, m10 * other.m01 + m11 * other.m11 + m12 * other.m21, m10 * other.m02 + m11 * other.m12 + m12 * other.m22,
+                m20 * other.m00 + m21 * other.m10 + m22 * other.m20, m20 * other.m01 + m21 * other.m11 + m22 * other.m21, m20 * other.m02 + m21 * other.m12 + m22 * other.m22
+        );
+    }
+
+    /**
+     * Replaces this matrix with the product of another matrix and this matrix in place. The result
+     * applies this matrix first.
+     *
+     * @param other The other matrix.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 preMultiplyLocal(@NotNull Float3x3 other) {
+        return set(
+                other.m00 * m00 + other.m01 * m10 + other.m02 * m20, other.m00 * m01 + other.m01 * m11 + other.m02 * m21, other.m00 * m02 + other.m01 * m12 + other.m02 * m22,
+                other.m10 * m00 + other.m11 * m10 + other.m12 * m20, other.m10 * m01 + other.m11 * m11 + other.m12 * m21, other.m10 * m02 + other.m11 * m12 + other.m12 * m22,
+                other.m20 * m00 + other.m21 * m10 + other.m22 * m20, other.m20 * m01 + other.m21 * m11 + other.m22 * m21, other.m20 * m02 + other.m21 * m12 + other.m22 * m22
+        );
+    }
+
+    /**
+     * Replaces this matrix with the product of another matrix and this matrix in place. The result
+     * applies this matrix first.
+     *
+     * @param other The other matrix.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 preMultiplyLocal(@NotNull MutableFloat3x3 other) {
+        return set(
+                other.m00 * m00 + other.m01 * m10 + other.m02 * m20, other.m00 * m01 + other.m01 * m11 + other.m02 * m21, other.m00 * m02 + other.m01 * m12 + other.m02 * m22,
+                other.m10 * m00 + other.m11 * m10 + other.m12 * m20, other.m10 * m01 + other.m11 * m11 + other.m12 * m21, other.m10 * m02 + other.m11 * m12 + other.m12 * m22,
+                other.m20 * m00 + other.m21 * m10 + other.m22 * m20, other.m20 * m01 + other.m21 * m11 + other.m22 * m21, other.m20 * m02 + other.m21 * m12 + other.m22 * m22
+        );
+    }
+
+    /**
+     * Multiplies all components of this matrix by a scalar in place.
+     *
+     * @param scalar The scalar.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 multiplyLocal(float scalar) {
+        this.m00 *= scalar;
+        this.m01 *= scalar;
+        this.m02 *= scalar;
+        this.m10 *= scalar;
+        this.m11 *= scalar;
+        this.m12 *= scalar;
+        this.m20 *= scalar;
+        this.m21 *= scalar;
+        this.m22 *= scalar;
+        return this;
+    }
+
+    /**
+     * Transposes this matrix in place.
+     *
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 transposeLocal() {
+        return set(
+                m00, m10, m20,
+                m01, m11, m21,
+                m02, m12, m22
+        );
+    }
+
+    /**
+     * Inverts this matrix in place.
+     *
+     * @throws ArithmeticException If this matrix is singular.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 invertLocal() {
+        float c00 = m11 * m22 - m12 * m21;
+        float c01 = m12 * m20 - m10 * m22;
+        float c02 = m10 * m21 - m11 * m20;
+        float determinant = m00 * c00 + m01 * c01 + m02 * c02;
+        if (determinant == 0)
+            throw new ArithmeticException("Cannot invert a singular matrix");
+        float inverse = 1.0f / determinant;
+        return set(
+                c00 * inverse, (m02 * m21 - m01 * m22) * inverse, (m01 * m12 - m02 * m11) * inverse,
+                c01 * inverse, (m00 * m22 - m02 * m20) * inverse, (m02 * m10 - m00 * m12) * inverse,
+                c02 * inverse, (m01 * m20 - m00 * m21) * inverse, (m00 * m11 - m01 * m10) * inverse
+        );
+    }
+
+    /**
+     * Calculate the determinant of this matrix.
+     *
+     * @return The determinant.
+     */
+    public float determinant() {
+        return m00 * (m11 * m22 - m12 * m21)
+                - m01 * (m10 * m22 - m12 * m20)
+                + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    /**
+     * Multiplies this matrix with a scaling along the principal axes, which is applied before this matrix.
+     *
+     * @param x The scale along the x axis.
+     * @param y The scale along the y axis.
+     * @param z The scale along the z axis.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 scaleLocal(float x, float y, float z) {
+        this.m00 *= x;
+        this.m01 *= y;
+        this.m02 *= z;
+        this.m10 *= x;
+        this.m11 *= y;
+        this.m12 *= z;
+        this.m20 *= x;
+        this.m21 *= y;
+        this.m22 *= z;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix with a rotation around the x axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 rotateXLocal(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        float n01 = m01 * cos + m02 * sin;
+        this.m02 = m02 * cos - m01 * sin;
+        this.m01 = n01;
+        float n11 = m11 * cos + m12 * sin;
+        this.m12 = m12 * cos - m11 * sin;
+        this.m11 = n11;
+        float n21 = m21 * cos + m22 * sin;
+        this.m22 = m22 * cos - m21 * sin;
+        this.m21 = n21;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix with a rotation around the y axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 rotateYLocal(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        float n00 = m00 * cos - m02 * sin;
+        this.m02 = m00 * sin + m02 * cos;
+        this.m00 = n00;
+        float n10 = m10 * cos - m12 * sin;
+        this.m12 = m10 * sin + m12 * cos;
+        this.m10 = n10;
+        float n20 = m20 * cos - m22 * sin;
+        this.m22 = m20 * sin + m22 * cos;
+        this.m20 = n20;
+        return this;
+    }
+
+    /**
+     * Multiplies this matrix with a rotation around the z axis, which is applied before this matrix.
+     *
+     * @param angle The angle in radians.
+     * @return This matrix.
+     */
+    public @NotNull MutableFloat3x3 rotateZLocal(double angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        float n00 = m00 * cos + m01 * sin;
+        this.m01 = m01 * cos - m00 * sin;
+        this.m00 = n00;
+        float n10 = m10 * cos + m11 * sin;
+        this.m11 = m11 * cos - m10 * sin;
+        this.m10 = n10;
+        float n20 = m20 * cos + m21 * sin;
+        this.m21 = m21 * cos - m20 * sin;
+        this.m20 = n20;
+        return this;
+    }
+
+    /**
+     * Transform a vector by this matrix.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 transform(@NotNull Float3 vector) {
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        return new Float3(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transform a vector by this matrix.
+     * Writes the result into the given vector without allocating.
+     *
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @param dst The vector to write the result into.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 transform(float x, float y, float z, @NotNull MutableFloat3 dst) {
+        return dst.set(
+                m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z
+        );
+    }
+
+    /**
+     * Transform a vector by this matrix.
+     * Transforms the given vector in place.
+     *
+     * @param vector The vector to transform.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 transform(@NotNull MutableFloat3 vector) {
+        return transform(vector.x, vector.y, vector.z, vector);
+    }
+
+    /**
+     * Transform the first {@code count} vectors of an array by this matrix.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to transform.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void transform(@NotNull Float3Array src, @NotNull Float3Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        float[] sxs = src.xs;
+        float[] sys = src.ys;
+        float[] szs = src.zs;
+        float[] dxs = dst.xs;
+        float[] dys = dst.ys;
+        float[] dzs = dst.zs;
+        float m00 = this.m00;
+        float m01 = this.m01;
+        float m02 = this.m02;
+        float m10 = this.m10;
+        float m11 = this.m11;
+        float m12 = this.m12;
+        float m20 = this.m20;
+        float m21 = this.m21;
+        float m22 = this.m22;
+        for (int i = 0; i < count; i++) {
+            float x = sxs[i];
+            float y = sys[i];
+            float z = szs[i];
+            dxs[i] = m00 * x + m01 * y + m02 * z;
+            dys[i] = m10 * x + m11 * y + m12 * z;
+            dzs[i] = m20 * x + m21 * y + m22 * z;
+        }
+    }
+
+    /**
+     * Converts this matrix to a {@link Float4x4}, with this matrix as its upper-left part.
+     *
+     * @return A new Float4x4.
+     */
+    public @NotNull Float4x4 toFloat4x4() {
+        return new Float4x4(
+                m00, m01, m02, 0.0f,
+                m10, m11, m12, 0.0f,
+                m20, m21, m22, 0.0f,
+                0.0f, 0.0f, 0.0f, 1.0f
+        );
+    }
+
+    /**
+     * Converts this matrix to a {@link Double3x3}.
+     *
+     * @return A new Double3x3 with the same components as this matrix.
+     */
+    public @NotNull Double3x3 toDouble() {
+        return new Double3x3(
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        );
+    }
+
+    /**
+     * Converts this matrix to an immutable {@link Float3x3}.
+     *
+     * @return A new Float3x3 with the same components as this matrix.
+     */
+    public @NotNull Float3x3 toImmutable() {
+        return new Float3x3(this);
+    }
+
+    /**
+     * Creates a copy of this matrix.
+     *
+     * @return A new MutableFloat3x3 with the same components as this matrix.
+     */
+    public @NotNull MutableFloat3x3 copy() {
+        return new MutableFloat3x3(
+                this.m00, this.m01, this.m02,
+                this.m10, this.m11, this.m12,
+                this.m20, this.m21, this.m22
+        );
+    }
+
+    /**
+     * Converts this matrix to an array in row-major order.
+     *
+     * @return A new array with the components of this matrix.
+     */
+    public @NotNull float[] toArray() {
+        return new float[] {
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableFloat3x3 mutableFloat3x3)) return false;
+        return Float.compare(mutableFloat3x3.m00, m00) == 0 && Float.compare(mutableFloat3x3.m01, m01) == 0 && Float.compare(mutableFloat3x3.m02, m02) == 0
+                && Float.compare(mutableFloat3x3.m10, m10) == 0 && Float.compare(mutableFloat3x3.m11, m11) == 0 && Float.compare(mutableFloat3x3.m12, m12) == 0
+                && Float.compare(mutableFloat3x3.m20, m20) == 0 && Float.compare(mutableFloat3x3.m21, m21) == 0 && Float.compare(mutableFloat3x3.m22, m22) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(
+                Hashing.hash(Hashing.bits(m00), Hashing.bits(m01), Hashing.bits(m02)),
+                Hashing.hash(Hashing.bits(m10), Hashing.bits(m11), Hashing.bits(m12)),
+                Hashing.hash(Hashing.bits(m20), Hashing.bits(m21), Hashing.bits(m22))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "MutableFloat3x3[(%f, %f, %f), (%f, %f, %f), (%f, %f, %f)]".formatted(
+                this.m00, this.m01, this.m02,
+                this.m10, this.m11, this.m12,
+                this.m20, this.m21, this.m22
+        );
+    }
+}
@@ -0,0 +1,414 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 2-dimensional vector of integers.
+ * <p>
+ * All {@code ...Local} operations modify this vector in place and return it, so that
+ * operations can be chained without allocating intermediate vectors. Use {@link #toImmutable()}
+ * to obtain an immutable {@link Int2} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableInt2 {
+
+    public int x;
+    public int y;
+
+    public MutableInt2() {
+        this.x = 0;
+        this.y = 0;
+    }
+
+    public MutableInt2(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public MutableInt2(@NotNull Int2 vector) {
+        this.x = vector.x;
+        this.y = vector.y;
+    }
+
+    public MutableInt2(int scalar) {
+        this.x = scalar;
+        this.y = scalar;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The new x component.
+     * @param y The new y component.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 set(int x, int y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 set(@NotNull Int2 vector) {
+        return set(vector.x, vector.y);
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 set(@NotNull MutableInt2 vector) {
+        return set(vector.x, vector.y);
+    }
+
+    /**
+     * Sets the components of this vector to the elements of a primitive array.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 readFrom(@NotNull int[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 2, src.length);
+        return set(src[offset], src[offset + 1]);
+    }
+
+    /**
+     * Writes the components of this vector to a primitive array.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 2 elements from the offset.
+     */
+    public void writeTo(@NotNull int[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 2, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 addLocal(int x, int y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 addLocal(@NotNull Int2 other) {
+        return addLocal(other.x, other.y);
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 addLocal(@NotNull MutableInt2 other) {
+        return addLocal(other.x, other.y);
+    }
+
+    /**
+     * Subtracts the given components from this vector in place.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 subtractLocal(int x, int y) {
+        this.x -= x;
+        this.y -= y;
+        return this;
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 subtractLocal(@NotNull Int2 other) {
+        return subtractLocal(other.x, other.y);
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 subtractLocal(@NotNull MutableInt2 other) {
+        return subtractLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies this vector by the given components in place.
+     *
+     * @param x The x component to multiply with.
+     * @param y The y component to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 multiplyLocal(int x, int y) {
+        this.x *= x;
+        this.y *= y;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 multiplyLocal(@NotNull Int2 other) {
+        return multiplyLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 multiplyLocal(@NotNull MutableInt2 other) {
+        return multiplyLocal(other.x, other.y);
+    }
+
+    /**
+     * Divides this vector by the given components in place.
+     *
+     * @param x The x component to divide by.
+     * @param y The y component to divide by.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 divideLocal(int x, int y) {
+        if (x == 0 || y == 0)
+            throw new ArithmeticException("'other' cannot have a zero component (x: %d, y: %d)".formatted(x, y));
+        this.x /= x;
+        this.y /= y;
+        return this;
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 divideLocal(@NotNull Int2 other) {
+        return divideLocal(other.x, other.y);
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 divideLocal(@NotNull MutableInt2 other) {
+        return divideLocal(other.x, other.y);
+    }
+
+    /**
+     * Multiplies all components of this vector by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 scaleLocal(int scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 addScaledLocal(@NotNull Int2 other, int scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 addScaledLocal(@NotNull MutableInt2 other, int scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        return this;
+    }
+
+    /**
+     * Negates this vector in place.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 negateLocal() {
+        this.x = -this.x;
+        this.y = -this.y;
+        return this;
+    }
+
+    /**
+     * Replaces the components of this vector with their absolute values.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableInt2 absLocal() {
+        this.x = Math.abs(this.x);
+        this.y = Math.abs(this.y);
+        return this;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull Int2 other) {
+        return x * other.x + y * other.y;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull MutableInt2 other) {
+        return x * other.x + y * other.y;
+    }
+
+    /**
+     * Calculate the length of this vector.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
+        return Math.sqrt(lengthSquaredd());
+    }
+
+    /**
+     * Calculate the squared length of this vector.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
+        return (double) x * x + y * y;
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Int2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Int2 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull MutableInt2 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull MutableInt2 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Int2}.
+     *
+     * @return A new Int2 with the same components as this vector.
+     */
+    public @NotNull Int2 toImmutable() {
+        return new Int2(this.x, this.y);
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return A new MutableInt2 with the same components as this vector.
+     */
+    public @NotNull MutableInt2 copy() {
+        return new MutableInt2(this.x, this.y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableInt2 mutableInt2)) return false;
+        return x == mutableInt2.x && y == mutableInt2.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(x, y);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableInt2(%d, %d)".formatted(this.x, this.y);
+    }
+}
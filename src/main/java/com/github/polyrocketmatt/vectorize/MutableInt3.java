@@ -0,0 +1,465 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a mutable 3-dimensional vector of integers.
+ * <p>
+ * All {@code ...Local} operations modify this vector in place and return it, so that
+ * operations can be chained without allocating intermediate vectors. Use {@link #toImmutable()}
+ * to obtain an immutable {@link Int3} snapshot.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class MutableInt3 {
+
+    public int x;
+    public int y;
+    public int z;
+
+    public MutableInt3() {
+        this.x = 0;
+        this.y = 0;
+        this.z = 0;
+    }
+
+    public MutableInt3(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    public MutableInt3(@NotNull Int3 vector) {
+        this.x = vector.x;
+        this.y = vector.y;
+        this.z = vector.z;
+    }
+
+    public MutableInt3(int scalar) {
+        this.x = scalar;
+        this.y = scalar;
+        this.z = scalar;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The new x component.
+     * @param y The new y component.
+     * @param z The new z component.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 set(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 set(@NotNull Int3 vector) {
+        return set(vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Sets the components of this vector to the components of the given vector.
+     *
+     * @param vector The vector to copy the components from.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 set(@NotNull MutableInt3 vector) {
+        return set(vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Sets the components of this vector to the elements of a primitive array.
+     *
+     * @param src The array to read from.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 readFrom(@NotNull int[] src, int offset) {
+        Objects.checkFromIndexSize(offset, 3, src.length);
+        return set(src[offset], src[offset + 1], src[offset + 2]);
+    }
+
+    /**
+     * Writes the components of this vector to a primitive array.
+     *
+     * @param dst The array to write to.
+     * @param offset The index of the x component in the array.
+     * @throws IndexOutOfBoundsException If the array has fewer than 3 elements from the offset.
+     */
+    public void writeTo(@NotNull int[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, 3, dst.length);
+        dst[offset] = this.x;
+        dst[offset + 1] = this.y;
+        dst[offset + 2] = this.z;
+    }
+
+    /**
+     * Adds the given components to this vector in place.
+     *
+     * @param x The x component to add.
+     * @param y The y component to add.
+     * @param z The z component to add.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 addLocal(int x, int y, int z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 addLocal(@NotNull Int3 other) {
+        return addLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Adds the given vector to this vector in place.
+     *
+     * @param other The vector to add.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 addLocal(@NotNull MutableInt3 other) {
+        return addLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Subtracts the given components from this vector in place.
+     *
+     * @param x The x component to subtract.
+     * @param y The y component to subtract.
+     * @param z The z component to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 subtractLocal(int x, int y, int z) {
+        this.x -= x;
+        this.y -= y;
+        this.z -= z;
+        return this;
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 subtractLocal(@NotNull Int3 other) {
+        return subtractLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Subtracts the given vector from this vector in place.
+     *
+     * @param other The vector to subtract.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 subtractLocal(@NotNull MutableInt3 other) {
+        return subtractLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiplies this vector by the given components in place.
+     *
+     * @param x The x component to multiply with.
+     * @param y The y component to multiply with.
+     * @param z The z component to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 multiplyLocal(int x, int y, int z) {
+        this.x *= x;
+        this.y *= y;
+        this.z *= z;
+        return this;
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 multiplyLocal(@NotNull Int3 other) {
+        return multiplyLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiplies this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 multiplyLocal(@NotNull MutableInt3 other) {
+        return multiplyLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Divides this vector by the given components in place.
+     *
+     * @param x The x component to divide by.
+     * @param y The y component to divide by.
+     * @param z The z component to divide by.
+     * @throws ArithmeticException If any of the components is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 divideLocal(int x, int y, int z) {
+        if (x == 0 || y == 0 || z == 0)
+            throw new ArithmeticException("'other' cannot have a zero component (x: %d, y: %d, z: %d)".formatted(x, y, z));
+        this.x /= x;
+        this.y /= y;
+        this.z /= z;
+        return this;
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 divideLocal(@NotNull Int3 other) {
+        return divideLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Divides this vector component-wise by the given vector in place.
+     *
+     * @param other The vector to divide by.
+     * @throws ArithmeticException If any of the components of the other vector is zero.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 divideLocal(@NotNull MutableInt3 other) {
+        return divideLocal(other.x, other.y, other.z);
+    }
+
+    /**
+     * Multiplies all components of this vector by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 scaleLocal(int scalar) {
+        this.x *= scalar;
+        this.y *= scalar;
+        this.z *= scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 addScaledLocal(@NotNull Int3 other, int scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        this.z += other.z * scalar;
+        return this;
+    }
+
+    /**
+     * Adds the given vector, multiplied by a scalar, to this vector in place.
+     *
+     * @param other The vector to add.
+     * @param scalar The scalar to multiply the other vector with.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 addScaledLocal(@NotNull MutableInt3 other, int scalar) {
+        this.x += other.x * scalar;
+        this.y += other.y * scalar;
+        this.z += other.z * scalar;
+        return this;
+    }
+
+    /**
+     * Negates this vector in place.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 negateLocal() {
+        this.x = -this.x;
+        this.y = -this.y;
+        this.z = -this.z;
+        return this;
+    }
+
+    /**
+     * Replaces the components of this vector with their absolute values.
+     *
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 absLocal() {
+        this.x = Math.abs(this.x);
+        this.y = Math.abs(this.y);
+        this.z = Math.abs(this.z);
+        return this;
+    }
+
+    /**
+     * Replaces this vector with the cross product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 crossLocal(@NotNull Int3 other) {
+        return set(
+                this.y * other.z - this.z * other.y,
+                this.z * other.x - this.x * other.z,
+                this.x * other.y - this.y * other.x
+        );
+    }
+
+    /**
+     * Replaces this vector with the cross product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return This vector.
+     */
+    public @NotNull MutableInt3 crossLocal(@NotNull MutableInt3 other) {
+        return set(
+                this.y * other.z - this.z * other.y,
+                this.z * other.x - this.x * other.z,
+                this.x * other.y - this.y * other.x
+        );
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull Int3 other) {
+        return x * other.x + y * other.y + z * other.z;
+    }
+
+    /**
+     * Calculate the dot product of this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The dot product.
+     */
+    public int doti(@NotNull MutableInt3 other) {
+        return x * other.x + y * other.y + z * other.z;
+    }
+
+    /**
+     * Calculate the length of this vector.
+     *
+     * @return The length of this vector.
+     */
+    public double lengthd() {
+        return Math.sqrt(lengthSquaredd());
+    }
+
+    /**
+     * Calculate the squared length of this vector.
+     *
+     * @return The squared length of this vector.
+     */
+    public double lengthSquaredd() {
+        return (double) x * x + y * y + z * z;
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull Int3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull Int3 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Calculate the squared distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The squared distance between the vectors.
+     */
+    public double distanceSquaredd(@NotNull MutableInt3 other) {
+        double dx = this.x - other.x;
+        double dy = this.y - other.y;
+        double dz = this.z - other.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Calculate the distance between this vector and another vector.
+     *
+     * @param other The other vector.
+     * @return The distance between the vectors.
+     */
+    public double distanced(@NotNull MutableInt3 other) {
+        return Math.sqrt(distanceSquaredd(other));
+    }
+
+    /**
+     * Converts this vector to an immutable {@link Int3}.
+     *
+     * @return A new Int3 with the same components as this vector.
+     */
+    public @NotNull Int3 toImmutable() {
+        return new Int3(this.x, this.y, this.z);
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return A new MutableInt3 with the same components as this vector.
+     */
+    public @NotNull MutableInt3 copy() {
+        return new MutableInt3(this.x, this.y, this.z);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableInt3 mutableInt3)) return false;
+        return x == mutableInt3.x && y == mutableInt3.y && z == mutableInt3.z;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(x, y, z);
+    }
+
+    @Override
+    public String toString() {
+        return "MutableInt3(%d, %d, %d)".formatted(this.x, this.y, this.z);
+    }
+}
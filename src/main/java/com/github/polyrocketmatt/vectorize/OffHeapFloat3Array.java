@@ -0,0 +1,421 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Represents an array of 3-dimensional vectors of floats stored outside the Java heap, in a direct {@link ByteBuffer}.
+ * <p>
+ * Every vector is stored as a struct of {@value #BYTES} bytes holding the components x, y and z at offsets
+ * 0, 4 and 8, in the native byte order. The heap only holds this object, however many vectors it stores, so large
+ * collections do not add to the work of the garbage collector. {@link #buffer()} exposes the memory, for example to
+ * hand it to native code, and {@link #slice(int, int)} creates views on ranges of it. All bulk operations work on the
+ * range of vectors from {@code from}, inclusive, to {@code to}, exclusive.
+ * <p>
+ * Closing an array makes it unusable. Java 17 cannot release the memory of a direct buffer explicitly, so the
+ * memory is returned once neither the array nor any slice of it is reachable.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class OffHeapFloat3Array implements AutoCloseable {
+
+    public static final int BYTES = 3 * Float.BYTES;
+
+    private final int size;
+    private ByteBuffer memory;
+
+    public OffHeapFloat3Array(int size) {
+        this(allocate(size), size);
+    }
+
+    public OffHeapFloat3Array(@NotNull Float3Array array) {
+        this(array.size());
+        write(0, array, 0, array.size());
+    }
+
+    private OffHeapFloat3Array(ByteBuffer memory, int size) {
+        this.memory = memory;
+        this.size = size;
+    }
+
+    /**
+     * Get the number of vectors stored in this array.
+     *
+     * @return The number of vectors.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if this array has not been closed.
+     *
+     * @return True if this array can be used.
+     */
+    public boolean isOpen() {
+        return memory != null;
+    }
+
+    /**
+     * Get the x component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     * @return The x component.
+     */
+    public float getX(int index) {
+        return memory().getFloat(offset(index));
+    }
+
+    /**
+     * Get the y component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     * @return The y component.
+     */
+    public float getY(int index) {
+        return memory().getFloat(offset(index) + 4);
+    }
+
+    /**
+     * Get the z component of the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     * @return The z component.
+     */
+    public float getZ(int index) {
+        return memory().getFloat(offset(index) + 8);
+    }
+
+    /**
+     * Get the vector at the given index as a new {@link Float3}.
+     *
+     * @param index The index of the vector.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     * @return A new Float3 with the components at the given index.
+     */
+    public @NotNull Float3 get(int index) {
+        ByteBuffer memory = memory();
+        int offset = offset(index);
+        return new Float3(memory.getFloat(offset), memory.getFloat(offset + 4), memory.getFloat(offset + 8));
+    }
+
+    /**
+     * Copy the vector at the given index into a mutable vector without allocating.
+     *
+     * @param index The index of the vector.
+     * @param dst The vector to copy the components into.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     * @return The given mutable vector.
+     */
+    public @NotNull MutableFloat3 get(int index, @NotNull MutableFloat3 dst) {
+        ByteBuffer memory = memory();
+        int offset = offset(index);
+        return dst.set(memory.getFloat(offset), memory.getFloat(offset + 4), memory.getFloat(offset + 8));
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param x The x component.
+     * @param y The y component.
+     * @param z The z component.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void set(int index, float x, float y, float z) {
+        ByteBuffer memory = memory();
+        int offset = offset(index);
+
+        memory.putFloat(offset, x);
+        memory.putFloat(offset + 4, y);
+        memory.putFloat(offset + 8, z);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void set(int index, @NotNull Float3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Set the vector at the given index.
+     *
+     * @param index The index of the vector.
+     * @param vector The vector to store.
+     * @throws IndexOutOfBoundsException If the index is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void set(int index, @NotNull MutableFloat3 vector) {
+        set(index, vector.x, vector.y, vector.z);
+    }
+
+    /**
+     * Copy vectors from this array into a range of a heap array.
+     *
+     * @param index The index of the first vector to copy from this array.
+     * @param dst The array to copy the vectors into.
+     * @param from The index of the first vector in the heap array, inclusive.
+     * @param to The index of the last vector in the heap array, exclusive.
+     * @throws IndexOutOfBoundsException If either range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void read(int index, @NotNull Float3Array dst, int from, int to) {
+        Objects.checkFromToIndex(from, to, dst.size());
+        Objects.checkFromToIndex(index, index + (to - from), size);
+        ByteBuffer memory = memory();
+
+        float[] xs = dst.xs;
+        float[] ys = dst.ys;
+        float[] zs = dst.zs;
+        for (int i = from, offset = index * BYTES; i < to; i++, offset += BYTES) {
+            xs[i] = memory.getFloat(offset);
+            ys[i] = memory.getFloat(offset + 4);
+            zs[i] = memory.getFloat(offset + 8);
+        }
+    }
+
+    /**
+     * Copy a range of a heap array into this array.
+     *
+     * @param index The index of the first vector to copy to in this array.
+     * @param src The array to copy the vectors from.
+     * @param from The index of the first vector in the heap array, inclusive.
+     * @param to The index of the last vector in the heap array, exclusive.
+     * @throws IndexOutOfBoundsException If either range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void write(int index, @NotNull Float3Array src, int from, int to) {
+        Objects.checkFromToIndex(from, to, src.size());
+        Objects.checkFromToIndex(index, index + (to - from), size);
+        ByteBuffer memory = memory();
+
+        float[] xs = src.xs;
+        float[] ys = src.ys;
+        float[] zs = src.zs;
+        for (int i = from, offset = index * BYTES; i < to; i++, offset += BYTES) {
+            memory.putFloat(offset, xs[i]);
+            memory.putFloat(offset + 4, ys[i]);
+            memory.putFloat(offset + 8, zs[i]);
+        }
+    }
+
+    /**
+     * Add the vectors of another array to the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If either array has been closed.
+     */
+    public void add(@NotNull OffHeapFloat3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromToIndex(from, to, other.size);
+        ByteBuffer memory = memory();
+        ByteBuffer others = other.memory();
+        for (int offset = from * BYTES; offset < to * BYTES; offset += BYTES) {
+            memory.putFloat(offset, memory.getFloat(offset) + others.getFloat(offset));
+            memory.putFloat(offset + 4, memory.getFloat(offset + 4) + others.getFloat(offset + 4));
+            memory.putFloat(offset + 8, memory.getFloat(offset + 8) + others.getFloat(offset + 8));
+        }
+    }
+
+    /**
+     * Add a single vector to the vectors of this array in place.
+     *
+     * @param vector The vector to add.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void add(@NotNull Float3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        ByteBuffer memory = memory();
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int offset = from * BYTES; offset < to * BYTES; offset += BYTES) {
+            memory.putFloat(offset, memory.getFloat(offset) + x);
+            memory.putFloat(offset + 4, memory.getFloat(offset + 4) + y);
+            memory.putFloat(offset + 8, memory.getFloat(offset + 8) + z);
+        }
+    }
+
+    /**
+     * Subtract the vectors of another array from the vectors of this array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If either array has been closed.
+     */
+    public void subtract(@NotNull OffHeapFloat3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromToIndex(from, to, other.size);
+        ByteBuffer memory = memory();
+        ByteBuffer others = other.memory();
+        for (int offset = from * BYTES; offset < to * BYTES; offset += BYTES) {
+            memory.putFloat(offset, memory.getFloat(offset) - others.getFloat(offset));
+            memory.putFloat(offset + 4, memory.getFloat(offset + 4) - others.getFloat(offset + 4));
+            memory.putFloat(offset + 8, memory.getFloat(offset + 8) - others.getFloat(offset + 8));
+        }
+    }
+
+    /**
+     * Subtract a single vector from the vectors of this array in place.
+     *
+     * @param vector The vector to subtract.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void subtract(@NotNull Float3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        ByteBuffer memory = memory();
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int offset = from * BYTES; offset < to * BYTES; offset += BYTES) {
+            memory.putFloat(offset, memory.getFloat(offset) - x);
+            memory.putFloat(offset + 4, memory.getFloat(offset + 4) - y);
+            memory.putFloat(offset + 8, memory.getFloat(offset + 8) - z);
+        }
+    }
+
+    /**
+     * Multiply the vectors of this array component-wise with the vectors of another array in place.
+     *
+     * @param other The other array.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If either array has been closed.
+     */
+    public void multiply(@NotNull OffHeapFloat3Array other, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        Objects.checkFromToIndex(from, to, other.size);
+        ByteBuffer memory = memory();
+        ByteBuffer others = other.memory();
+        for (int offset = from * BYTES; offset < to * BYTES; offset += BYTES) {
+            memory.putFloat(offset, memory.getFloat(offset) * others.getFloat(offset));
+            memory.putFloat(offset + 4, memory.getFloat(offset + 4) * others.getFloat(offset + 4));
+            memory.putFloat(offset + 8, memory.getFloat(offset + 8) * others.getFloat(offset + 8));
+        }
+    }
+
+    /**
+     * Multiply the vectors of this array component-wise with a single vector in place.
+     *
+     * @param vector The vector to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void multiply(@NotNull Float3 vector, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        ByteBuffer memory = memory();
+        float x = vector.x;
+        float y = vector.y;
+        float z = vector.z;
+        for (int offset = from * BYTES; offset < to * BYTES; offset += BYTES) {
+            memory.putFloat(offset, memory.getFloat(offset) * x);
+            memory.putFloat(offset + 4, memory.getFloat(offset + 4) * y);
+            memory.putFloat(offset + 8, memory.getFloat(offset + 8) * z);
+        }
+    }
+
+    /**
+     * Scale the vectors of this array by a scalar in place.
+     *
+     * @param scalar The scalar to multiply with.
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     */
+    public void scale(float scalar, int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        ByteBuffer memory = memory();
+        for (int offset = from * BYTES; offset < to * BYTES; offset += Float.BYTES)
+            memory.putFloat(offset, memory.getFloat(offset) * scalar);
+    }
+
+    /**
+     * Create a view on a range of this array. The view shares its memory with this array, so changes to either
+     * are visible in both, and it can still be used after this array has been closed.
+     *
+     * @param from The index of the first vector, inclusive.
+     * @param to The index of the last vector, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws IllegalStateException If this array has been closed.
+     * @return A new array on the range.
+     */
+    public @NotNull OffHeapFloat3Array slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        ByteBuffer slice = memory().slice(from * BYTES, (to - from) * BYTES).order(ByteOrder.nativeOrder());
+        return new OffHeapFloat3Array(slice, to - from);
+    }
+
+    /**
+     * Get a buffer on the memory of this array, in the native byte order, spanning {@link #size()} times
+     * {@value #BYTES} bytes. The buffer shares its memory with this array and has its own position and limit.
+     *
+     * @throws IllegalStateException If this array has been closed.
+     * @return A new buffer on the memory of this array.
+     */
+    public @NotNull ByteBuffer buffer() {
+        return memory().duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Close this array, after which every operation on it throws an {@link IllegalStateException}. Closing an
+     * array that has been closed does nothing.
+     */
+    @Override
+    public void close() {
+        memory = null;
+    }
+
+    private static ByteBuffer allocate(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("'size' cannot be negative, found %d".formatted(size));
+        if (size > Integer.MAX_VALUE / BYTES)
+            throw new IllegalArgumentException("'size' cannot be larger than %d, found %d".formatted(Integer.MAX_VALUE / BYTES, size));
+        return ByteBuffer.allocateDirect(size * BYTES).order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer memory() {
+        ByteBuffer memory = this.memory;
+        if (memory == null)
+            throw new IllegalStateException("The array has been closed");
+        return memory;
+    }
+
+    private int offset(int index) {
+        return Objects.checkIndex(index, size) * BYTES;
+    }
+
+}
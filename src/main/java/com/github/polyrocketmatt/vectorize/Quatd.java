@@ -0,0 +1,337 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable quaternion of doubles, used to describe rotations.
+ * <p>
+ * The vector part is stored in {@code x}, {@code y} and {@code z} and the scalar part in {@code w}. Rotating a
+ * vector by a unit quaternion needs no trigonometry, so a rotation around an arbitrary axis should be built
+ * once with {@link #fromAxisAngle(double, double, double, double)} and then applied to many vectors with
+ * {@link #rotate(Double3)} or {@link #rotate(Double3Array, Double3Array, int)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Quatd {
+
+    public final double x;
+    public final double y;
+    public final double z;
+    public final double w;
+
+    public static final Quatd IDENTITY = new Quatd(0.0, 0.0, 0.0, 1.0);
+
+    private static final double SLERP_THRESHOLD = 0.9995;
+
+    public Quatd(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Creates a quaternion rotating around an arbitrary axis.
+     *
+     * @param axisX The x component of the normalized axis.
+     * @param axisY The y component of the normalized axis.
+     * @param axisZ The z component of the normalized axis.
+     * @param angle The angle in radians.
+     * @return A new unit quaternion.
+     */
+    public static @NotNull Quatd fromAxisAngle(double axisX, double axisY, double axisZ, double angle) {
+        double sin = Math.sin(angle * 0.5);
+        double cos = Math.cos(angle * 0.5);
+        return new Quatd(axisX * sin, axisY * sin, axisZ * sin, cos);
+    }
+
+    /**
+     * Creates a quaternion rotating around an arbitrary axis.
+     *
+     * @param axis The normalized axis.
+     * @param angle The angle in radians.
+     * @return A new unit quaternion.
+     */
+    public static @NotNull Quatd fromAxisAngle(@NotNull Double3 axis, double angle) {
+        return fromAxisAngle(axis.x, axis.y, axis.z, angle);
+    }
+
+    /**
+     * Multiply this quaternion with another quaternion. The result applies the other rotation first.
+     *
+     * @param other The other quaternion.
+     * @return A new quaternion with the product.
+     */
+    public @NotNull Quatd multiply(@NotNull Quatd other) {
+        return new Quatd(
+                w * other.x + x * other.w + y * other.z - z * other.y,
+                w * other.y - x * other.z + y * other.w + z * other.x,
+                w * other.z + x * other.y - y * other.x + z * other.w,
+                w * other.w - x * other.x - y * other.y - z * other.z
+        );
+    }
+
+    /**
+     * Calculate the conjugate of this quaternion, which is its inverse if this quaternion is a unit quaternion.
+     *
+     * @return A new quaternion with the vector part negated.
+     */
+    public @NotNull Quatd conjugate() {
+        return new Quatd(-x, -y, -z, w);
+    }
+
+    /**
+     * Calculate the inverse of this quaternion.
+     *
+     * @throws ArithmeticException If this quaternion has a length of zero.
+     * @return A new quaternion with the inverse.
+     */
+    public @NotNull Quatd inverse() {
+        double lengthSquared = lengthSquared();
+        if (lengthSquared == 0.0)
+            throw new ArithmeticException("Cannot invert a quaternion with a length of zero");
+        double inverse = 1.0 / lengthSquared;
+        return new Quatd(-x * inverse, -y * inverse, -z * inverse, w * inverse);
+    }
+
+    /**
+     * Calculate the dot product of this quaternion and another quaternion.
+     *
+     * @param other The other quaternion.
+     * @return The dot product.
+     */
+    public double dot(@NotNull Quatd other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Calculate the length of this quaternion.
+     *
+     * @return The length of this quaternion.
+     */
+    public double length() {
+        return Math.sqrt(lengthSquared());
+    }
+
+    /**
+     * Calculate the squared length of this quaternion.
+     *
+     * @return The squared length of this quaternion.
+     */
+    public double lengthSquared() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    /**
+     * Normalize this quaternion.
+     *
+     * @throws IllegalArgumentException If this quaternion has a length of zero.
+     * @return A new unit quaternion.
+     */
+    public @NotNull Quatd normalize() {
+        double length = length();
+        if (length == 0.0)
+            throw new IllegalArgumentException("Cannot normalize a quaternion with a length of zero");
+        double inverse = 1.0 / length;
+        return new Quatd(x * inverse, y * inverse, z * inverse, w * inverse);
+    }
+
+    /**
+     * Interpolate linearly between this quaternion and another quaternion, and normalize the result.
+     * <p>
+     * The interpolation takes the shortest path. It is cheaper than {@link #slerp(Quatd, double)}, but does not
+     * rotate at a constant angular velocity.
+     *
+     * @param other The quaternion to interpolate to.
+     * @param t The interpolation factor, where 0 results in this quaternion and 1 in the other quaternion.
+     * @return A new unit quaternion.
+     */
+    public @NotNull Quatd nlerp(@NotNull Quatd other, double t) {
+        double s = dot(other) < 0.0 ? -t : t;
+        double u = 1.0 - t;
+        return new Quatd(
+                x * u + other.x * s,
+                y * u + other.y * s,
+                z * u + other.z * s,
+                w * u + other.w * s
+        ).normalize();
+    }
+
+    /**
+     * Interpolate spherically between this unit quaternion and another unit quaternion, taking the shortest path.
+     * <p>
+     * Nearly identical rotations fall back to {@link #nlerp(Quatd, double)}, which is indistinguishable there and
+     * avoids dividing by a vanishing sine.
+     *
+     * @param other The quaternion to interpolate to.
+     * @param t The interpolation factor, where 0 results in this quaternion and 1 in the other quaternion.
+     * @return A new unit quaternion.
+     */
+    public @NotNull Quatd slerp(@NotNull Quatd other, double t) {
+        double cos = dot(other);
+        double sign = 1.0;
+        if (cos < 0.0) {
+            cos = -cos;
+            sign = -1.0;
+        }
+        if (cos > SLERP_THRESHOLD)
+            return nlerp(other, t);
+        double angle = Math.acos(cos);
+        double inverseSin = 1.0 / Math.sin(angle);
+        double u = Math.sin((1.0 - t) * angle) * inverseSin;
+        double s = Math.sin(t * angle) * inverseSin * sign;
+        return new Quatd(
+                x * u + other.x * s,
+                y * u + other.y * s,
+                z * u + other.z * s,
+                w * u + other.w * s
+        );
+    }
+
+    /**
+     * Rotate a vector by this unit quaternion.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Double3 rotate(@NotNull Double3 vector) {
+        double vx = vector.x;
+        double vy = vector.y;
+        double vz = vector.z;
+
+        //  v' = v + w * t + q x t, where t = 2 * (q x v)
+        double tx = 2.0 * (y * vz - z * vy);
+        double ty = 2.0 * (z * vx - x * vz);
+        double tz = 2.0 * (x * vy - y * vx);
+        return new Double3(
+                vx + w * tx + y * tz - z * ty,
+                vy + w * ty + z * tx - x * tz,
+                vz + w * tz + x * ty - y * tx
+        );
+    }
+
+    /**
+     * Rotate a vector by this unit quaternion. Writes the result into the given vector without allocating.
+     *
+     * @param vx The x component.
+     * @param vy The y component.
+     * @param vz The z component.
+     * @param dst The vector to write the result into.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble3 rotate(double vx, double vy, double vz, @NotNull MutableDouble3 dst) {
+        double tx = 2.0 * (y * vz - z * vy);
+        double ty = 2.0 * (z * vx - x * vz);
+        double tz = 2.0 * (x * vy - y * vx);
+        return dst.set(
+                vx + w * tx + y * tz - z * ty,
+                vy + w * ty + z * tx - x * tz,
+                vz + w * tz + x * ty - y * tx
+        );
+    }
+
+    /**
+     * Rotate a vector by this unit quaternion in place.
+     *
+     * @param vector The vector to rotate.
+     * @return The given vector.
+     */
+    public @NotNull MutableDouble3 rotate(@NotNull MutableDouble3 vector) {
+        return rotate(vector.x, vector.y, vector.z, vector);
+    }
+
+    /**
+     * Rotate the first {@code count} vectors of an array by this unit quaternion.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to rotate.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void rotate(@NotNull Double3Array src, @NotNull Double3Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        double[] sxs = src.xs;
+        double[] sys = src.ys;
+        double[] szs = src.zs;
+        double[] dxs = dst.xs;
+        double[] dys = dst.ys;
+        double[] dzs = dst.zs;
+        double x = this.x;
+        double y = this.y;
+        double z = this.z;
+        double w = this.w;
+        for (int i = 0; i < count; i++) {
+            double vx = sxs[i];
+            double vy = sys[i];
+            double vz = szs[i];
+            double tx = 2.0 * (y * vz - z * vy);
+            double ty = 2.0 * (z * vx - x * vz);
+            double tz = 2.0 * (x * vy - y * vx);
+            dxs[i] = vx + w * tx + y * tz - z * ty;
+            dys[i] = vy + w * ty + z * tx - x * tz;
+            dzs[i] = vz + w * tz + x * ty - y * tx;
+        }
+    }
+
+    /**
+     * Converts this unit quaternion to a rotation matrix.
+     *
+     * @return A new Double3x3 with the same rotation.
+     */
+    public @NotNull Double3x3 toDouble3x3() {
+        double xx = x * x;
+        double yy = y * y;
+        double zz = z * z;
+        double xy = x * y;
+        double xz = x * z;
+        double yz = y * z;
+        double wx = w * x;
+        double wy = w * y;
+        double wz = w * z;
+        return new Double3x3(
+                1.0 - 2.0 * (yy + zz), 2.0 * (xy - wz), 2.0 * (xz + wy),
+                2.0 * (xy + wz), 1.0 - 2.0 * (xx + zz), 2.0 * (yz - wx),
+                2.0 * (xz - wy), 2.0 * (yz + wx), 1.0 - 2.0 * (xx + yy)
+        );
+    }
+
+    /**
+     * Converts this unit quaternion to an affine rotation matrix.
+     *
+     * @return A new Double4x4 with the same rotation.
+     */
+    public @NotNull Double4x4 toDouble4x4() {
+        return toDouble3x3().toDouble4x4();
+    }
+
+    /**
+     * Converts this quaternion to a {@link Quatf}.
+     *
+     * @return A new Quatf with the same components as this quaternion.
+     */
+    public @NotNull Quatf toFloat() {
+        return new Quatf((float) this.x, (float) this.y, (float) this.z, (float) this.w);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Quatd quatd)) return false;
+        return Double.compare(quatd.x, x) == 0 && Double.compare(quatd.y, y) == 0 && Double.compare(quatd.z, z) == 0 && Double.compare(quatd.w, w) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z), Hashing.bits(w));
+    }
+
+    @Override
+    public String toString() {
+        return "Quatd(%f, %f, %f, %f)".formatted(this.x, this.y, this.z, this.w);
+    }
+}
@@ -0,0 +1,337 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable quaternion of floats, used to describe rotations.
+ * <p>
+ * The vector part is stored in {@code x}, {@code y} and {@code z} and the scalar part in {@code w}. Rotating a
+ * vector by a unit quaternion needs no trigonometry, so a rotation around an arbitrary axis should be built
+ * once with {@link #fromAxisAngle(float, float, float, double)} and then applied to many vectors with
+ * {@link #rotate(Float3)} or {@link #rotate(Float3Array, Float3Array, int)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class Quatf {
+
+    public final float x;
+    public final float y;
+    public final float z;
+    public final float w;
+
+    public static final Quatf IDENTITY = new Quatf(0.0f, 0.0f, 0.0f, 1.0f);
+
+    private static final float SLERP_THRESHOLD = 0.9995f;
+
+    public Quatf(float x, float y, float z, float w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Creates a quaternion rotating around an arbitrary axis.
+     *
+     * @param axisX The x component of the normalized axis.
+     * @param axisY The y component of the normalized axis.
+     * @param axisZ The z component of the normalized axis.
+     * @param angle The angle in radians.
+     * @return A new unit quaternion.
+     */
+    public static @NotNull Quatf fromAxisAngle(float axisX, float axisY, float axisZ, double angle) {
+        float sin = (float) Math.sin(angle * 0.5);
+        float cos = (float) Math.cos(angle * 0.5);
+        return new Quatf(axisX * sin, axisY * sin, axisZ * sin, cos);
+    }
+
+    /**
+     * Creates a quaternion rotating around an arbitrary axis.
+     *
+     * @param axis The normalized axis.
+     * @param angle The angle in radians.
+     * @return A new unit quaternion.
+     */
+    public static @NotNull Quatf fromAxisAngle(@NotNull Float3 axis, double angle) {
+        return fromAxisAngle(axis.x, axis.y, axis.z, angle);
+    }
+
+    /**
+     * Multiply this quaternion with another quaternion. The result applies the other rotation first.
+     *
+     * @param other The other quaternion.
+     * @return A new quaternion with the product.
+     */
+    public @NotNull Quatf multiply(@NotNull Quatf other) {
+        return new Quatf(
+                w * other.x + x * other.w + y * other.z - z * other.y,
+                w * other.y - x * other.z + y * other.w + z * other.x,
+                w * other.z + x * other.y - y * other.x + z * other.w,
+                w * other.w - x * other.x - y * other.y - z * other.z
+        );
+    }
+
+    /**
+     * Calculate the conjugate of this quaternion, which is its inverse if this quaternion is a unit quaternion.
+     *
+     * @return A new quaternion with the vector part negated.
+     */
+    public @NotNull Quatf conjugate() {
+        return new Quatf(-x, -y, -z, w);
+    }
+
+    /**
+     * Calculate the inverse of this quaternion.
+     *
+     * @throws ArithmeticException If this quaternion has a length of zero.
+     * @return A new quaternion with the inverse.
+     */
+    public @NotNull Quatf inverse() {
+        float lengthSquared = lengthSquared();
+        if (lengthSquared == 0.0f)
+            throw new ArithmeticException("Cannot invert a quaternion with a length of zero");
+        float inverse = 1.0f / lengthSquared;
+        return new Quatf(-x * inverse, -y * inverse, -z * inverse, w * inverse);
+    }
+
+    /**
+     * Calculate the dot product of this quaternion and another quaternion.
+     *
+     * @param other The other quaternion.
+     * @return The dot product.
+     */
+    public float dot(@NotNull Quatf other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    /**
+     * Calculate the length of this quaternion.
+     *
+     * @return The length of this quaternion.
+     */
+    public float length() {
+        return (float) Math.sqrt(lengthSquared());
+    }
+
+    /**
+     * Calculate the squared length of this quaternion.
+     *
+     * @return The squared length of this quaternion.
+     */
+    public float lengthSquared() {
+        return x * x + y * y + z * z + w * w;
+    }
+
+    /**
+     * Normalize this quaternion.
+     *
+     * @throws IllegalArgumentException If this quaternion has a length of zero.
+     * @return A new unit quaternion.
+     */
+    public @NotNull Quatf normalize() {
+        float length = length();
+        if (length == 0.0f)
+            throw new IllegalArgumentException("Cannot normalize a quaternion with a length of zero");
+        float inverse = 1.0f / length;
+        return new Quatf(x * inverse, y * inverse, z * inverse, w * inverse);
+    }
+
+    /**
+     * Interpolate linearly between this quaternion and another quaternion, and normalize the result.
+     * <p>
+     * The interpolation takes the shortest path. It is cheaper than {@link #slerp(Quatf, float)}, but does not
+     * rotate at a constant angular velocity.
+     *
+     * @param other The quaternion to interpolate to.
+     * @param t The interpolation factor, where 0 results in this quaternion and 1 in the other quaternion.
+     * @return A new unit quaternion.
+     */
+    public @NotNull Quatf nlerp(@NotNull Quatf other, float t) {
+        float s = dot(other) < 0.0f ? -t : t;
+        float u = 1.0f - t;
+        return new Quatf(
+                x * u + other.x * s,
+                y * u + other.y * s,
+                z * u + other.z * s,
+                w * u + other.w * s
+        ).normalize();
+    }
+
+    /**
+     * Interpolate spherically between this unit quaternion and another unit quaternion, taking the shortest path.
+     * <p>
+     * Nearly identical rotations fall back to {@link #nlerp(Quatf, float)}, which is indistinguishable there and
+     * avoids dividing by a vanishing sine.
+     *
+     * @param other The quaternion to interpolate to.
+     * @param t The interpolation factor, where 0 results in this quaternion and 1 in the other quaternion.
+     * @return A new unit quaternion.
+     */
+    public @NotNull Quatf slerp(@NotNull Quatf other, float t) {
+        float cos = dot(other);
+        float sign = 1.0f;
+        if (cos < 0.0f) {
+            cos = -cos;
+            sign = -1.0f;
+        }
+        if (cos > SLERP_THRESHOLD)
+            return nlerp(other, t);
+        double angle = Math.acos(cos);
+        double inverseSin = 1.0 / Math.sin(angle);
+        float u = (float) (Math.sin((1.0 - t) * angle) * inverseSin);
+        float s = (float) (Math.sin(t * angle) * inverseSin) * sign;
+        return new Quatf(
+                x * u + other.x * s,
+                y * u + other.y * s,
+                z * u + other.z * s,
+                w * u + other.w * s
+        );
+    }
+
+    /**
+     * Rotate a vector by this unit quaternion.
+     *
+     * @param vector The vector.
+     * @return A new vector with the result.
+     */
+    public @NotNull Float3 rotate(@NotNull Float3 vector) {
+        float vx = vector.x;
+        float vy = vector.y;
+        float vz = vector.z;
+
+        //  v' = v + w * t + q x t, where t = 2 * (q x v)
+        float tx = 2.0f * (y * vz - z * vy);
+        float ty = 2.0f * (z * vx - x * vz);
+        float tz = 2.0f * (x * vy - y * vx);
+        return new Float3(
+                vx + w * tx + y * tz - z * ty,
+                vy + w * ty + z * tx - x * tz,
+                vz + w * tz + x * ty - y * tx
+        );
+    }
+
+    /**
+     * Rotate a vector by this unit quaternion. Writes the result into the given vector without allocating.
+     *
+     * @param vx The x component.
+     * @param vy The y component.
+     * @param vz The z component.
+     * @param dst The vector to write the result into.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 rotate(float vx, float vy, float vz, @NotNull MutableFloat3 dst) {
+        float tx = 2.0f * (y * vz - z * vy);
+        float ty = 2.0f * (z * vx - x * vz);
+        float tz = 2.0f * (x * vy - y * vx);
+        return dst.set(
+                vx + w * tx + y * tz - z * ty,
+                vy + w * ty + z * tx - x * tz,
+                vz + w * tz + x * ty - y * tx
+        );
+    }
+
+    /**
+     * Rotate a vector by this unit quaternion in place.
+     *
+     * @param vector The vector to rotate.
+     * @return The given vector.
+     */
+    public @NotNull MutableFloat3 rotate(@NotNull MutableFloat3 vector) {
+        return rotate(vector.x, vector.y, vector.z, vector);
+    }
+
+    /**
+     * Rotate the first {@code count} vectors of an array by this unit quaternion.
+     * The source and destination may be the same array.
+     *
+     * @param src The vectors to rotate.
+     * @param dst The array to write the results into.
+     * @param count The number of vectors.
+     * @throws IndexOutOfBoundsException If either array holds fewer than {@code count} vectors.
+     */
+    public void rotate(@NotNull Float3Array src, @NotNull Float3Array dst, int count) {
+        Objects.checkFromToIndex(0, count, src.size());
+        Objects.checkFromToIndex(0, count, dst.size());
+        float[] sxs = src.xs;
+        float[] sys = src.ys;
+        float[] szs = src.zs;
+        float[] dxs = dst.xs;
+        float[] dys = dst.ys;
+        float[] dzs = dst.zs;
+        float x = this.x;
+        float y = this.y;
+        float z = this.z;
+        float w = this.w;
+        for (int i = 0; i < count; i++) {
+            float vx = sxs[i];
+            float vy = sys[i];
+            float vz = szs[i];
+            float tx = 2.0f * (y * vz - z * vy);
+            float ty = 2.0f * (z * vx - x * vz);
+            float tz = 2.0f * (x * vy - y * vx);
+            dxs[i] = vx + w * tx + y * tz - z * ty;
+            dys[i] = vy + w * ty + z * tx - x * tz;
+            dzs[i] = vz + w * tz + x * ty - y * tx;
+        }
+    }
+
+    /**
+     * Converts this unit quaternion to a rotation matrix.
+     *
+     * @return A new Float3x3 with the same rotation.
+     */
+    public @NotNull Float3x3 toFloat3x3() {
+        float xx = x * x;
+        float yy = y * y;
+        float zz = z * z;
+        float xy = x * y;
+        float xz = x * z;
+        float yz = y * z;
+        float wx = w * x;
+        float wy = w * y;
+        float wz = w * z;
+        return new Float3x3(
+                1.0f - 2.0f * (yy + zz), 2.0f * (xy - wz), 2.0f * (xz + wy),
+                2.0f * (xy + wz), 1.0f - 2.0f * (xx + zz), 2.0f * (yz - wx),
+                2.0f * (xz - wy), 2.0f * (yz + wx), 1.0f - 2.0f * (xx + yy)
+        );
+    }
+
+    /**
+     * Converts this unit quaternion to an affine rotation matrix.
+     *
+     * @return A new Float4x4 with the same rotation.
+     */
+    public @NotNull Float4x4 toFloat4x4() {
+        return toFloat3x3().toFloat4x4();
+    }
+
+    /**
+     * Converts this quaternion to a {@link Quatd}.
+     *
+     * @return A new Quatd with the same components as this quaternion.
+     */
+    public @NotNull Quatd toDouble() {
+        return new Quatd(this.x, this.y, this.z, this.w);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Quatf quatf)) return false;
+        return Float.compare(quatf.x, x) == 0 && Float.compare(quatf.y, y) == 0 && Float.compare(quatf.z, z) == 0 && Float.compare(quatf.w, w) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Hashing.hash(Hashing.bits(x), Hashing.bits(y), Hashing.bits(z), Hashing.bits(w));
+    }
+
+    @Override
+    public String toString() {
+        return "Quatf(%f, %f, %f, %f)".formatted(this.x, this.y, this.z, this.w);
+    }
+}
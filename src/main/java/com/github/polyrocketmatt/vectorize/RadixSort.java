@@ -0,0 +1,72 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Stable least significant digit radix sort over unsigned long keys, used to order vectors by space-filling
+ * curve codes.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+final class RadixSort {
+
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    private RadixSort() {}
+
+    /**
+     * Compute the order of the given keys, compared as unsigned values. Equal keys keep their relative order.
+     * Passes over digits that are equal for all keys are skipped.
+     *
+     * @param keys The keys, which are not modified.
+     * @return The permutation, where element {@code i} is the index of the {@code i}-th smallest key.
+     */
+    static @NotNull int[] order(@NotNull long[] keys) {
+        int size = keys.length;
+        long[] sourceKeys = keys.clone();
+        long[] targetKeys = new long[size];
+        int[] sourceOrder = new int[size];
+        int[] targetOrder = new int[size];
+        long all = -1L;
+        long any = 0L;
+        for (int i = 0; i < size; i++) {
+            sourceOrder[i] = i;
+            all &= keys[i];
+            any |= keys[i];
+        }
+        long varying = all ^ any;
+        int[] offsets = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            if (((varying >>> shift) & DIGIT_MASK) == 0)
+                continue;
+            Arrays.fill(offsets, 0);
+            for (int i = 0; i < size; i++)
+                offsets[(int) (sourceKeys[i] >>> shift) & DIGIT_MASK]++;
+            int offset = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < size; i++) {
+                long key = sourceKeys[i];
+                int target = offsets[(int) (key >>> shift) & DIGIT_MASK]++;
+                targetKeys[target] = key;
+                targetOrder[target] = sourceOrder[i];
+            }
+            long[] keySwap = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = keySwap;
+            int[] orderSwap = sourceOrder;
+            sourceOrder = targetOrder;
+            targetOrder = orderSwap;
+        }
+        return sourceOrder;
+    }
+
+}
@@ -0,0 +1,513 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Represents a uniform spatial hash of points, answering radius and box queries without testing every point.
+ * <p>
+ * Space is divided into cubic cells of a fixed size, and a point belongs to the cell obtained by flooring its
+ * coordinates divided by the cell size, as {@link Double3#floor()} would. Points are identified by the int handle
+ * returned when inserting them, and handles of removed points are reused. Coordinates are stored in primitive
+ * arrays and the points of a cell are linked through their handles, so inserting, moving and removing points does
+ * not allocate once the arrays have grown. Moving a point within its cell only updates its coordinates, so
+ * updating all points every tick is cheap when they move slowly compared to the cell size.
+ * <p>
+ * A good cell size is close to the most common query radius. All cells must be within
+ * [{@link Int3#PACKED_MIN}, {@link Int3#PACKED_MAX}].
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public class SpatialHash {
+
+    private static final long FREE = Long.MIN_VALUE;
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final double cellSize;
+    private final double inverseCellSize;
+    private final Int3IntMap heads;
+
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private long[] cells;
+    private int[] next;
+    private int[] previous;
+    private int handles;
+    private int freeHandle;
+    private int size;
+
+    public SpatialHash(double cellSize) {
+        this(cellSize, DEFAULT_CAPACITY);
+    }
+
+    public SpatialHash(double cellSize, int expectedSize) {
+        if (!(cellSize > 0.0) || Double.isInfinite(cellSize))
+            throw new IllegalArgumentException("'cellSize' must be positive and finite, found %f".formatted(cellSize));
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("'expectedSize' cannot be negative, found %d".formatted(expectedSize));
+        int capacity = Math.max(expectedSize, 1);
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1.0 / cellSize;
+        this.heads = new Int3IntMap(expectedSize);
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.zs = new double[capacity];
+        this.cells = new long[capacity];
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.freeHandle = NONE;
+    }
+
+    /**
+     * Get the size of the cells of this spatial hash.
+     *
+     * @return The cell size.
+     */
+    public double cellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Get the number of points in this spatial hash.
+     *
+     * @return The number of points.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if this spatial hash contains no points.
+     *
+     * @return True if this spatial hash is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check if the given handle refers to a point in this spatial hash.
+     *
+     * @param handle The handle.
+     * @return True if the handle refers to a point, false otherwise.
+     */
+    public boolean contains(int handle) {
+        return handle >= 0 && handle < handles && cells[handle] != FREE;
+    }
+
+    /**
+     * Insert a point into this spatial hash.
+     *
+     * @param x The x coordinate.
+     * @param y The y coordinate.
+     * @param z The z coordinate.
+     * @throws IllegalArgumentException If the cell of the point cannot be packed.
+     * @return The handle of the point.
+     */
+    public int insert(double x, double y, double z) {
+        long cell = Int3.pack(cell(x), cell(y), cell(z));
+        int handle = allocate();
+        xs[handle] = x;
+        ys[handle] = y;
+        zs[handle] = z;
+        link(handle, cell);
+        size++;
+        return handle;
+    }
+
+    /**
+     * Insert a point into this spatial hash.
+     *
+     * @param point The point.
+     * @throws IllegalArgumentException If the cell of the point cannot be packed.
+     * @return The handle of the point.
+     */
+    public int insert(@NotNull Float3 point) {
+        return insert(point.x, point.y, point.z);
+    }
+
+    /**
+     * Insert a point into this spatial hash.
+     *
+     * @param point The point.
+     * @throws IllegalArgumentException If the cell of the point cannot be packed.
+     * @return The handle of the point.
+     */
+    public int insert(@NotNull Double3 point) {
+        return insert(point.x, point.y, point.z);
+    }
+
+    /**
+     * Remove a point from this spatial hash. Its handle may be returned again by a later insertion.
+     *
+     * @param handle The handle of the point.
+     * @return True if the point was removed, false if the handle did not refer to a point.
+     */
+    public boolean remove(int handle) {
+        if (!contains(handle))
+            return false;
+        unlink(handle);
+        cells[handle] = FREE;
+        next[handle] = freeHandle;
+        freeHandle = handle;
+        size--;
+        return true;
+    }
+
+    /**
+     * Move a point to new coordinates.
+     *
+     * @param handle The handle of the point.
+     * @param x The new x coordinate.
+     * @param y The new y coordinate.
+     * @param z The new z coordinate.
+     * @throws IllegalArgumentException If the handle does not refer to a point or the new cell cannot be packed.
+     */
+    public void move(int handle, double x, double y, double z) {
+        checkHandle(handle);
+        int cellX = cell(x);
+        int cellY = cell(y);
+        int cellZ = cell(z);
+        long cell = cells[handle];
+        if (Int3.unpackX(cell) != cellX || Int3.unpackY(cell) != cellY || Int3.unpackZ(cell) != cellZ) {
+            long moved = Int3.pack(cellX, cellY, cellZ);
+            unlink(handle);
+            link(handle, moved);
+        }
+        xs[handle] = x;
+        ys[handle] = y;
+        zs[handle] = z;
+    }
+
+    /**
+     * Move a point to new coordinates.
+     *
+     * @param handle The handle of the point.
+     * @param point The new coordinates.
+     * @throws IllegalArgumentException If the handle does not refer to a point or the new cell cannot be packed.
+     */
+    public void move(int handle, @NotNull Float3 point) {
+        move(handle, point.x, point.y, point.z);
+    }
+
+    /**
+     * Move a point to new coordinates.
+     *
+     * @param handle The handle of the point.
+     * @param point The new coordinates.
+     * @throws IllegalArgumentException If the handle does not refer to a point or the new cell cannot be packed.
+     */
+    public void move(int handle, @NotNull Double3 point) {
+        move(handle, point.x, point.y, point.z);
+    }
+
+    /**
+     * Get the x coordinate of a point.
+     *
+     * @param handle The handle of the point.
+     * @throws IllegalArgumentException If the handle does not refer to a point.
+     * @return The x coordinate.
+     */
+    public double x(int handle) {
+        checkHandle(handle);
+        return xs[handle];
+    }
+
+    /**
+     * Get the y coordinate of a point.
+     *
+     * @param handle The handle of the point.
+     * @throws IllegalArgumentException If the handle does not refer to a point.
+     * @return The y coordinate.
+     */
+    public double y(int handle) {
+        checkHandle(handle);
+        return ys[handle];
+    }
+
+    /**
+     * Get the z coordinate of a point.
+     *
+     * @param handle The handle of the point.
+     * @throws IllegalArgumentException If the handle does not refer to a point.
+     * @return The z coordinate.
+     */
+    public double z(int handle) {
+        checkHandle(handle);
+        return zs[handle];
+    }
+
+    /**
+     * Get the coordinates of a point.
+     *
+     * @param handle The handle of the point.
+     * @throws IllegalArgumentException If the handle does not refer to a point.
+     * @return A new Double3 with the coordinates.
+     */
+    public @NotNull Double3 position(int handle) {
+        checkHandle(handle);
+        return new Double3(xs[handle], ys[handle], zs[handle]);
+    }
+
+    /**
+     * Call the given consumer with the handle of every point within the given distance of the center, in no
+     * particular order. Points at exactly the given distance are included.
+     *
+     * @param x The x coordinate of the center.
+     * @param y The y coordinate of the center.
+     * @param z The z coordinate of the center.
+     * @param radius The distance.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @return The number of points found.
+     */
+    public int queryRadius(double x, double y, double z, double radius, @NotNull IntConsumer consumer) {
+        if (!(radius >= 0.0))
+            throw new IllegalArgumentException("'radius' cannot be negative, found %f".formatted(radius));
+        double radiusSquared = radius * radius;
+        int minX = clampedCell(x - radius);
+        int minY = clampedCell(y - radius);
+        int minZ = clampedCell(z - radius);
+        int maxX = clampedCell(x + radius);
+        int maxY = clampedCell(y + radius);
+        int maxZ = clampedCell(z + radius);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        int count = 0;
+        if (scanAll(minX, minY, minZ, maxX, maxY, maxZ)) {
+            for (int handle = 0; handle < handles; handle++) {
+                if (cells[handle] == FREE)
+                    continue;
+                double dx = xs[handle] - x;
+                double dy = ys[handle] - y;
+                double dz = zs[handle] - z;
+                if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                    consumer.accept(handle);
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int cellX = minX; cellX <= maxX; cellX++) {
+            for (int cellY = minY; cellY <= maxY; cellY++) {
+                for (int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+                    for (int handle = heads.get(cellX, cellY, cellZ) - 1; handle != NONE; handle = next[handle]) {
+                        double dx = xs[handle] - x;
+                        double dy = ys[handle] - y;
+                        double dz = zs[handle] - z;
+                        if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                            consumer.accept(handle);
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Call the given consumer with the handle of every point within the given distance of the center, in no
+     * particular order. Points at exactly the given distance are included.
+     *
+     * @param center The center.
+     * @param radius The distance.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @return The number of points found.
+     */
+    public int queryRadius(@NotNull Float3 center, double radius, @NotNull IntConsumer consumer) {
+        return queryRadius(center.x, center.y, center.z, radius, consumer);
+    }
+
+    /**
+     * Call the given consumer with the handle of every point within the given distance of the center, in no
+     * particular order. Points at exactly the given distance are included.
+     *
+     * @param center The center.
+     * @param radius The distance.
+     * @param consumer The consumer.
+     * @throws IllegalArgumentException If the radius is negative.
+     * @return The number of points found.
+     */
+    public int queryRadius(@NotNull Double3 center, double radius, @NotNull IntConsumer consumer) {
+        return queryRadius(center.x, center.y, center.z, radius, consumer);
+    }
+
+    /**
+     * Call the given consumer with the handle of every point within the given box, in no particular order.
+     * Points on the boundary of the box are included.
+     *
+     * @param minX The minimum x coordinate.
+     * @param minY The minimum y coordinate.
+     * @param minZ The minimum z coordinate.
+     * @param maxX The maximum x coordinate.
+     * @param maxY The maximum y coordinate.
+     * @param maxZ The maximum z coordinate.
+     * @param consumer The consumer.
+     * @return The number of points found.
+     */
+    public int queryBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                        @NotNull IntConsumer consumer) {
+        if (!(minX <= maxX && minY <= maxY && minZ <= maxZ))
+            return 0;
+        int minCellX = clampedCell(minX);
+        int minCellY = clampedCell(minY);
+        int minCellZ = clampedCell(minZ);
+        int maxCellX = clampedCell(maxX);
+        int maxCellY = clampedCell(maxY);
+        int maxCellZ = clampedCell(maxZ);
+        double[] xs = this.xs;
+        double[] ys = this.ys;
+        double[] zs = this.zs;
+        int count = 0;
+        if (scanAll(minCellX, minCellY, minCellZ, maxCellX, maxCellY, maxCellZ)) {
+            for (int handle = 0; handle < handles; handle++) {
+                if (cells[handle] == FREE)
+                    continue;
+                double x = xs[handle];
+                double y = ys[handle];
+                double z = zs[handle];
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                    consumer.accept(handle);
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    for (int handle = heads.get(cellX, cellY, cellZ) - 1; handle != NONE; handle = next[handle]) {
+                        double x = xs[handle];
+                        double y = ys[handle];
+                        double z = zs[handle];
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                            consumer.accept(handle);
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Call the given consumer with the handle of every point within the given box, in no particular order.
+     * Points on the boundary of the box are included.
+     *
+     * @param min The minimum corner of the box.
+     * @param max The maximum corner of the box.
+     * @param consumer The consumer.
+     * @return The number of points found.
+     */
+    public int queryBox(@NotNull Float3 min, @NotNull Float3 max, @NotNull IntConsumer consumer) {
+        return queryBox(min.x, min.y, min.z, max.x, max.y, max.z, consumer);
+    }
+
+    /**
+     * Call the given consumer with the handle of every point within the given box, in no particular order.
+     * Points on the boundary of the box are included.
+     *
+     * @param min The minimum corner of the box.
+     * @param max The maximum corner of the box.
+     * @param consumer The consumer.
+     * @return The number of points found.
+     */
+    public int queryBox(@NotNull Double3 min, @NotNull Double3 max, @NotNull IntConsumer consumer) {
+        return queryBox(min.x, min.y, min.z, max.x, max.y, max.z, consumer);
+    }
+
+    /**
+     * Remove all points from this spatial hash, keeping the allocated capacity.
+     */
+    public void clear() {
+        heads.clear();
+        handles = 0;
+        freeHandle = NONE;
+        size = 0;
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate * inverseCellSize);
+    }
+
+    private int clampedCell(double coordinate) {
+        return Math.min(Math.max(cell(coordinate), Int3.PACKED_MIN), Int3.PACKED_MAX);
+    }
+
+    /**
+     * Check if testing every point is cheaper than visiting the cells of the given range.
+     */
+    private boolean scanAll(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        long cellCount = (maxX - minX + 1L) * (maxY - minY + 1L) * (maxZ - minZ + 1L);
+        return cellCount > size;
+    }
+
+    private void checkHandle(int handle) {
+        if (!contains(handle))
+            throw new IllegalArgumentException("'handle' must refer to a point, found %d".formatted(handle));
+    }
+
+    private int allocate() {
+        if (freeHandle != NONE) {
+            int handle = freeHandle;
+            freeHandle = next[handle];
+            return handle;
+        }
+        if (handles == cells.length)
+            grow(cells.length << 1);
+        return handles++;
+    }
+
+    private void grow(int capacity) {
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        cells = Arrays.copyOf(cells, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+    }
+
+    /**
+     * Add a point to the front of the list of the given cell.
+     */
+    private void link(int handle, long cell) {
+        int x = Int3.unpackX(cell);
+        int y = Int3.unpackY(cell);
+        int z = Int3.unpackZ(cell);
+        int head = heads.put(x, y, z, handle + 1) - 1;
+        cells[handle] = cell;
+        previous[handle] = NONE;
+        next[handle] = head;
+        if (head != NONE)
+            previous[head] = handle;
+    }
+
+    /**
+     * Remove a point from the list of its cell, removing the cell once it is empty.
+     */
+    private void unlink(int handle) {
+        int before = previous[handle];
+        int after = next[handle];
+        if (after != NONE)
+            previous[after] = before;
+        if (before != NONE) {
+            next[before] = after;
+            return;
+        }
+        long cell = cells[handle];
+        if (after == NONE)
+            heads.remove(Int3.unpackX(cell), Int3.unpackY(cell), Int3.unpackZ(cell));
+        else
+            heads.put(Int3.unpackX(cell), Int3.unpackY(cell), Int3.unpackZ(cell), after + 1);
+    }
+
+}
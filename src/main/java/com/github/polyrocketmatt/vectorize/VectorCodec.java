@@ -0,0 +1,1869 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+/**
+ * Writes vectors to and reads vectors from {@link ByteBuffer}s, one at a time, in bulk and through flyweight views.
+ * <p>
+ * A vector is encoded as its components in the order x, y, z, w, without any header, in the byte order of the
+ * buffer, so {@link ByteBuffer#order(java.nio.ByteOrder)} selects little or big endian and heap and direct buffers
+ * are handled alike. Arrays of vectors and the structure of arrays types share this encoding, so an
+ * {@link Float3Array} written here can be read back as a {@code Float3[]} and the other way around. Every
+ * operation checks that the buffer has enough room before it writes or reads anything, so a failed operation
+ * leaves the buffer unchanged.
+ * <p>
+ * The views, such as {@link Float3View}, read the components of a vector straight from a buffer when they are
+ * asked for, so a large buffer of vectors can be inspected without creating a vector for every element.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public final class VectorCodec {
+
+    public static final int INT2_BYTES = 2 * Integer.BYTES;
+    public static final int INT3_BYTES = 3 * Integer.BYTES;
+    public static final int INT4_BYTES = 4 * Integer.BYTES;
+    public static final int FLOAT2_BYTES = 2 * Float.BYTES;
+    public static final int FLOAT3_BYTES = 3 * Float.BYTES;
+    public static final int FLOAT4_BYTES = 4 * Float.BYTES;
+    public static final int DOUBLE2_BYTES = 2 * Double.BYTES;
+    public static final int DOUBLE3_BYTES = 3 * Double.BYTES;
+    public static final int DOUBLE4_BYTES = 4 * Double.BYTES;
+
+    private VectorCodec() {}
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #INT2_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #INT2_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int2 vector) {
+        int position = reserve(buffer, INT2_BYTES);
+        buffer.putInt(position, vector.x);
+        buffer.putInt(position + 4, vector.y);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #INT2_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #INT2_BYTES} bytes remain in the buffer.
+     * @return A new Int2 with the components read.
+     */
+    public static @NotNull Int2 readInt2(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, INT2_BYTES);
+        return new Int2(buffer.getInt(position), buffer.getInt(position + 4));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int2[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, INT2_BYTES));
+        for (Int2 vector : vectors) {
+            buffer.putInt(offset, vector.x);
+            buffer.putInt(offset + 4, vector.y);
+            offset += INT2_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Int2[] readInt2s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, INT2_BYTES));
+        Int2[] vectors = new Int2[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Int2(buffer.getInt(offset), buffer.getInt(offset + 4));
+            offset += INT2_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int2Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, INT2_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putInt(offset, array.xs[i]);
+            buffer.putInt(offset + 4, array.ys[i]);
+            offset += INT2_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Int2Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, INT2_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getInt(offset);
+            array.ys[i] = buffer.getInt(offset + 4);
+            offset += INT2_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #INT3_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #INT3_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int3 vector) {
+        int position = reserve(buffer, INT3_BYTES);
+        buffer.putInt(position, vector.x);
+        buffer.putInt(position + 4, vector.y);
+        buffer.putInt(position + 8, vector.z);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #INT3_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #INT3_BYTES} bytes remain in the buffer.
+     * @return A new Int3 with the components read.
+     */
+    public static @NotNull Int3 readInt3(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, INT3_BYTES);
+        return new Int3(buffer.getInt(position), buffer.getInt(position + 4), buffer.getInt(position + 8));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int3[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, INT3_BYTES));
+        for (Int3 vector : vectors) {
+            buffer.putInt(offset, vector.x);
+            buffer.putInt(offset + 4, vector.y);
+            buffer.putInt(offset + 8, vector.z);
+            offset += INT3_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Int3[] readInt3s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, INT3_BYTES));
+        Int3[] vectors = new Int3[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Int3(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8));
+            offset += INT3_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int3Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, INT3_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putInt(offset, array.xs[i]);
+            buffer.putInt(offset + 4, array.ys[i]);
+            buffer.putInt(offset + 8, array.zs[i]);
+            offset += INT3_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Int3Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, INT3_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getInt(offset);
+            array.ys[i] = buffer.getInt(offset + 4);
+            array.zs[i] = buffer.getInt(offset + 8);
+            offset += INT3_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #INT4_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #INT4_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int4 vector) {
+        int position = reserve(buffer, INT4_BYTES);
+        buffer.putInt(position, vector.x);
+        buffer.putInt(position + 4, vector.y);
+        buffer.putInt(position + 8, vector.z);
+        buffer.putInt(position + 12, vector.w);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #INT4_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #INT4_BYTES} bytes remain in the buffer.
+     * @return A new Int4 with the components read.
+     */
+    public static @NotNull Int4 readInt4(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, INT4_BYTES);
+        return new Int4(buffer.getInt(position), buffer.getInt(position + 4), buffer.getInt(position + 8), buffer.getInt(position + 12));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int4[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, INT4_BYTES));
+        for (Int4 vector : vectors) {
+            buffer.putInt(offset, vector.x);
+            buffer.putInt(offset + 4, vector.y);
+            buffer.putInt(offset + 8, vector.z);
+            buffer.putInt(offset + 12, vector.w);
+            offset += INT4_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Int4[] readInt4s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, INT4_BYTES));
+        Int4[] vectors = new Int4[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Int4(buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getInt(offset + 8), buffer.getInt(offset + 12));
+            offset += INT4_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Int4Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, INT4_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putInt(offset, array.xs[i]);
+            buffer.putInt(offset + 4, array.ys[i]);
+            buffer.putInt(offset + 8, array.zs[i]);
+            buffer.putInt(offset + 12, array.ws[i]);
+            offset += INT4_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Int4Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, INT4_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getInt(offset);
+            array.ys[i] = buffer.getInt(offset + 4);
+            array.zs[i] = buffer.getInt(offset + 8);
+            array.ws[i] = buffer.getInt(offset + 12);
+            offset += INT4_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #FLOAT2_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #FLOAT2_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float2 vector) {
+        int position = reserve(buffer, FLOAT2_BYTES);
+        buffer.putFloat(position, vector.x);
+        buffer.putFloat(position + 4, vector.y);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #FLOAT2_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #FLOAT2_BYTES} bytes remain in the buffer.
+     * @return A new Float2 with the components read.
+     */
+    public static @NotNull Float2 readFloat2(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, FLOAT2_BYTES);
+        return new Float2(buffer.getFloat(position), buffer.getFloat(position + 4));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float2[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, FLOAT2_BYTES));
+        for (Float2 vector : vectors) {
+            buffer.putFloat(offset, vector.x);
+            buffer.putFloat(offset + 4, vector.y);
+            offset += FLOAT2_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Float2[] readFloat2s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, FLOAT2_BYTES));
+        Float2[] vectors = new Float2[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Float2(buffer.getFloat(offset), buffer.getFloat(offset + 4));
+            offset += FLOAT2_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float2Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, FLOAT2_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putFloat(offset, array.xs[i]);
+            buffer.putFloat(offset + 4, array.ys[i]);
+            offset += FLOAT2_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Float2Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, FLOAT2_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getFloat(offset);
+            array.ys[i] = buffer.getFloat(offset + 4);
+            offset += FLOAT2_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #FLOAT3_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #FLOAT3_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float3 vector) {
+        int position = reserve(buffer, FLOAT3_BYTES);
+        buffer.putFloat(position, vector.x);
+        buffer.putFloat(position + 4, vector.y);
+        buffer.putFloat(position + 8, vector.z);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #FLOAT3_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #FLOAT3_BYTES} bytes remain in the buffer.
+     * @return A new Float3 with the components read.
+     */
+    public static @NotNull Float3 readFloat3(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, FLOAT3_BYTES);
+        return new Float3(buffer.getFloat(position), buffer.getFloat(position + 4), buffer.getFloat(position + 8));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float3[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, FLOAT3_BYTES));
+        for (Float3 vector : vectors) {
+            buffer.putFloat(offset, vector.x);
+            buffer.putFloat(offset + 4, vector.y);
+            buffer.putFloat(offset + 8, vector.z);
+            offset += FLOAT3_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Float3[] readFloat3s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, FLOAT3_BYTES));
+        Float3[] vectors = new Float3[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Float3(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8));
+            offset += FLOAT3_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float3Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, FLOAT3_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putFloat(offset, array.xs[i]);
+            buffer.putFloat(offset + 4, array.ys[i]);
+            buffer.putFloat(offset + 8, array.zs[i]);
+            offset += FLOAT3_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Float3Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, FLOAT3_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getFloat(offset);
+            array.ys[i] = buffer.getFloat(offset + 4);
+            array.zs[i] = buffer.getFloat(offset + 8);
+            offset += FLOAT3_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #FLOAT4_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #FLOAT4_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float4 vector) {
+        int position = reserve(buffer, FLOAT4_BYTES);
+        buffer.putFloat(position, vector.x);
+        buffer.putFloat(position + 4, vector.y);
+        buffer.putFloat(position + 8, vector.z);
+        buffer.putFloat(position + 12, vector.w);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #FLOAT4_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #FLOAT4_BYTES} bytes remain in the buffer.
+     * @return A new Float4 with the components read.
+     */
+    public static @NotNull Float4 readFloat4(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, FLOAT4_BYTES);
+        return new Float4(buffer.getFloat(position), buffer.getFloat(position + 4), buffer.getFloat(position + 8), buffer.getFloat(position + 12));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float4[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, FLOAT4_BYTES));
+        for (Float4 vector : vectors) {
+            buffer.putFloat(offset, vector.x);
+            buffer.putFloat(offset + 4, vector.y);
+            buffer.putFloat(offset + 8, vector.z);
+            buffer.putFloat(offset + 12, vector.w);
+            offset += FLOAT4_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Float4[] readFloat4s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, FLOAT4_BYTES));
+        Float4[] vectors = new Float4[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Float4(buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8), buffer.getFloat(offset + 12));
+            offset += FLOAT4_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Float4Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, FLOAT4_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putFloat(offset, array.xs[i]);
+            buffer.putFloat(offset + 4, array.ys[i]);
+            buffer.putFloat(offset + 8, array.zs[i]);
+            buffer.putFloat(offset + 12, array.ws[i]);
+            offset += FLOAT4_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Float4Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, FLOAT4_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getFloat(offset);
+            array.ys[i] = buffer.getFloat(offset + 4);
+            array.zs[i] = buffer.getFloat(offset + 8);
+            array.ws[i] = buffer.getFloat(offset + 12);
+            offset += FLOAT4_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #DOUBLE2_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #DOUBLE2_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double2 vector) {
+        int position = reserve(buffer, DOUBLE2_BYTES);
+        buffer.putDouble(position, vector.x);
+        buffer.putDouble(position + 8, vector.y);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #DOUBLE2_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #DOUBLE2_BYTES} bytes remain in the buffer.
+     * @return A new Double2 with the components read.
+     */
+    public static @NotNull Double2 readDouble2(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, DOUBLE2_BYTES);
+        return new Double2(buffer.getDouble(position), buffer.getDouble(position + 8));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double2[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, DOUBLE2_BYTES));
+        for (Double2 vector : vectors) {
+            buffer.putDouble(offset, vector.x);
+            buffer.putDouble(offset + 8, vector.y);
+            offset += DOUBLE2_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Double2[] readDouble2s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, DOUBLE2_BYTES));
+        Double2[] vectors = new Double2[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Double2(buffer.getDouble(offset), buffer.getDouble(offset + 8));
+            offset += DOUBLE2_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double2Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, DOUBLE2_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putDouble(offset, array.xs[i]);
+            buffer.putDouble(offset + 8, array.ys[i]);
+            offset += DOUBLE2_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Double2Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, DOUBLE2_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getDouble(offset);
+            array.ys[i] = buffer.getDouble(offset + 8);
+            offset += DOUBLE2_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #DOUBLE3_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #DOUBLE3_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double3 vector) {
+        int position = reserve(buffer, DOUBLE3_BYTES);
+        buffer.putDouble(position, vector.x);
+        buffer.putDouble(position + 8, vector.y);
+        buffer.putDouble(position + 16, vector.z);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #DOUBLE3_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #DOUBLE3_BYTES} bytes remain in the buffer.
+     * @return A new Double3 with the components read.
+     */
+    public static @NotNull Double3 readDouble3(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, DOUBLE3_BYTES);
+        return new Double3(buffer.getDouble(position), buffer.getDouble(position + 8), buffer.getDouble(position + 16));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double3[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, DOUBLE3_BYTES));
+        for (Double3 vector : vectors) {
+            buffer.putDouble(offset, vector.x);
+            buffer.putDouble(offset + 8, vector.y);
+            buffer.putDouble(offset + 16, vector.z);
+            offset += DOUBLE3_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Double3[] readDouble3s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, DOUBLE3_BYTES));
+        Double3[] vectors = new Double3[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Double3(buffer.getDouble(offset), buffer.getDouble(offset + 8), buffer.getDouble(offset + 16));
+            offset += DOUBLE3_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double3Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, DOUBLE3_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putDouble(offset, array.xs[i]);
+            buffer.putDouble(offset + 8, array.ys[i]);
+            buffer.putDouble(offset + 16, array.zs[i]);
+            offset += DOUBLE3_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Double3Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, DOUBLE3_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getDouble(offset);
+            array.ys[i] = buffer.getDouble(offset + 8);
+            array.zs[i] = buffer.getDouble(offset + 16);
+            offset += DOUBLE3_BYTES;
+        }
+    }
+
+    /**
+     * Write a vector at the position of the given buffer and advance the position by {@value #DOUBLE4_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @param vector The vector.
+     * @throws BufferOverflowException If fewer than {@value #DOUBLE4_BYTES} bytes remain in the buffer.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double4 vector) {
+        int position = reserve(buffer, DOUBLE4_BYTES);
+        buffer.putDouble(position, vector.x);
+        buffer.putDouble(position + 8, vector.y);
+        buffer.putDouble(position + 16, vector.z);
+        buffer.putDouble(position + 24, vector.w);
+    }
+
+    /**
+     * Read a vector at the position of the given buffer and advance the position by {@value #DOUBLE4_BYTES} bytes.
+     *
+     * @param buffer The buffer.
+     * @throws BufferUnderflowException If fewer than {@value #DOUBLE4_BYTES} bytes remain in the buffer.
+     * @return A new Double4 with the components read.
+     */
+    public static @NotNull Double4 readDouble4(@NotNull ByteBuffer buffer) {
+        int position = consume(buffer, DOUBLE4_BYTES);
+        return new Double4(buffer.getDouble(position), buffer.getDouble(position + 8), buffer.getDouble(position + 16), buffer.getDouble(position + 24));
+    }
+
+    /**
+     * Write vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param vectors The vectors.
+     * @throws BufferOverflowException If the buffer has no room for all vectors.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double4[] vectors) {
+        int offset = reserve(buffer, bytes(vectors.length, DOUBLE4_BYTES));
+        for (Double4 vector : vectors) {
+            buffer.putDouble(offset, vector.x);
+            buffer.putDouble(offset + 8, vector.y);
+            buffer.putDouble(offset + 16, vector.z);
+            buffer.putDouble(offset + 24, vector.w);
+            offset += DOUBLE4_BYTES;
+        }
+    }
+
+    /**
+     * Read vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param count The number of vectors to read.
+     * @throws IllegalArgumentException If the count is negative.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors.
+     * @return A new array with the vectors read.
+     */
+    public static @NotNull Double4[] readDouble4s(@NotNull ByteBuffer buffer, int count) {
+        int offset = consume(buffer, bytes(count, DOUBLE4_BYTES));
+        Double4[] vectors = new Double4[count];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = new Double4(buffer.getDouble(offset), buffer.getDouble(offset + 8), buffer.getDouble(offset + 16), buffer.getDouble(offset + 24));
+            offset += DOUBLE4_BYTES;
+        }
+        return vectors;
+    }
+
+    /**
+     * Write a range of vectors at the position of the given buffer and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The vectors.
+     * @param from The first vector to write, inclusive.
+     * @param to The last vector to write, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferOverflowException If the buffer has no room for all vectors in the range.
+     * @throws ReadOnlyBufferException If the buffer is read-only.
+     */
+    public static void write(@NotNull ByteBuffer buffer, @NotNull Double4Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = reserve(buffer, bytes(to - from, DOUBLE4_BYTES));
+        for (int i = from; i < to; i++) {
+            buffer.putDouble(offset, array.xs[i]);
+            buffer.putDouble(offset + 8, array.ys[i]);
+            buffer.putDouble(offset + 16, array.zs[i]);
+            buffer.putDouble(offset + 24, array.ws[i]);
+            offset += DOUBLE4_BYTES;
+        }
+    }
+
+    /**
+     * Read a range of vectors at the position of the given buffer into an array and advance the position past them.
+     *
+     * @param buffer The buffer.
+     * @param array The array to store the vectors in.
+     * @param from The first vector to read, inclusive.
+     * @param to The last vector to read, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds.
+     * @throws BufferUnderflowException If the buffer holds fewer vectors than the range.
+     */
+    public static void read(@NotNull ByteBuffer buffer, @NotNull Double4Array array, int from, int to) {
+        Objects.checkFromToIndex(from, to, array.size());
+        int offset = consume(buffer, bytes(to - from, DOUBLE4_BYTES));
+        for (int i = from; i < to; i++) {
+            array.xs[i] = buffer.getDouble(offset);
+            array.ys[i] = buffer.getDouble(offset + 8);
+            array.zs[i] = buffer.getDouble(offset + 16);
+            array.ws[i] = buffer.getDouble(offset + 24);
+            offset += DOUBLE4_BYTES;
+        }
+    }
+
+    /**
+     * Get the number of bytes taken by the given number of vectors.
+     */
+    private static int bytes(int count, int vectorBytes) {
+        if (count < 0)
+            throw new IllegalArgumentException("'count' cannot be negative, found %d".formatted(count));
+        return Math.multiplyExact(count, vectorBytes);
+    }
+
+    /**
+     * Check that the given number of bytes can be written at the position of the buffer and advance it past them.
+     *
+     * @return The position before it was advanced.
+     */
+    private static int reserve(ByteBuffer buffer, int bytes) {
+        if (buffer.isReadOnly())
+            throw new ReadOnlyBufferException();
+        if (buffer.remaining() < bytes)
+            throw new BufferOverflowException();
+        int position = buffer.position();
+        buffer.position(position + bytes);
+        return position;
+    }
+
+    /**
+     * Check that the given number of bytes can be read at the position of the buffer and advance it past them.
+     *
+     * @return The position before it was advanced.
+     */
+    private static int consume(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() < bytes)
+            throw new BufferUnderflowException();
+        int position = buffer.position();
+        buffer.position(position + bytes);
+        return position;
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Int2 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Int2View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Int2View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / INT2_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Int2View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * INT2_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public int x() {
+            return buffer.getInt(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public int y() {
+            return buffer.getInt(offset + 4);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Int2 with the components of the current vector.
+         */
+        public @NotNull Int2 get() {
+            return new Int2(x(), y());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Int3 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Int3View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Int3View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / INT3_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Int3View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * INT3_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public int x() {
+            return buffer.getInt(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public int y() {
+            return buffer.getInt(offset + 4);
+        }
+
+        /**
+         * Read the z component of the current vector.
+         *
+         * @return The z component.
+         */
+        public int z() {
+            return buffer.getInt(offset + 8);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Int3 with the components of the current vector.
+         */
+        public @NotNull Int3 get() {
+            return new Int3(x(), y(), z());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Int4 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Int4View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Int4View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / INT4_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Int4View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * INT4_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public int x() {
+            return buffer.getInt(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public int y() {
+            return buffer.getInt(offset + 4);
+        }
+
+        /**
+         * Read the z component of the current vector.
+         *
+         * @return The z component.
+         */
+        public int z() {
+            return buffer.getInt(offset + 8);
+        }
+
+        /**
+         * Read the w component of the current vector.
+         *
+         * @return The w component.
+         */
+        public int w() {
+            return buffer.getInt(offset + 12);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Int4 with the components of the current vector.
+         */
+        public @NotNull Int4 get() {
+            return new Int4(x(), y(), z(), w());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Float2 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Float2View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Float2View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / FLOAT2_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Float2View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * FLOAT2_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public float x() {
+            return buffer.getFloat(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public float y() {
+            return buffer.getFloat(offset + 4);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Float2 with the components of the current vector.
+         */
+        public @NotNull Float2 get() {
+            return new Float2(x(), y());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Float3 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Float3View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Float3View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / FLOAT3_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Float3View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * FLOAT3_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public float x() {
+            return buffer.getFloat(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public float y() {
+            return buffer.getFloat(offset + 4);
+        }
+
+        /**
+         * Read the z component of the current vector.
+         *
+         * @return The z component.
+         */
+        public float z() {
+            return buffer.getFloat(offset + 8);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Float3 with the components of the current vector.
+         */
+        public @NotNull Float3 get() {
+            return new Float3(x(), y(), z());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Float4 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Float4View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Float4View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / FLOAT4_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Float4View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * FLOAT4_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public float x() {
+            return buffer.getFloat(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public float y() {
+            return buffer.getFloat(offset + 4);
+        }
+
+        /**
+         * Read the z component of the current vector.
+         *
+         * @return The z component.
+         */
+        public float z() {
+            return buffer.getFloat(offset + 8);
+        }
+
+        /**
+         * Read the w component of the current vector.
+         *
+         * @return The w component.
+         */
+        public float w() {
+            return buffer.getFloat(offset + 12);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Float4 with the components of the current vector.
+         */
+        public @NotNull Float4 get() {
+            return new Float4(x(), y(), z(), w());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Double2 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Double2View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Double2View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / DOUBLE2_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Double2View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * DOUBLE2_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public double x() {
+            return buffer.getDouble(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public double y() {
+            return buffer.getDouble(offset + 8);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Double2 with the components of the current vector.
+         */
+        public @NotNull Double2 get() {
+            return new Double2(x(), y());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Double3 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Double3View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Double3View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / DOUBLE3_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Double3View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * DOUBLE3_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public double x() {
+            return buffer.getDouble(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public double y() {
+            return buffer.getDouble(offset + 8);
+        }
+
+        /**
+         * Read the z component of the current vector.
+         *
+         * @return The z component.
+         */
+        public double z() {
+            return buffer.getDouble(offset + 16);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Double3 with the components of the current vector.
+         */
+        public @NotNull Double3 get() {
+            return new Double3(x(), y(), z());
+        }
+
+    }
+
+    /**
+     * Represents a reusable, read-only view of the Double4 vectors encoded in a buffer, reading the components of one
+     * vector at a time straight from the buffer.
+     */
+    public static final class Double4View {
+
+        private final ByteBuffer buffer;
+        private final int size;
+        private int index;
+        private int offset;
+
+        /**
+         * Creates a view of the vectors between the position and the limit of the given buffer, in the byte order
+         * of the buffer. Later changes to the position, limit or byte order of the buffer do not affect the view,
+         * but changes to its content do. The view starts at the first vector.
+         *
+         * @param buffer The buffer.
+         */
+        public Double4View(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer.slice().order(buffer.order());
+            this.size = this.buffer.remaining() / DOUBLE4_BYTES;
+        }
+
+        /**
+         * Get the number of vectors in this view.
+         *
+         * @return The number of vectors.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the index of the current vector.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Make the vector at the given index the current vector.
+         *
+         * @param index The index.
+         * @throws IndexOutOfBoundsException If the index is out of bounds.
+         * @return This view.
+         */
+        public @NotNull Double4View moveTo(int index) {
+            this.offset = Objects.checkIndex(index, size) * DOUBLE4_BYTES;
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Read the x component of the current vector.
+         *
+         * @return The x component.
+         */
+        public double x() {
+            return buffer.getDouble(offset);
+        }
+
+        /**
+         * Read the y component of the current vector.
+         *
+         * @return The y component.
+         */
+        public double y() {
+            return buffer.getDouble(offset + 8);
+        }
+
+        /**
+         * Read the z component of the current vector.
+         *
+         * @return The z component.
+         */
+        public double z() {
+            return buffer.getDouble(offset + 16);
+        }
+
+        /**
+         * Read the w component of the current vector.
+         *
+         * @return The w component.
+         */
+        public double w() {
+            return buffer.getDouble(offset + 24);
+        }
+
+        /**
+         * Read the current vector.
+         *
+         * @return A new Double4 with the components of the current vector.
+         */
+        public @NotNull Double4 get() {
+            return new Double4(x(), y(), z(), w());
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.github.polyrocketmatt.vectorize;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Walks a ray through a grid of unit cells, visiting every cell it passes through in order, as needed for line of
+ * sight checks and block picking.
+ * <p>
+ * The walk uses the algorithm of Amanatides and Woo: the distance to the next cell boundary along every axis is
+ * kept and advanced by a constant, so every step costs a few comparisons and additions and nothing is allocated.
+ * Cell {@code (x, y, z)} covers the points from {@code (x, y, z)} up to but excluding {@code (x + 1, y + 1, z + 1)}.
+ * When the ray passes exactly through an edge or a corner, the cells sharing it are visited one at a time, so
+ * consecutive cells always share a face.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public final class VoxelTraversal {
+
+    private VoxelTraversal() {}
+
+    /**
+     * Visit the cells along a ray, starting with the cell containing the origin, until the visitor stops the walk
+     * or the ray has travelled the given distance.
+     *
+     * @param originX The x component of the origin.
+     * @param originY The y component of the origin.
+     * @param originZ The z component of the origin.
+     * @param directionX The x component of the direction.
+     * @param directionY The y component of the direction.
+     * @param directionZ The z component of the direction.
+     * @param maxDistance The distance after which no more cells are entered.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If the direction has no length or the distance is negative.
+     * @return True if the visitor stopped the walk, false if the walk reached the given distance.
+     */
+    public static boolean traverse(double originX, double originY, double originZ,
+                                   double directionX, double directionY, double directionZ,
+                                   double maxDistance, @NotNull CellVisitor visitor) {
+        double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        if (!(length > 0.0) || Double.isInfinite(length))
+            throw new IllegalArgumentException("'direction' must have a finite, non-zero length, found (%f, %f, %f)"
+                    .formatted(directionX, directionY, directionZ));
+        if (!(maxDistance >= 0.0))
+            throw new IllegalArgumentException("'maxDistance' cannot be negative, found %f".formatted(maxDistance));
+        directionX /= length;
+        directionY /= length;
+        directionZ /= length;
+
+        int x = (int) Math.floor(originX);
+        int y = (int) Math.floor(originY);
+        int z = (int) Math.floor(originZ);
+        int stepX = directionX > 0.0 ? 1 : directionX < 0.0 ? -1 : 0;
+        int stepY = directionY > 0.0 ? 1 : directionY < 0.0 ? -1 : 0;
+        int stepZ = directionZ > 0.0 ? 1 : directionZ < 0.0 ? -1 : 0;
+
+        //  The distance along the ray to the next boundary on every axis, and between two boundaries
+        double nextX = boundary(originX, x, stepX, directionX);
+        double nextY = boundary(originY, y, stepY, directionY);
+        double nextZ = boundary(originZ, z, stepZ, directionZ);
+        double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : 1.0 / Math.abs(directionX);
+        double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : 1.0 / Math.abs(directionY);
+        double deltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : 1.0 / Math.abs(directionZ);
+
+        //  Moving in a positive direction enters the next cell through its negative face
+        Direction faceX = stepX > 0 ? Direction.WEST : Direction.EAST;
+        Direction faceY = stepY > 0 ? Direction.DOWN : Direction.UP;
+        Direction faceZ = stepZ > 0 ? Direction.NORTH : Direction.SOUTH;
+
+        if (!visitor.visit(x, y, z, null, 0.0))
+            return true;
+        while (true) {
+            Direction face;
+            double distance;
+            if (nextX < nextY && nextX < nextZ) {
+                distance = nextX;
+                nextX += deltaX;
+                x += stepX;
+                face = faceX;
+            } else if (nextY < nextZ) {
+                distance = nextY;
+                nextY += deltaY;
+                y += stepY;
+                face = faceY;
+            } else {
+                distance = nextZ;
+                nextZ += deltaZ;
+                z += stepZ;
+                face = faceZ;
+            }
+            if (distance > maxDistance)
+                return false;
+            if (!visitor.visit(x, y, z, face, distance))
+                return true;
+        }
+    }
+
+    /**
+     * Visit the cells along a ray, starting with the cell containing the origin, until the visitor stops the walk
+     * or the ray has travelled the given distance.
+     *
+     * @param origin The origin.
+     * @param direction The direction, which does not need to be normalized.
+     * @param maxDistance The distance after which no more cells are entered.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If the direction has no length or the distance is negative.
+     * @return True if the visitor stopped the walk, false if the walk reached the given distance.
+     */
+    public static boolean traverse(@NotNull Double3 origin, @NotNull Double3 direction, double maxDistance, @NotNull CellVisitor visitor) {
+        return traverse(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance, visitor);
+    }
+
+    /**
+     * Visit the cells along a ray, starting with the cell containing the origin, until the visitor stops the walk
+     * or the ray has travelled the given distance.
+     *
+     * @param origin The origin.
+     * @param direction The direction, which does not need to be normalized.
+     * @param maxDistance The distance after which no more cells are entered.
+     * @param visitor The visitor.
+     * @throws IllegalArgumentException If the direction has no length or the distance is negative.
+     * @return True if the visitor stopped the walk, false if the walk reached the given distance.
+     */
+    public static boolean traverse(@NotNull Float3 origin, @NotNull Float3 direction, double maxDistance, @NotNull CellVisitor visitor) {
+        return traverse(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance, visitor);
+    }
+
+    /**
+     * Get the distance along a normalized direction from the given coordinate to the next boundary of its cell.
+     */
+    private static double boundary(double origin, int cell, int step, double direction) {
+        if (step > 0)
+            return (cell + 1 - origin) / direction;
+        if (step < 0)
+            return (cell - origin) / direction;
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Visitor called for every cell along a ray.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+
+        /**
+         * Visit a cell.
+         *
+         * @param x The x coordinate.
+         * @param y The y coordinate.
+         * @param z The z coordinate.
+         * @param face The face of the cell the ray entered through, pointing back to the previous cell, or null for
+         *             the cell containing the origin.
+         * @param distance The distance from the origin to the point where the ray entered the cell.
+         * @return True to continue the walk, false to stop it.
+         */
+        boolean visit(int x, int y, int z, @Nullable Direction face, double distance);
+
+    }
+
+}
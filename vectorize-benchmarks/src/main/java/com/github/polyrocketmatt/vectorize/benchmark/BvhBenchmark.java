@@ -0,0 +1,150 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Aabbf;
+import com.github.polyrocketmatt.vectorize.Bvh;
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link Bvh} over a scene of boxes, sequentially and on the common {@link ForkJoinPool}, and
+ * answering ray casts, overlap and nearest box queries, compared to testing every box with
+ * {@link Aabbf#raycast(Float3, Float3)}. Every eighth ray is axis-aligned and starts on a face plane of a box, so
+ * that rays grazing a face are part of the workload. Refitting the hierarchy after every box moved is measured as
+ * well.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BvhBenchmark {
+
+    @Param({ "500000" })
+    public int boxes;
+
+    @Param({ "1000" })
+    public int queries;
+
+    private Aabbf[] scene;
+    private Float3Array mins;
+    private Float3Array maxs;
+    private Float3[] origins;
+    private Float3[] directions;
+    private Bvh bvh;
+    private int frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        scene = new Aabbf[boxes];
+        mins = new Float3Array(boxes);
+        maxs = new Float3Array(boxes);
+        for (int i = 0; i < boxes; i++) {
+            Float3 center = new Float3((float) random.nextDouble(-100.0, 100.0), (float) random.nextDouble(-100.0, 100.0), (float) random.nextDouble(-100.0, 100.0));
+            Float3 halfExtents = new Float3((float) random.nextDouble(0.05, 0.5), (float) random.nextDouble(0.05, 0.5), (float) random.nextDouble(0.05, 0.5));
+            scene[i] = Aabbf.fromCenter(center, halfExtents);
+            mins.set(i, scene[i].min);
+            maxs.set(i, scene[i].max);
+        }
+        origins = new Float3[queries];
+        directions = new Float3[queries];
+        for (int i = 0; i < queries; i++) {
+            if (i % 8 == 0) {
+                //  An axis-aligned ray starting on the top plane of a box, grazing its face as in voxel scenes
+                Aabbf box = scene[random.nextInt(boxes)];
+                origins[i] = new Float3(box.min.x - 1.0f, box.max.y, (box.min.z + box.max.z) * 0.5f);
+                directions[i] = Float3.UNIT_X;
+                continue;
+            }
+            origins[i] = new Float3((float) random.nextDouble(-100.0, 100.0), (float) random.nextDouble(-100.0, 100.0), (float) random.nextDouble(-100.0, 100.0));
+            directions[i] = new Float3((float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0));
+        }
+        bvh = Bvh.build(mins, maxs);
+    }
+
+    @Benchmark
+    public Bvh build() {
+        return Bvh.build(mins, maxs);
+    }
+
+    @Benchmark
+    public Bvh buildParallel() {
+        return Bvh.build(mins, maxs, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public long bruteForceRaycast() {
+        long sum = 0;
+        for (int q = 0; q < queries; q++) {
+            int best = -1;
+            float bestDistance = Float.POSITIVE_INFINITY;
+            for (int i = 0; i < scene.length; i++) {
+                float distance = scene[i].raycast(origins[q], directions[q]);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            sum += best;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long raycast() {
+        long sum = 0;
+        for (int q = 0; q < queries; q++)
+            sum += bvh.raycast(origins[q], directions[q], Float.POSITIVE_INFINITY);
+        return sum;
+    }
+
+    @Benchmark
+    public long queryOverlap() {
+        long sum = 0;
+        for (Float3 origin : origins)
+            sum += bvh.queryOverlap(origin.x - 2.0f, origin.y - 2.0f, origin.z - 2.0f, origin.x + 2.0f, origin.y + 2.0f, origin.z + 2.0f, index -> {});
+        return sum;
+    }
+
+    @Benchmark
+    public long nearest() {
+        long sum = 0;
+        for (Float3 origin : origins)
+            sum += bvh.nearest(origin);
+        return sum;
+    }
+
+    @Benchmark
+    public Bvh refit() {
+        //  Move every box back and forth, so that the hierarchy stays representative across iterations
+        float offset = (frame++ & 1) == 0 ? 0.25f : -0.25f;
+        for (int i = 0; i < boxes; i++) {
+            mins.xs[i] += offset;
+            maxs.xs[i] += offset;
+            bvh.setBounds(i, mins.xs[i], mins.ys[i], mins.zs[i], maxs.xs[i], maxs.ys[i], maxs.zs[i]);
+        }
+        bvh.refit();
+        return bvh;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Double3;
+import com.github.polyrocketmatt.vectorize.FastMath;
+import com.github.polyrocketmatt.vectorize.Float3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures normalizing and rotating arrays of vectors, comparing the exact {@link Float3#normalizef()},
+ * {@link Double3#normalize()} and {@link Float3#rotateZf(double)} against the {@link FastMath} based
+ * {@link Float3#normalizeFast()}, {@link Double3#normalizeFast()} and {@link Float3#rotateZFast(double)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastMathBenchmark {
+
+    @Param({ "100000" })
+    public int vectors;
+
+    private Float3[] floats;
+    private Double3[] doubles;
+    private double[] angles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        floats = new Float3[vectors];
+        doubles = new Double3[vectors];
+        angles = new double[vectors];
+        for (int i = 0; i < vectors; i++) {
+            doubles[i] = new Double3(random.nextDouble(-5.0, 5.0), random.nextDouble(-5.0, 5.0), random.nextDouble(-5.0, 5.0));
+            floats[i] = doubles[i].toFloat();
+            angles[i] = random.nextDouble(-Math.PI, Math.PI);
+        }
+    }
+
+    @Benchmark
+    public void normalizeFloat(Blackhole blackhole) {
+        for (Float3 vector : floats)
+            blackhole.consume(vector.normalizef());
+    }
+
+    @Benchmark
+    public void normalizeFloatFast(Blackhole blackhole) {
+        for (Float3 vector : floats)
+            blackhole.consume(vector.normalizeFast());
+    }
+
+    @Benchmark
+    public void normalizeDouble(Blackhole blackhole) {
+        for (Double3 vector : doubles)
+            blackhole.consume(vector.normalize());
+    }
+
+    @Benchmark
+    public void normalizeDoubleFast(Blackhole blackhole) {
+        for (Double3 vector : doubles)
+            blackhole.consume(vector.normalizeFast());
+    }
+
+    @Benchmark
+    public void rotateZ(Blackhole blackhole) {
+        for (int i = 0; i < vectors; i++)
+            blackhole.consume(floats[i].rotateZf(angles[i]));
+    }
+
+    @Benchmark
+    public void rotateZFast(Blackhole blackhole) {
+        for (int i = 0; i < vectors; i++)
+            blackhole.consume(floats[i].rotateZFast(angles[i]));
+    }
+
+}
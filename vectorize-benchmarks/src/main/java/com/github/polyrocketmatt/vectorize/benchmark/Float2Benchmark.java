@@ -0,0 +1,285 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every public operation of {@link Float2}, through both the boxed and the primitive paths.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Float2Benchmark {
+
+    public Float2 a = new Float2(1.5f, -2.25f);
+    public Float2 b = new Float2(0.75f, 1.25f);
+    public float scalar = 1.5f;
+    public double angle = 0.25;
+
+    @Benchmark
+    public Object add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public Object addScalarBoxed() {
+        return a.add((Float) scalar);
+    }
+
+    @Benchmark
+    public Object addScalar() {
+        return a.add(scalar);
+    }
+
+    @Benchmark
+    public Object addComponentsBoxed() {
+        return a.add((Float) b.x, (Float) b.y);
+    }
+
+    @Benchmark
+    public Object addComponents() {
+        return a.add(b.x, b.y);
+    }
+
+    @Benchmark
+    public Object subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public Object subtractScalarBoxed() {
+        return a.subtract((Float) scalar);
+    }
+
+    @Benchmark
+    public Object subtractScalar() {
+        return a.subtract(scalar);
+    }
+
+    @Benchmark
+    public Object subtractComponentsBoxed() {
+        return a.subtract((Float) b.x, (Float) b.y);
+    }
+
+    @Benchmark
+    public Object subtractComponents() {
+        return a.subtract(b.x, b.y);
+    }
+
+    @Benchmark
+    public Object multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public Object multiplyScalarBoxed() {
+        return a.multiply((Float) scalar);
+    }
+
+    @Benchmark
+    public Object multiplyScalar() {
+        return a.multiply(scalar);
+    }
+
+    @Benchmark
+    public Object multiplyComponentsBoxed() {
+        return a.multiply((Float) b.x, (Float) b.y);
+    }
+
+    @Benchmark
+    public Object multiplyComponents() {
+        return a.multiply(b.x, b.y);
+    }
+
+    @Benchmark
+    public Object divide() {
+        return a.divide(b);
+    }
+
+    @Benchmark
+    public Object divideScalarBoxed() {
+        return a.divide((Float) scalar);
+    }
+
+    @Benchmark
+    public Object divideScalar() {
+        return a.divide(scalar);
+    }
+
+    @Benchmark
+    public Object divideComponentsBoxed() {
+        return a.divide((Float) b.x, (Float) b.y);
+    }
+
+    @Benchmark
+    public Object divideComponents() {
+        return a.divide(b.x, b.y);
+    }
+
+    @Benchmark
+    public Object pow() {
+        return a.pow(b);
+    }
+
+    @Benchmark
+    public Object powScalarBoxed() {
+        return a.pow((Float) scalar);
+    }
+
+    @Benchmark
+    public Object powScalar() {
+        return a.pow(scalar);
+    }
+
+    @Benchmark
+    public Object negate() {
+        return a.negate();
+    }
+
+    @Benchmark
+    public Object abs() {
+        return a.abs();
+    }
+
+    @Benchmark
+    public Object normalize() {
+        return a.normalize();
+    }
+
+    @Benchmark
+    public Object floor() {
+        return a.floor();
+    }
+
+    @Benchmark
+    public Object ceil() {
+        return a.ceil();
+    }
+
+    @Benchmark
+    public Object fract() {
+        return a.fract();
+    }
+
+    @Benchmark
+    public Object toArray() {
+        return a.toArray();
+    }
+
+    @Benchmark
+    public Object toDouble() {
+        return a.toDouble();
+    }
+
+    @Benchmark
+    public Object toInt() {
+        return a.toInt();
+    }
+
+    @Benchmark
+    public Object toMutable() {
+        return a.toMutable();
+    }
+
+    @Benchmark
+    public Object dotBoxed() {
+        return a.dot(b);
+    }
+
+    @Benchmark
+    public float dot() {
+        return a.dotf(b);
+    }
+
+    @Benchmark
+    public Object angleBoxed() {
+        return a.angle(b);
+    }
+
+    @Benchmark
+    public double angle() {
+        return a.angled(b);
+    }
+
+    @Benchmark
+    public Object distanceBoxed() {
+        return a.distance(b);
+    }
+
+    @Benchmark
+    public double distance() {
+        return a.distanced(b);
+    }
+
+    @Benchmark
+    public Object distanceSquaredBoxed() {
+        return a.distanceSquared(b);
+    }
+
+    @Benchmark
+    public double distanceSquared() {
+        return a.distanceSquaredd(b);
+    }
+
+    @Benchmark
+    public Object lengthBoxed() {
+        return a.length();
+    }
+
+    @Benchmark
+    public double length() {
+        return a.lengthd();
+    }
+
+    @Benchmark
+    public Object lengthSquaredBoxed() {
+        return a.lengthSquared();
+    }
+
+    @Benchmark
+    public double lengthSquared() {
+        return a.lengthSquaredd();
+    }
+
+    @Benchmark
+    public Object rotate() {
+        return a.rotate(angle);
+    }
+
+    @Benchmark
+    public Object yx() {
+        return a.yx();
+    }
+
+    @Benchmark
+    public boolean vectorEquals() {
+        return a.equals(b);
+    }
+
+    @Benchmark
+    public int vectorHashCode() {
+        return a.hashCode();
+    }
+
+    @Benchmark
+    public Object vectorToString() {
+        return a.toString();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Direction;
+import com.github.polyrocketmatt.vectorize.FloodFill;
+import com.github.polyrocketmatt.vectorize.Int3;
+import com.github.polyrocketmatt.vectorize.Int3IntMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures flood filling a cubic region in which one in eight cells is solid, comparing an
+ * {@link ArrayDeque} and {@link HashSet} of {@link Int3} against the unbounded, bounded and parallel fills of
+ * {@link FloodFill}, and light propagation with {@link FloodFill#propagate(int, int, int, int, FloodFill.Opacity, Int3IntMap)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx6g" })
+public class FloodFillBenchmark {
+
+    @Param({ "256" })
+    public int side;
+
+    private Int3 min;
+    private Int3 max;
+    private FloodFill floodFill;
+    private ForkJoinPool pool;
+    private int center;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        min = new Int3(0, 0, 0);
+        max = new Int3(side - 1, side - 1, side - 1);
+        floodFill = new FloodFill();
+        pool = new ForkJoinPool();
+        center = side / 2;
+        while (!open(center, center, center))
+            center++;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int legacy() {
+        ArrayDeque<Int3> queue = new ArrayDeque<>();
+        Set<Int3> visited = new HashSet<>();
+        Int3 start = new Int3(center, center, center);
+        queue.add(start);
+        visited.add(start);
+        int count = 0;
+        while (!queue.isEmpty()) {
+            Int3 cell = queue.poll();
+            count++;
+            for (Direction direction : Direction.values()) {
+                Int3 neighbour = cell.relative(direction);
+                if (open(neighbour.x, neighbour.y, neighbour.z) && visited.add(neighbour))
+                    queue.add(neighbour);
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int fill() {
+        return floodFill.fill(center, center, center, this::open, (x, y, z) -> { });
+    }
+
+    @Benchmark
+    public int fillBounded() {
+        return floodFill.fill(center, center, center, min, max, this::open, (x, y, z) -> { });
+    }
+
+    @Benchmark
+    public int fillParallel() {
+        return floodFill.fillParallel(center, center, center, min, max, this::open, (x, y, z) -> { }, pool);
+    }
+
+    @Benchmark
+    public int propagate() {
+        return floodFill.propagate(center, center, center, 15, (x, y, z) -> open(x, y, z) ? 1 : 15, new Int3IntMap());
+    }
+
+    /**
+     * Check if a cell is inside the region and not solid.
+     */
+    private boolean open(int x, int y, int z) {
+        if (x < 0 || y < 0 || z < 0 || x >= side || y >= side || z >= side)
+            return false;
+        return ((x * 73856093 ^ y * 19349663 ^ z * 83492791) & 7) != 0;
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Int3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HashMap} put and get throughput on a dense cubic grid of {@link Int3} keys, compared
+ * against the previous {@link Objects#hash(Object...)} based hash and against packed {@link Long} keys.
+ * Keys are accessed in random order.
+ * <p>
+ * The bucket collision rate of each hash is not part of the measurements; {@link #main(String[])} prints it.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+
+    @Param({ "64" })
+    public int side;
+
+    private Int3[] keys;
+    private LegacyKey[] legacyKeys;
+    private Long[] packedKeys;
+
+    private Map<Int3, Integer> map;
+    private Map<LegacyKey, Integer> legacyMap;
+    private Map<Long, Integer> packedMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int count = side * side * side;
+        keys = new Int3[count];
+        legacyKeys = new LegacyKey[count];
+        packedKeys = new Long[count];
+        int i = 0;
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                for (int z = 0; z < side; z++) {
+                    keys[i] = new Int3(x, y, z);
+                    legacyKeys[i] = new LegacyKey(x, y, z);
+                    packedKeys[i] = Int3.pack(x, y, z);
+                    i++;
+                }
+            }
+        }
+        shuffle(keys, legacyKeys, packedKeys);
+        map = new HashMap<>();
+        legacyMap = new HashMap<>();
+        packedMap = new HashMap<>();
+        for (i = 0; i < count; i++) {
+            map.put(keys[i], i);
+            legacyMap.put(legacyKeys[i], i);
+            packedMap.put(packedKeys[i], i);
+        }
+    }
+
+    /**
+     * Prints the bucket collision rate of each hash for a grid of the given side, 64 by default. Run with
+     * {@code java -cp benchmarks.jar com.github.polyrocketmatt.vectorize.benchmark.HashBenchmark [side]}.
+     *
+     * @param args The side of the grid, optionally.
+     */
+    public static void main(String[] args) {
+        HashBenchmark benchmark = new HashBenchmark();
+        benchmark.side = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        benchmark.setup();
+        System.out.printf("Bucket collision rate (%d keys): Int3 %.4f, Objects.hash %.4f, packed Long %.4f%n",
+                benchmark.keys.length, collisionRate(benchmark.keys), collisionRate(benchmark.legacyKeys), collisionRate(benchmark.packedKeys));
+    }
+
+    @Benchmark
+    public Map<Int3, Integer> put() {
+        Map<Int3, Integer> result = new HashMap<>();
+        for (int i = 0; i < keys.length; i++)
+            result.put(keys[i], i);
+        return result;
+    }
+
+    @Benchmark
+    public Map<LegacyKey, Integer> putLegacy() {
+        Map<LegacyKey, Integer> result = new HashMap<>();
+        for (int i = 0; i < legacyKeys.length; i++)
+            result.put(legacyKeys[i], i);
+        return result;
+    }
+
+    @Benchmark
+    public Map<Long, Integer> putPacked() {
+        Map<Long, Integer> result = new HashMap<>();
+        for (int i = 0; i < packedKeys.length; i++)
+            result.put(packedKeys[i], i);
+        return result;
+    }
+
+    @Benchmark
+    public long get() {
+        long sum = 0;
+        for (Int3 key : keys)
+            sum += map.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getLegacy() {
+        long sum = 0;
+        for (LegacyKey key : legacyKeys)
+            sum += legacyMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getPacked() {
+        long sum = 0;
+        for (Long key : packedKeys)
+            sum += packedMap.get(key);
+        return sum;
+    }
+
+    /**
+     * Shuffles the keys in the same order, so that lookups do not follow the insertion order of the grid.
+     */
+    private static void shuffle(Int3[] keys, LegacyKey[] legacyKeys, Long[] packedKeys) {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = keys.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            swap(keys, i, j);
+            swap(legacyKeys, i, j);
+            swap(packedKeys, i, j);
+        }
+    }
+
+    private static void swap(Object[] array, int i, int j) {
+        Object tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /**
+     * Computes the fraction of keys that land in an already occupied bucket of a {@link HashMap}
+     * table sized for the keys, using the same spreading function as {@link HashMap}.
+     */
+    private static double collisionRate(Object[] keys) {
+        int capacity = Integer.highestOneBit(Math.max(1, (int) (keys.length / 0.75f)) - 1) << 1;
+        boolean[] occupied = new boolean[capacity];
+        int collisions = 0;
+        for (Object key : keys) {
+            int hash = key.hashCode();
+            int bucket = (hash ^ (hash >>> 16)) & (capacity - 1);
+            if (occupied[bucket])
+                collisions++;
+            occupied[bucket] = true;
+        }
+        return (double) collisions / keys.length;
+    }
+
+    /**
+     * Replicates the hash of {@link Int3} before 2.1.0.
+     */
+    public record LegacyKey(int x, int y, int z) {
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(x, y, z);
+        }
+
+    }
+
+}
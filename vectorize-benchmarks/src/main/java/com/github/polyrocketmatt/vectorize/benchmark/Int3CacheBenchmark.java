@@ -0,0 +1,75 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Direction;
+import com.github.polyrocketmatt.vectorize.Int3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures collecting the 6 neighbours of every offset in a cube around the origin with {@link Int3#of(int, int, int)},
+ * which takes small vectors from a cache, compared to allocating every neighbour with {@link Int3#relative(Direction)}.
+ * The offset shifts the cube away from the origin, where nothing is cached, to show the cost of the range check. Run
+ * with {@code -prof gc} to compare the allocation rates.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Int3CacheBenchmark {
+
+    private static final int RADIUS = 15;
+
+    @Param({ "0", "1000" })
+    public int offset;
+
+    private Int3[] points;
+    private Int3[] neighbours;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int side = 2 * RADIUS + 1;
+        points = new Int3[side * side * side];
+        int index = 0;
+        for (int x = -RADIUS; x <= RADIUS; x++)
+            for (int y = -RADIUS; y <= RADIUS; y++)
+                for (int z = -RADIUS; z <= RADIUS; z++)
+                    points[index++] = new Int3(x + offset, y + offset, z + offset);
+        neighbours = new Int3[points.length * Direction.VALUES.length];
+    }
+
+    @Benchmark
+    public Int3[] relative() {
+        int index = 0;
+        for (Int3 point : points)
+            for (Direction direction : Direction.VALUES)
+                neighbours[index++] = point.relative(direction);
+        return neighbours;
+    }
+
+    @Benchmark
+    public Int3[] of() {
+        int index = 0;
+        for (Int3 point : points)
+            for (Direction direction : Direction.VALUES)
+                neighbours[index++] = Int3.of(point.x + direction.getOffsetX(), point.y + direction.getOffsetY(), point.z + direction.getOffsetZ());
+        return neighbours;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Int3;
+import com.github.polyrocketmatt.vectorize.Int3IntMap;
+import com.github.polyrocketmatt.vectorize.Int3ObjectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link HashMap} with {@link Int3} keys against {@link Int3ObjectMap} and {@link Int3IntMap}
+ * on a dense cubic grid, accessed in random order. Run with {@code -prof gc} to compare allocations.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Int3MapBenchmark {
+
+    @Param({ "64" })
+    public int side;
+
+    private Int3[] keys;
+    private Integer[] values;
+
+    private Map<Int3, Integer> hashMap;
+    private Int3ObjectMap<Integer> objectMap;
+    private Int3IntMap intMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int count = side * side * side;
+        keys = new Int3[count];
+        values = new Integer[count];
+        int i = 0;
+        for (int x = 0; x < side; x++)
+            for (int y = 0; y < side; y++)
+                for (int z = 0; z < side; z++)
+                    keys[i++] = new Int3(x, y, z);
+        SplittableRandom random = new SplittableRandom(42);
+        for (i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Int3 tmp = keys[i];
+            keys[i] = keys[j];
+            keys[j] = tmp;
+        }
+        hashMap = new HashMap<>();
+        objectMap = new Int3ObjectMap<>();
+        intMap = new Int3IntMap();
+        for (i = 0; i < count; i++) {
+            values[i] = i;
+            hashMap.put(keys[i], values[i]);
+            objectMap.put(keys[i], values[i]);
+            intMap.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Object putHashMap() {
+        Map<Int3, Integer> map = new HashMap<>();
+        for (int i = 0; i < keys.length; i++)
+            map.put(keys[i], values[i]);
+        return map;
+    }
+
+    @Benchmark
+    public Object putObjectMap() {
+        Int3ObjectMap<Integer> map = new Int3ObjectMap<>();
+        for (int i = 0; i < keys.length; i++)
+            map.put(keys[i], values[i]);
+        return map;
+    }
+
+    @Benchmark
+    public Object putIntMap() {
+        Int3IntMap map = new Int3IntMap();
+        for (int i = 0; i < keys.length; i++)
+            map.put(keys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public long getHashMap() {
+        long sum = 0;
+        for (Int3 key : keys)
+            sum += hashMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getObjectMap() {
+        long sum = 0;
+        for (Int3 key : keys)
+            sum += objectMap.get(key.x, key.y, key.z);
+        return sum;
+    }
+
+    @Benchmark
+    public long getIntMap() {
+        long sum = 0;
+        for (Int3 key : keys)
+            sum += intMap.get(key.x, key.y, key.z);
+        return sum;
+    }
+
+}
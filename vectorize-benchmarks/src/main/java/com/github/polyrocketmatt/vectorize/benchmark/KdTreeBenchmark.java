@@ -0,0 +1,111 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Double3;
+import com.github.polyrocketmatt.vectorize.Double3Array;
+import com.github.polyrocketmatt.vectorize.KdTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link KdTree} over a point cloud, sequentially and on the common {@link ForkJoinPool}, and
+ * answering nearest and k-nearest neighbour queries, compared to testing every point with
+ * {@link Double3#distanceSquaredd(Double3)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KdTreeBenchmark {
+
+    @Param({ "1000000" })
+    public int points;
+
+    @Param({ "1000" })
+    public int queries;
+
+    private Double3[] cloud;
+    private Double3Array array;
+    private Double3[] positions;
+    private KdTree tree;
+    private KdTree.Neighbours neighbours;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        cloud = new Double3[points];
+        for (int i = 0; i < points; i++)
+            cloud[i] = new Double3(random.nextDouble(-100.0, 100.0), random.nextDouble(-100.0, 100.0), random.nextDouble(-100.0, 100.0));
+        array = new Double3Array(cloud);
+        positions = new Double3[queries];
+        for (int i = 0; i < queries; i++)
+            positions[i] = new Double3(random.nextDouble(-100.0, 100.0), random.nextDouble(-100.0, 100.0), random.nextDouble(-100.0, 100.0));
+        tree = KdTree.build(array);
+        neighbours = new KdTree.Neighbours(16);
+    }
+
+    @Benchmark
+    public KdTree build() {
+        return KdTree.build(array);
+    }
+
+    @Benchmark
+    public KdTree buildParallel() {
+        return KdTree.build(array, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public long bruteForceNearest() {
+        long sum = 0;
+        for (Double3 position : positions) {
+            int best = 0;
+            double bestDistance = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < cloud.length; i++) {
+                double distance = cloud[i].distanceSquaredd(position);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+            sum += best;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long nearest() {
+        long sum = 0;
+        for (Double3 position : positions)
+            sum += tree.nearest(position);
+        return sum;
+    }
+
+    @Benchmark
+    public long kNearest() {
+        long sum = 0;
+        for (Double3 position : positions) {
+            tree.nearest(position, neighbours);
+            sum += neighbours.index(neighbours.size() - 1);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Aabbf;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.MappedFloat3Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures computing the bounds of a point cloud stored in a file through {@link MappedFloat3Array#bounds(long, long)}
+ * and {@link MappedFloat3Array#forEach(long, long, MappedFloat3Array.Visitor)}, compared to reading the file in
+ * chunks through a {@link FileChannel} and to the same loop over a {@link Float3Array} on the heap. The file is
+ * small enough to stay in the page cache, so this measures the cost of access rather than of the disk.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappedArrayBenchmark {
+
+    private static final int CHUNK = 1 << 16;
+
+    @Param({ "4000000" })
+    public int vectors;
+
+    private Path path;
+    private Float3Array array;
+    private MappedFloat3Array mapped;
+    private FileChannel channel;
+    private ByteBuffer chunk;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        array = new Float3Array(vectors);
+        for (int i = 0; i < vectors; i++)
+            array.set(i, (float) random.nextDouble(-100.0, 100.0), (float) random.nextDouble(-100.0, 100.0), (float) random.nextDouble(-100.0, 100.0));
+        path = Files.createTempFile("vectorize", ".bin");
+        mapped = MappedFloat3Array.create(path, vectors);
+        mapped.write(0, array, 0, vectors);
+        mapped.force();
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        chunk = ByteBuffer.allocateDirect(CHUNK * MappedFloat3Array.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        channel.close();
+        mapped.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public Aabbf boundsChannel() throws IOException {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        long position = 0;
+        while (true) {
+            chunk.clear();
+            int read = channel.read(chunk, position);
+            if (read <= 0)
+                break;
+            position += read;
+            chunk.flip();
+            while (chunk.remaining() >= MappedFloat3Array.BYTES) {
+                float x = chunk.getFloat();
+                float y = chunk.getFloat();
+                float z = chunk.getFloat();
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+        }
+        return new Aabbf(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    @Benchmark
+    public Aabbf boundsMapped() {
+        return mapped.bounds(0, vectors);
+    }
+
+    @Benchmark
+    public double sumMapped() {
+        double[] sum = new double[1];
+        mapped.forEach(0, vectors, (index, x, y, z) -> sum[0] += x);
+        return sum[0];
+    }
+
+    @Benchmark
+    public Aabbf boundsHeap() {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < vectors; i++) {
+            float x = array.xs[i];
+            float y = array.ys[i];
+            float z = array.zs[i];
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+        }
+        return new Aabbf(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Double3;
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.Float4x4;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rotating, scaling and translating a set of vertices, comparing chained {@link Float3#rotateX(double)}
+ * style calls per vertex against a precomputed {@link Float4x4} applied with
+ * {@link Float4x4#transformPoints(Float3Array, Float3Array, int)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+
+    private static final double ANGLE_X = 0.3;
+    private static final double ANGLE_Y = 0.7;
+    private static final double ANGLE_Z = 1.1;
+
+    @Param({ "100000" })
+    public int vertices;
+
+    private Float3[] points;
+    private Float3Array src;
+    private Float3Array dst;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        points = new Float3[vertices];
+        src = new Float3Array(vertices);
+        dst = new Float3Array(vertices);
+        for (int i = 0; i < vertices; i++) {
+            points[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+            src.set(i, points[i]);
+        }
+    }
+
+    @Benchmark
+    public Float3[] chainedRotations() {
+        Float3[] result = new Float3[vertices];
+        for (int i = 0; i < vertices; i++) {
+            Double3 rotated = points[i].rotateX(ANGLE_X).rotateY(ANGLE_Y).rotateZ(ANGLE_Z);
+            result[i] = rotated.multiply(2.0).add(1.0, 2.0, 3.0).toFloat();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Float3[] matrix() {
+        Float4x4 transform = Float4x4.translation(1.0f, 2.0f, 3.0f).scale(2.0f, 2.0f, 2.0f)
+                .rotateZ(ANGLE_Z).rotateY(ANGLE_Y).rotateX(ANGLE_X);
+        Float3[] result = new Float3[vertices];
+        for (int i = 0; i < vertices; i++)
+            result[i] = transform.transformPoint(points[i]);
+        return result;
+    }
+
+    @Benchmark
+    public Float3Array matrixBulk() {
+        Float4x4 transform = Float4x4.translation(1.0f, 2.0f, 3.0f).scale(2.0f, 2.0f, 2.0f)
+                .rotateZ(ANGLE_Z).rotateY(ANGLE_Y).rotateX(ANGLE_X);
+        transform.transformPoints(src, dst, vertices);
+        return dst;
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.Int3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding throughput of {@link Int3#toMorton(int, int, int)} and {@link Int3#toHilbert(int, int, int)}
+ * against interleaving bit by bit, sorting a {@link Float3Array} with {@link Float3Array#sortByMorton()}, and the
+ * effect of that order on sampling a dense volume that does not fit in the cache at every point.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MortonBenchmark {
+
+    private static final int SIDE = 256;
+
+    @Param({ "1000000" })
+    public int points;
+
+    private int[] xs;
+    private int[] ys;
+    private int[] zs;
+    private Float3Array unsorted;
+    private Float3Array sorted;
+    private Float3Array scratch;
+    private int[] volume;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        xs = new int[points];
+        ys = new int[points];
+        zs = new int[points];
+        unsorted = new Float3Array(points);
+        for (int i = 0; i < points; i++) {
+            xs[i] = random.nextInt(Int3.PACKED_MIN, Int3.PACKED_MAX + 1);
+            ys[i] = random.nextInt(Int3.PACKED_MIN, Int3.PACKED_MAX + 1);
+            zs[i] = random.nextInt(Int3.PACKED_MIN, Int3.PACKED_MAX + 1);
+            unsorted.set(i, (float) random.nextDouble(SIDE), (float) random.nextDouble(SIDE), (float) random.nextDouble(SIDE));
+        }
+        sorted = new Float3Array(unsorted.xs.clone(), unsorted.ys.clone(), unsorted.zs.clone());
+        sorted.sortByMorton();
+        scratch = new Float3Array(points);
+        volume = new int[SIDE * SIDE * SIDE];
+        for (int i = 0; i < volume.length; i++)
+            volume[i] = random.nextInt(256);
+    }
+
+    @Benchmark
+    public long encodeNaive() {
+        long sum = 0;
+        for (int i = 0; i < points; i++) {
+            long x = xs[i] - Int3.PACKED_MIN;
+            long y = ys[i] - Int3.PACKED_MIN;
+            long z = zs[i] - Int3.PACKED_MIN;
+            long code = 0;
+            for (int bit = 0; bit < Int3.PACKED_BITS; bit++)
+                code |= ((x >>> bit) & 1L) << (3 * bit) | ((y >>> bit) & 1L) << (3 * bit + 1) | ((z >>> bit) & 1L) << (3 * bit + 2);
+            sum += code;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long encodeMorton() {
+        long sum = 0;
+        for (int i = 0; i < points; i++)
+            sum += Int3.toMorton(xs[i], ys[i], zs[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public long encodeHilbert() {
+        long sum = 0;
+        for (int i = 0; i < points; i++)
+            sum += Int3.toHilbert(xs[i], ys[i], zs[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public int[] sortByMorton() {
+        System.arraycopy(unsorted.xs, 0, scratch.xs, 0, points);
+        System.arraycopy(unsorted.ys, 0, scratch.ys, 0, points);
+        System.arraycopy(unsorted.zs, 0, scratch.zs, 0, points);
+        return scratch.sortByMorton();
+    }
+
+    @Benchmark
+    public long sampleUnsorted() {
+        return sample(unsorted);
+    }
+
+    @Benchmark
+    public long sampleSorted() {
+        return sample(sorted);
+    }
+
+    private long sample(Float3Array array) {
+        long sum = 0;
+        float[] xs = array.xs;
+        float[] ys = array.ys;
+        float[] zs = array.zs;
+        for (int i = 0; i < points; i++)
+            sum += volume[((int) ys[i] * SIDE + (int) zs[i]) * SIDE + (int) xs[i]];
+        return sum;
+    }
+
+}
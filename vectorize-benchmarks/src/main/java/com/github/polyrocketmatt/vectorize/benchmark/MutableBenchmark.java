@@ -0,0 +1,107 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.MutableFloat3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a particle integration step using the immutable {@link Float3} against the
+ * in-place {@link MutableFloat3}. Run with {@code -prof gc} to compare the allocation rate per operation.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutableBenchmark {
+
+    private static final float DELTA = 1.0f / 60.0f;
+
+    @Param({ "10000" })
+    public int particles;
+
+    private Float3[] positions;
+    private Float3[] velocities;
+    private MutableFloat3[] mutablePositions;
+    private MutableFloat3[] mutableVelocities;
+    private Float3 gravity;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        positions = new Float3[particles];
+        velocities = new Float3[particles];
+        mutablePositions = new MutableFloat3[particles];
+        mutableVelocities = new MutableFloat3[particles];
+        for (int i = 0; i < particles; i++) {
+            positions[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+            velocities[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+            mutablePositions[i] = positions[i].toMutable();
+            mutableVelocities[i] = velocities[i].toMutable();
+        }
+        gravity = new Float3(0.0f, -9.81f, 0.0f);
+    }
+
+    @Benchmark
+    public void integrateImmutable() {
+        for (int i = 0; i < particles; i++) {
+            Float3 velocity = velocities[i].add(gravity.multiply(DELTA));
+            velocities[i] = velocity;
+            positions[i] = positions[i].add(velocity.multiply(DELTA));
+        }
+    }
+
+    @Benchmark
+    public void integrateMutable() {
+        for (int i = 0; i < particles; i++) {
+            MutableFloat3 velocity = mutableVelocities[i].addScaledLocal(gravity, DELTA);
+            mutablePositions[i].addScaledLocal(velocity, DELTA);
+        }
+    }
+
+    @Benchmark
+    public void normalizeImmutable(Blackhole blackhole) {
+        for (int i = 0; i < particles; i++)
+            blackhole.consume(velocities[i].normalize());
+    }
+
+    @Benchmark
+    public void normalizeMutable(Blackhole blackhole) {
+        MutableFloat3 scratch = new MutableFloat3();
+        for (int i = 0; i < particles; i++)
+            blackhole.consume(scratch.set(mutableVelocities[i]).normalizeLocal());
+    }
+
+    @Benchmark
+    public void rotateImmutable(Blackhole blackhole) {
+        for (int i = 0; i < particles; i++)
+            blackhole.consume(positions[i].rotateX(0.01));
+    }
+
+    @Benchmark
+    public void rotateMutable(Blackhole blackhole) {
+        MutableFloat3 scratch = new MutableFloat3();
+        for (int i = 0; i < particles; i++)
+            blackhole.consume(scratch.set(mutablePositions[i]).rotateXLocal(0.01));
+    }
+
+}
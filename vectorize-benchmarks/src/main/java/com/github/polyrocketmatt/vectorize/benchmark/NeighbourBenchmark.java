@@ -0,0 +1,106 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.ChunkedIntGrid;
+import com.github.polyrocketmatt.vectorize.Direction;
+import com.github.polyrocketmatt.vectorize.Int3;
+import com.github.polyrocketmatt.vectorize.IntTriConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Measures summing the 6 face neighbours of random cells in a {@link ChunkedIntGrid}, comparing
+ * {@link Int3#relative(Direction)} against {@link Int3#forEachNeighbour(IntTriConsumer)}, the
+ * {@link Direction#OFFSETS_X} tables and {@link Int3#forEachNeighbourPacked(long, LongConsumer)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeighbourBenchmark {
+
+    @Param({ "64" })
+    public int side;
+
+    @Param({ "1000000" })
+    public int cells;
+
+    private ChunkedIntGrid grid;
+    private Int3[] positions;
+    private long[] packed;
+
+    private long sum;
+    private IntTriConsumer gridSum;
+    private LongConsumer packedSum;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        grid = new ChunkedIntGrid();
+        for (int x = 0; x < side; x++)
+            for (int y = 0; y < side; y++)
+                for (int z = 0; z < side; z++)
+                    grid.set(x, y, z, random.nextInt(16));
+        positions = new Int3[cells];
+        packed = new long[cells];
+        for (int i = 0; i < cells; i++) {
+            positions[i] = new Int3(1 + random.nextInt(side - 2), 1 + random.nextInt(side - 2), 1 + random.nextInt(side - 2));
+            packed[i] = positions[i].pack();
+        }
+        gridSum = (x, y, z) -> sum += grid.get(x, y, z);
+        packedSum = key -> sum += grid.get(Int3.unpackX(key), Int3.unpackY(key), Int3.unpackZ(key));
+    }
+
+    @Benchmark
+    public long relative() {
+        long sum = 0;
+        for (Int3 position : positions)
+            for (Direction direction : Direction.values())
+                sum += grid.get(position.relative(direction));
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachNeighbour() {
+        sum = 0;
+        for (Int3 position : positions)
+            position.forEachNeighbour(gridSum);
+        return sum;
+    }
+
+    @Benchmark
+    public long offsetTables() {
+        long sum = 0;
+        for (Int3 position : positions)
+            for (int i = 0; i < 6; i++)
+                sum += grid.get(position.x + Direction.OFFSETS_X[i], position.y + Direction.OFFSETS_Y[i], position.z + Direction.OFFSETS_Z[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachNeighbourPacked() {
+        sum = 0;
+        for (long key : packed)
+            Int3.forEachNeighbourPacked(key, packedSum);
+        return sum;
+    }
+
+}
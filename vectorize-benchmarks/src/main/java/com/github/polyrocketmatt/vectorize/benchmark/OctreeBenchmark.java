@@ -0,0 +1,107 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.ChunkedIntGrid;
+import com.github.polyrocketmatt.vectorize.IntOctree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a mostly empty world of a solid ground layer with scattered blocks above it, and reading
+ * random positions from it, comparing an {@link IntOctree} filled by region against a {@link ChunkedIntGrid} set
+ * position by position.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OctreeBenchmark {
+
+    private static final int GROUND = 64;
+    private static final int HEIGHT = 256;
+
+    @Param({ "512" })
+    public int side;
+
+    @Param({ "10000" })
+    public int blocks;
+
+    private int[] scattered;
+    private int[] lookups;
+    private IntOctree octree;
+    private ChunkedIntGrid grid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        scattered = new int[3 * blocks];
+        for (int i = 0; i < scattered.length; i += 3) {
+            scattered[i] = random.nextInt(side);
+            scattered[i + 1] = GROUND + random.nextInt(HEIGHT - GROUND);
+            scattered[i + 2] = random.nextInt(side);
+        }
+        lookups = new int[3 * 1000000];
+        for (int i = 0; i < lookups.length; i += 3) {
+            lookups[i] = random.nextInt(side);
+            lookups[i + 1] = random.nextInt(HEIGHT);
+            lookups[i + 2] = random.nextInt(side);
+        }
+        octree = buildOctree();
+        grid = buildGrid();
+    }
+
+    @Benchmark
+    public IntOctree buildOctree() {
+        IntOctree octree = new IntOctree();
+        octree.fill(0, 0, 0, side - 1, GROUND - 1, side - 1, 1);
+        for (int i = 0; i < scattered.length; i += 3)
+            octree.set(scattered[i], scattered[i + 1], scattered[i + 2], 2);
+        return octree;
+    }
+
+    @Benchmark
+    public ChunkedIntGrid buildGrid() {
+        ChunkedIntGrid grid = new ChunkedIntGrid();
+        for (int x = 0; x < side; x++)
+            for (int y = 0; y < GROUND; y++)
+                for (int z = 0; z < side; z++)
+                    grid.set(x, y, z, 1);
+        for (int i = 0; i < scattered.length; i += 3)
+            grid.set(scattered[i], scattered[i + 1], scattered[i + 2], 2);
+        return grid;
+    }
+
+    @Benchmark
+    public long getOctree() {
+        long sum = 0;
+        for (int i = 0; i < lookups.length; i += 3)
+            sum += octree.get(lookups[i], lookups[i + 1], lookups[i + 2]);
+        return sum;
+    }
+
+    @Benchmark
+    public long getGrid() {
+        long sum = 0;
+        for (int i = 0; i < lookups.length; i += 3)
+            sum += grid.get(lookups[i], lookups[i + 1], lookups[i + 2]);
+        return sum;
+    }
+
+}
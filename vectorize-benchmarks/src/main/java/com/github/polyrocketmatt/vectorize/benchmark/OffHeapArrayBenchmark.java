@@ -0,0 +1,77 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.OffHeapFloat3Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures translating a large collection of vectors held as {@link Float3} objects, as a {@link Float3Array} and as
+ * an {@link OffHeapFloat3Array}. Run with {@code -prof gc} to compare the allocation rates; the off-heap array keeps
+ * a heap footprint that does not depend on the number of vectors.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapArrayBenchmark {
+
+    private static final Float3 OFFSET = new Float3(0.25f, -0.5f, 1.0f);
+
+    @Param({ "1000000" })
+    public int vectors;
+
+    private Float3[] objects;
+    private Float3Array array;
+    private OffHeapFloat3Array offHeap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        objects = new Float3[vectors];
+        for (int i = 0; i < vectors; i++)
+            objects[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+        array = new Float3Array(objects);
+        offHeap = new OffHeapFloat3Array(array);
+    }
+
+    @Benchmark
+    public Float3[] addObjects() {
+        Float3[] objects = this.objects;
+        for (int i = 0; i < objects.length; i++)
+            objects[i] = objects[i].add(OFFSET);
+        return objects;
+    }
+
+    @Benchmark
+    public Float3Array addArray() {
+        array.add(OFFSET, 0, vectors);
+        return array;
+    }
+
+    @Benchmark
+    public OffHeapFloat3Array addOffHeap() {
+        offHeap.add(OFFSET, 0, vectors);
+        return offHeap;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures copying {@link Float3} vectors to and from a flat float array with {@link Float3#pack(Float3[], float[])}
+ * and {@link Float3#unpack(float[], Float3[])}, compared to going through the boxed {@link Float3#toArray()} and
+ * {@link Float3#Float3(Float[])}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackBenchmark {
+
+    @Param({ "1000000" })
+    public int vectors;
+
+    private Float3[] values;
+    private Float3[] result;
+    private float[] staging;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new Float3[vectors];
+        for (int i = 0; i < vectors; i++)
+            values[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+        result = new Float3[vectors];
+        staging = new float[3 * vectors];
+        Float3.pack(values, staging);
+    }
+
+    @Benchmark
+    public float[] packBoxed() {
+        for (int i = 0; i < vectors; i++) {
+            Float[] components = values[i].toArray();
+            staging[3 * i] = components[0];
+            staging[3 * i + 1] = components[1];
+            staging[3 * i + 2] = components[2];
+        }
+        return staging;
+    }
+
+    @Benchmark
+    public float[] pack() {
+        Float3.pack(values, staging);
+        return staging;
+    }
+
+    @Benchmark
+    public Float3[] unpackBoxed() {
+        for (int i = 0; i < vectors; i++)
+            result[i] = new Float3(new Float[] { staging[3 * i], staging[3 * i + 1], staging[3 * i + 2] });
+        return result;
+    }
+
+    @Benchmark
+    public Float3[] unpack() {
+        Float3.unpack(staging, result);
+        return result;
+    }
+
+}
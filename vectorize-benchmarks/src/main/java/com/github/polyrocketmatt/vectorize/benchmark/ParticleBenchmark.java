@@ -0,0 +1,90 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Double3;
+import com.github.polyrocketmatt.vectorize.Float3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one step of a particle integrator with drag and a bounding sphere, comparing the double-promoting
+ * {@link Float3#normalize()} and boxed {@link Float3#distanceSquared(com.github.polyrocketmatt.vectorize.Vector)}
+ * against the single-precision {@link Float3#normalizef()} and {@link Float3#distanceSquaredf(Float3)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+
+    private static final float DT = 0.016f;
+    private static final float DRAG = 0.01f;
+    private static final float RADIUS_SQUARED = 100.0f;
+    private static final Float3 GRAVITY = new Float3(0.0f, -9.81f * DT, 0.0f);
+    private static final Float3 CENTER = new Float3(0.0f, 0.0f, 0.0f);
+
+    @Param({ "100000" })
+    public int particles;
+
+    private Float3[] positions;
+    private Float3[] velocities;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        positions = new Float3[particles];
+        velocities = new Float3[particles];
+        for (int i = 0; i < particles; i++) {
+            positions[i] = new Float3((float) random.nextDouble(-5.0, 5.0), (float) random.nextDouble(-5.0, 5.0), (float) random.nextDouble(-5.0, 5.0));
+            velocities[i] = new Float3((float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0), (float) random.nextDouble(-1.0, 1.0));
+        }
+    }
+
+    @Benchmark
+    public Float3[] promoted() {
+        for (int i = 0; i < particles; i++) {
+            Float3 velocity = velocities[i];
+            Double3 direction = velocity.normalize();
+            velocity = velocity.subtract(direction.multiply((double) DRAG).toFloat()).add(GRAVITY);
+            Float3 position = positions[i].add(velocity.multiply(DT));
+            if (position.distanceSquared(CENTER) > RADIUS_SQUARED)
+                position = CENTER;
+            velocities[i] = velocity;
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    @Benchmark
+    public Float3[] singlePrecision() {
+        for (int i = 0; i < particles; i++) {
+            Float3 velocity = velocities[i];
+            Float3 direction = velocity.normalizef();
+            velocity = velocity.subtract(direction.multiply(DRAG)).add(GRAVITY);
+            Float3 position = positions[i].add(velocity.multiply(DT));
+            if (position.distanceSquaredf(CENTER) > RADIUS_SQUARED)
+                position = CENTER;
+            velocities[i] = velocity;
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Double3;
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.Quatf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rotating orientation vectors, comparing three chained principal-axis rotations per vector against
+ * {@link Quatf#rotate(Float3)} and the bulk {@link Quatf#rotate(Float3Array, Float3Array, int)}.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuaternionBenchmark {
+
+    private static final double ANGLE_X = 0.3;
+    private static final double ANGLE_Y = 0.7;
+    private static final double ANGLE_Z = 1.1;
+
+    @Param({ "1000000" })
+    public int vectors;
+
+    private Float3[] orientations;
+    private Float3Array src;
+    private Float3Array dst;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        orientations = new Float3[vectors];
+        src = new Float3Array(vectors);
+        dst = new Float3Array(vectors);
+        for (int i = 0; i < vectors; i++) {
+            orientations[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+            src.set(i, orientations[i]);
+        }
+    }
+
+    @Benchmark
+    public Float3[] chainedRotations() {
+        Float3[] result = new Float3[vectors];
+        for (int i = 0; i < vectors; i++) {
+            Double3 rotated = orientations[i].rotateX(ANGLE_X).rotateY(ANGLE_Y).rotateZ(ANGLE_Z);
+            result[i] = rotated.toFloat();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Float3[] quaternion() {
+        Quatf rotation = rotation();
+        Float3[] result = new Float3[vectors];
+        for (int i = 0; i < vectors; i++)
+            result[i] = rotation.rotate(orientations[i]);
+        return result;
+    }
+
+    @Benchmark
+    public Float3Array quaternionBulk() {
+        rotation().rotate(src, dst, vectors);
+        return dst;
+    }
+
+    private static Quatf rotation() {
+        return Quatf.fromAxisAngle(0.0f, 0.0f, 1.0f, ANGLE_Z)
+                .multiply(Quatf.fromAxisAngle(0.0f, 1.0f, 0.0f, ANGLE_Y))
+                .multiply(Quatf.fromAxisAngle(1.0f, 0.0f, 0.0f, ANGLE_X));
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Double3;
+import com.github.polyrocketmatt.vectorize.Double3Array;
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.simd.Kernels;
+import com.github.polyrocketmatt.vectorize.simd.VectorKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looping over {@link Float3#add(com.github.polyrocketmatt.vectorize.Vector)} and {@link Double3#dotd(Double3)} against the
+ * scalar and SIMD {@link VectorKernels} on packed arrays.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+public class SimdBenchmark {
+
+    @Param({ "1000000" })
+    public int size;
+
+    private Float3[] floats;
+    private Float3[] floatsOther;
+    private Float3[] floatsResult;
+    private Double3[] doubles;
+    private Double3[] doublesOther;
+
+    private Float3Array floatArray;
+    private Float3Array floatArrayOther;
+    private Float3Array floatArrayResult;
+    private Double3Array doubleArray;
+    private Double3Array doubleArrayOther;
+    private double[] doubleResult;
+
+    private VectorKernels simd;
+    private VectorKernels scalar;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        floats = new Float3[size];
+        floatsOther = new Float3[size];
+        floatsResult = new Float3[size];
+        doubles = new Double3[size];
+        doublesOther = new Double3[size];
+        for (int i = 0; i < size; i++) {
+            floats[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+            floatsOther[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+            doubles[i] = new Double3(random.nextDouble(), random.nextDouble(), random.nextDouble());
+            doublesOther[i] = new Double3(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        }
+        floatArray = new Float3Array(floats);
+        floatArrayOther = new Float3Array(floatsOther);
+        floatArrayResult = new Float3Array(size);
+        doubleArray = new Double3Array(doubles);
+        doubleArrayOther = new Double3Array(doublesOther);
+        doubleResult = new double[size];
+        simd = Kernels.get();
+        scalar = Kernels.scalar();
+        if (!Kernels.isSimd())
+            throw new IllegalStateException("The SIMD kernels are not available, start the JVM with --add-modules jdk.incubator.vector");
+    }
+
+    @Benchmark
+    public Float3[] addObjects() {
+        for (int i = 0; i < size; i++)
+            floatsResult[i] = floats[i].add(floatsOther[i]);
+        return floatsResult;
+    }
+
+    @Benchmark
+    public Float3Array addScalar() {
+        scalar.add(floatArray.xs, floatArrayOther.xs, floatArrayResult.xs, 0, size);
+        scalar.add(floatArray.ys, floatArrayOther.ys, floatArrayResult.ys, 0, size);
+        scalar.add(floatArray.zs, floatArrayOther.zs, floatArrayResult.zs, 0, size);
+        return floatArrayResult;
+    }
+
+    @Benchmark
+    public Float3Array addSimd() {
+        simd.add(floatArray.xs, floatArrayOther.xs, floatArrayResult.xs, 0, size);
+        simd.add(floatArray.ys, floatArrayOther.ys, floatArrayResult.ys, 0, size);
+        simd.add(floatArray.zs, floatArrayOther.zs, floatArrayResult.zs, 0, size);
+        return floatArrayResult;
+    }
+
+    @Benchmark
+    public void dotObjects(Blackhole blackhole) {
+        for (int i = 0; i < size; i++)
+            doubleResult[i] = doubles[i].dotd(doublesOther[i]);
+        blackhole.consume(doubleResult);
+    }
+
+    @Benchmark
+    public void dotScalar(Blackhole blackhole) {
+        scalar.dot(doubleArray, doubleArrayOther, doubleResult, 0, size);
+        blackhole.consume(doubleResult);
+    }
+
+    @Benchmark
+    public void dotSimd(Blackhole blackhole) {
+        simd.dot(doubleArray, doubleArrayOther, doubleResult, 0, size);
+        blackhole.consume(doubleResult);
+    }
+
+}
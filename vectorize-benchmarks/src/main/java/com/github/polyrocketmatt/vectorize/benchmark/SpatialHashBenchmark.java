@@ -0,0 +1,112 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.SpatialHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures one tick of moving points followed by radius queries around some of them, comparing testing every
+ * point with {@link Float3#distanceSquaredf(Float3)} against a {@link SpatialHash} that is either updated with
+ * {@link SpatialHash#move(int, Float3)} or rebuilt from scratch.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialHashBenchmark {
+
+    private static final float EXTENT = 200.0f;
+    private static final float RADIUS = 4.0f;
+
+    @Param({ "100000" })
+    public int points;
+
+    @Param({ "1000" })
+    public int queries;
+
+    private Float3[] positions;
+    private Float3[] velocities;
+    private SpatialHash hash;
+    private int[] handles;
+
+    private int found;
+    private IntConsumer counter;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        positions = new Float3[points];
+        velocities = new Float3[points];
+        hash = new SpatialHash(RADIUS, points);
+        handles = new int[points];
+        for (int i = 0; i < points; i++) {
+            positions[i] = new Float3((float) random.nextDouble(EXTENT), (float) random.nextDouble(EXTENT), (float) random.nextDouble(EXTENT));
+            velocities[i] = new Float3((float) random.nextDouble(-0.5, 0.5), (float) random.nextDouble(-0.5, 0.5), (float) random.nextDouble(-0.5, 0.5));
+            handles[i] = hash.insert(positions[i]);
+        }
+        counter = handle -> found++;
+    }
+
+    private void step() {
+        for (int i = 0; i < points; i++)
+            positions[i] = positions[i].add(velocities[i]);
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        step();
+        int found = 0;
+        float radiusSquared = RADIUS * RADIUS;
+        for (int q = 0; q < queries; q++) {
+            Float3 center = positions[q];
+            for (Float3 position : positions)
+                if (position.distanceSquaredf(center) <= radiusSquared)
+                    found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int incremental() {
+        step();
+        for (int i = 0; i < points; i++)
+            hash.move(handles[i], positions[i]);
+        found = 0;
+        for (int q = 0; q < queries; q++)
+            hash.queryRadius(positions[q], RADIUS, counter);
+        return found;
+    }
+
+    @Benchmark
+    public int rebuild() {
+        step();
+        hash.clear();
+        for (int i = 0; i < points; i++)
+            handles[i] = hash.insert(positions[i]);
+        found = 0;
+        for (int q = 0; q < queries; q++)
+            hash.queryRadius(positions[q], RADIUS, counter);
+        return found;
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Float3;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import com.github.polyrocketmatt.vectorize.VectorCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding a large number of {@link Float3} vectors with {@link VectorCodec}, into heap and
+ * direct buffers, compared to Java serialization of the boxed arrays returned by {@link Float3#toArray()}. Summing
+ * a component through a {@link VectorCodec.Float3View} is measured as well.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorCodecBenchmark {
+
+    @Param({ "1000000" })
+    public int vectors;
+
+    private Float3[] values;
+    private Float3Array array;
+    private byte[] serialized;
+    private ByteBuffer heap;
+    private ByteBuffer direct;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new Float3[vectors];
+        for (int i = 0; i < vectors; i++)
+            values[i] = new Float3((float) random.nextDouble(), (float) random.nextDouble(), (float) random.nextDouble());
+        array = new Float3Array(values);
+        serialized = serializeJava();
+        heap = ByteBuffer.allocate(vectors * VectorCodec.FLOAT3_BYTES);
+        direct = ByteBuffer.allocateDirect(vectors * VectorCodec.FLOAT3_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        VectorCodec.write(heap, values);
+        VectorCodec.write(direct, values);
+    }
+
+    @Benchmark
+    public byte[] serializeJava() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            Float[][] boxed = new Float[vectors][];
+            for (int i = 0; i < vectors; i++)
+                boxed[i] = values[i].toArray();
+            output.writeObject(boxed);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Float3[] deserializeJava() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            Float[][] boxed = (Float[][]) input.readObject();
+            Float3[] result = new Float3[boxed.length];
+            for (int i = 0; i < boxed.length; i++)
+                result[i] = new Float3(boxed[i]);
+            return result;
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer writeHeap() {
+        heap.clear();
+        VectorCodec.write(heap, values);
+        return heap;
+    }
+
+    @Benchmark
+    public Float3[] readHeap() {
+        heap.clear();
+        return VectorCodec.readFloat3s(heap, vectors);
+    }
+
+    @Benchmark
+    public ByteBuffer writeDirect() {
+        direct.clear();
+        VectorCodec.write(direct, array, 0, vectors);
+        return direct;
+    }
+
+    @Benchmark
+    public Float3Array readDirect() {
+        direct.clear();
+        VectorCodec.read(direct, array, 0, vectors);
+        return array;
+    }
+
+    @Benchmark
+    public double sumView() {
+        direct.clear();
+        VectorCodec.Float3View view = new VectorCodec.Float3View(direct);
+        double sum = 0.0;
+        for (int i = 0; i < view.size(); i++)
+            sum += view.moveTo(i).x();
+        return sum;
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.github.polyrocketmatt.vectorize.benchmark;
+
+import com.github.polyrocketmatt.vectorize.Direction;
+import com.github.polyrocketmatt.vectorize.Int3;
+import com.github.polyrocketmatt.vectorize.VoxelTraversal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures picking the first solid cell along a tick's worth of rays through a sparse voxel world, with
+ * {@link VoxelTraversal#traverse(double, double, double, double, double, double, double, VoxelTraversal.CellVisitor)}
+ * compared to marching in small fixed steps and creating an {@link Int3} for every step.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoxelTraversalBenchmark {
+
+    private static final int SIDE = 128;
+    private static final double MAX_DISTANCE = 48.0;
+    private static final double MARCH_STEP = 0.05;
+
+    @Param({ "50000" })
+    public int rays;
+
+    private boolean[] solid;
+    private double[] origins;
+    private double[] directions;
+    private VoxelTraversal.CellVisitor picker;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        solid = new boolean[SIDE * SIDE * SIDE];
+        for (int i = 0; i < solid.length; i++)
+            solid[i] = random.nextInt(100) == 0;
+        origins = new double[3 * rays];
+        directions = new double[3 * rays];
+        for (int i = 0; i < 3 * rays; i++) {
+            origins[i] = random.nextDouble(MAX_DISTANCE, SIDE - MAX_DISTANCE);
+            directions[i] = random.nextDouble(-1.0, 1.0);
+        }
+        picker = this::visit;
+    }
+
+    @Benchmark
+    public int marchAllocating() {
+        int hits = 0;
+        for (int ray = 0; ray < rays; ray++) {
+            double x = origins[3 * ray], y = origins[3 * ray + 1], z = origins[3 * ray + 2];
+            double dx = directions[3 * ray], dy = directions[3 * ray + 1], dz = directions[3 * ray + 2];
+            double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            dx /= length;
+            dy /= length;
+            dz /= length;
+            Int3 previous = null;
+            for (double t = 0.0; t <= MAX_DISTANCE; t += MARCH_STEP) {
+                Int3 cell = new Int3((int) Math.floor(x + dx * t), (int) Math.floor(y + dy * t), (int) Math.floor(z + dz * t));
+                if (cell.equals(previous))
+                    continue;
+                previous = cell;
+                if (isSolid(cell.x, cell.y, cell.z)) {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int traverse() {
+        int hits = 0;
+        for (int ray = 0; ray < rays; ray++) {
+            if (VoxelTraversal.traverse(origins[3 * ray], origins[3 * ray + 1], origins[3 * ray + 2],
+                    directions[3 * ray], directions[3 * ray + 1], directions[3 * ray + 2], MAX_DISTANCE, picker))
+                hits++;
+        }
+        return hits;
+    }
+
+    private boolean visit(int x, int y, int z, Direction face, double distance) {
+        return !isSolid(x, y, z);
+    }
+
+    private boolean isSolid(int x, int y, int z) {
+        return solid[(y * SIDE + z) * SIDE + x];
+    }
+
+}
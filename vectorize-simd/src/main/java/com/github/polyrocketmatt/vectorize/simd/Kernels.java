@@ -0,0 +1,61 @@
+package com.github.polyrocketmatt.vectorize.simd;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Selects the {@link VectorKernels} implementation for the running JVM.
+ * <p>
+ * The SIMD implementation is used when the {@code jdk.incubator.vector} module is resolved, for example
+ * by starting the JVM with {@code --add-modules jdk.incubator.vector}. Otherwise, or when the system
+ * property {@code vectorize.simd} is set to {@code false}, the scalar implementation is used.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public final class Kernels {
+
+    private static final VectorKernels SCALAR = new ScalarVectorKernels();
+    private static final VectorKernels PREFERRED = select();
+
+    private Kernels() {}
+
+    /**
+     * Get the implementation selected at startup.
+     *
+     * @return The SIMD implementation if available, the scalar implementation otherwise.
+     */
+    public static @NotNull VectorKernels get() {
+        return PREFERRED;
+    }
+
+    /**
+     * Get the scalar implementation.
+     *
+     * @return The scalar implementation.
+     */
+    public static @NotNull VectorKernels scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Check if the SIMD implementation was selected at startup.
+     *
+     * @return True if {@link #get()} returns the SIMD implementation, false otherwise.
+     */
+    public static boolean isSimd() {
+        return PREFERRED != SCALAR;
+    }
+
+    private static VectorKernels select() {
+        if (!Boolean.parseBoolean(System.getProperty("vectorize.simd", "true")))
+            return SCALAR;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return SCALAR;
+        try {
+            return new SimdVectorKernels();
+        } catch (LinkageError error) {
+            return SCALAR;
+        }
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.github.polyrocketmatt.vectorize.simd;
+
+import com.github.polyrocketmatt.vectorize.Double3Array;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Implementation of {@link VectorKernels} using plain loops, used when the Vector API is unavailable.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+final class ScalarVectorKernels implements VectorKernels {
+
+    @Override
+    public @NotNull String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void add(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void subtract(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void multiply(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void divide(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] / b[i];
+    }
+
+    @Override
+    public void fma(@NotNull float[] a, @NotNull float[] b, @NotNull float[] c, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, c.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void scale(@NotNull float[] a, float scalar, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * scalar;
+    }
+
+    @Override
+    public float dot(@NotNull float[] a, @NotNull float[] b, int from, int to) {
+        check(from, to, a.length, b.length);
+        float sum = 0.0f;
+        for (int i = from; i < to; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+
+    @Override
+    public void dot(@NotNull Float3Array a, @NotNull Float3Array b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.size(), b.size(), dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a.xs[i] * b.xs[i] + a.ys[i] * b.ys[i] + a.zs[i] * b.zs[i];
+    }
+
+    @Override
+    public void normalize(@NotNull Float3Array a, int from, int to) {
+        a.normalize(from, to);
+    }
+
+    @Override
+    public void distanceSquared(@NotNull Float3Array a, @NotNull Float3Array b, @NotNull float[] dst, int from, int to) {
+        a.distanceSquared(b, dst, from, to);
+    }
+
+    @Override
+    public void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void multiply(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void divide(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] / b[i];
+    }
+
+    @Override
+    public void fma(@NotNull double[] a, @NotNull double[] b, @NotNull double[] c, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, c.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void scale(@NotNull double[] a, double scalar, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * scalar;
+    }
+
+    @Override
+    public double dot(@NotNull double[] a, @NotNull double[] b, int from, int to) {
+        check(from, to, a.length, b.length);
+        double sum = 0.0;
+        for (int i = from; i < to; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+
+    @Override
+    public void dot(@NotNull Double3Array a, @NotNull Double3Array b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.size(), b.size(), dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a.xs[i] * b.xs[i] + a.ys[i] * b.ys[i] + a.zs[i] * b.zs[i];
+    }
+
+    @Override
+    public void normalize(@NotNull Double3Array a, int from, int to) {
+        a.normalize(from, to);
+    }
+
+    @Override
+    public void distanceSquared(@NotNull Double3Array a, @NotNull Double3Array b, @NotNull double[] dst, int from, int to) {
+        a.distanceSquared(b, dst, from, to);
+    }
+
+    @Override
+    public void add(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] + b[i];
+    }
+
+    @Override
+    public void subtract(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] - b[i];
+    }
+
+    @Override
+    public void multiply(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * b[i];
+    }
+
+    @Override
+    public void divide(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        for (int i = from; i < to; i++) {
+            if (b[i] == 0)
+                throw new ArithmeticException("'b' cannot have a zero element at index %d".formatted(i));
+            dst[i] = a[i] / b[i];
+        }
+    }
+
+    @Override
+    public void fma(@NotNull int[] a, @NotNull int[] b, @NotNull int[] c, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, c.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * b[i] + c[i];
+    }
+
+    @Override
+    public void scale(@NotNull int[] a, int scalar, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, dst.length);
+        for (int i = from; i < to; i++)
+            dst[i] = a[i] * scalar;
+    }
+
+    @Override
+    public int dot(@NotNull int[] a, @NotNull int[] b, int from, int to) {
+        check(from, to, a.length, b.length);
+        int sum = 0;
+        for (int i = from; i < to; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static void check(int from, int to, int... lengths) {
+        for (int length : lengths)
+            Objects.checkFromToIndex(from, to, length);
+    }
+
+}
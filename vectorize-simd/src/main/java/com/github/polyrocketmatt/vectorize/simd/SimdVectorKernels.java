@@ -0,0 +1,328 @@
+package com.github.polyrocketmatt.vectorize.simd;
+
+import com.github.polyrocketmatt.vectorize.Double3Array;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Implementation of {@link VectorKernels} using the preferred species of the JDK Vector API.
+ * <p>
+ * Each kernel processes full vectors of lanes and hands the remaining tail to the scalar implementation.
+ * Loading this class fails if the {@code jdk.incubator.vector} module is not resolved.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+final class SimdVectorKernels implements VectorKernels {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorKernels SCALAR = new ScalarVectorKernels();
+
+    @Override
+    public @NotNull String name() {
+        return "simd-%d".formatted(FLOATS.vectorBitSize());
+    }
+
+    @Override
+    public void add(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            FloatVector.fromArray(FLOATS, a, i).add(FloatVector.fromArray(FLOATS, b, i)).intoArray(dst, i);
+        SCALAR.add(a, b, dst, i, to);
+    }
+
+    @Override
+    public void subtract(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            FloatVector.fromArray(FLOATS, a, i).sub(FloatVector.fromArray(FLOATS, b, i)).intoArray(dst, i);
+        SCALAR.subtract(a, b, dst, i, to);
+    }
+
+    @Override
+    public void multiply(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            FloatVector.fromArray(FLOATS, a, i).mul(FloatVector.fromArray(FLOATS, b, i)).intoArray(dst, i);
+        SCALAR.multiply(a, b, dst, i, to);
+    }
+
+    @Override
+    public void divide(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            FloatVector.fromArray(FLOATS, a, i).div(FloatVector.fromArray(FLOATS, b, i)).intoArray(dst, i);
+        SCALAR.divide(a, b, dst, i, to);
+    }
+
+    @Override
+    public void fma(@NotNull float[] a, @NotNull float[] b, @NotNull float[] c, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, b.length, c.length, dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            FloatVector.fromArray(FLOATS, a, i).fma(FloatVector.fromArray(FLOATS, b, i), FloatVector.fromArray(FLOATS, c, i)).intoArray(dst, i);
+        SCALAR.fma(a, b, c, dst, i, to);
+    }
+
+    @Override
+    public void scale(@NotNull float[] a, float scalar, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.length, dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            FloatVector.fromArray(FLOATS, a, i).mul(scalar).intoArray(dst, i);
+        SCALAR.scale(a, scalar, dst, i, to);
+    }
+
+    @Override
+    public float dot(@NotNull float[] a, @NotNull float[] b, int from, int to) {
+        check(from, to, a.length, b.length);
+        FloatVector sum = FloatVector.zero(FLOATS);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length())
+            sum = FloatVector.fromArray(FLOATS, a, i).fma(FloatVector.fromArray(FLOATS, b, i), sum);
+        return sum.reduceLanes(VectorOperators.ADD) + SCALAR.dot(a, b, i, to);
+    }
+
+    @Override
+    public void dot(@NotNull Float3Array a, @NotNull Float3Array b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.size(), b.size(), dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+            FloatVector x = FloatVector.fromArray(FLOATS, a.xs, i).mul(FloatVector.fromArray(FLOATS, b.xs, i));
+            FloatVector xy = FloatVector.fromArray(FLOATS, a.ys, i).fma(FloatVector.fromArray(FLOATS, b.ys, i), x);
+            FloatVector.fromArray(FLOATS, a.zs, i).fma(FloatVector.fromArray(FLOATS, b.zs, i), xy).intoArray(dst, i);
+        }
+        SCALAR.dot(a, b, dst, i, to);
+    }
+
+    @Override
+    public void normalize(@NotNull Float3Array a, int from, int to) {
+        check(from, to, a.size());
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+            FloatVector x = FloatVector.fromArray(FLOATS, a.xs, i);
+            FloatVector y = FloatVector.fromArray(FLOATS, a.ys, i);
+            FloatVector z = FloatVector.fromArray(FLOATS, a.zs, i);
+            FloatVector length = x.mul(x).add(y.mul(y)).add(z.mul(z)).sqrt();
+
+            //  Let the scalar path report the exact index of the zero-length vector
+            if (length.compare(VectorOperators.EQ, 0.0f).anyTrue())
+                break;
+            x.div(length).intoArray(a.xs, i);
+            y.div(length).intoArray(a.ys, i);
+            z.div(length).intoArray(a.zs, i);
+        }
+        SCALAR.normalize(a, i, to);
+    }
+
+    @Override
+    public void distanceSquared(@NotNull Float3Array a, @NotNull Float3Array b, @NotNull float[] dst, int from, int to) {
+        check(from, to, a.size(), b.size(), dst.length);
+        int i = from;
+        for (int bound = from + FLOATS.loopBound(to - from); i < bound; i += FLOATS.length()) {
+            FloatVector dx = FloatVector.fromArray(FLOATS, a.xs, i).sub(FloatVector.fromArray(FLOATS, b.xs, i));
+            FloatVector dy = FloatVector.fromArray(FLOATS, a.ys, i).sub(FloatVector.fromArray(FLOATS, b.ys, i));
+            FloatVector dz = FloatVector.fromArray(FLOATS, a.zs, i).sub(FloatVector.fromArray(FLOATS, b.zs, i));
+            dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz)).intoArray(dst, i);
+        }
+        SCALAR.distanceSquared(a, b, dst, i, to);
+    }
+
+    @Override
+    public void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            DoubleVector.fromArray(DOUBLES, a, i).add(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(dst, i);
+        SCALAR.add(a, b, dst, i, to);
+    }
+
+    @Override
+    public void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            DoubleVector.fromArray(DOUBLES, a, i).sub(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(dst, i);
+        SCALAR.subtract(a, b, dst, i, to);
+    }
+
+    @Override
+    public void multiply(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            DoubleVector.fromArray(DOUBLES, a, i).mul(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(dst, i);
+        SCALAR.multiply(a, b, dst, i, to);
+    }
+
+    @Override
+    public void divide(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            DoubleVector.fromArray(DOUBLES, a, i).div(DoubleVector.fromArray(DOUBLES, b, i)).intoArray(dst, i);
+        SCALAR.divide(a, b, dst, i, to);
+    }
+
+    @Override
+    public void fma(@NotNull double[] a, @NotNull double[] b, @NotNull double[] c, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, b.length, c.length, dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            DoubleVector.fromArray(DOUBLES, a, i).fma(DoubleVector.fromArray(DOUBLES, b, i), DoubleVector.fromArray(DOUBLES, c, i)).intoArray(dst, i);
+        SCALAR.fma(a, b, c, dst, i, to);
+    }
+
+    @Override
+    public void scale(@NotNull double[] a, double scalar, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.length, dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            DoubleVector.fromArray(DOUBLES, a, i).mul(scalar).intoArray(dst, i);
+        SCALAR.scale(a, scalar, dst, i, to);
+    }
+
+    @Override
+    public double dot(@NotNull double[] a, @NotNull double[] b, int from, int to) {
+        check(from, to, a.length, b.length);
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length())
+            sum = DoubleVector.fromArray(DOUBLES, a, i).fma(DoubleVector.fromArray(DOUBLES, b, i), sum);
+        return sum.reduceLanes(VectorOperators.ADD) + SCALAR.dot(a, b, i, to);
+    }
+
+    @Override
+    public void dot(@NotNull Double3Array a, @NotNull Double3Array b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.size(), b.size(), dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, a.xs, i).mul(DoubleVector.fromArray(DOUBLES, b.xs, i));
+            DoubleVector xy = DoubleVector.fromArray(DOUBLES, a.ys, i).fma(DoubleVector.fromArray(DOUBLES, b.ys, i), x);
+            DoubleVector.fromArray(DOUBLES, a.zs, i).fma(DoubleVector.fromArray(DOUBLES, b.zs, i), xy).intoArray(dst, i);
+        }
+        SCALAR.dot(a, b, dst, i, to);
+    }
+
+    @Override
+    public void normalize(@NotNull Double3Array a, int from, int to) {
+        check(from, to, a.size());
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector x = DoubleVector.fromArray(DOUBLES, a.xs, i);
+            DoubleVector y = DoubleVector.fromArray(DOUBLES, a.ys, i);
+            DoubleVector z = DoubleVector.fromArray(DOUBLES, a.zs, i);
+            DoubleVector length = x.mul(x).add(y.mul(y)).add(z.mul(z)).sqrt();
+
+            //  Let the scalar path report the exact index of the zero-length vector
+            if (length.compare(VectorOperators.EQ, 0.0).anyTrue())
+                break;
+            x.div(length).intoArray(a.xs, i);
+            y.div(length).intoArray(a.ys, i);
+            z.div(length).intoArray(a.zs, i);
+        }
+        SCALAR.normalize(a, i, to);
+    }
+
+    @Override
+    public void distanceSquared(@NotNull Double3Array a, @NotNull Double3Array b, @NotNull double[] dst, int from, int to) {
+        check(from, to, a.size(), b.size(), dst.length);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector dx = DoubleVector.fromArray(DOUBLES, a.xs, i).sub(DoubleVector.fromArray(DOUBLES, b.xs, i));
+            DoubleVector dy = DoubleVector.fromArray(DOUBLES, a.ys, i).sub(DoubleVector.fromArray(DOUBLES, b.ys, i));
+            DoubleVector dz = DoubleVector.fromArray(DOUBLES, a.zs, i).sub(DoubleVector.fromArray(DOUBLES, b.zs, i));
+            dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz)).intoArray(dst, i);
+        }
+        SCALAR.distanceSquared(a, b, dst, i, to);
+    }
+
+    @Override
+    public void add(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            IntVector.fromArray(INTS, a, i).add(IntVector.fromArray(INTS, b, i)).intoArray(dst, i);
+        SCALAR.add(a, b, dst, i, to);
+    }
+
+    @Override
+    public void subtract(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            IntVector.fromArray(INTS, a, i).sub(IntVector.fromArray(INTS, b, i)).intoArray(dst, i);
+        SCALAR.subtract(a, b, dst, i, to);
+    }
+
+    @Override
+    public void multiply(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            IntVector.fromArray(INTS, a, i).mul(IntVector.fromArray(INTS, b, i)).intoArray(dst, i);
+        SCALAR.multiply(a, b, dst, i, to);
+    }
+
+    @Override
+    public void divide(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, dst.length);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector divisor = IntVector.fromArray(INTS, b, i);
+
+            //  Let the scalar path report the exact index of the zero divisor
+            if (divisor.compare(VectorOperators.EQ, 0).anyTrue())
+                break;
+            IntVector.fromArray(INTS, a, i).lanewise(VectorOperators.DIV, divisor).intoArray(dst, i);
+        }
+        SCALAR.divide(a, b, dst, i, to);
+    }
+
+    @Override
+    public void fma(@NotNull int[] a, @NotNull int[] b, @NotNull int[] c, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, b.length, c.length, dst.length);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            IntVector.fromArray(INTS, a, i).mul(IntVector.fromArray(INTS, b, i)).add(IntVector.fromArray(INTS, c, i)).intoArray(dst, i);
+        SCALAR.fma(a, b, c, dst, i, to);
+    }
+
+    @Override
+    public void scale(@NotNull int[] a, int scalar, @NotNull int[] dst, int from, int to) {
+        check(from, to, a.length, dst.length);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            IntVector.fromArray(INTS, a, i).mul(scalar).intoArray(dst, i);
+        SCALAR.scale(a, scalar, dst, i, to);
+    }
+
+    @Override
+    public int dot(@NotNull int[] a, @NotNull int[] b, int from, int to) {
+        check(from, to, a.length, b.length);
+        IntVector sum = IntVector.zero(INTS);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length())
+            sum = sum.add(IntVector.fromArray(INTS, a, i).mul(IntVector.fromArray(INTS, b, i)));
+        return sum.reduceLanes(VectorOperators.ADD) + SCALAR.dot(a, b, i, to);
+    }
+
+    private static void check(int from, int to, int... lengths) {
+        for (int length : lengths)
+            Objects.checkFromToIndex(from, to, length);
+    }
+
+}
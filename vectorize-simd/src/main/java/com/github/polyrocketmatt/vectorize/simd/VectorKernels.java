@@ -0,0 +1,364 @@
+package com.github.polyrocketmatt.vectorize.simd;
+
+import com.github.polyrocketmatt.vectorize.Double3Array;
+import com.github.polyrocketmatt.vectorize.Float3Array;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents a set of bulk kernels over packed arrays of floats, doubles and integers.
+ * <p>
+ * Use {@link Kernels#get()} to obtain the implementation selected for the running JVM.
+ *
+ * @author Matthias Kovacic
+ * @since 2.1.0
+ */
+public interface VectorKernels {
+
+    /**
+     * Get the name of this implementation.
+     *
+     * @return The name of this implementation.
+     */
+    @NotNull String name();
+
+    /**
+     * Compute {@code dst[i] = a[i] + b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void add(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] - b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void subtract(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void multiply(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] / b[i]}.
+     * <p>
+     * Unlike the vector types, division by zero is not checked and follows IEEE 754 semantics.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void divide(@NotNull float[] a, @NotNull float[] b, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * b[i] + c[i]}.
+     * <p>
+     * Implementations may or may not fuse the multiplication and addition.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param c The operand to add.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void fma(@NotNull float[] a, @NotNull float[] b, @NotNull float[] c, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * scalar}.
+     *
+     * @param a The operand.
+     * @param scalar The scalar to multiply with.
+     * @param dst The destination array, which may be the operand.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void scale(@NotNull float[] a, float scalar, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute the sum of {@code a[i] * b[i]}.
+     * <p>
+     * The order in which the products are summed is unspecified, so results may differ in the last bits between implementations.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     * @return The sum of the products.
+     */
+    float dot(@NotNull float[] a, @NotNull float[] b, int from, int to);
+
+    /**
+     * Compute the dot products of the vectors of two arrays.
+     *
+     * @param a The first array of vectors.
+     * @param b The second array of vectors.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void dot(@NotNull Float3Array a, @NotNull Float3Array b, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Normalize the vectors of an array in place.
+     *
+     * @param a The array of vectors.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     * @throws IllegalArgumentException If a vector in the range has a zero length.
+     */
+    void normalize(@NotNull Float3Array a, int from, int to);
+
+    /**
+     * Compute the squared distances between the vectors of two arrays.
+     *
+     * @param a The first array of vectors.
+     * @param b The second array of vectors.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void distanceSquared(@NotNull Float3Array a, @NotNull Float3Array b, @NotNull float[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] + b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void add(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] - b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void subtract(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void multiply(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] / b[i]}.
+     * <p>
+     * Unlike the vector types, division by zero is not checked and follows IEEE 754 semantics.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void divide(@NotNull double[] a, @NotNull double[] b, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * b[i] + c[i]}.
+     * <p>
+     * Implementations may or may not fuse the multiplication and addition.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param c The operand to add.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void fma(@NotNull double[] a, @NotNull double[] b, @NotNull double[] c, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * scalar}.
+     *
+     * @param a The operand.
+     * @param scalar The scalar to multiply with.
+     * @param dst The destination array, which may be the operand.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void scale(@NotNull double[] a, double scalar, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute the sum of {@code a[i] * b[i]}.
+     * <p>
+     * The order in which the products are summed is unspecified, so results may differ in the last bits between implementations.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     * @return The sum of the products.
+     */
+    double dot(@NotNull double[] a, @NotNull double[] b, int from, int to);
+
+    /**
+     * Compute the dot products of the vectors of two arrays.
+     *
+     * @param a The first array of vectors.
+     * @param b The second array of vectors.
+     * @param dst The array to store the dot products in, at the same indices as the vectors.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void dot(@NotNull Double3Array a, @NotNull Double3Array b, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Normalize the vectors of an array in place.
+     *
+     * @param a The array of vectors.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     * @throws IllegalArgumentException If a vector in the range has a zero length.
+     */
+    void normalize(@NotNull Double3Array a, int from, int to);
+
+    /**
+     * Compute the squared distances between the vectors of two arrays.
+     *
+     * @param a The first array of vectors.
+     * @param b The second array of vectors.
+     * @param dst The array to store the squared distances in, at the same indices as the vectors.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void distanceSquared(@NotNull Double3Array a, @NotNull Double3Array b, @NotNull double[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] + b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void add(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] - b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void subtract(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * b[i]}.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void multiply(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] / b[i]}, rounding towards zero.
+     * <p>
+     * If a divisor is zero, the elements before it are written and the remaining elements of the range are left untouched.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     * @throws ArithmeticException If an element of {@code b} in the range is zero.
+     */
+    void divide(@NotNull int[] a, @NotNull int[] b, @NotNull int[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * b[i] + c[i]}, wrapping on overflow.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param c The operand to add.
+     * @param dst The destination array, which may be one of the operands.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void fma(@NotNull int[] a, @NotNull int[] b, @NotNull int[] c, @NotNull int[] dst, int from, int to);
+
+    /**
+     * Compute {@code dst[i] = a[i] * scalar}.
+     *
+     * @param a The operand.
+     * @param scalar The scalar to multiply with.
+     * @param dst The destination array, which may be the operand.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     */
+    void scale(@NotNull int[] a, int scalar, @NotNull int[] dst, int from, int to);
+
+    /**
+     * Compute the sum of {@code a[i] * b[i]}, wrapping on overflow.
+     *
+     * @param a The first operand.
+     * @param b The second operand.
+     * @param from The first index, inclusive.
+     * @param to The last index, exclusive.
+     * @throws IndexOutOfBoundsException If the range is out of bounds for any of the arrays.
+     * @return The sum of the products.
+     */
+    int dot(@NotNull int[] a, @NotNull int[] b, int from, int to);
+
+}